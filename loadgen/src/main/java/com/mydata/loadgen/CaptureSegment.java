@@ -0,0 +1,163 @@
+package com.mydata.loadgen;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 포털 모의 API 캡처 세그먼트 파일 (읽기 전용 메모리 매핑)
+ *
+ * 형식은 포털의 MockCaptureLog와 같음
+ *   "MDCAPT01" (8바이트) + 레코드 반복
+ *   레코드 = [길이 int (헤더 포함, 8바이트 정렬)][종류 int = 1][내용][0 채움]
+ *   내용 = 시작 시각(epoch μs) long, 처리 시간(μs) int, HTTP 상태 short,
+ *          method, URI(쿼리 포함), 헤더 수 short + (이름, 값)…, 요청 본문, 응답 본문
+ *   문자열은 [UTF-8 길이 unsigned short][바이트], 본문은 [길이 int][바이트], 정수는 big-endian
+ *
+ * 기록 중인 세그먼트는 마지막 레코드가 잘려 있을 수 있으므로 길이가 0이거나 파일 끝을 넘는 곳에서 멈춤
+ */
+public final class CaptureSegment {
+
+    static final byte[] MAGIC = "MDCAPT01".getBytes(StandardCharsets.US_ASCII);
+    static final int HEADER_LENGTH = 8;
+    static final int TYPE_EXCHANGE = 1;
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final int[] offsets;
+
+    private CaptureSegment(Path file, MappedByteBuffer buffer, int[] offsets) {
+        this.file = file;
+        this.buffer = buffer;
+        this.offsets = offsets;
+    }
+
+    public static CaptureSegment open(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("세그먼트 파일이 너무 큽니다: " + file);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        byte[] magic = new byte[MAGIC.length];
+        if (buffer.limit() >= MAGIC.length) {
+            buffer.get(0, magic);
+        }
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("캡처 세그먼트 파일이 아닙니다: " + file);
+        }
+
+        List<Integer> offsets = new ArrayList<>();
+        int offset = MAGIC.length;
+        while (offset + HEADER_LENGTH <= buffer.limit()) {
+            int length = buffer.getInt(offset);
+            if (length < HEADER_LENGTH || offset + length > buffer.limit()) {
+                break;
+            }
+            if (buffer.getInt(offset + 4) == TYPE_EXCHANGE) {
+                offsets.add(offset);
+            }
+            offset += length;
+        }
+        return new CaptureSegment(file, buffer, offsets.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * 디렉터리면 안의 *.seg 전체 (이름 순), 파일이면 그 파일
+     */
+    public static List<Path> files(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return List.of(path);
+        }
+        try (Stream<Path> files = Files.list(path)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".seg")).sorted().toList();
+        }
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public int size() {
+        return offsets.length;
+    }
+
+    /**
+     * index번째 레코드의 시작 시각 (전체를 읽지 않고 정렬용으로만)
+     */
+    public long startMicros(int index) {
+        return buffer.getLong(offsets[index] + HEADER_LENGTH);
+    }
+
+    /**
+     * index번째 레코드 (여러 스레드에서 동시에 읽어도 됨: 위치를 바꾸지 않는 절대 위치 읽기만 사용)
+     */
+    public CapturedExchange read(int index) {
+        Reader reader = new Reader(buffer, offsets[index] + HEADER_LENGTH);
+        long startMicros = reader.getLong();
+        int durationMicros = reader.getInt();
+        int status = reader.getShort();
+        String method = reader.getString();
+        String uri = reader.getString();
+        int headerCount = reader.getShort();
+        List<String[]> headers = new ArrayList<>(headerCount);
+        for (int i = 0; i < headerCount; i++) {
+            headers.add(new String[]{reader.getString(), reader.getString()});
+        }
+        return new CapturedExchange(startMicros, durationMicros, status, method, uri, headers,
+                reader.getBytes(), reader.getBytes());
+    }
+
+    private static final class Reader {
+
+        private final ByteBuffer buffer;
+        private int position;
+
+        Reader(ByteBuffer buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        long getLong() {
+            long value = buffer.getLong(position);
+            position += 8;
+            return value;
+        }
+
+        int getInt() {
+            int value = buffer.getInt(position);
+            position += 4;
+            return value;
+        }
+
+        int getShort() {
+            int value = Short.toUnsignedInt(buffer.getShort(position));
+            position += 2;
+            return value;
+        }
+
+        String getString() {
+            byte[] bytes = new byte[getShort()];
+            buffer.get(position, bytes);
+            position += bytes.length;
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        byte[] getBytes() {
+            byte[] bytes = new byte[getInt()];
+            buffer.get(position, bytes);
+            position += bytes.length;
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.mydata.loadgen;
+
+import java.util.List;
+
+/**
+ * 캡처된 요청/응답 1쌍
+ *
+ * @param startMicros    요청을 받은 시각 (epoch μs)
+ * @param durationMicros 포털이 응답하기까지 걸린 시간 (μs)
+ * @param status         캡처 당시 HTTP 상태 (재생 결과와 비교)
+ * @param uri            경로 + 쿼리 문자열
+ * @param headers        요청 헤더 (이름, 값) 순서대로
+ */
+public record CapturedExchange(
+        long startMicros,
+        int durationMicros,
+        int status,
+        String method,
+        String uri,
+        List<String[]> headers,
+        byte[] requestBody,
+        byte[] responseBody) {
+
+    /**
+     * 집계용 이름 (쿼리 문자열 제외)
+     */
+    public String route() {
+        int query = uri.indexOf('?');
+        return method + " " + (query < 0 ? uri : uri.substring(0, query));
+    }
+}
@@ -0,0 +1,88 @@
+package com.mydata.loadgen;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 응답시간 히스토그램 (로그-선형 버킷, HDR Histogram 방식, 여러 가상 스레드에서 동시 기록)
+ *
+ * 값(마이크로초)을 2의 거듭제곱 구간으로 나누고 구간마다 32칸으로 균등 분할
+ * - 0 ~ 31µs: 1µs 단위, 그 이상: 상대 오차 약 3% 이내
+ * - 최대 2^31µs (약 35분), 그 이상은 마지막 칸에 기록
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int MAX_BITS = 31;
+    private static final long MAX_VALUE = (1L << MAX_BITS) - 1;
+
+    static final int BUCKETS = (MAX_BITS - SUB_BITS + 1) << SUB_BITS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public void record(long micros) {
+        long value = Math.max(micros, 0);
+        counts.incrementAndGet(index(value));
+        total.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public long count() {
+        return total.sum();
+    }
+
+    public double meanMillis() {
+        long count = count();
+        return count == 0 ? 0 : sum.sum() / 1000.0 / count;
+    }
+
+    public double maxMillis() {
+        return max.get() / 1000.0;
+    }
+
+    /**
+     * 백분위 (예: 99.9 → p99.9, ms), 기록이 없으면 0
+     */
+    public double percentileMillis(double percentile) {
+        long count = count();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(valueAt(i), max.get()) / 1000.0;
+            }
+        }
+        return maxMillis();
+    }
+
+    static int index(long micros) {
+        long value = Math.min(micros, MAX_VALUE);
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return ((shift + 1) << SUB_BITS) + (int) ((value >>> shift) - SUB_COUNT);
+    }
+
+    /**
+     * 칸의 대표값 (칸 범위의 중간값)
+     */
+    static long valueAt(int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+        int shift = (index >>> SUB_BITS) - 1;
+        long lower = (long) ((index & (SUB_COUNT - 1)) + SUB_COUNT) << shift;
+        return lower + (((1L << shift) - 1) >>> 1);
+    }
+}
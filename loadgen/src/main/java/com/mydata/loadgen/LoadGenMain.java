@@ -0,0 +1,104 @@
+package com.mydata.loadgen;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 생성기 실행 진입점
+ *
+ * 사용법:
+ *   ./gradlew :loadgen:run --args="--scenario loadgen/scenarios/bank-transactions.json
+ *                                  [--target http://localhost:8080] [--rate 50] [--duration 60]
+ *                                  [--out loadgen-reports]"
+ *
+ *   ./gradlew :loadgen:run --args="--replay mock-capture --target http://localhost:8080
+ *                                  [--speed 1] [--max-in-flight 10000] [--out loadgen-reports]"
+ *
+ * - --target/--rate/--duration: 시나리오 파일의 target_url/arrival_rate/duration_seconds 대신 사용
+ * - --replay: 포털 모의 API 캡처(mock.capture) 세그먼트 디렉터리 또는 파일을 캡처 당시 간격 / speed로 재생
+ * - --out: 보고서 디렉터리 (기본 loadgen-reports, 포털의 loadgen.report-dir과 같게 두면 관리자 화면에서 조회)
+ */
+public final class LoadGenMain {
+
+    private static final String DEFAULT_REPORT_DIR = "loadgen-reports";
+
+    private LoadGenMain() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = options(args);
+        if (options.containsKey("replay")) {
+            replay(options);
+            return;
+        }
+        String scenarioFile = options.get("scenario");
+        if (scenarioFile == null) {
+            System.err.println("사용법: --scenario <파일> [--target <주소>] [--rate <회/초>] [--duration <초>] [--out <디렉터리>]");
+            System.err.println("       --replay <캡처 디렉터리> --target <주소> [--speed <배속>] [--max-in-flight <건>] [--out <디렉터리>]");
+            System.exit(2);
+        }
+
+        LoadScenario scenario = new ObjectMapper()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(Path.of(scenarioFile).toFile(), LoadScenario.class);
+        if (options.containsKey("target")) {
+            scenario = scenario.withTargetUrl(options.get("target"));
+        }
+        if (options.containsKey("rate")) {
+            scenario = scenario.withArrivalRate(Double.parseDouble(options.get("rate")));
+        }
+        if (options.containsKey("duration")) {
+            scenario = scenario.withDurationSeconds(Integer.parseInt(options.get("duration")));
+        }
+
+        System.out.printf(Locale.ROOT, "시나리오 %s: %s, %.1f회/초 × %d초%n",
+                scenario.name(), scenario.targetUrl(), scenario.arrivalRate(), scenario.durationSeconds());
+        print(new LoadRunner(scenario).run(), options);
+    }
+
+    private static void replay(Map<String, String> options) throws IOException {
+        String target = options.get("target");
+        if (target == null) {
+            System.err.println("사용법: --replay <캡처 디렉터리> --target <주소> [--speed <배속>] [--max-in-flight <건>] [--out <디렉터리>]");
+            System.exit(2);
+        }
+        double speed = Double.parseDouble(options.getOrDefault("speed", "1"));
+        ReplayRunner runner = ReplayRunner.open(Path.of(options.get("replay")), target, speed,
+                Integer.parseInt(options.getOrDefault("max-in-flight", "0")));
+        System.out.printf(Locale.ROOT, "캡처 재생 %s → %s, %.1f배속%n", options.get("replay"), target, speed);
+        LoadResult result = runner.run();
+        print(result, options);
+        System.out.printf("  캡처 당시와 응답 상태가 다른 요청: %d%n", result.iterations().errors());
+    }
+
+    private static void print(LoadResult result, Map<String, String> options) throws IOException {
+        for (StepStats step : result.steps()) {
+            LatencyHistogram corrected = step.corrected();
+            System.out.printf(Locale.ROOT, "  %-24s 건수 %8d  오류 %6d  p50 %9.3f  p99 %9.3f  p99.9 %9.3f ms%n",
+                    step.name(), corrected.count(), step.errors(), corrected.percentileMillis(50),
+                    corrected.percentileMillis(99), corrected.percentileMillis(99.9));
+        }
+        if (result.dropped() > 0) {
+            System.out.printf("  max_in_flight 초과로 시작하지 못한 반복: %d%n", result.dropped());
+        }
+        Path report = LoadReport.write(result, Path.of(options.getOrDefault("out", DEFAULT_REPORT_DIR)));
+        System.out.println("보고서: " + report.toAbsolutePath());
+    }
+
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("옵션은 --이름 값 형식이어야 합니다: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+}
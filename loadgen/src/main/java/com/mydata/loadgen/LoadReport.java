@@ -0,0 +1,169 @@
+package com.mydata.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 실행 결과 보고서 (JSON + HTML, 같은 이름으로 저장)
+ *
+ * 파일 이름: {시나리오 이름}-{yyyyMMdd-HHmmss}.json / .html
+ * 포털 관리자 화면(/admin/loadgen)이 같은 디렉터리를 읽어 목록과 보고서를 보여줌
+ */
+public final class LoadReport {
+
+    static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final DateTimeFormatter DISPLAY_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private LoadReport() {
+    }
+
+    /**
+     * 보고서 저장 후 JSON 파일 경로 반환
+     */
+    public static Path write(LoadResult result, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        String baseName = fileName(result.scenario().name()) + "-" + result.startedAt().format(FILE_TIME);
+        Path json = directory.resolve(baseName + ".json");
+        MAPPER.writeValue(json.toFile(), toJson(result));
+        Files.writeString(directory.resolve(baseName + ".html"), toHtml(result), StandardCharsets.UTF_8);
+        return json;
+    }
+
+    static ObjectNode toJson(LoadResult result) {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("scenario", result.scenario().name());
+        root.put("target_url", result.scenario().targetUrl());
+        root.put("started_at", result.startedAt().format(DISPLAY_TIME));
+        root.put("arrival_rate", result.scenario().arrivalRate());
+        root.put("duration_seconds", result.scenario().durationSeconds());
+        root.put("elapsed_seconds", round(result.elapsedSeconds()));
+        root.put("started", result.started());
+        root.put("dropped", result.dropped());
+        root.set("iteration", stats(result.iterations(), result.elapsedSeconds()));
+        ArrayNode steps = root.putArray("steps");
+        for (StepStats step : result.steps()) {
+            steps.add(stats(step, result.elapsedSeconds()));
+        }
+        return root;
+    }
+
+    private static ObjectNode stats(StepStats stats, double elapsedSeconds) {
+        ObjectNode node = MAPPER.createObjectNode();
+        node.put("name", stats.name());
+        node.put("count", stats.corrected().count());
+        node.put("errors", stats.errors());
+        node.put("throughput", round(elapsedSeconds <= 0 ? 0 : stats.corrected().count() / elapsedSeconds));
+        node.set("corrected_ms", latency(stats.corrected()));
+        node.set("service_ms", latency(stats.service()));
+        ObjectNode statuses = node.putObject("statuses");
+        stats.statuses().forEach((status, count) -> statuses.put(Integer.toString(status), count));
+        return node;
+    }
+
+    private static ObjectNode latency(LatencyHistogram histogram) {
+        ObjectNode node = MAPPER.createObjectNode();
+        node.put("mean", round(histogram.meanMillis()));
+        for (double percentile : PERCENTILES) {
+            node.put(percentileName(percentile), round(histogram.percentileMillis(percentile)));
+        }
+        node.put("max", round(histogram.maxMillis()));
+        return node;
+    }
+
+    static String toHtml(LoadResult result) {
+        StringBuilder html = new StringBuilder(4096);
+        html.append("<!DOCTYPE html>\n<html lang=\"ko\">\n<head>\n<meta charset=\"UTF-8\">\n<title>")
+                .append(escape(result.scenario().name())).append(" 부하 테스트 결과</title>\n")
+                .append("<style>body{font-family:sans-serif;margin:24px;color:#222}")
+                .append("table{border-collapse:collapse;margin:12px 0}th,td{border:1px solid #ccc;padding:6px 10px;text-align:right}")
+                .append("th{background:#f4f6f8}td:first-child,th:first-child{text-align:left}.warn{color:#c0392b}</style>\n")
+                .append("</head>\n<body>\n<h1>").append(escape(result.scenario().name())).append("</h1>\n<p>")
+                .append("대상: ").append(escape(result.scenario().targetUrl()))
+                .append(" · 시작: ").append(result.startedAt().format(DISPLAY_TIME))
+                .append(" · 목표 도착률: ").append(format(result.scenario().arrivalRate())).append("회/초")
+                .append(" · 실행 시간: ").append(format(result.elapsedSeconds())).append("초")
+                .append(" · 시작한 반복: ").append(result.started());
+        if (result.dropped() > 0) {
+            html.append(" · <span class=\"warn\">시작하지 못한 반복: ").append(result.dropped()).append("</span>");
+        }
+        html.append("</p>\n");
+
+        html.append("<h2>응답시간 (예정 시각 기준, coordinated omission 보정)</h2>\n");
+        latencyTable(html, result, true);
+        html.append("<h2>응답시간 (실제 전송 시각 기준)</h2>\n");
+        latencyTable(html, result, false);
+
+        html.append("<h2>HTTP 상태</h2>\n<table>\n<tr><th>단계</th><th>상태별 건수 (0: 연결 실패/시간 초과)</th></tr>\n");
+        for (StepStats step : result.steps()) {
+            html.append("<tr><td>").append(escape(step.name())).append("</td><td>");
+            for (Map.Entry<Integer, Long> status : step.statuses().entrySet()) {
+                html.append(status.getKey()).append(": ").append(status.getValue()).append("&nbsp; ");
+            }
+            html.append("</td></tr>\n");
+        }
+        return html.append("</table>\n</body>\n</html>\n").toString();
+    }
+
+    private static void latencyTable(StringBuilder html, LoadResult result, boolean corrected) {
+        html.append("<table>\n<tr><th>단계</th><th>건수</th><th>오류</th><th>처리량(/초)</th><th>평균</th>");
+        for (double percentile : PERCENTILES) {
+            html.append("<th>").append(percentileName(percentile)).append("</th>");
+        }
+        html.append("<th>최대</th></tr>\n");
+        List<StepStats> rows = new ArrayList<>(result.steps());
+        rows.add(result.iterations());
+        for (StepStats step : rows) {
+            LatencyHistogram histogram = corrected ? step.corrected() : step.service();
+            double throughput = result.elapsedSeconds() <= 0 ? 0 : histogram.count() / result.elapsedSeconds();
+            html.append("<tr><td>").append(escape(step == result.iterations() ? "반복 전체" : step.name()))
+                    .append("</td><td>").append(histogram.count())
+                    .append("</td><td>").append(step.errors())
+                    .append("</td><td>").append(format(throughput))
+                    .append("</td><td>").append(format(histogram.meanMillis())).append("</td>");
+            for (double percentile : PERCENTILES) {
+                html.append("<td>").append(format(histogram.percentileMillis(percentile))).append("</td>");
+            }
+            html.append("<td>").append(format(histogram.maxMillis())).append("</td></tr>\n");
+        }
+        html.append("</table>\n<p>단위: ms</p>\n");
+    }
+
+    private static String percentileName(double percentile) {
+        return percentile == Math.rint(percentile) ? "p" + (long) percentile : "p" + percentile;
+    }
+
+    private static String fileName(String name) {
+        String safe = name == null ? "" : name.replaceAll("[^A-Za-z0-9_-]", "_");
+        return safe.isEmpty() ? "scenario" : safe;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
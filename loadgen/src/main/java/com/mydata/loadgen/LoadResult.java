@@ -0,0 +1,20 @@
+package com.mydata.loadgen;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 시나리오 실행 결과
+ *
+ * @param started 시작한 반복 수
+ * @param dropped max_in_flight를 넘어 시작하지 못한 반복 수 (0이 아니면 목표 도착률을 내지 못함)
+ */
+public record LoadResult(
+        LoadScenario scenario,
+        LocalDateTime startedAt,
+        double elapsedSeconds,
+        long started,
+        long dropped,
+        StepStats iterations,
+        List<StepStats> steps) {
+}
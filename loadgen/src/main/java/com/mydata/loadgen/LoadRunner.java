@@ -0,0 +1,326 @@
+package com.mydata.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 시나리오 실행기 (개방형 모델 + 가상 스레드)
+ *
+ * - 발송 스레드 1개가 i번째 반복의 예정 시각(시작 + i / arrival_rate)까지 기다렸다가 가상 스레드로 반복을 시작
+ *   → 대상 서버가 느려져도 도착률이 줄지 않음 (폐쇄형 모델처럼 응답을 기다렸다 보내지 않음)
+ * - 반복 안의 단계는 가상 스레드에서 동기 HTTP 호출 (요청마다 플랫폼 스레드를 점유하지 않음)
+ * - 첫 단계 응답시간은 예정 시각부터 측정해 coordinated omission 보정 (StepStats 참고)
+ *
+ * 실패(연결 오류, HTTP 400 이상, rsp_code가 00000이 아님, extract 값 없음)하면 그 반복의 나머지 단계는 건너뜀
+ */
+public final class LoadRunner {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Pattern VARIABLE = Pattern.compile("\\$\\{([A-Za-z0-9_]+)}");
+    private static final String LOCATION_PREFIX = "location:";
+    private static final String SUCCESS_RSP_CODE = "00000";
+    private static final String TRAN_ID_PREFIX = "LOADGEN000M";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final long START_DELAY_NANOS = 100_000_000L;
+
+    private final LoadScenario scenario;
+    private final List<StepStats> stepStats = new ArrayList<>();
+    private final StepStats iterationStats = new StepStats("iteration");
+    private final AtomicLong tranSeq = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+
+    private HttpClient client;
+
+    public LoadRunner(LoadScenario scenario) {
+        scenario.validate();
+        this.scenario = scenario;
+        for (LoadScenario.Step step : scenario.steps()) {
+            stepStats.add(new StepStats(step.name()));
+        }
+    }
+
+    public LoadResult run() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        int maxInFlight = scenario.maxInFlight() > 0 ? scenario.maxInFlight() : Integer.MAX_VALUE;
+        double nanosPerArrival = 1_000_000_000.0 / scenario.arrivalRate();
+        long started = 0;
+        long begin;
+
+        // HttpClient는 기본 실행기 사용 (반복 실행기는 종료 대기 중 새 작업을 받지 않아 응답 처리가 거부됨)
+        HttpClient httpClient = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        client = httpClient;
+        try (httpClient; ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            begin = System.nanoTime() + START_DELAY_NANOS;
+            long end = begin + scenario.durationSeconds() * 1_000_000_000L;
+            for (long i = 0; ; i++) {
+                long intended = begin + (long) (i * nanosPerArrival);
+                if (intended >= end) {
+                    break;
+                }
+                for (long wait = intended - System.nanoTime(); wait > 0; wait = intended - System.nanoTime()) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (inFlight.get() >= maxInFlight) {
+                    dropped.increment();
+                    continue;
+                }
+                inFlight.incrementAndGet();
+                long iteration = i;
+                executor.execute(() -> {
+                    try {
+                        iterate(iteration, intended);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+                started++;
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - begin) / 1_000_000_000.0;
+        return new LoadResult(scenario, startedAt, elapsedSeconds, started, dropped.sum(),
+                iterationStats, List.copyOf(stepStats));
+    }
+
+    private void iterate(long iteration, long intended) {
+        Map<String, String> variables = new HashMap<>();
+        if (scenario.variables() != null) {
+            variables.putAll(scenario.variables());
+        }
+        variables.put("iteration", Long.toString(iteration));
+        variables.put("uuid", UUID.randomUUID().toString());
+
+        boolean success = true;
+        long stepIntended = intended;
+        List<LoadScenario.Step> steps = scenario.steps();
+        for (int i = 0; i < steps.size(); i++) {
+            if (!runStep(steps.get(i), stepStats.get(i), variables, stepIntended)) {
+                success = false;
+                break;
+            }
+            stepIntended = System.nanoTime();
+        }
+        iterationStats.recordIteration(intended, System.nanoTime(), success);
+    }
+
+    /**
+     * 단계 1개 호출 (페이지 순회 포함), 실패하면 false
+     *
+     * @param intended 첫 페이지의 예정 시각 (첫 단계만 반복의 예정 시각, 이후 단계는 직전 단계 완료 시각)
+     */
+    private boolean runStep(LoadScenario.Step step, StepStats stats, Map<String, String> variables, long intended) {
+        LoadScenario.Paging paging = step.paging();
+        int pages = paging == null ? 1 : Math.max(1, paging.maxPages());
+        if (paging != null) {
+            variables.put(paging.variable(), "");
+        }
+        for (int page = 0; page < pages; page++) {
+            variables.put("tran_id", nextTranId());
+            HttpRequest request = request(step, variables);
+            long sent = System.nanoTime();
+            int status = 0;
+            JsonNode body = null;
+            boolean success;
+            try {
+                HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                status = response.statusCode();
+                body = parse(response.body());
+                success = status < 400 && isSuccess(body) && extract(step, response, body, variables);
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                success = false;
+            }
+            stats.record(page == 0 ? intended : sent, sent, System.nanoTime(), status, success);
+            if (!success) {
+                return false;
+            }
+            if (paging == null) {
+                return true;
+            }
+            String cursor = body == null ? "" : body.at(paging.cursor()).asText("");
+            if (cursor.isEmpty()) {
+                return true;
+            }
+            variables.put(paging.variable(), cursor);
+        }
+        return true;
+    }
+
+    private HttpRequest request(LoadScenario.Step step, Map<String, String> variables) {
+        StringBuilder uri = new StringBuilder(scenario.targetUrl()).append(substitute(step.path(), variables));
+        if (step.query() != null && !step.query().isEmpty()) {
+            uri.append(uri.indexOf("?") < 0 ? '?' : '&').append(encode(step.query(), variables));
+        }
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(uri.toString())).timeout(REQUEST_TIMEOUT);
+        if (step.headers() != null) {
+            step.headers().forEach((name, value) -> builder.header(name, substitute(value, variables)));
+        }
+
+        HttpRequest.BodyPublisher publisher = HttpRequest.BodyPublishers.noBody();
+        if (step.form() != null) {
+            builder.header("Content-Type", "application/x-www-form-urlencoded");
+            publisher = HttpRequest.BodyPublishers.ofString(encode(step.form(), variables));
+        } else if (step.body() != null) {
+            builder.header("Content-Type", "application/json");
+            publisher = HttpRequest.BodyPublishers.ofByteArray(serialize(substitute(step.body(), variables)));
+        }
+        return builder.method(step.method().toUpperCase(), publisher).build();
+    }
+
+    /**
+     * 응답에서 변수 추출 (값이 없으면 false)
+     */
+    private static boolean extract(LoadScenario.Step step, HttpResponse<byte[]> response, JsonNode body,
+                                   Map<String, String> variables) {
+        if (step.extract() == null) {
+            return true;
+        }
+        for (Map.Entry<String, String> entry : step.extract().entrySet()) {
+            String source = entry.getValue();
+            String value;
+            if (source.startsWith(LOCATION_PREFIX)) {
+                value = response.headers().firstValue("Location")
+                        .map(location -> queryParameter(location, source.substring(LOCATION_PREFIX.length())))
+                        .orElse(null);
+            } else {
+                value = body == null ? null : body.at(source).asText(null);
+            }
+            if (value == null || value.isEmpty()) {
+                return false;
+            }
+            variables.put(entry.getKey(), value);
+        }
+        return true;
+    }
+
+    /**
+     * rsp_code가 있으면 00000인지 확인 (OAuth 토큰 응답처럼 rsp_code가 없으면 HTTP 상태만 봄)
+     */
+    private static boolean isSuccess(JsonNode body) {
+        JsonNode rspCode = body == null ? null : body.get("rsp_code");
+        return rspCode == null || SUCCESS_RSP_CODE.equals(rspCode.asText());
+    }
+
+    static String substitute(String template, Map<String, String> variables) {
+        if (template == null || template.indexOf('$') < 0) {
+            return template;
+        }
+        Matcher matcher = VARIABLE.matcher(template);
+        StringBuilder result = new StringBuilder(template.length() + 32);
+        while (matcher.find()) {
+            matcher.appendReplacement(result, Matcher.quoteReplacement(variables.getOrDefault(matcher.group(1), "")));
+        }
+        return matcher.appendTail(result).toString();
+    }
+
+    /**
+     * JSON 본문의 문자열 값마다 변수 치환 (원본 시나리오는 그대로 두고 복사본 반환)
+     */
+    static JsonNode substitute(JsonNode node, Map<String, String> variables) {
+        if (node.isTextual()) {
+            return TextNode.valueOf(substitute(node.asText(), variables));
+        }
+        if (node.isObject()) {
+            ObjectNode copy = MAPPER.createObjectNode();
+            for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                copy.set(field.getKey(), substitute(field.getValue(), variables));
+            }
+            return copy;
+        }
+        if (node.isArray()) {
+            ArrayNode copy = MAPPER.createArrayNode();
+            for (JsonNode element : node) {
+                copy.add(substitute(element, variables));
+            }
+            return copy;
+        }
+        return node;
+    }
+
+    private static String encode(Map<String, String> parameters, Map<String, String> variables) {
+        StringBuilder encoded = new StringBuilder();
+        parameters.forEach((name, value) -> {
+            if (!encoded.isEmpty()) {
+                encoded.append('&');
+            }
+            encoded.append(URLEncoder.encode(name, StandardCharsets.UTF_8)).append('=')
+                    .append(URLEncoder.encode(substitute(value, variables), StandardCharsets.UTF_8));
+        });
+        return encoded.toString();
+    }
+
+    private static String queryParameter(String location, String name) {
+        int start = location.indexOf('?');
+        if (start < 0) {
+            return null;
+        }
+        for (String pair : location.substring(start + 1).split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals > 0 && pair.substring(0, equals).equals(name)) {
+                return URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * x-api-tran-id용 거래고유번호 (25자)
+     */
+    private String nextTranId() {
+        String sequence = Long.toString(tranSeq.incrementAndGet());
+        return TRAN_ID_PREFIX + "0".repeat(Math.max(0, 14 - sequence.length())) + sequence;
+    }
+
+    private static JsonNode parse(byte[] body) {
+        if (body == null || body.length == 0 || body[0] != '{') {
+            return null;
+        }
+        try {
+            return MAPPER.readTree(body);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static byte[] serialize(JsonNode node) {
+        try {
+            return MAPPER.writeValueAsBytes(node);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
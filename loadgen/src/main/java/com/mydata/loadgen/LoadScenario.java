@@ -0,0 +1,92 @@
+package com.mydata.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 시나리오 파일 (JSON)
+ *
+ * 반복(iteration) 1회 = steps를 순서대로 호출 (예: 개별인증 → 접근토큰 → 계좌 목록 → 거래내역 페이지 순회)
+ * - arrival_rate: 초당 시작할 반복 수 (개방형 모델: 응답이 늦어도 정해진 시각에 다음 반복 시작)
+ * - max_in_flight: 동시에 진행 중인 반복 상한 (넘으면 시작하지 않고 dropped로 집계)
+ * - variables: 모든 반복에 공통으로 쓸 변수 (${이름}으로 치환)
+ *
+ * 문자열 값의 ${이름}은 반복마다의 변수로 치환
+ * - 기본 변수: ${iteration} 반복 번호, ${uuid} 반복마다 임의 값, ${tran_id} 요청마다 새 거래고유번호(25자)
+ * - extract로 응답에서 꺼낸 값도 같은 반복의 다음 단계에서 사용
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record LoadScenario(
+        String name,
+        String targetUrl,
+        double arrivalRate,
+        int durationSeconds,
+        int maxInFlight,
+        Map<String, String> variables,
+        List<Step> steps) {
+
+    /**
+     * 호출 1단계
+     *
+     * - form: application/x-www-form-urlencoded 본문, body: JSON 본문 (둘 다 없으면 본문 없음)
+     * - extract: 변수 이름 → 응답 위치
+     *   "/account_list/0/account_num" 처럼 JSON Pointer, 또는 "location:code" (Location 헤더의 쿼리 파라미터)
+     * - paging: 응답의 다음 페이지 값이 있으면 같은 단계를 반복 (max_pages까지)
+     */
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record Step(
+            String name,
+            String method,
+            String path,
+            Map<String, String> query,
+            Map<String, String> headers,
+            Map<String, String> form,
+            JsonNode body,
+            Map<String, String> extract,
+            Paging paging) {
+    }
+
+    /**
+     * 페이지 순회: 응답의 cursor(JSON Pointer) 값을 variable에 넣어 같은 단계를 다시 호출
+     * (첫 호출의 variable은 빈 문자열)
+     */
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record Paging(String cursor, String variable, int maxPages) {
+    }
+
+    /**
+     * 값 확인 (CLI에서 받은 대상 주소로 교체한 뒤 호출)
+     */
+    public void validate() {
+        if (targetUrl == null || targetUrl.isBlank()) {
+            throw new IllegalArgumentException("target_url이 필요합니다 (시나리오 파일 또는 --target).");
+        }
+        if (arrivalRate <= 0 || durationSeconds <= 0) {
+            throw new IllegalArgumentException("arrival_rate와 duration_seconds는 0보다 커야 합니다.");
+        }
+        if (steps == null || steps.isEmpty()) {
+            throw new IllegalArgumentException("steps가 비어 있습니다.");
+        }
+        for (Step step : steps) {
+            if (step.name() == null || step.method() == null || step.path() == null) {
+                throw new IllegalArgumentException("단계마다 name, method, path가 필요합니다.");
+            }
+        }
+    }
+
+    public LoadScenario withTargetUrl(String target) {
+        return new LoadScenario(name, target, arrivalRate, durationSeconds, maxInFlight, variables, steps);
+    }
+
+    public LoadScenario withArrivalRate(double rate) {
+        return new LoadScenario(name, targetUrl, rate, durationSeconds, maxInFlight, variables, steps);
+    }
+
+    public LoadScenario withDurationSeconds(int seconds) {
+        return new LoadScenario(name, targetUrl, arrivalRate, seconds, maxInFlight, variables, steps);
+    }
+}
@@ -0,0 +1,188 @@
+package com.mydata.loadgen;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 캡처 재생기 (포털 모의 API 캡처 세그먼트 → 임의 대상 서버)
+ *
+ * - 모든 세그먼트를 메모리 매핑하고 레코드 시작 시각만 읽어 정렬 (본문은 보낼 때 읽음)
+ * - 발송 스레드 1개가 캡처 당시 간격 / speed 뒤의 예정 시각마다 가상 스레드로 요청 1건 전송
+ *   (speed 1 = 원래 속도, 10 = 10배 빠르게, 개방형 모델이므로 대상이 느려져도 간격을 유지)
+ * - 집계는 method + 경로별 StepStats, 응답 상태가 캡처 당시와 다르면 오류로 셈
+ *
+ * 결과는 LoadResult로 반환해 시나리오 실행과 같은 보고서(LoadReport) 형식으로 저장
+ */
+public final class ReplayRunner {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final long START_DELAY_NANOS = 100_000_000L;
+
+    /**
+     * HttpClient가 직접 정하는 헤더 (지정하면 IllegalArgumentException)
+     */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of(
+            "host", "connection", "content-length", "expect", "upgrade", "transfer-encoding", "keep-alive");
+
+    private final List<CaptureSegment> segments;
+    private final String name;
+    private final String targetUrl;
+    private final double speed;
+    private final int maxInFlight;
+
+    private final Map<String, StepStats> routeStats = new ConcurrentHashMap<>();
+    private final StepStats totalStats = new StepStats("replay");
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+
+    private HttpClient client;
+
+    /**
+     * @param maxInFlight 동시에 보내고 있는 요청 상한 (0이면 제한 없음)
+     */
+    public ReplayRunner(List<CaptureSegment> segments, String name, String targetUrl, double speed, int maxInFlight) {
+        if (targetUrl == null || targetUrl.isBlank()) {
+            throw new IllegalArgumentException("재생 대상 주소(--target)가 필요합니다.");
+        }
+        if (speed <= 0) {
+            throw new IllegalArgumentException("재생 속도(--speed)는 0보다 커야 합니다.");
+        }
+        this.segments = segments;
+        this.name = name;
+        this.targetUrl = targetUrl;
+        this.speed = speed;
+        this.maxInFlight = maxInFlight > 0 ? maxInFlight : Integer.MAX_VALUE;
+    }
+
+    public static ReplayRunner open(Path path, String targetUrl, double speed, int maxInFlight) throws IOException {
+        List<CaptureSegment> segments = new ArrayList<>();
+        for (Path file : CaptureSegment.files(path)) {
+            segments.add(CaptureSegment.open(file));
+        }
+        return new ReplayRunner(segments, "replay-" + path.getFileName(), targetUrl, speed, maxInFlight);
+    }
+
+    public LoadResult run() {
+        long[] order = order();
+        LocalDateTime startedAt = LocalDateTime.now();
+        long firstMicros = order.length == 0 ? 0 : startMicros(order[0]);
+        long started = 0;
+        long begin;
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        client = httpClient;
+        try (httpClient; ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            begin = System.nanoTime() + START_DELAY_NANOS;
+            for (long entry : order) {
+                long intended = begin + (long) ((startMicros(entry) - firstMicros) * 1_000L / speed);
+                for (long wait = intended - System.nanoTime(); wait > 0; wait = intended - System.nanoTime()) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (inFlight.get() >= maxInFlight) {
+                    dropped.increment();
+                    continue;
+                }
+                inFlight.incrementAndGet();
+                executor.execute(() -> {
+                    try {
+                        send(exchange(entry), intended);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+                started++;
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - begin) / 1_000_000_000.0;
+
+        double spanSeconds = order.length < 2 ? 0
+                : (startMicros(order[order.length - 1]) - firstMicros) / 1_000_000.0 / speed;
+        LoadScenario scenario = new LoadScenario(name, targetUrl,
+                spanSeconds > 0 ? order.length / spanSeconds : order.length,
+                (int) Math.ceil(spanSeconds), maxInFlight == Integer.MAX_VALUE ? 0 : maxInFlight, Map.of(), List.of());
+        List<StepStats> steps = new ArrayList<>(routeStats.values());
+        steps.sort(Comparator.comparing(StepStats::name));
+        return new LoadResult(scenario, startedAt, elapsedSeconds, started, dropped.sum(), totalStats, List.copyOf(steps));
+    }
+
+    private void send(CapturedExchange exchange, long intended) {
+        StepStats stats = routeStats.computeIfAbsent(exchange.route(), StepStats::new);
+        long sent = System.nanoTime();
+        int status = 0;
+        try {
+            status = client.send(request(exchange), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException | IllegalArgumentException e) {
+            // 연결 실패, 잘못된 헤더 등 응답 없음 (상태 0)
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long end = System.nanoTime();
+        boolean success = status == exchange.status();
+        stats.record(intended, sent, end, status, success);
+        totalStats.record(intended, sent, end, status, success);
+    }
+
+    private HttpRequest request(CapturedExchange exchange) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(targetUrl + exchange.uri()))
+                .timeout(REQUEST_TIMEOUT);
+        for (String[] header : exchange.headers()) {
+            if (!RESTRICTED_HEADERS.contains(header[0].toLowerCase())) {
+                builder.header(header[0], header[1]);
+            }
+        }
+        HttpRequest.BodyPublisher publisher = exchange.requestBody().length == 0
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(exchange.requestBody());
+        return builder.method(exchange.method(), publisher).build();
+    }
+
+    // ==================== 재생 순서 ====================
+
+    /**
+     * 전체 레코드를 시작 시각 순으로 정렬 (원소 = 세그먼트 번호 << 32 | 레코드 번호)
+     */
+    private long[] order() {
+        int total = 0;
+        for (CaptureSegment segment : segments) {
+            total += segment.size();
+        }
+        Long[] entries = new Long[total];
+        int next = 0;
+        for (int s = 0; s < segments.size(); s++) {
+            for (int r = 0; r < segments.get(s).size(); r++) {
+                entries[next++] = ((long) s << 32) | r;
+            }
+        }
+        Arrays.sort(entries, Comparator.comparingLong(this::startMicros));
+        return Arrays.stream(entries).mapToLong(Long::longValue).toArray();
+    }
+
+    private long startMicros(long entry) {
+        return segments.get((int) (entry >>> 32)).startMicros((int) entry);
+    }
+
+    private CapturedExchange exchange(long entry) {
+        return segments.get((int) (entry >>> 32)).read((int) entry);
+    }
+}
@@ -0,0 +1,72 @@
+package com.mydata.loadgen;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단계 1개(또는 반복 전체)의 집계
+ *
+ * - corrected: 예정 시작 시각부터 응답 완료까지 (coordinated omission 보정)
+ *   → 부하 생성기가 밀려 늦게 보낸 시간도 대기 시간으로 포함
+ * - service: 실제 전송 시각부터 응답 완료까지 (서버 처리 + 네트워크)
+ * 둘의 차이가 크면 대상 서버가 아닌 부하 생성기(또는 연결 대기)가 병목
+ */
+public final class StepStats {
+
+    private final String name;
+    private final LatencyHistogram corrected = new LatencyHistogram();
+    private final LatencyHistogram service = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    StepStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @param status HTTP 상태 (연결 실패 등 응답이 없으면 0)
+     */
+    void record(long intendedNanos, long sentNanos, long endNanos, int status, boolean success) {
+        corrected.record((endNanos - intendedNanos) / 1_000L);
+        service.record((endNanos - sentNanos) / 1_000L);
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * 반복 전체 (상태 코드 없음, 예정 시각부터 마지막 단계 완료까지)
+     */
+    void recordIteration(long intendedNanos, long endNanos, boolean success) {
+        corrected.record((endNanos - intendedNanos) / 1_000L);
+        service.record((endNanos - intendedNanos) / 1_000L);
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public LatencyHistogram corrected() {
+        return corrected;
+    }
+
+    public LatencyHistogram service() {
+        return service;
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+
+    public Map<Integer, Long> statuses() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+}
@@ -0,0 +1,79 @@
+package com.mydata.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 변수 치환, 히스토그램 백분위, 로컬 서버 대상 시나리오 실행(추출/페이지 순회) 검증
+ */
+class LoadRunnerTest {
+
+    @Test
+    void substitutesVariablesInStringsAndJsonBodies() throws IOException {
+        Map<String, String> variables = Map.of("code", "abc", "page", "2");
+        assertThat(LoadRunner.substitute("Bearer ${code}-${missing}", variables)).isEqualTo("Bearer abc-");
+        assertThat(LoadRunner.substitute(new ObjectMapper().readTree("{\"a\":[\"${page}\",1]}"), variables).toString())
+                .isEqualTo("{\"a\":[\"2\",1]}");
+    }
+
+    @Test
+    void histogramPercentilesStayWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int micros = 1; micros <= 100_000; micros++) {
+            histogram.record(micros);
+        }
+        assertThat(histogram.count()).isEqualTo(100_000);
+        assertThat(histogram.percentileMillis(50)).isBetween(48.5, 51.5);
+        assertThat(histogram.percentileMillis(99)).isBetween(96.0, 100.0);
+        assertThat(histogram.maxMillis()).isEqualTo(100.0);
+    }
+
+    @Test
+    void runsStepsWithExtractionAndPaging() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/token", exchange -> respond(exchange, "{\"access_token\":\"t-1\"}"));
+        server.createContext("/items", exchange -> {
+            boolean authorized = "Bearer t-1".equals(exchange.getRequestHeaders().getFirst("Authorization"));
+            boolean firstPage = !exchange.getRequestURI().getQuery().contains("next_page=2");
+            respond(exchange, !authorized ? "{\"rsp_code\":\"40101\"}"
+                    : firstPage ? "{\"rsp_code\":\"00000\",\"next_page\":\"2\"}" : "{\"rsp_code\":\"00000\"}");
+        });
+        server.start();
+        try {
+            LoadScenario scenario = new LoadScenario("test", "http://127.0.0.1:" + server.getAddress().getPort(),
+                    20, 1, 0, Map.of(), List.of(
+                    new LoadScenario.Step("token", "POST", "/token", null, null, Map.of("grant_type", "x"),
+                            null, Map.of("access_token", "/access_token"), null),
+                    new LoadScenario.Step("items", "GET", "/items", Map.of("next_page", "${next_page}"),
+                            Map.of("Authorization", "Bearer ${access_token}"), null, null, null,
+                            new LoadScenario.Paging("/next_page", "next_page", 5))));
+
+            LoadResult result = new LoadRunner(scenario).run();
+
+            assertThat(result.started()).isEqualTo(20);
+            assertThat(result.iterations().errors()).isZero();
+            assertThat(result.steps().get(0).corrected().count()).isEqualTo(20);
+            assertThat(result.steps().get(1).corrected().count()).isEqualTo(40);
+            assertThat(result.steps().get(1).statuses()).containsEntry(200, 40L);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static void respond(com.sun.net.httpserver.HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
@@ -0,0 +1,133 @@
+package com.mydata.loadgen;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캡처 세그먼트 읽기 (잘린 마지막 레코드 무시) + 로컬 서버 대상 재생 (시작 시각 순서, 상태 비교) 검증
+ */
+class ReplayRunnerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsRecordsAndStopsAtTruncatedTail() throws IOException {
+        Path file = directory.resolve("capture-1.seg");
+        byte[] record = record(1_000L, 200, "POST", "/v2/bank/accounts/deposit/basic",
+                Map.of("x-api-tran-id", "T1"), "{\"org_code\":\"A\"}", "{\"rsp_code\":\"00000\"}");
+        try (var out = Files.newOutputStream(file)) {
+            out.write(CaptureSegment.MAGIC);
+            out.write(record);
+            out.write(record, 0, 12);  // 기록 중에 잘린 레코드
+        }
+
+        CaptureSegment segment = CaptureSegment.open(file);
+
+        assertThat(segment.size()).isEqualTo(1);
+        CapturedExchange exchange = segment.read(0);
+        assertThat(exchange.startMicros()).isEqualTo(1_000L);
+        assertThat(exchange.route()).isEqualTo("POST /v2/bank/accounts/deposit/basic");
+        assertThat(exchange.headers()).containsExactly(new String[]{"x-api-tran-id", "T1"});
+        assertThat(new String(exchange.requestBody(), StandardCharsets.UTF_8)).isEqualTo("{\"org_code\":\"A\"}");
+    }
+
+    @Test
+    void replaysInStartOrderAndComparesStatus() throws IOException {
+        Map<String, String> received = new ConcurrentHashMap<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v2/bank", exchange -> {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            received.put(exchange.getRequestURI().toString(),
+                    exchange.getRequestHeaders().getFirst("x-api-tran-id") + " " + new String(body, StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(exchange.getRequestURI().getPath().endsWith("/accounts") ? 200 : 400, -1);
+            exchange.close();
+        });
+        server.start();
+        try {
+            // 두 번째 파일의 레코드가 먼저 (이름 순이 아닌 시작 시각 순으로 재생)
+            write(directory.resolve("capture-1.seg"), record(2_000_000L, 200, "POST", "/v2/bank/accounts/deposit/basic",
+                    Map.of("x-api-tran-id", "T2"), "{\"org_code\":\"A\"}", ""));
+            write(directory.resolve("capture-2.seg"), record(1_000_000L, 200, "GET", "/v2/bank/accounts?limit=10",
+                    Map.of("x-api-tran-id", "T1", "Host", "captured-host"), "", ""));
+
+            LoadResult result = ReplayRunner.open(directory, "http://127.0.0.1:" + server.getAddress().getPort(),
+                    10, 0).run();
+
+            assertThat(received).containsEntry("/v2/bank/accounts?limit=10", "T1 ")
+                    .containsEntry("/v2/bank/accounts/deposit/basic", "T2 {\"org_code\":\"A\"}");
+            assertThat(result.started()).isEqualTo(2);
+            assertThat(result.scenario().durationSeconds()).isEqualTo(1);  // 1초 간격 ÷ 10배속 = 0.1초 (올림)
+            assertThat(result.steps()).extracting(StepStats::name)
+                    .containsExactly("GET /v2/bank/accounts", "POST /v2/bank/accounts/deposit/basic");
+            // 캡처 당시 200이었던 거래내역 요청이 400 → 불일치 1건
+            assertThat(result.iterations().errors()).isEqualTo(1);
+            assertThat(result.steps().get(1).statuses()).containsEntry(400, 1L);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static void write(Path file, byte[]... records) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(CaptureSegment.MAGIC);
+        for (byte[] record : records) {
+            out.write(record);
+        }
+        Files.write(file, out.toByteArray());
+    }
+
+    /**
+     * 포털 MockCaptureLog와 같은 형식의 레코드
+     */
+    private static byte[] record(long startMicros, int status, String method, String uri,
+                                 Map<String, String> headers, String requestBody, String responseBody) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(content);
+        out.writeLong(startMicros);
+        out.writeInt(500);
+        out.writeShort(status);
+        for (String text : List.of(method, uri)) {
+            writeString(out, text);
+        }
+        out.writeShort(headers.size());
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            writeString(out, header.getKey());
+            writeString(out, header.getValue());
+        }
+        for (String body : List.of(requestBody, responseBody)) {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        int length = (CaptureSegment.HEADER_LENGTH + content.size() + 7) & ~7;
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(record);
+        header.writeInt(length);
+        header.writeInt(CaptureSegment.TYPE_EXCHANGE);
+        content.writeTo(record);
+        record.write(new byte[length - record.size()]);
+        return record.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,33 @@
+package com.mydata.sdk;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.math.BigDecimal;
+
+/**
+ * 계좌 기본정보 (은행-002 수신 / 은행-005 펀드 / 은행-008 대출)
+ *
+ * 계좌 구분마다 회신하는 필드만 값이 있음
+ * - 수신: currency_code, saving_method, issue_date, exp_date, commit_amt, monthly_paid_in_amt
+ * - 펀드: standard_fund_code, paid_in_type, issue_date, exp_date
+ * - 대출: issue_date, exp_date, last_offered_rate, repay_date, repay_method, repay_org_code, repay_account_num
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record AccountBasic(
+        String currencyCode,
+        String savingMethod,
+        String issueDate,
+        String expDate,
+        BigDecimal commitAmt,
+        BigDecimal monthlyPaidInAmt,
+        String standardFundCode,
+        String paidInType,
+        BigDecimal lastOfferedRate,
+        String repayDate,
+        String repayMethod,
+        String repayOrgCode,
+        String repayAccountNum) {
+}
@@ -0,0 +1,42 @@
+package com.mydata.sdk;
+
+/**
+ * 은행 계좌 구분 (API 경로 /accounts/{path}/basic|detail|transactions)
+ *
+ * account_type 첫 자리로 구분: 1 수신, 2 펀드, 3 대출
+ */
+public enum AccountCategory {
+
+    DEPOSIT("deposit"),
+    INVEST("invest"),
+    LOAN("loan");
+
+    private final String path;
+
+    AccountCategory(String path) {
+        this.path = path;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @throws IllegalArgumentException 은행-002~010 대상이 아닌 계좌 유형
+     */
+    public static AccountCategory of(String accountType) {
+        if (accountType != null && !accountType.isEmpty()) {
+            switch (accountType.charAt(0)) {
+                case '1':
+                    return DEPOSIT;
+                case '2':
+                    return INVEST;
+                case '3':
+                    return LOAN;
+                default:
+                    break;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 계좌 유형입니다: " + accountType);
+    }
+}
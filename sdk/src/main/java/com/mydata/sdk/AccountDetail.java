@@ -0,0 +1,30 @@
+package com.mydata.sdk;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.math.BigDecimal;
+
+/**
+ * 계좌 추가정보 (은행-003 수신 / 은행-006 펀드 / 은행-009 대출)
+ *
+ * 계좌 구분마다 회신하는 필드만 값이 있음
+ * - 수신: currency_code, balance_amt, withdrawable_amt, offered_rate, last_paid_in_cnt
+ * - 펀드: currency_code, balance_amt, eval_amt, inv_principal, fund_num
+ * - 대출: currency_code, balance_amt, loan_principal, next_repay_date
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record AccountDetail(
+        String currencyCode,
+        BigDecimal balanceAmt,
+        BigDecimal withdrawableAmt,
+        BigDecimal offeredRate,
+        Integer lastPaidInCnt,
+        BigDecimal evalAmt,
+        BigDecimal invPrincipal,
+        BigDecimal fundNum,
+        BigDecimal loanPrincipal,
+        String nextRepayDate) {
+}
@@ -0,0 +1,22 @@
+package com.mydata.sdk;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.util.List;
+
+/**
+ * 은행-001 계좌 목록 조회 응답 (1페이지)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record AccountListResponse(
+        String rspCode,
+        String rspMsg,
+        Long searchTimestamp,
+        String regDate,
+        String nextPage,
+        int accountCnt,
+        List<BankAccount> accountList) implements MydataResponse {
+}
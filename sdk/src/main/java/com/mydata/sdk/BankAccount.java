@@ -0,0 +1,27 @@
+package com.mydata.sdk;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/**
+ * 은행-001 계좌 목록의 원소
+ *
+ * @param seqno 회차번호 (같은 계좌번호에 상품이 여러 개인 경우만 회신)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record BankAccount(
+        String accountNum,
+        Boolean isConsent,
+        String seqno,
+        Boolean isForeignDeposit,
+        String prodName,
+        Boolean isMinus,
+        String accountType,
+        String accountStatus) {
+
+    public AccountCategory category() {
+        return AccountCategory.of(accountType);
+    }
+}
@@ -0,0 +1,168 @@
+package com.mydata.sdk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 은행 업권 API (bank-api.html 규격, v2)
+ *
+ * - 은행-001 GET  /v2/bank/accounts                       : 계좌 목록
+ * - 은행-002/005/008 POST /v2/bank/accounts/{구분}/basic        : 기본정보
+ * - 은행-003/006/009 POST /v2/bank/accounts/{구분}/detail       : 추가정보
+ * - 은행-004/007/010 POST /v2/bank/accounts/{구분}/transactions : 거래내역
+ * 구분(deposit/invest/loan)은 계좌의 account_type으로 결정 (AccountCategory)
+ *
+ * 목록/거래내역은 PageStream으로 다음 페이지를 미리 받으며 순회
+ * details()는 계좌마다 추가정보를 가상 스레드에서 동시에 조회 (동시 요청 수는 MydataClient가 제한)
+ */
+public final class BankApi {
+
+    private static final String ACCOUNTS = "/v2/bank/accounts";
+
+    private final MydataSession session;
+
+    BankApi(MydataSession session) {
+        this.session = session;
+    }
+
+    /**
+     * 은행-001 1페이지
+     *
+     * @param nextPage 직전 응답의 next_page (첫 페이지는 null)
+     */
+    public AccountListResponse accountPage(String nextPage) {
+        Map<String, String> query = new LinkedHashMap<>();
+        query.put("org_code", orgCode());
+        query.put("next_page", nextPage);
+        query.put("limit", Integer.toString(client().getPageLimit()));
+        return session.call(token -> client().get(session.getOrg().resolve(ACCOUNTS), token, query,
+                AccountListResponse.class));
+    }
+
+    /**
+     * 은행-001 전체 계좌 (다음 페이지를 미리 받으며 순회)
+     */
+    public PageStream<BankAccount> accountStream() {
+        return stream(nextPage -> {
+            AccountListResponse response = accountPage(nextPage);
+            return new Page<>(response.accountList(), response.nextPage());
+        });
+    }
+
+    /**
+     * 은행-001 전체 계좌
+     */
+    public List<BankAccount> accounts() {
+        return accountStream().toList();
+    }
+
+    /**
+     * 은행-002 / 005 / 008 기본정보 (수신계좌는 통화별로 여러 건일 수 있음)
+     */
+    public List<AccountBasic> basic(BankAccount account) {
+        return list(post(account, "basic", accountBody(account)), "basic_list", AccountBasic.class);
+    }
+
+    /**
+     * 은행-003 / 006 / 009 추가정보 (수신계좌는 통화별로 여러 건일 수 있음)
+     */
+    public List<AccountDetail> detail(BankAccount account) {
+        return list(post(account, "detail", accountBody(account)), "detail_list", AccountDetail.class);
+    }
+
+    /**
+     * accounts 각각의 추가정보를 동시에 조회 (결과는 accounts 순서)
+     */
+    public Map<BankAccount, List<AccountDetail>> details(Collection<BankAccount> accounts) {
+        List<BankAccount> targets = List.copyOf(accounts);
+        List<List<AccountDetail>> results = client().fanOut(targets, this::detail);
+        Map<BankAccount, List<AccountDetail>> details = new LinkedHashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            details.put(targets.get(i), results.get(i));
+        }
+        return details;
+    }
+
+    /**
+     * 은행-004 / 007 / 010 거래내역 1페이지
+     */
+    public TransactionListResponse transactionPage(BankAccount account, LocalDate fromDate, LocalDate toDate,
+                                                   String nextPage) {
+        Map<String, Object> body = accountBody(account);
+        body.put("from_date", fromDate.format(DateTimeFormatter.BASIC_ISO_DATE));
+        body.put("to_date", toDate.format(DateTimeFormatter.BASIC_ISO_DATE));
+        if (nextPage != null) {
+            body.put("next_page", nextPage);
+        }
+        body.put("limit", client().getPageLimit());
+        URI uri = session.getOrg().resolve(ACCOUNTS + "/" + account.category().getPath() + "/transactions");
+        return session.call(token -> client().postJson(uri, token, body, TransactionListResponse.class));
+    }
+
+    /**
+     * 은행-004 / 007 / 010 기간 전체 거래내역 (다음 페이지를 미리 받으며 순회)
+     */
+    public PageStream<BankTransaction> transactions(BankAccount account, LocalDate fromDate, LocalDate toDate) {
+        return stream(nextPage -> {
+            TransactionListResponse response = transactionPage(account, fromDate, toDate, nextPage);
+            return new Page<>(response.transList(), response.nextPage());
+        });
+    }
+
+    private <T> PageStream<T> stream(Function<String, Page<T>> fetch) {
+        return new PageStream<>(client(), fetch, client().isPrefetch());
+    }
+
+    private JsonNode post(BankAccount account, String api, Map<String, Object> body) {
+        URI uri = session.getOrg().resolve(ACCOUNTS + "/" + account.category().getPath() + "/" + api);
+        return session.call(token -> client().postJson(uri, token, body, JsonNode.class));
+    }
+
+    private Map<String, Object> accountBody(BankAccount account) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("org_code", orgCode());
+        body.put("account_num", account.accountNum());
+        if (account.seqno() != null) {
+            body.put("seqno", account.seqno());
+        }
+        return body;
+    }
+
+    /**
+     * 수신계좌 응답은 {목록명}에 여러 건, 펀드/대출 응답은 본문 자체가 1건
+     */
+    private static <T> List<T> list(JsonNode response, String listField, Class<T> type) {
+        try {
+            JsonNode list = response.get(listField);
+            if (list == null) {
+                return List.of(MydataClient.MAPPER.treeToValue(response, type));
+            }
+            List<T> items = new ArrayList<>(list.size());
+            for (JsonNode item : list) {
+                items.add(MydataClient.MAPPER.treeToValue(item, type));
+            }
+            return items;
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(type.getSimpleName() + " 응답을 읽지 못했습니다.", e);
+        }
+    }
+
+    private String orgCode() {
+        return session.getOrg().getOrgCode();
+    }
+
+    private MydataClient client() {
+        return session.client();
+    }
+}
@@ -0,0 +1,36 @@
+package com.mydata.sdk;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.math.BigDecimal;
+
+/**
+ * 거래내역 1건 (은행-004 수신 / 은행-007 펀드 / 은행-010 대출)
+ *
+ * 계좌 구분마다 회신하는 필드만 값이 있음
+ * - 수신: trans_class, paid_in_cnt, trans_memo
+ * - 펀드: base_amt, trans_fund_num
+ * - 대출: principal_amt, int_amt, ret_int_amt
+ *
+ * @param transDtime 거래일시 (yyyyMMddHHmmss)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record BankTransaction(
+        String transDtime,
+        String transNo,
+        String transType,
+        String transClass,
+        String currencyCode,
+        BigDecimal transAmt,
+        BigDecimal balanceAmt,
+        Integer paidInCnt,
+        String transMemo,
+        BigDecimal baseAmt,
+        BigDecimal transFundNum,
+        BigDecimal principalAmt,
+        BigDecimal intAmt,
+        BigDecimal retIntAmt) {
+}
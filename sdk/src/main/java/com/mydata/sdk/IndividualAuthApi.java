@@ -0,0 +1,113 @@
+package com.mydata.sdk;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 개별인증 API (cert-api/individual-api.html 규격, v2)
+ *
+ * - 개별인증-001 GET  /v2/oauth/2.0/authorize : 인가코드 발급 (redirect_uri로의 리다이렉트에서 code 추출)
+ * - 개별인증-002 POST /v2/oauth/2.0/token     : 접근토큰 발급
+ * - 개별인증-003 POST /v2/oauth/2.0/token     : 접근토큰 갱신
+ * - 개별인증-004 POST /v2/oauth/2.0/revoke    : 토큰 폐기
+ */
+public final class IndividualAuthApi {
+
+    private static final String AUTHORIZE = "/v2/oauth/2.0/authorize";
+    private static final String TOKEN = "/v2/oauth/2.0/token";
+    private static final String REVOKE = "/v2/oauth/2.0/revoke";
+
+    private final MydataOrg org;
+
+    IndividualAuthApi(MydataOrg org) {
+        this.org = org;
+    }
+
+    /**
+     * 개별인증-001: 인가코드
+     *
+     * @throws IllegalStateException 리다이렉트의 state가 요청과 다름
+     */
+    public String authorize(String userCi, String redirectUri, String appScheme, String state) {
+        Map<String, String> query = new LinkedHashMap<>();
+        query.put("org_code", org.getOrgCode());
+        query.put("response_type", "code");
+        query.put("client_id", org.client().getClientId());
+        query.put("redirect_uri", redirectUri);
+        query.put("app_scheme", appScheme);
+        query.put("state", state);
+        String location = org.client().redirect(org.resolve(AUTHORIZE), query, Map.of("x-user-ci", userCi));
+
+        Map<String, String> parameters = queryParameters(location);
+        if (!state.equals(parameters.get("state"))) {
+            throw new IllegalStateException("인가코드 응답의 state가 요청과 다릅니다.");
+        }
+        String code = parameters.get("code");
+        if (code == null) {
+            throw new IllegalStateException("인가코드 응답에 code가 없습니다: " + location);
+        }
+        return code;
+    }
+
+    /**
+     * 개별인증-002: 인가코드 → 접근토큰/리프레시 토큰
+     */
+    public TokenResponse token(String code, String redirectUri) {
+        Map<String, String> form = clientForm();
+        form.put("grant_type", "authorization_code");
+        form.put("code", code);
+        form.put("redirect_uri", redirectUri);
+        return org.client().postForm(org.resolve(TOKEN), form, TokenResponse.class);
+    }
+
+    /**
+     * 개별인증-003: 리프레시 토큰 → 새 접근토큰
+     *
+     * @param reissue 리프레시 토큰도 새로 발급 (응답의 refresh_token이 새 값)
+     */
+    public TokenResponse refresh(String refreshToken, boolean reissue) {
+        Map<String, String> form = clientForm();
+        form.put("grant_type", "refresh_token");
+        form.put("refresh_token", refreshToken);
+        form.put("is_refresh_token_reissue", Boolean.toString(reissue));
+        return org.client().postForm(org.resolve(TOKEN), form, TokenResponse.class);
+    }
+
+    /**
+     * 개별인증-004: 토큰 폐기 (같은 인가로 발급한 토큰과 전송요구도 함께 철회)
+     */
+    public void revoke(String token) {
+        Map<String, String> form = clientForm();
+        form.put("token", token);
+        org.client().postForm(org.resolve(REVOKE), form, JsonNode.class);
+    }
+
+    private Map<String, String> clientForm() {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("org_code", org.getOrgCode());
+        form.put("client_id", org.client().getClientId());
+        form.put("client_secret", org.client().getClientSecret());
+        return form;
+    }
+
+    private static Map<String, String> queryParameters(String location) {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        String query = URI.create(location).getRawQuery();
+        if (query == null) {
+            return parameters;
+        }
+        for (String pair : query.split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals > 0) {
+                parameters.put(URLDecoder.decode(pair.substring(0, equals), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+}
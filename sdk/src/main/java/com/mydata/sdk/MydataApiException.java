@@ -0,0 +1,53 @@
+package com.mydata.sdk;
+
+/**
+ * 정보제공자가 오류로 응답한 API 호출 (HTTP 상태가 200이 아니거나 rsp_code가 00000이 아님)
+ *
+ * 연결 실패/시간 초과 등 응답을 받지 못한 경우는 UncheckedIOException
+ */
+public class MydataApiException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /** 유효하지 않은 접근토큰 (만료/폐기) → MydataSession이 토큰을 갱신해 1번 재시도 */
+    public static final String INVALID_TOKEN = "40101";
+
+    private final int status;
+    private final String rspCode;
+    private final String rspMsg;
+    private final String tranId;
+
+    public MydataApiException(int status, String rspCode, String rspMsg, String tranId) {
+        super("[" + (rspCode == null ? "HTTP " + status : rspCode) + "] "
+                + (rspMsg == null ? "" : rspMsg) + " (x-api-tran-id: " + tranId + ")");
+        this.status = status;
+        this.rspCode = rspCode;
+        this.rspMsg = rspMsg;
+        this.tranId = tranId;
+    }
+
+    /**
+     * HTTP 상태 코드
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * 규격 응답코드 (본문이 JSON이 아니면 null)
+     */
+    public String getRspCode() {
+        return rspCode;
+    }
+
+    public String getRspMsg() {
+        return rspMsg;
+    }
+
+    /**
+     * 요청에 보낸 거래고유번호 (정보제공자 로그 조회용)
+     */
+    public String getTranId() {
+        return tranId;
+    }
+}
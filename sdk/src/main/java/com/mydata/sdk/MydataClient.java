@@ -0,0 +1,453 @@
+package com.mydata.sdk;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 마이데이터 클라이언트 SDK 진입점 (마이데이터사업자 1곳 = 인스턴스 1개, 스레드 안전)
+ *
+ * - 연결: HttpClient 1개를 모든 기관/세션이 공유
+ *   HTTP/2를 협상하면 기관(호스트)마다 연결 1개에 요청을 다중화, 아니면 HTTP/1.1 keep-alive 연결을 재사용
+ * - 동시성: 전송 중인 요청 수를 maxConcurrency로 제한
+ *   허가는 HTTP 전송 동안만 잡으므로 팬아웃 안에서 다시 팬아웃해도(기관 → 계좌) 교착 없음
+ * - fanOut, 다음 페이지 미리 받기(PageStream)는 가상 스레드에서 실행
+ * - 모든 요청에 x-api-tran-id (기관코드 10자 + 'M' + 순번 14자), x-api-type 헤더 추가
+ *
+ * 사용 예:
+ *   MydataClient client = MydataClient.builder().clientId("...").clientSecret("...").build();
+ *   MydataSession session = client.org("MOCKBANK01", URI.create("http://localhost:8080"))
+ *           .connect(userCi, redirectUri, appScheme);
+ *   List&lt;BankAccount&gt; accounts = session.bank().accounts();
+ *   Map&lt;BankAccount, List&lt;AccountDetail&gt;&gt; details = session.bank().details(accounts);
+ */
+public final class MydataClient implements AutoCloseable {
+
+    public static final String TRAN_ID_HEADER = "x-api-tran-id";
+    public static final String API_TYPE_HEADER = "x-api-type";
+
+    static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final int MAX_ERROR_BODY = 200;
+
+    private final String clientId;
+    private final String clientSecret;
+    private final String tranIdPrefix;
+    private final String apiType;
+    private final Duration requestTimeout;
+    private final int pageLimit;
+    private final Duration tokenRefreshSkew;
+    private final boolean prefetch;
+
+    private final HttpClient http;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final AtomicLong tranSeq = new AtomicLong();
+
+    private MydataClient(Builder builder) {
+        this.clientId = builder.clientId;
+        this.clientSecret = builder.clientSecret;
+        this.tranIdPrefix = builder.orgCode + "M";
+        this.apiType = builder.apiType;
+        this.requestTimeout = builder.requestTimeout;
+        this.pageLimit = builder.pageLimit;
+        this.tokenRefreshSkew = builder.tokenRefreshSkew;
+        this.prefetch = builder.prefetch;
+        this.permits = new Semaphore(builder.maxConcurrency);
+        // HttpClient는 기본 실행기 사용 (가상 스레드 실행기를 닫는 중에도 응답 처리가 거부되지 않도록)
+        this.http = HttpClient.newBuilder()
+                .version(builder.version)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(builder.connectTimeout)
+                .build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 정보제공자 1곳 (개별인증 후 MydataSession으로 정보제공 API 호출)
+     *
+     * @param baseUri 정보제공자 API 주소 (예: http://localhost:8080)
+     */
+    public MydataOrg org(String orgCode, URI baseUri) {
+        return new MydataOrg(this, orgCode, baseUri);
+    }
+
+    /**
+     * 종합포털 지원 API
+     *
+     * @param accessToken 지원 API 접근토큰 (지원-001로 발급)
+     */
+    public SupportApi support(URI portalUri, String accessToken) {
+        return new SupportApi(this, portalUri, accessToken);
+    }
+
+    /**
+     * items마다 call을 가상 스레드에서 동시에 실행하고 결과를 items 순서대로 반환
+     *
+     * 동시 요청 수는 maxConcurrency로 제한되므로 items가 많아도 정보제공자에 한꺼번에 몰리지 않음
+     * 하나라도 실패하면 나머지를 취소하고 첫 실패를 그대로 던짐
+     */
+    public <T, R> List<R> fanOut(Collection<? extends T> items, Function<? super T, ? extends R> call) {
+        List<Future<R>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(executor.submit(() -> call.apply(item)));
+        }
+        List<R> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<R> future : futures) {
+                results.add(await(future));
+            }
+        } catch (RuntimeException | Error e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+        return results;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        http.close();
+    }
+
+    // ==================== 세션/API 객체 공용 ====================
+
+    String getClientId() {
+        return clientId;
+    }
+
+    String getClientSecret() {
+        return clientSecret;
+    }
+
+    int getPageLimit() {
+        return pageLimit;
+    }
+
+    Duration getTokenRefreshSkew() {
+        return tokenRefreshSkew;
+    }
+
+    boolean isPrefetch() {
+        return prefetch;
+    }
+
+    <T> Future<T> submit(Callable<T> task) {
+        return executor.submit(task);
+    }
+
+    /**
+     * GET (쿼리 파라미터) → 응답 모델
+     */
+    <T> T get(URI uri, String accessToken, Map<String, String> query, Class<T> type) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(withQuery(uri, query)).GET();
+        return exchange(authorize(request, accessToken), type);
+    }
+
+    /**
+     * POST JSON 본문 (null 값 필드는 생략) → 응답 모델
+     */
+    <T> T postJson(URI uri, String accessToken, Map<String, ?> body, Class<T> type) {
+        byte[] json;
+        try {
+            json = MAPPER.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(json));
+        return exchange(authorize(request, accessToken), type);
+    }
+
+    /**
+     * POST application/x-www-form-urlencoded (null 값 필드는 생략) → 응답 모델
+     */
+    <T> T postForm(URI uri, Map<String, String> form, Class<T> type) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(encode(form)));
+        return exchange(request, type);
+    }
+
+    /**
+     * 리다이렉트 응답의 Location (개별인증-001)
+     */
+    String redirect(URI uri, Map<String, String> query, Map<String, String> headers) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(withQuery(uri, query)).GET();
+        headers.forEach(request::header);
+        String tranId = nextTranId();
+        HttpResponse<byte[]> response = send(prepare(request, tranId), HttpResponse.BodyHandlers.ofByteArray());
+        int status = response.statusCode();
+        if (status / 100 != 3) {
+            throw error(status, response.body(), tranId);
+        }
+        return response.headers().firstValue("Location")
+                .orElseThrow(() -> new MydataApiException(status, null, "Location 헤더가 없습니다.", tranId));
+    }
+
+    private <T> T exchange(HttpRequest.Builder request, Class<T> type) {
+        String tranId = nextTranId();
+        HttpResponse<byte[]> response = send(prepare(request, tranId), HttpResponse.BodyHandlers.ofByteArray());
+        byte[] body = response.body();
+        if (response.statusCode() != 200) {
+            throw error(response.statusCode(), body, tranId);
+        }
+        T value;
+        try {
+            value = MAPPER.readValue(body, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(type.getSimpleName() + " 응답을 읽지 못했습니다. (x-api-tran-id: " + tranId + ")", e);
+        }
+        if (value instanceof MydataResponse result && !MydataResponse.SUCCESS.equals(result.rspCode())) {
+            throw new MydataApiException(200, result.rspCode(), result.rspMsg(), tranId);
+        }
+        if (value instanceof JsonNode node && node.has("rsp_code")
+                && !MydataResponse.SUCCESS.equals(node.path("rsp_code").asText())) {
+            throw new MydataApiException(200, node.path("rsp_code").asText(), node.path("rsp_msg").asText(null), tranId);
+        }
+        return value;
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw interrupted(request);
+        }
+        try {
+            return http.send(request, handler);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw interrupted(request);
+        } catch (IOException e) {
+            throw new UncheckedIOException(request.method() + " " + request.uri() + " 호출에 실패했습니다.", e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private HttpRequest prepare(HttpRequest.Builder request, String tranId) {
+        return request.header(TRAN_ID_HEADER, tranId)
+                .header(API_TYPE_HEADER, apiType)
+                .timeout(requestTimeout)
+                .build();
+    }
+
+    private static HttpRequest.Builder authorize(HttpRequest.Builder request, String accessToken) {
+        return accessToken == null ? request : request.header("Authorization", "Bearer " + accessToken);
+    }
+
+    /**
+     * 오류 응답 본문의 rsp_code / rsp_msg (JSON이 아니면 본문 앞부분을 메시지로)
+     */
+    private static MydataApiException error(int status, byte[] body, String tranId) {
+        if (body != null && body.length > 0 && body[0] == '{') {
+            try {
+                JsonNode node = MAPPER.readTree(body);
+                return new MydataApiException(status, node.path("rsp_code").asText(null),
+                        node.path("rsp_msg").asText(null), tranId);
+            } catch (IOException ignored) {
+                // 아래에서 본문 그대로 회신
+            }
+        }
+        String text = body == null ? "" : new String(body, StandardCharsets.UTF_8);
+        return new MydataApiException(status, null,
+                text.length() > MAX_ERROR_BODY ? text.substring(0, MAX_ERROR_BODY) : text, tranId);
+    }
+
+    private static UncheckedIOException interrupted(HttpRequest request) {
+        return new UncheckedIOException(new InterruptedIOException(request.method() + " " + request.uri() + " 호출이 중단되었습니다."));
+    }
+
+    /**
+     * 가상 스레드 작업의 결과 (작업이 던진 예외는 그대로 다시 던짐)
+     */
+    static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new UncheckedIOException(new InterruptedIOException("응답 대기 중 중단되었습니다."));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    static URI withQuery(URI uri, Map<String, String> query) {
+        String encoded = encode(query);
+        return encoded.isEmpty() ? uri : URI.create(uri + (uri.getRawQuery() == null ? "?" : "&") + encoded);
+    }
+
+    private static String encode(Map<String, String> parameters) {
+        StringBuilder encoded = new StringBuilder();
+        parameters.forEach((name, value) -> {
+            if (value == null) {
+                return;
+            }
+            if (!encoded.isEmpty()) {
+                encoded.append('&');
+            }
+            encoded.append(URLEncoder.encode(name, StandardCharsets.UTF_8)).append('=')
+                    .append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+        });
+        return encoded.toString();
+    }
+
+    /**
+     * x-api-tran-id용 거래고유번호 (25자)
+     */
+    private String nextTranId() {
+        String sequence = Long.toString(tranSeq.incrementAndGet());
+        return tranIdPrefix + "0".repeat(Math.max(0, 14 - sequence.length())) + sequence;
+    }
+
+    /**
+     * 설정값 (clientId, clientSecret만 필수)
+     */
+    public static final class Builder {
+
+        private String clientId;
+        private String clientSecret;
+        // 테스트베드에 등록된 마이데이터사업자 기관코드 (mock.statistics.client-org-code)
+        private String orgCode = "MOCKMYDATA";
+        private String apiType = "user-search";
+        private int maxConcurrency = 64;
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        private Duration requestTimeout = Duration.ofSeconds(30);
+        private int pageLimit = 500;
+        private Duration tokenRefreshSkew = Duration.ofSeconds(60);
+        private boolean prefetch = true;
+        private HttpClient.Version version = HttpClient.Version.HTTP_2;
+
+        private Builder() {
+        }
+
+        public Builder clientId(String clientId) {
+            this.clientId = clientId;
+            return this;
+        }
+
+        public Builder clientSecret(String clientSecret) {
+            this.clientSecret = clientSecret;
+            return this;
+        }
+
+        /**
+         * 마이데이터사업자 기관코드 10자 (x-api-tran-id 앞자리)
+         */
+        public Builder orgCode(String orgCode) {
+            this.orgCode = orgCode;
+            return this;
+        }
+
+        /**
+         * x-api-type: user-search (정보주체 요청 시 조회) 또는 scheduled (정기적 전송)
+         */
+        public Builder apiType(String apiType) {
+            this.apiType = apiType;
+            return this;
+        }
+
+        /**
+         * 모든 기관을 합쳐 동시에 전송 중일 수 있는 요청 수
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        /**
+         * 목록/거래내역 조회 시 limit (1 ~ 500)
+         */
+        public Builder pageLimit(int pageLimit) {
+            this.pageLimit = pageLimit;
+            return this;
+        }
+
+        /**
+         * 접근토큰 만료까지 이 시간보다 적게 남으면 호출 전에 갱신
+         */
+        public Builder tokenRefreshSkew(Duration tokenRefreshSkew) {
+            this.tokenRefreshSkew = tokenRefreshSkew;
+            return this;
+        }
+
+        /**
+         * 페이지를 소비하는 동안 다음 페이지를 미리 요청할지 (기본 true)
+         */
+        public Builder prefetch(boolean prefetch) {
+            this.prefetch = prefetch;
+            return this;
+        }
+
+        /**
+         * 선호 HTTP 버전 (기본 HTTP/2, 서버가 지원하지 않으면 HTTP/1.1로 통신)
+         */
+        public Builder version(HttpClient.Version version) {
+            this.version = version;
+            return this;
+        }
+
+        public MydataClient build() {
+            if (clientId == null || clientId.isBlank() || clientSecret == null || clientSecret.isBlank()) {
+                throw new IllegalArgumentException("client_id와 client_secret이 필요합니다.");
+            }
+            if (orgCode == null || orgCode.length() != 10) {
+                throw new IllegalArgumentException("기관코드는 10자여야 합니다: " + orgCode);
+            }
+            if (maxConcurrency < 1) {
+                throw new IllegalArgumentException("maxConcurrency는 1 이상이어야 합니다.");
+            }
+            if (pageLimit < 1 || pageLimit > 500) {
+                throw new IllegalArgumentException("pageLimit은 1~500 사이여야 합니다.");
+            }
+            return new MydataClient(this);
+        }
+    }
+}
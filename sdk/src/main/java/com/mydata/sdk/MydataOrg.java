@@ -0,0 +1,59 @@
+package com.mydata.sdk;
+
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * 정보제공자 1곳 (기관코드 + API 주소)
+ *
+ * 개별인증으로 접근토큰을 받아 MydataSession을 만든 뒤 정보제공 API를 호출
+ */
+public final class MydataOrg {
+
+    private final MydataClient client;
+    private final String orgCode;
+    private final URI baseUri;
+    private final IndividualAuthApi auth;
+
+    MydataOrg(MydataClient client, String orgCode, URI baseUri) {
+        this.client = client;
+        this.orgCode = orgCode;
+        this.baseUri = baseUri;
+        this.auth = new IndividualAuthApi(this);
+    }
+
+    public String getOrgCode() {
+        return orgCode;
+    }
+
+    public URI getBaseUri() {
+        return baseUri;
+    }
+
+    public IndividualAuthApi auth() {
+        return auth;
+    }
+
+    /**
+     * 이미 발급받은 토큰으로 세션 생성 (만료가 가까워지면 리프레시 토큰으로 자동 갱신)
+     */
+    public MydataSession session(TokenResponse tokens) {
+        return new MydataSession(this, tokens);
+    }
+
+    /**
+     * 개별인증-001 인가코드 발급 → 개별인증-002 접근토큰 발급 → 세션 생성
+     */
+    public MydataSession connect(String userCi, String redirectUri, String appScheme) {
+        String code = auth.authorize(userCi, redirectUri, appScheme, UUID.randomUUID().toString());
+        return session(auth.token(code, redirectUri));
+    }
+
+    MydataClient client() {
+        return client;
+    }
+
+    URI resolve(String path) {
+        return baseUri.resolve(path);
+    }
+}
@@ -0,0 +1,15 @@
+package com.mydata.sdk;
+
+/**
+ * 응답코드가 있는 규격 응답 (개별인증 토큰 응답 등 응답코드가 없는 API는 제외)
+ *
+ * MydataClient가 응답을 모델로 읽은 뒤 rsp_code가 00000이 아니면 MydataApiException으로 변환
+ */
+public interface MydataResponse {
+
+    String SUCCESS = "00000";
+
+    String rspCode();
+
+    String rspMsg();
+}
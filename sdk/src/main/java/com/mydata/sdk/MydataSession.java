@@ -0,0 +1,65 @@
+package com.mydata.sdk;
+
+import java.util.function.Function;
+
+/**
+ * 정보제공자 1곳 + 정보주체 1명의 접근토큰 (스레드 안전)
+ *
+ * 정보제공 API는 call()로 호출: 만료 전 자동 갱신, 40101 응답이면 갱신 후 1번 재시도
+ */
+public final class MydataSession {
+
+    private final MydataOrg org;
+    private final TokenManager tokens;
+    private final BankApi bank;
+
+    MydataSession(MydataOrg org, TokenResponse issued) {
+        this.org = org;
+        this.tokens = new TokenManager(org.auth(), issued, org.client().getTokenRefreshSkew());
+        this.bank = new BankApi(this);
+    }
+
+    public MydataOrg getOrg() {
+        return org;
+    }
+
+    /**
+     * 은행 업권 API (은행-001~010)
+     */
+    public BankApi bank() {
+        return bank;
+    }
+
+    /**
+     * 유효한 접근토큰 (SDK에 모델이 없는 API를 직접 호출할 때)
+     */
+    public String accessToken() {
+        return tokens.accessToken();
+    }
+
+    /**
+     * 개별인증-004: 접근토큰 폐기 (이후 이 세션의 호출은 40101로 실패)
+     */
+    public void revoke() {
+        org.auth().revoke(tokens.current());
+    }
+
+    /**
+     * 접근토큰을 넣어 request 실행 (거절되면 갱신한 토큰으로 1번 재시도)
+     */
+    <T> T call(Function<String, T> request) {
+        String token = tokens.accessToken();
+        try {
+            return request.apply(token);
+        } catch (MydataApiException e) {
+            if (!MydataApiException.INVALID_TOKEN.equals(e.getRspCode())) {
+                throw e;
+            }
+            return request.apply(tokens.renew(token));
+        }
+    }
+
+    MydataClient client() {
+        return org.client();
+    }
+}
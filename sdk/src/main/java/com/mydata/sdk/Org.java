@@ -0,0 +1,44 @@
+package com.mydata.sdk;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.util.List;
+
+/**
+ * 지원-002 기관 정보 / 지원-006 인증기관용 기관 정보 목록의 원소
+ *
+ * op_type: I 추가, M 수정, D 삭제 (D는 org_code만 회신)
+ * 지원-006은 cp_code, server_cert_issuer_dn, server_cert_subject_dn을 추가로 회신
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record Org(
+        String opType,
+        String orgCode,
+        String orgType,
+        Boolean isRcvOrg,
+        String orgName,
+        String orgRegno,
+        String corpRegno,
+        String serialNum,
+        String address,
+        String domain,
+        List<DomainIp> domainIpList,
+        String relayOrgCode,
+        String industry,
+        String authType,
+        List<Ip> ipList,
+        String cpCode,
+        String serverCertIssuerDn,
+        String serverCertSubjectDn) {
+
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record DomainIp(String domainIp) {
+    }
+
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record Ip(String ip) {
+    }
+}
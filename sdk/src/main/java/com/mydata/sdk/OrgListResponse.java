@@ -0,0 +1,22 @@
+package com.mydata.sdk;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.util.List;
+
+/**
+ * 지원-002 / 지원-006 응답
+ *
+ * @param searchTimestamp 다음 조회에 그대로 보내면 그 이후 변경분만 회신
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record OrgListResponse(
+        String rspCode,
+        String rspMsg,
+        long searchTimestamp,
+        int orgCnt,
+        List<Org> orgList) implements MydataResponse {
+}
@@ -0,0 +1,19 @@
+package com.mydata.sdk;
+
+import java.util.List;
+
+/**
+ * 목록 API 응답 1페이지
+ *
+ * @param nextPage 다음 페이지 요청에 그대로 보낼 값 (마지막 페이지면 null)
+ */
+public record Page<T>(List<T> items, String nextPage) {
+
+    public Page {
+        items = items == null ? List.of() : items;
+    }
+
+    public boolean isLast() {
+        return nextPage == null || nextPage.isEmpty();
+    }
+}
@@ -0,0 +1,108 @@
+package com.mydata.sdk;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * next_page로 이어지는 목록을 원소 단위로 순회 (한 스레드에서 소비)
+ *
+ * 미리 받기(prefetch): 페이지를 받자마자 다음 페이지 요청을 가상 스레드에서 시작
+ * → 호출하는 쪽이 현재 페이지를 처리하는 동안 다음 응답이 도착하므로 페이지 간 대기가 겹침
+ * 다음 요청에 직전 응답의 next_page가 필요하므로 미리 받는 페이지는 최대 1개
+ * 첫 페이지도 생성 시점에 요청하므로 여러 계좌의 스트림을 먼저 만들어 두면 첫 응답도 겹쳐 기다림
+ *
+ * 끝까지 읽지 않고 그만둘 때는 close()로 미리 받던 요청을 취소
+ */
+public final class PageStream<T> implements Iterator<T>, AutoCloseable {
+
+    private final MydataClient client;
+    private final Function<String, Page<T>> fetch;
+    private final boolean prefetch;
+
+    private Iterator<T> current = Collections.emptyIterator();
+    private Future<Page<T>> pending;
+    private String cursor;
+    private boolean done;
+    private int pages;
+
+    PageStream(MydataClient client, Function<String, Page<T>> fetch, boolean prefetch) {
+        this.client = client;
+        this.fetch = fetch;
+        this.prefetch = prefetch;
+        if (prefetch) {
+            pending = client.submit(() -> fetch.apply(null));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (done) {
+                return false;
+            }
+            Page<T> page = pending != null ? MydataClient.await(pending) : fetch.apply(cursor);
+            pending = null;
+            pages++;
+            cursor = page.nextPage();
+            done = page.isLast();
+            if (!done && prefetch) {
+                String next = cursor;
+                pending = client.submit(() -> fetch.apply(next));
+            }
+            current = page.items().iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * 지금까지 받은 페이지 수
+     */
+    public int getPages() {
+        return pages;
+    }
+
+    /**
+     * 남은 원소를 모두 읽어 반환
+     */
+    public List<T> toList() {
+        try {
+            return stream().toList();
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * 남은 원소의 Stream (닫으면 미리 받던 요청도 취소)
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        if (pending != null) {
+            pending.cancel(true);
+            pending = null;
+        }
+        done = true;
+        current = Collections.emptyIterator();
+    }
+}
@@ -0,0 +1,49 @@
+package com.mydata.sdk;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.util.List;
+
+/**
+ * 지원-003 서비스 정보 응답 (기관별 서비스 목록)
+ *
+ * @param searchTimestamp 다음 조회에 그대로 보내면 그 이후 변경분만 회신
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record ServiceListResponse(
+        String rspCode,
+        String rspMsg,
+        long searchTimestamp,
+        int orgCnt,
+        List<OrgServices> orgList) implements MydataResponse {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record OrgServices(String orgCode, int serviceCnt, List<Service> serviceList) {
+    }
+
+    /**
+     * op_type: I 추가, M 수정, D 삭제
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record Service(
+            String serviceName,
+            String opType,
+            String clientId,
+            String clientSecret,
+            List<RedirectUri> redirectUriList,
+            List<AppScheme> appSchemeList) {
+    }
+
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record RedirectUri(String redirectUri) {
+    }
+
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record AppScheme(String appScheme) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.mydata.sdk;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * 종합포털 지원 API (support-api.html 규격, v2)
+ *
+ * - 지원-002 GET /v2/mgmts/orgs        : 기관 정보
+ * - 지원-003 GET /v2/mgmts/services    : 서비스 정보
+ * - 지원-006 GET /v2/mgmts/orgs_for_ca : 인증기관용 기관 정보
+ *
+ * search_timestamp에 직전 응답 값을 보내면 그 이후 변경분만 회신 (처음은 0)
+ */
+public final class SupportApi {
+
+    private final MydataClient client;
+    private final URI portalUri;
+    private final String accessToken;
+
+    SupportApi(MydataClient client, URI portalUri, String accessToken) {
+        this.client = client;
+        this.portalUri = portalUri;
+        this.accessToken = accessToken;
+    }
+
+    /**
+     * 지원-002
+     */
+    public OrgListResponse orgs(long searchTimestamp) {
+        return get("/v2/mgmts/orgs", searchTimestamp, OrgListResponse.class);
+    }
+
+    /**
+     * 지원-003
+     */
+    public ServiceListResponse services(long searchTimestamp) {
+        return get("/v2/mgmts/services", searchTimestamp, ServiceListResponse.class);
+    }
+
+    /**
+     * 지원-006
+     */
+    public OrgListResponse orgsForCa(long searchTimestamp) {
+        return get("/v2/mgmts/orgs_for_ca", searchTimestamp, OrgListResponse.class);
+    }
+
+    private <T> T get(String path, long searchTimestamp, Class<T> type) {
+        return client.get(portalUri.resolve(path), accessToken,
+                Map.of("search_timestamp", Long.toString(searchTimestamp)), type);
+    }
+}
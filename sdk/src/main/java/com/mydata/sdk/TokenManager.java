@@ -0,0 +1,89 @@
+package com.mydata.sdk;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 세션의 접근토큰 관리 (개별인증-003 자동 갱신)
+ *
+ * - 만료까지 refreshSkew보다 적게 남으면 호출 전에 갱신
+ * - 정보제공자가 40101(유효하지 않은 접근토큰)로 거절하면 거절된 토큰 기준으로 1번 갱신
+ * - 리프레시 토큰 만료가 REISSUE_BEFORE 이내면 갱신하면서 리프레시 토큰도 재발급
+ *
+ * 갱신은 락 안에서 1번만 실행 (동시에 만료를 본 다른 스레드는 갱신된 토큰을 그대로 사용)
+ * synchronized 대신 ReentrantLock: 갱신 응답을 기다리는 동안 가상 스레드가 캐리어 스레드를 점유하지 않음
+ */
+final class TokenManager {
+
+    static final Duration REISSUE_BEFORE = Duration.ofDays(30);
+
+    private final IndividualAuthApi auth;
+    private final long skewMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Tokens tokens;
+
+    TokenManager(IndividualAuthApi auth, TokenResponse issued, Duration refreshSkew) {
+        this.auth = auth;
+        this.skewMillis = refreshSkew.toMillis();
+        long now = System.currentTimeMillis();
+        this.tokens = new Tokens(issued.accessToken(), now + issued.expiresIn() * 1000L,
+                issued.refreshToken(), now + issued.refreshTokenExpiresIn() * 1000L);
+    }
+
+    /**
+     * 유효한 접근토큰 (만료가 가까우면 갱신 후 반환)
+     */
+    String accessToken() {
+        Tokens current = tokens;
+        if (current.isFresh(skewMillis)) {
+            return current.accessToken;
+        }
+        lock.lock();
+        try {
+            current = tokens;
+            return current.isFresh(skewMillis) ? current.accessToken : refresh(current);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 정보제공자가 rejected를 거절한 뒤 다시 호출할 접근토큰
+     * (다른 스레드가 이미 갱신했으면 갱신 요청 없이 새 토큰 반환)
+     */
+    String renew(String rejected) {
+        lock.lock();
+        try {
+            Tokens current = tokens;
+            return current.accessToken.equals(rejected) ? refresh(current) : current.accessToken;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 접근토큰 (갱신하지 않음, 폐기용)
+     */
+    String current() {
+        return tokens.accessToken;
+    }
+
+    private String refresh(Tokens current) {
+        long now = System.currentTimeMillis();
+        boolean reissue = current.refreshExpiresAt - now < REISSUE_BEFORE.toMillis();
+        TokenResponse refreshed = auth.refresh(current.refreshToken, reissue);
+
+        boolean newRefresh = refreshed.refreshToken() != null && !refreshed.refreshToken().isEmpty();
+        tokens = new Tokens(refreshed.accessToken(), now + refreshed.expiresIn() * 1000L,
+                newRefresh ? refreshed.refreshToken() : current.refreshToken,
+                newRefresh ? now + refreshed.refreshTokenExpiresIn() * 1000L : current.refreshExpiresAt);
+        return refreshed.accessToken();
+    }
+
+    private record Tokens(String accessToken, long accessExpiresAt, String refreshToken, long refreshExpiresAt) {
+
+        boolean isFresh(long skewMillis) {
+            return System.currentTimeMillis() < accessExpiresAt - skewMillis;
+        }
+    }
+}
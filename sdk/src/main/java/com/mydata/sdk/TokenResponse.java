@@ -0,0 +1,23 @@
+package com.mydata.sdk;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/**
+ * 개별인증-002 접근토큰 발급 / 개별인증-003 접근토큰 갱신 응답
+ *
+ * @param expiresIn             접근토큰 남은 유효기간 (초)
+ * @param refreshTokenExpiresIn 리프레시 토큰 남은 유효기간 (초)
+ * @param scope                 권한 범위 (갱신 응답에는 없음)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record TokenResponse(
+        String tokenType,
+        String accessToken,
+        long expiresIn,
+        String refreshToken,
+        long refreshTokenExpiresIn,
+        String scope) {
+}
@@ -0,0 +1,20 @@
+package com.mydata.sdk;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.util.List;
+
+/**
+ * 거래내역 조회 응답 (1페이지)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record TransactionListResponse(
+        String rspCode,
+        String rspMsg,
+        String nextPage,
+        int transCnt,
+        List<BankTransaction> transList) implements MydataResponse {
+}
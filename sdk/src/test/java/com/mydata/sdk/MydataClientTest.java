@@ -0,0 +1,179 @@
+package com.mydata.sdk;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 서버 대상: 개별인증 + 거절된 토큰 자동 갱신, 다음 페이지 미리 받기, 동시 요청 수 제한 팬아웃 검증
+ */
+class MydataClientTest {
+
+    private static final String SUCCESS = "\"rsp_code\":\"00000\",\"rsp_msg\":\"성공\"";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private MydataClient client;
+    private MydataOrg org;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(serverExecutor);
+        server.start();
+        client = MydataClient.builder().clientId("client-a").clientSecret("secret").maxConcurrency(4).build();
+        org = client.org("MOCKBANK01", URI.create("http://127.0.0.1:" + server.getAddress().getPort()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.stop(0);
+        serverExecutor.close();
+    }
+
+    @Test
+    void connectsAndRetriesWithRefreshedTokenAfterRejection() {
+        List<String> tranIds = new CopyOnWriteArrayList<>();
+        AtomicInteger refreshes = new AtomicInteger();
+        server.createContext("/v2/oauth/2.0/authorize", exchange -> {
+            String state = query(exchange, "state");
+            exchange.getResponseHeaders().add("Location", "https://app.example/cb?code=c-1&state=" + state);
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+        });
+        server.createContext("/v2/oauth/2.0/token", exchange -> {
+            String form = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            String access = form.contains("grant_type=refresh_token") ? "a-" + (1 + refreshes.incrementAndGet()) : "a-1";
+            respond(exchange, 200, "{\"token_type\":\"Bearer\",\"access_token\":\"" + access
+                    + "\",\"expires_in\":3600,\"refresh_token\":\"r-1\",\"refresh_token_expires_in\":31536000}");
+        });
+        server.createContext("/v2/bank/accounts", exchange -> {
+            tranIds.add(exchange.getRequestHeaders().getFirst(MydataClient.TRAN_ID_HEADER));
+            if (!"Bearer a-2".equals(exchange.getRequestHeaders().getFirst("Authorization"))) {
+                respond(exchange, 401, "{\"rsp_code\":\"40101\",\"rsp_msg\":\"유효하지 않은 접근토큰\"}");
+                return;
+            }
+            respond(exchange, 200, "{" + SUCCESS + ",\"search_timestamp\":1,\"reg_date\":\"20250101\","
+                    + "\"account_cnt\":1,\"account_list\":[{\"account_num\":\"110-1\",\"account_type\":\"1001\"}]}");
+        });
+
+        MydataSession session = org.connect("ci-1", "https://app.example/cb", "scheme");
+        List<BankAccount> accounts = session.bank().accounts();
+
+        assertThat(accounts).extracting(BankAccount::accountNum).containsExactly("110-1");
+        assertThat(accounts.get(0).category()).isEqualTo(AccountCategory.DEPOSIT);
+        assertThat(refreshes).hasValue(1);
+        assertThat(session.accessToken()).isEqualTo("a-2");
+        assertThat(tranIds).hasSize(2).allSatisfy(id -> assertThat(id).hasSize(25).startsWith("MOCKMYDATAM"));
+    }
+
+    @Test
+    void prefetchesNextPageWhileCurrentPageIsConsumed() throws InterruptedException {
+        AtomicInteger requests = new AtomicInteger();
+        server.createContext("/v2/bank/accounts/deposit/transactions", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            requests.incrementAndGet();
+            int page = body.contains("\"next_page\":\"2\"") ? 2 : body.contains("\"next_page\":\"3\"") ? 3 : 1;
+            respond(exchange, 200, "{" + SUCCESS + (page < 3 ? ",\"next_page\":\"" + (page + 1) + "\"" : "")
+                    + ",\"trans_cnt\":2,\"trans_list\":[" + transaction(page, 1) + "," + transaction(page, 2) + "]}");
+        });
+        MydataSession session = org.session(new TokenResponse("Bearer", "a-1", 3600, "r-1", 31536000, null));
+        BankAccount account = new BankAccount("110-1", true, null, false, "예금", false, "1001", "01");
+
+        try (PageStream<BankTransaction> transactions =
+                     session.bank().transactions(account, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31))) {
+            assertThat(transactions.next().transNo()).isEqualTo("1-1");
+            // 첫 페이지의 나머지를 처리하기 전에 2페이지 요청이 이미 나가 있음
+            for (int i = 0; i < 200 && requests.get() < 2; i++) {
+                Thread.sleep(10);
+            }
+            assertThat(requests).hasValue(2);
+
+            List<String> rest = new ArrayList<>();
+            transactions.forEachRemaining(transaction -> rest.add(transaction.transNo()));
+            assertThat(rest).containsExactly("1-2", "2-1", "2-2", "3-1", "3-2");
+            assertThat(transactions.getPages()).isEqualTo(3);
+        }
+        assertThat(requests).hasValue(3);
+    }
+
+    @Test
+    void fansOutDetailsWithinConcurrencyLimit() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        server.createContext("/v2/bank/accounts/", exchange -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(30);
+                String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                String accountNum = body.replaceAll(".*\"account_num\":\"([^\"]+)\".*", "$1");
+                String detail = "{\"currency_code\":\"KRW\",\"balance_amt\":" + accountNum + "}";
+                // 수신계좌는 detail_list, 대출계좌는 본문 자체가 1건
+                respond(exchange, 200, exchange.getRequestURI().getPath().contains("/deposit/")
+                        ? "{" + SUCCESS + ",\"detail_cnt\":1,\"detail_list\":[" + detail + "]}"
+                        : "{" + SUCCESS + "," + detail.substring(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+        MydataSession session = org.session(new TokenResponse("Bearer", "a-1", 3600, "r-1", 31536000, null));
+        List<BankAccount> accounts = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            accounts.add(new BankAccount(Integer.toString(i), true, null, false, "상품",
+                    false, i % 2 == 0 ? "1001" : "3100", "01"));
+        }
+
+        Map<BankAccount, List<AccountDetail>> details = session.bank().details(accounts);
+
+        assertThat(details.keySet()).containsExactlyElementsOf(accounts);
+        for (int i = 0; i < accounts.size(); i++) {
+            assertThat(details.get(accounts.get(i))).singleElement()
+                    .extracting(AccountDetail::balanceAmt).isEqualTo(BigDecimal.valueOf(i));
+        }
+        assertThat(maxInFlight.get()).isBetween(2, 4);
+    }
+
+    private static String transaction(int page, int index) {
+        return "{\"trans_dtime\":\"20250101120000\",\"trans_no\":\"" + page + "-" + index
+                + "\",\"trans_type\":\"01\",\"trans_amt\":1000.000,\"balance_amt\":5000.000}";
+    }
+
+    private static String query(HttpExchange exchange, String name) {
+        for (String pair : exchange.getRequestURI().getQuery().split("&")) {
+            if (pair.startsWith(name + "=")) {
+                return pair.substring(name.length() + 1);
+            }
+        }
+        return null;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
@@ -0,0 +1,231 @@
+package com.mydata.mydatatestbed.catalog;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * API 규격 카탈로그 (classpath:catalog/*.json)
+ *
+ * 기동 시 한 번 읽어 변경할 수 없는 모델로 만들고 조회용 색인을 함께 만듦
+ * - 규격 화면(info-api, cert-api, support-api)은 화면 키로 ApiCatalogPage를 받아 그대로 렌더링
+ * - 모의 API/검증기는 API ID 또는 Method + URI로 ApiSpec을 찾음 (요청마다 파일을 다시 읽지 않음)
+ *
+ * API ID 조회는 업권 표기와 공통 API 일련번호를 뺀 코드로도 찾을 수 있음
+ * (예: "DB-001 (은행)" → "DB-001", "선불-001_1" → "선불-001", @MockApi 값과 같은 형식)
+ */
+@Slf4j
+@Component
+public class ApiCatalog {
+
+    private static final String LOCATION_PATTERN = "classpath*:catalog/*.json";
+
+    private static final Pattern SECTOR_SUFFIX = Pattern.compile("\\s*\\([^)]*\\)$|_\\d+$");
+
+    private final Map<String, ApiCatalogPage> pages;
+    private final List<ApiSpec> apis;
+    private final Map<String, List<ApiSpec>> byCode;
+    private final Map<String, List<ApiSpec>> byRoute;
+
+    public ApiCatalog(ObjectMapper objectMapper) throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(LOCATION_PATTERN);
+        Arrays.sort(resources, Comparator.comparing(Resource::getFilename,
+                Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        Map<String, ApiCatalogPage> pageMap = new LinkedHashMap<>();
+        List<ApiSpec> all = new ArrayList<>();
+        for (Resource resource : resources) {
+            JsonNode root;
+            try (InputStream in = resource.getInputStream()) {
+                root = objectMapper.readTree(in);
+            }
+            ApiCatalogPage page = page(root, resource.getFilename());
+            if (pageMap.put(page.page(), page) != null) {
+                throw new IllegalStateException("규격 화면 키가 중복되었습니다: " + page.page());
+            }
+            all.addAll(page.apis());
+        }
+
+        Map<String, List<ApiSpec>> codes = new HashMap<>();
+        Map<String, List<ApiSpec>> routes = new HashMap<>();
+        Set<String> keys = new HashSet<>();
+        for (ApiSpec spec : all) {
+            if (!keys.add(spec.apiId() + " " + spec.version())) {
+                throw new IllegalStateException("API ID와 버전이 중복되었습니다: " + spec.apiId() + " " + spec.version());
+            }
+            codes.computeIfAbsent(code(spec.apiId()), key -> new ArrayList<>()).add(spec);
+            routes.computeIfAbsent(routeKey(spec.method(), spec.uri()), key -> new ArrayList<>()).add(spec);
+        }
+
+        this.pages = Map.copyOf(pageMap);
+        this.apis = List.copyOf(all);
+        this.byCode = copyOfLists(codes);
+        this.byRoute = copyOfLists(routes);
+        log.info("API 카탈로그 로드: 화면 {}개, API {}개", pageMap.size(), all.size());
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 규격 화면 (예: "info-api/bank")
+     */
+    public ApiCatalogPage page(String page) {
+        ApiCatalogPage catalogPage = pages.get(page);
+        if (catalogPage == null) {
+            throw new IllegalArgumentException("등록되지 않은 규격 화면입니다: " + page);
+        }
+        return catalogPage;
+    }
+
+    public List<ApiSpec> apis() {
+        return apis;
+    }
+
+    /**
+     * API ID의 전체 버전 (카탈로그 순서)
+     */
+    public List<ApiSpec> versions(String apiId) {
+        return byCode.getOrDefault(code(apiId), List.of());
+    }
+
+    public Optional<ApiSpec> find(String apiId, String version) {
+        for (ApiSpec spec : versions(apiId)) {
+            if (spec.version().equals(version)) {
+                return Optional.of(spec);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Method + URI가 같은 API
+     * (개별인증-002/003처럼 같은 주소를 grant_type으로 구분하는 API는 여러 건)
+     */
+    public List<ApiSpec> route(String method, String uri) {
+        return byRoute.getOrDefault(routeKey(method, uri), List.of());
+    }
+
+    static String code(String apiId) {
+        return SECTOR_SUFFIX.matcher(apiId.trim()).replaceAll("");
+    }
+
+    private static String routeKey(String method, String uri) {
+        return method + " " + uri;
+    }
+
+    // ==================== 읽기 ====================
+
+    private static ApiCatalogPage page(JsonNode root, String fileName) {
+        String page = text(root, "page", fileName);
+        List<ApiSpec> specs = new ArrayList<>();
+        Set<String> anchors = new HashSet<>();
+        for (JsonNode api : root.path("apis")) {
+            ApiSpec spec = spec(api, fileName);
+            if (!anchors.add(spec.anchor())) {
+                throw new IllegalStateException("규격 카드 id가 중복되었습니다: " + fileName + " " + spec.anchor());
+            }
+            specs.add(spec);
+        }
+        return new ApiCatalogPage(page, text(root, "title", fileName), List.copyOf(specs));
+    }
+
+    private static ApiSpec spec(JsonNode api, String fileName) {
+        String where = fileName + " " + api.path("anchor").asText();
+        return new ApiSpec(
+                text(api, "anchor", fileName),
+                text(api, "api_id", where),
+                text(api, "title", where),
+                text(api, "version", where),
+                text(api, "date", where),
+                text(api, "method", where),
+                text(api, "uri", where),
+                text(api, "provider", where),
+                text(api, "requester", where),
+                text(api, "description", where),
+                api.path("basis_time").textValue(),
+                api.path("request_content_type").textValue(),
+                text(api, "response_content_type", where),
+                groups(api.path("request"), where),
+                groups(api.path("response"), where));
+    }
+
+    /**
+     * 규격표 순서의 항목을 위치별로 묶고 depth로 하위 항목 연결
+     */
+    private static List<ApiFieldGroup> groups(JsonNode fields, String where) {
+        Map<ApiFieldLocation, List<JsonNode>> byLocation = new EnumMap<>(ApiFieldLocation.class);
+        for (JsonNode field : fields) {
+            ApiFieldLocation location = ApiFieldLocation.fromLabel(text(field, "in", where));
+            byLocation.computeIfAbsent(location, key -> new ArrayList<>()).add(field);
+        }
+        List<ApiFieldGroup> groups = new ArrayList<>();
+        byLocation.forEach((location, nodes) -> {
+            List<ApiField> flat = new ArrayList<>();
+            List<ApiField> roots = tree(location, nodes, 0, new int[]{0}, flat, where);
+            groups.add(new ApiFieldGroup(location, List.copyOf(flat), roots));
+        });
+        return List.copyOf(groups);
+    }
+
+    /**
+     * nodes[position]부터 깊이가 depth인 항목을 읽고, 더 깊은 항목은 직전 항목의 children으로 연결
+     */
+    private static List<ApiField> tree(ApiFieldLocation location, List<JsonNode> nodes, int depth,
+                                       int[] position, List<ApiField> flat, String where) {
+        List<ApiField> siblings = new ArrayList<>();
+        while (position[0] < nodes.size()) {
+            JsonNode node = nodes.get(position[0]);
+            int nodeDepth = node.path("depth").asInt(0);
+            if (nodeDepth < depth) {
+                break;
+            }
+            if (nodeDepth > depth) {
+                throw new IllegalStateException("상위 항목 없이 하위 항목이 나왔습니다: " + where + " "
+                        + node.path("name").asText());
+            }
+            position[0]++;
+            int index = flat.size();
+            flat.add(null);
+            List<ApiField> children = tree(location, nodes, depth + 1, position, flat, where);
+            String type = text(node, "type", where);
+            ApiField field = new ApiField(location, text(node, "name", where), depth, text(node, "label", where),
+                    node.path("required").asBoolean(), type, ApiFieldType.parse(type),
+                    node.path("remark").asText(""), children);
+            flat.set(index, field);
+            siblings.add(field);
+        }
+        return List.copyOf(siblings);
+    }
+
+    private static String text(JsonNode node, String name, String where) {
+        String value = node.path(name).textValue();
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException("API 카탈로그에 " + name + " 값이 없습니다: " + where);
+        }
+        return value;
+    }
+
+    private static Map<String, List<ApiSpec>> copyOfLists(Map<String, List<ApiSpec>> source) {
+        Map<String, List<ApiSpec>> copy = new HashMap<>();
+        source.forEach((key, value) -> copy.put(key, List.copyOf(value)));
+        return Map.copyOf(copy);
+    }
+}
@@ -0,0 +1,13 @@
+package com.mydata.mydatatestbed.catalog;
+
+import java.util.List;
+
+/**
+ * 규격 화면 1개 분량 (catalog/*.json 파일 1개)
+ *
+ * @param page  화면 키 (예: "info-api/bank", 컨트롤러 경로와 같음)
+ * @param title 화면 제목
+ * @param apis  화면에 표시할 API (목차 순서)
+ */
+public record ApiCatalogPage(String page, String title, List<ApiSpec> apis) {
+}
@@ -0,0 +1,37 @@
+package com.mydata.mydatatestbed.catalog;
+
+import java.util.List;
+
+/**
+ * 요청/응답 메시지 항목 1개
+ *
+ * 하위 항목(Object 목록의 "--" 항목)은 children에 규격표 순서대로 보관
+ *
+ * @param location 위치 (Header / Parameter / Body)
+ * @param name     항목명 ("--" 접두어를 뺀 이름)
+ * @param depth    중첩 깊이 (최상위 0)
+ * @param label    항목설명
+ * @param required 필수 여부
+ * @param type     타입(길이) 규격 표기
+ * @param dataType 타입(길이) 해석 결과
+ * @param remark   설명(비고), 줄바꿈은 \n (없으면 빈 문자열)
+ * @param children 하위 항목
+ */
+public record ApiField(
+        ApiFieldLocation location,
+        String name,
+        int depth,
+        String label,
+        boolean required,
+        String type,
+        ApiFieldType dataType,
+        String remark,
+        List<ApiField> children) {
+
+    /**
+     * 규격표 표시용 이름 (깊이마다 "--" 접두어)
+     */
+    public String displayName() {
+        return "--".repeat(depth) + name;
+    }
+}
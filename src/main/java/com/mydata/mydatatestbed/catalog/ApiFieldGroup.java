@@ -0,0 +1,13 @@
+package com.mydata.mydatatestbed.catalog;
+
+import java.util.List;
+
+/**
+ * 같은 위치(Header / Parameter / Body)의 항목 묶음
+ *
+ * @param location 위치
+ * @param fields   하위 항목을 포함한 전체 항목 (규격표 순서, 화면 표시용)
+ * @param roots    최상위 항목 (검증용, 하위 항목은 ApiField.children)
+ */
+public record ApiFieldGroup(ApiFieldLocation location, List<ApiField> fields, List<ApiField> roots) {
+}
@@ -0,0 +1,27 @@
+package com.mydata.mydatatestbed.catalog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메시지 항목 위치 (규격표의 HTTP 열)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ApiFieldLocation {
+
+    HEADER("Header"),
+    PARAMETER("Parameter"),
+    BODY("Body");
+
+    private final String label;
+
+    public static ApiFieldLocation fromLabel(String label) {
+        for (ApiFieldLocation location : values()) {
+            if (location.label.equals(label)) {
+                return location;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 항목 위치입니다: " + label);
+    }
+}
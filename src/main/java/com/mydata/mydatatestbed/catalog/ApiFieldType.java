@@ -0,0 +1,37 @@
+package com.mydata.mydatatestbed.catalog;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 항목 타입(길이) 해석 결과
+ *
+ * - "aNS(1500)" → code aNS, length 1500
+ * - "F(18,3)" → code F, length 18, scale 3 (전체 자릿수, 소수 자릿수)
+ * - "Boolean", "Object", "DATE", "DTIME", "DTIME 또는 DATE" → 길이 없음(0)
+ *
+ * @param code   타입 코드 (규격 표기 그대로, 대소문자 구분: aN과 AN은 다른 타입)
+ * @param length 최대 길이 (없으면 0)
+ * @param scale  소수 자릿수 (F 타입만)
+ */
+public record ApiFieldType(String code, int length, int scale) {
+
+    public static final String OBJECT = "Object";
+    public static final String BOOLEAN = "Boolean";
+    public static final String DECIMAL = "F";
+
+    private static final Pattern SIZED = Pattern.compile("([A-Za-z0-9]+)\\((\\d+)(?:,(\\d+))?\\)");
+
+    public static ApiFieldType parse(String type) {
+        Matcher matcher = SIZED.matcher(type);
+        if (matcher.matches()) {
+            return new ApiFieldType(matcher.group(1), Integer.parseInt(matcher.group(2)),
+                    matcher.group(3) == null ? 0 : Integer.parseInt(matcher.group(3)));
+        }
+        return new ApiFieldType(type, 0, 0);
+    }
+
+    public boolean isObject() {
+        return OBJECT.equals(code);
+    }
+}
@@ -0,0 +1,20 @@
+package com.mydata.mydatatestbed.catalog;
+
+import java.util.List;
+
+/**
+ * API 1건(API ID + 버전)의 검증 트리 (ApiSchemaValidator가 기동 시 ApiSpec에서 컴파일)
+ *
+ * @param spec            원본 규격
+ * @param requestHeaders  요청 헤더 (Authorization 제외, 접근토큰 검증은 각 모의 API가 담당)
+ * @param parameters      요청 쿼리 파라미터
+ * @param requestBody     요청 JSON 본문 최상위 객체 (JSON 본문이 없는 API는 null)
+ * @param responseBody    응답 본문 최상위 객체
+ */
+public record ApiSchema(
+        ApiSpec spec,
+        List<ApiSchemaNode> requestHeaders,
+        List<ApiSchemaNode> parameters,
+        ApiSchemaNode requestBody,
+        ApiSchemaNode responseBody) {
+}
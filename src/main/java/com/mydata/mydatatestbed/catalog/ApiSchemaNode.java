@@ -0,0 +1,208 @@
+package com.mydata.mydatatestbed.catalog;
+
+import com.mydata.mydatatestbed.catalog.ApiViolation.Reason;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검증 트리의 노드 1개 (ApiField에서 컴파일)
+ *
+ * 타입(길이)별 검사 방식을 미리 정해 두어 값마다 타입 표기를 다시 해석하지 않음
+ * - 문자열 타입(A, a, AN, aN, aNS, B64): JSON 문자열, 글자 수 ≤ 길이
+ * - AH: JSON 문자열, UTF-8 바이트 수 ≤ 길이
+ * - N: 숫자 또는 숫자로만 된 문자열, 자릿수 ≤ 길이
+ * - F(p,s): 숫자 또는 숫자 문자열, 정수부 ≤ p - s 자리, 소수부 ≤ s 자리
+ * - DATE / DTIME: 8자리 / 14자리 숫자 ("DTIME 또는 DATE"는 둘 다 허용)
+ * - Boolean: JSON true / false
+ * - Object: 객체 또는 객체 배열 (하위 항목이 규격에 없으면 내용은 검사하지 않음)
+ *
+ * 객체 노드는 하위 항목 이름 → 번호 색인과 필수 항목 비트마스크를 가짐 (하위 항목 최대 64개)
+ */
+public final class ApiSchemaNode {
+
+    enum Kind { OBJECT, TEXT, UTF8_TEXT, INTEGER, DECIMAL, BOOLEAN, DATE, DTIME, DATE_OR_DTIME }
+
+    private static final int MAX_CHILDREN = Long.SIZE;
+
+    final String name;
+    final Kind kind;
+    final boolean required;
+    final int maxLength;
+    final int scale;
+
+    final ApiSchemaNode[] children;
+    final long requiredMask;
+    private final Map<String, Integer> indexes;
+
+    private ApiSchemaNode(String name, Kind kind, boolean required, int maxLength, int scale,
+                          ApiSchemaNode[] children) {
+        if (children.length > MAX_CHILDREN) {
+            throw new IllegalStateException("하위 항목은 최대 " + MAX_CHILDREN + "개까지 검증할 수 있습니다: " + name);
+        }
+        this.name = name;
+        this.kind = kind;
+        this.required = required;
+        this.maxLength = maxLength;
+        this.scale = scale;
+        this.children = children;
+        Map<String, Integer> map = new HashMap<>();
+        long mask = 0;
+        for (int i = 0; i < children.length; i++) {
+            map.put(children[i].name, i);
+            if (children[i].required) {
+                mask |= 1L << i;
+            }
+        }
+        this.indexes = map;
+        this.requiredMask = mask;
+    }
+
+    /**
+     * 최상위 객체 (요청/응답 본문)
+     */
+    static ApiSchemaNode object(String name, List<ApiField> fields) {
+        return new ApiSchemaNode(name, Kind.OBJECT, true, 0, 0, compile(fields));
+    }
+
+    static ApiSchemaNode compile(ApiField field) {
+        ApiFieldType type = field.dataType();
+        Kind kind = kind(type.code());
+        ApiSchemaNode[] children = kind == Kind.OBJECT ? compile(field.children()) : new ApiSchemaNode[0];
+        return new ApiSchemaNode(field.name(), kind, field.required(), type.length(), type.scale(), children);
+    }
+
+    private static ApiSchemaNode[] compile(List<ApiField> fields) {
+        ApiSchemaNode[] nodes = new ApiSchemaNode[fields.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = compile(fields.get(i));
+        }
+        return nodes;
+    }
+
+    private static Kind kind(String code) {
+        return switch (code) {
+            case ApiFieldType.OBJECT -> Kind.OBJECT;
+            case ApiFieldType.BOOLEAN -> Kind.BOOLEAN;
+            case ApiFieldType.DECIMAL -> Kind.DECIMAL;
+            case "N" -> Kind.INTEGER;
+            case "AH" -> Kind.UTF8_TEXT;
+            case "DATE" -> Kind.DATE;
+            case "DTIME" -> Kind.DTIME;
+            case "DTIME 또는 DATE" -> Kind.DATE_OR_DTIME;
+            default -> Kind.TEXT;
+        };
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 하위 항목 번호 (없으면 -1)
+     */
+    int indexOf(String childName) {
+        Integer index = indexes.get(childName);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * 하위 항목이 규격에 없는 Object (내용 검사 생략)
+     */
+    boolean isOpaque() {
+        return kind == Kind.OBJECT && children.length == 0;
+    }
+
+    /**
+     * 헤더/파라미터 값 검사 (통과하면 null)
+     */
+    Reason check(String value) {
+        if (kind == Kind.BOOLEAN) {
+            return "true".equals(value) || "false".equals(value) ? null : Reason.FORMAT;
+        }
+        return checkText(value.toCharArray(), 0, value.length());
+    }
+
+    /**
+     * 문자열 값 검사 (JSON 문자열, 헤더, 파라미터)
+     */
+    Reason checkText(char[] chars, int offset, int length) {
+        return switch (kind) {
+            case OBJECT, BOOLEAN -> Reason.TYPE;
+            case TEXT -> maxLength > 0 && length > maxLength ? Reason.LENGTH : null;
+            case UTF8_TEXT -> maxLength > 0 && utf8Length(chars, offset, length) > maxLength ? Reason.LENGTH : null;
+            case INTEGER, DATE, DTIME, DATE_OR_DTIME -> checkDigits(chars, offset, length);
+            case DECIMAL -> checkDecimal(chars, offset, length);
+        };
+    }
+
+    /**
+     * JSON 숫자 값 검사
+     *
+     * @param fraction 소수점/지수가 있는 숫자 (JsonToken.VALUE_NUMBER_FLOAT)
+     */
+    Reason checkNumber(boolean fraction, char[] chars, int offset, int length) {
+        return switch (kind) {
+            case INTEGER, DATE, DTIME, DATE_OR_DTIME -> fraction ? Reason.TYPE : checkDigits(chars, offset, length);
+            case DECIMAL -> checkDecimal(chars, offset, length);
+            default -> Reason.TYPE;
+        };
+    }
+
+    private Reason checkDigits(char[] chars, int offset, int length) {
+        if (length == 0) {
+            return Reason.FORMAT;
+        }
+        for (int i = offset; i < offset + length; i++) {
+            if (chars[i] < '0' || chars[i] > '9') {
+                return Reason.FORMAT;
+            }
+        }
+        return switch (kind) {
+            case DATE -> length == 8 ? null : Reason.FORMAT;
+            case DTIME -> length == 14 ? null : Reason.FORMAT;
+            case DATE_OR_DTIME -> length == 8 || length == 14 ? null : Reason.FORMAT;
+            default -> maxLength > 0 && length > maxLength ? Reason.LENGTH : null;
+        };
+    }
+
+    private Reason checkDecimal(char[] chars, int offset, int length) {
+        int end = offset + length;
+        int i = offset < end && chars[offset] == '-' ? offset + 1 : offset;
+        int integerDigits = 0;
+        int fractionDigits = 0;
+        boolean point = false;
+        for (; i < end; i++) {
+            char c = chars[i];
+            if (c >= '0' && c <= '9') {
+                if (point) {
+                    fractionDigits++;
+                } else {
+                    integerDigits++;
+                }
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                return Reason.FORMAT;
+            }
+        }
+        if (integerDigits == 0) {
+            return Reason.FORMAT;
+        }
+        return integerDigits > maxLength - scale || fractionDigits > scale ? Reason.LENGTH : null;
+    }
+
+    private static int utf8Length(char[] chars, int offset, int length) {
+        int bytes = length;
+        for (int i = offset; i < offset + length; i++) {
+            char c = chars[i];
+            if (c >= 0x800) {
+                bytes += Character.isSurrogate(c) ? 1 : 2;
+            } else if (c >= 0x80) {
+                bytes++;
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,261 @@
+package com.mydata.mydatatestbed.catalog;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mydata.mydatatestbed.catalog.ApiViolation.Reason;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * API 규격 검증기
+ *
+ * 기동 시 카탈로그의 모든 API(API ID + 버전)를 검증 트리(ApiSchema)로 한 번 컴파일하고,
+ * 요청/응답은 Jackson 토큰 API(JsonParser)로 읽으면서 바로 검증 (JsonNode 등 중간 트리를 만들지 않음)
+ *
+ * - 필수 항목 누락, 규격에 없는 항목, 타입 불일치, 길이 초과, 형식 오류(숫자/일자)를 위치와 함께 반환
+ * - 위치는 위반이 있을 때만 문자열로 만듦 (통과하는 요청은 경로 문자열/목록 할당 없음)
+ * - 위반은 최대 MAX_VIOLATIONS건까지만 모음
+ */
+@Slf4j
+@Component
+public class ApiSchemaValidator {
+
+    public static final int MAX_VIOLATIONS = 20;
+
+    /**
+     * 본문 자체의 위치 (최상위가 객체가 아니거나 JSON이 아닌 경우)
+     */
+    public static final String BODY_PATH = "$";
+
+    private static final String AUTHORIZATION = "Authorization";
+
+    private final JsonFactory jsonFactory;
+    private final Map<String, ApiSchema> schemas;
+    private final ApiCatalog catalog;
+
+    public ApiSchemaValidator(ApiCatalog catalog, ObjectMapper objectMapper) {
+        this.catalog = catalog;
+        this.jsonFactory = objectMapper.getFactory();
+        Map<String, ApiSchema> compiled = new HashMap<>();
+        for (ApiSpec spec : catalog.apis()) {
+            compiled.put(key(spec), compile(spec));
+        }
+        this.schemas = Map.copyOf(compiled);
+        log.info("API 규격 검증 트리 컴파일: {}건", compiled.size());
+    }
+
+    /**
+     * API ID(@MockApi 형식 가능) + 버전의 검증 트리 (없으면 null)
+     */
+    public ApiSchema schema(String apiId, String version) {
+        return catalog.find(apiId, version).map(spec -> schemas.get(key(spec))).orElse(null);
+    }
+
+    private static String key(ApiSpec spec) {
+        return spec.apiId() + " " + spec.version();
+    }
+
+    static ApiSchema compile(ApiSpec spec) {
+        List<ApiSchemaNode> headers = new ArrayList<>();
+        for (ApiField field : spec.requestFields(ApiFieldLocation.HEADER)) {
+            if (!AUTHORIZATION.equalsIgnoreCase(field.name())) {
+                headers.add(ApiSchemaNode.compile(field));
+            }
+        }
+        List<ApiSchemaNode> parameters = new ArrayList<>();
+        for (ApiField field : spec.requestFields(ApiFieldLocation.PARAMETER)) {
+            parameters.add(ApiSchemaNode.compile(field));
+        }
+        String requestType = spec.requestContentType();
+        ApiSchemaNode requestBody = requestType != null && requestType.contains("json")
+                ? ApiSchemaNode.object(BODY_PATH, spec.requestFields(ApiFieldLocation.BODY))
+                : null;
+        return new ApiSchema(spec, List.copyOf(headers), List.copyOf(parameters), requestBody,
+                ApiSchemaNode.object(BODY_PATH, spec.responseFields(ApiFieldLocation.BODY)));
+    }
+
+    // ==================== 헤더 / 파라미터 ====================
+
+    /**
+     * 이름으로 값을 꺼내 검사 (헤더: request::getHeader, 파라미터: request::getParameter)
+     */
+    public List<ApiViolation> validateValues(List<ApiSchemaNode> nodes, UnaryOperator<String> values) {
+        List<ApiViolation> violations = null;
+        for (ApiSchemaNode node : nodes) {
+            String value = values.apply(node.name);
+            Reason reason = value == null || value.isEmpty()
+                    ? (node.required ? Reason.MISSING : null)
+                    : node.check(value);
+            if (reason != null) {
+                if (violations == null) {
+                    violations = new ArrayList<>();
+                }
+                violations.add(new ApiViolation(node.name, reason));
+            }
+        }
+        return violations == null ? List.of() : violations;
+    }
+
+    // ==================== JSON 본문 ====================
+
+    public List<ApiViolation> validateBody(ApiSchemaNode root, byte[] body) {
+        return validateBody(root, body, 0, body.length);
+    }
+
+    public List<ApiViolation> validateBody(ApiSchemaNode root, byte[] body, int offset, int length) {
+        BodyWalk walk = new BodyWalk();
+        try (JsonParser parser = jsonFactory.createParser(body, offset, length)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                walk.object(parser, root);
+                if (parser.nextToken() != null) {
+                    walk.add(BODY_PATH, Reason.FORMAT);
+                }
+            } else {
+                walk.add(BODY_PATH, token == null ? Reason.MISSING : Reason.TYPE);
+            }
+        } catch (IOException e) {
+            walk.add(walk.path(), Reason.FORMAT);
+        }
+        return walk.violations == null ? List.of() : walk.violations;
+    }
+
+    /**
+     * 본문 1건 검증 상태 (현재 위치 스택 + 위반 목록)
+     */
+    private static final class BodyWalk {
+
+        private String[] names = new String[8];
+        private int[] indexes = new int[8];
+        private int depth;
+        private List<ApiViolation> violations;
+
+        void object(JsonParser parser, ApiSchemaNode node) throws IOException {
+            if (node.isOpaque()) {
+                parser.skipChildren();
+                return;
+            }
+            long seen = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken token = parser.nextToken();
+                push(name);
+                int index = node.indexOf(name);
+                if (index < 0) {
+                    add(path(), Reason.UNKNOWN);
+                    parser.skipChildren();
+                } else {
+                    seen |= 1L << index;
+                    value(parser, token, node.children[index]);
+                }
+                pop();
+            }
+            long missing = node.requiredMask & ~seen;
+            while (missing != 0) {
+                push(node.children[Long.numberOfTrailingZeros(missing)].name);
+                add(path(), Reason.MISSING);
+                pop();
+                missing &= missing - 1;
+            }
+        }
+
+        private void value(JsonParser parser, JsonToken token, ApiSchemaNode node) throws IOException {
+            Reason reason = switch (token) {
+                case VALUE_NULL -> node.required ? Reason.MISSING : null;
+                case START_OBJECT -> {
+                    if (node.kind != ApiSchemaNode.Kind.OBJECT) {
+                        parser.skipChildren();
+                        yield Reason.TYPE;
+                    }
+                    object(parser, node);
+                    yield null;
+                }
+                case START_ARRAY -> {
+                    if (node.kind != ApiSchemaNode.Kind.OBJECT) {
+                        parser.skipChildren();
+                        yield Reason.TYPE;
+                    }
+                    array(parser, node);
+                    yield null;
+                }
+                case VALUE_STRING -> node.checkText(
+                        parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> node.checkNumber(token == JsonToken.VALUE_NUMBER_FLOAT,
+                        parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                case VALUE_TRUE, VALUE_FALSE -> node.kind == ApiSchemaNode.Kind.BOOLEAN ? null : Reason.TYPE;
+                default -> Reason.TYPE;
+            };
+            if (reason != null) {
+                add(path(), reason);
+            }
+        }
+
+        /**
+         * 목록 항목 (Object 타입은 객체 배열, 원소마다 "[i]" 위치)
+         */
+        private void array(JsonParser parser, ApiSchemaNode node) throws IOException {
+            int index = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                indexes[depth - 1] = index++;
+                if (token == JsonToken.START_OBJECT) {
+                    object(parser, node);
+                } else {
+                    parser.skipChildren();
+                    add(path(), Reason.TYPE);
+                }
+            }
+            indexes[depth - 1] = -1;
+        }
+
+        private void push(String name) {
+            if (depth == names.length) {
+                names = Arrays.copyOf(names, depth * 2);
+                indexes = Arrays.copyOf(indexes, depth * 2);
+            }
+            names[depth] = name;
+            indexes[depth] = -1;
+            depth++;
+        }
+
+        private void pop() {
+            depth--;
+        }
+
+        String path() {
+            if (depth == 0) {
+                return BODY_PATH;
+            }
+            StringBuilder path = new StringBuilder();
+            for (int i = 0; i < depth; i++) {
+                if (i > 0) {
+                    path.append('.');
+                }
+                path.append(names[i]);
+                if (indexes[i] >= 0) {
+                    path.append('[').append(indexes[i]).append(']');
+                }
+            }
+            return path.toString();
+        }
+
+        void add(String path, Reason reason) {
+            if (violations == null) {
+                violations = new ArrayList<>();
+            }
+            if (violations.size() < MAX_VIOLATIONS) {
+                violations.add(new ApiViolation(path, reason));
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.mydata.mydatatestbed.catalog;
+
+import java.util.List;
+
+/**
+ * API 규격 1건 (API ID + 버전 단위)
+ *
+ * @param anchor              규격 화면의 카드 id (목차 링크)
+ * @param apiId               API ID 규격 표기 (예: "은행-001", "DB-001 (은행)")
+ * @param title               API 이름
+ * @param version             버전 (v0 / v1 / v2)
+ * @param date                규격 기준일 (yyyy-MM-dd)
+ * @param method              HTTP Method
+ * @param uri                 API 명 (URI)
+ * @param provider            API 제공자
+ * @param requester           API 요청자
+ * @param description         설명, 줄바꿈은 \n
+ * @param basisTime           기준시점 (인증 API 일부는 없음)
+ * @param requestContentType  요청 Content-Type (본문 없으면 null)
+ * @param responseContentType 응답 Content-Type
+ * @param request             요청 메시지 항목 (위치별 묶음)
+ * @param response            응답 메시지 항목 (위치별 묶음)
+ */
+public record ApiSpec(
+        String anchor,
+        String apiId,
+        String title,
+        String version,
+        String date,
+        String method,
+        String uri,
+        String provider,
+        String requester,
+        String description,
+        String basisTime,
+        String requestContentType,
+        String responseContentType,
+        List<ApiFieldGroup> request,
+        List<ApiFieldGroup> response) {
+
+    /**
+     * 요청 메시지에서 위치별 최상위 항목 (없으면 빈 목록)
+     */
+    public List<ApiField> requestFields(ApiFieldLocation location) {
+        return roots(request, location);
+    }
+
+    /**
+     * 응답 메시지에서 위치별 최상위 항목 (없으면 빈 목록)
+     */
+    public List<ApiField> responseFields(ApiFieldLocation location) {
+        return roots(response, location);
+    }
+
+    private static List<ApiField> roots(List<ApiFieldGroup> groups, ApiFieldLocation location) {
+        for (ApiFieldGroup group : groups) {
+            if (group.location() == location) {
+                return group.roots();
+            }
+        }
+        return List.of();
+    }
+}
@@ -0,0 +1,42 @@
+package com.mydata.mydatatestbed.catalog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 규격 위반 1건
+ *
+ * @param path   위반 위치 (헤더/파라미터 이름, 본문은 "dc_list[0].dc_num" 형식)
+ * @param reason 위반 유형
+ */
+public record ApiViolation(String path, Reason reason) {
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Reason {
+
+        MISSING("missing", "필수 항목 누락"),
+        UNKNOWN("unknown", "규격에 없는 항목"),
+        TYPE("type", "타입 불일치"),
+        LENGTH("length", "길이 초과"),
+        FORMAT("format", "형식 오류");
+
+        /**
+         * 응답 헤더용 코드 (ASCII)
+         */
+        private final String code;
+        private final String message;
+    }
+
+    /**
+     * 응답 헤더 값 형식 (예: "dc_list[0].dc_num:length")
+     */
+    public String toHeaderValue() {
+        return path + ":" + reason.getCode();
+    }
+
+    @Override
+    public String toString() {
+        return path + " " + reason.getMessage();
+    }
+}
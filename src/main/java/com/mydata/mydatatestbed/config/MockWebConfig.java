@@ -0,0 +1,40 @@
+package com.mydata.mydatatestbed.config;
+
+import com.mydata.mydatatestbed.mock.common.MockLatencyInterceptor;
+import com.mydata.mydatatestbed.mock.common.MockQuotaInterceptor;
+import com.mydata.mydatatestbed.mock.common.MockValidationInterceptor;
+import com.mydata.mydatatestbed.mock.scenario.MockScenarioInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 모의 API 공통 인터셉터 등록
+ * - API별 호출 건수/응답시간 기록 (MockLatencyInterceptor)
+ * - 요청 규격 검증 (MockValidationInterceptor, 규격 위반 요청은 호출 한도에 세지 않도록 한도보다 먼저 등록)
+ * - 정보제공 API 호출 한도 (MockQuotaInterceptor, 은행 + 업권 모듈, 한도 초과 응답도 응답시간 기록에 포함되도록 기록 다음에 등록)
+ * - 모의 시나리오 지연/오류 주입 (MockScenarioInterceptor, 한도를 넘은 요청은 지연하지 않도록 마지막에 등록)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MockWebConfig implements WebMvcConfigurer {
+
+    private final MockLatencyInterceptor mockLatencyInterceptor;
+    private final MockValidationInterceptor mockValidationInterceptor;
+    private final MockQuotaInterceptor mockQuotaInterceptor;
+    private final MockScenarioInterceptor mockScenarioInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(mockLatencyInterceptor)
+                .addPathPatterns("/v1/**", "/v2/**");
+        registry.addInterceptor(mockValidationInterceptor)
+                .addPathPatterns("/v1/**", "/v2/**");
+        registry.addInterceptor(mockQuotaInterceptor)
+                .addPathPatterns("/v2/**")
+                .excludePathPatterns("/v2/oauth/**", "/v2/mgmts/**");
+        registry.addInterceptor(mockScenarioInterceptor)
+                .addPathPatterns("/v1/**", "/v2/**");
+    }
+}
@@ -0,0 +1,23 @@
+package com.mydata.mydatatestbed.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화
+ * - 조회수/다운로드 수 주기적 반영 (CounterServiceImpl)
+ * - 메일 발송 대기열 처리/정리 (EmailOutboxServiceImpl)
+ * - 모의 접근토큰 만료 정리 (MockOAuthTokenStore)
+ * - 정기적 전송 시뮬레이터 tick (MockScheduleSimulator)
+ *
+ * 스레드 풀 크기는 spring.task.scheduling.pool.size (application.yml)
+ * → DB를 쓰는 반영/발송 작업이 느려져도 짧은 주기의 tick/토큰 정리가 같은 스레드를 기다리지 않음
+ *
+ * scheduling.enabled=false면 주기 작업을 등록하지 않음 (SQL 실행 횟수를 세는 테스트 등)
+ */
+@Configuration
+@ConditionalOnProperty(name = "scheduling.enabled", havingValue = "true", matchIfMissing = true)
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -4,8 +4,11 @@ import com.mydata.mydatatestbed.security.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
@@ -17,7 +20,50 @@ public class SecurityConfig {
 
     private final CustomUserDetailsService customUserDetailsService;
 
+    /**
+     * 모의 정보제공/개별인증/통합인증/지원 API 전용 필터 체인
+     *
+     * - 접근토큰(Authorization: Bearer)은 모의 API가 직접 확인 (MockTenantResolver)
+     * - 세션/CSRF/폼 로그인 없이 처리 → 요청마다 세션이 생기지 않도록 STATELESS
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain mockApiFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/v2/**", "/v1/ca/**", "/v1/mgmts/**")
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .csrf(csrf -> csrf.disable())
+                .requestCache(cache -> cache.disable())
+                .securityContext(context -> context.disable());
+
+        return http.build();
+    }
+
+    /**
+     * 테스트베드 전용 모의 API 관리 (/admin/mock/**: 정기적 전송 시뮬레이터, 종합포털 등록부 변경, 시나리오)
+     *
+     * - 모든 테넌트의 모의 트래픽에 영향을 주므로 관리자(ROLE_ADMIN)만 호출
+     * - 스크립트에서 호출하도록 HTTP Basic (포털 이메일/비밀번호), 세션을 만들지 않음
+     * - 세션 쿠키로 인증하지 않으므로 CSRF 토큰 없이 처리
+     */
+    @Bean
+    @Order(2)
+    public SecurityFilterChain mockAdminFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/admin/mock/**")
+                .authorizeHttpRequests(auth -> auth.anyRequest().hasRole("ADMIN"))
+                .httpBasic(Customizer.withDefaults())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .csrf(csrf -> csrf.disable())
+                .requestCache(cache -> cache.disable())
+                .userDetailsService(customUserDetailsService);
+
+        return http.build();
+    }
+
     @Bean
+    @Order(3)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
                 .authorizeHttpRequests(auth -> auth
@@ -45,6 +91,9 @@ public class SecurityConfig {
                         // 고객지원 - 나머지는 허용
                         .requestMatchers("/support/**").permitAll()
                         
+                        // 관리자 화면
+                        .requestMatchers("/admin/**").hasRole("ADMIN")
+
                         // 그 외 모든 요청은 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -0,0 +1,78 @@
+package com.mydata.mydatatestbed.controller;
+
+import com.mydata.mydatatestbed.mock.common.MockLatencyRegistry;
+import com.mydata.mydatatestbed.service.LoadReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 화면 (ROLE_ADMIN 전용)
+ */
+@Controller
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final MockLatencyRegistry latencyRegistry;
+    private final LoadReportService loadReportService;
+
+    /**
+     * 모의 API별 호출 건수와 응답시간 백분위 (기동 후 전체)
+     */
+    @GetMapping("/mock-latency")
+    public String mockLatency(Model model) {
+        model.addAttribute("snapshots", latencyRegistry.snapshots());
+        model.addAttribute("breadcrumbItems", List.of(
+                Map.of("name", "홈", "url", "/"),
+                Map.of("name", "관리자", "url", ""),
+                Map.of("name", "모의 API 응답시간", "url", "")
+        ));
+        return "admin/mock-latency";
+    }
+
+    /**
+     * 부하 생성기(loadgen 모듈) 실행 결과 목록
+     */
+    @GetMapping("/loadgen")
+    public String loadgen(Model model) {
+        model.addAttribute("reports", loadReportService.getReports());
+        model.addAttribute("breadcrumbItems", List.of(
+                Map.of("name", "홈", "url", "/"),
+                Map.of("name", "관리자", "url", ""),
+                Map.of("name", "부하 테스트 결과", "url", "")
+        ));
+        return "admin/loadgen";
+    }
+
+    /**
+     * 부하 테스트 보고서 (HTML은 화면에 바로 표시, JSON은 원본 그대로)
+     */
+    @GetMapping("/loadgen/reports/{fileName}")
+    public ResponseEntity<byte[]> loadgenReport(@PathVariable String fileName) throws IOException {
+        Path file;
+        try {
+            file = loadReportService.getReportFile(fileName);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+        MediaType contentType = fileName.endsWith(".html")
+                ? new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_JSON;
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .body(Files.readAllBytes(file));
+    }
+}
@@ -1,5 +1,7 @@
 package com.mydata.mydatatestbed.controller;
 
+import com.mydata.mydatatestbed.catalog.ApiCatalog;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,8 +12,11 @@ import java.util.Map;
 
 @Controller
 @RequestMapping("/cert-api")
+@RequiredArgsConstructor
 public class CertApiController {
 
+    private final ApiCatalog apiCatalog;
+
     @GetMapping
     public String certApiHome() {
         return "redirect:/cert-api/individual";
@@ -22,6 +27,7 @@ public class CertApiController {
         model.addAttribute("activeGroup", "cert");
         model.addAttribute("currentMenu", "/cert-api/individual");
         model.addAttribute("breadcrumbItems", getBreadcrumbItems("개별인증 API"));
+        model.addAttribute("catalogPage", apiCatalog.page("cert-api/individual"));
         return "cert-api/individual-api";
     }
 
@@ -30,6 +36,7 @@ public class CertApiController {
         model.addAttribute("activeGroup", "cert");
         model.addAttribute("currentMenu", "/cert-api/integrated");
         model.addAttribute("breadcrumbItems", getBreadcrumbItems("통합인증 API"));
+        model.addAttribute("catalogPage", apiCatalog.page("cert-api/integrated"));
         return "cert-api/integrated-api";
     }
 
@@ -1,5 +1,7 @@
 package com.mydata.mydatatestbed.controller;
 
+import com.mydata.mydatatestbed.catalog.ApiCatalog;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,8 +18,11 @@ import java.util.Map;
  */
 @Controller
 @RequestMapping("/info-api")
+@RequiredArgsConstructor
 public class InfoApiController {
 
+    private final ApiCatalog apiCatalog;
+
     // 기본 접속 시 은행 업권으로 리다이렉트
     @GetMapping
     public String infoApiHome() {
@@ -30,6 +35,7 @@ public class InfoApiController {
         model.addAttribute("activeGroup", "info");
         model.addAttribute("currentMenu", "/info-api/bank");
         model.addAttribute("breadcrumbItems", getBreadcrumbItems("은행 업권 정보제공 API 규격"));
+        model.addAttribute("catalogPage", apiCatalog.page("info-api/bank"));
         return "info-api/bank-api";
     }
 
@@ -1,5 +1,7 @@
 package com.mydata.mydatatestbed.controller;
 
+import com.mydata.mydatatestbed.catalog.ApiCatalog;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,8 +12,11 @@ import java.util.Map;
 
 @Controller
 @RequestMapping("/support-api")
+@RequiredArgsConstructor
 public class SupportApiController {
 
+    private final ApiCatalog apiCatalog;
+
     @GetMapping
     public String redirectToPortal() {
         return "redirect:/support-api/portal";
@@ -22,6 +27,7 @@ public class SupportApiController {
         model.addAttribute("activeGroup", "support");
         model.addAttribute("currentMenu", "/support-api/portal");
         model.addAttribute("breadcrumbItems", getBreadcrumbItems("지원 API(종합포털 제공)"));
+        model.addAttribute("catalogPage", apiCatalog.page("support-api/portal"));
         return "support-api/portal-api";
     }
 
@@ -30,6 +36,7 @@ public class SupportApiController {
         model.addAttribute("activeGroup", "support");
         model.addAttribute("currentMenu", "/support-api/provider");
         model.addAttribute("breadcrumbItems", getBreadcrumbItems("지원 API(마이데이터사업자/정보제공자 제공)"));
+        model.addAttribute("catalogPage", apiCatalog.page("support-api/provider"));
         return "support-api/provider-api";
     }
 
@@ -11,18 +11,19 @@ import com.mydata.mydatatestbed.dto.notice.NoticeListResponseDto;
 import com.mydata.mydatatestbed.dto.resource.ResourceDetailResponseDto;
 import com.mydata.mydatatestbed.dto.resource.ResourceListResponseDto;
 import com.mydata.mydatatestbed.dto.resource.ResourceNavDto;
+import com.mydata.mydatatestbed.download.FileDownloadHandler;
+import com.mydata.mydatatestbed.entity.Resource;
 import com.mydata.mydatatestbed.security.CustomUserDetails;
 import com.mydata.mydatatestbed.service.*;
 import com.mydata.mydatatestbed.dto.faq.FaqResponseDto;
 import com.mydata.mydatatestbed.entity.Enum.FaqCategory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.UrlResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -31,8 +32,8 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
@@ -66,6 +67,7 @@ public class SupportController {
     private final InquiryService inquiryService;
     private final ResourceService resourceService;
     private final BoardService boardService;
+    private final FileDownloadHandler fileDownloadHandler;
 
     /**
      * 페이지당 게시글 수
@@ -79,35 +81,44 @@ public class SupportController {
     /**
      * 공지사항 목록 페이지
      *
-     * @param page    페이지 번호 (0부터 시작, 기본값 0)
+     * @param page    페이지 번호 (0부터 시작, 지정하면 번호 페이징)
+     * @param cursor  커서 (이전 응답의 다음/이전 커서, 비어 있으면 첫 페이지)
      * @param keyword 검색 키워드 (제목/내용 검색, 기본값 빈 문자열)
      * @param model   뷰에 전달할 데이터
      * @return 공지사항 목록 뷰
      *
-     * 페이징 처리:
-     * - Spring Data JPA의 Pageable 사용
-     * - PageRequest.of(page, size)로 Pageable 객체 생성
-     * - 반환된 Page 객체에 전체 페이지 수, 총 게시글 수 등 포함
+     * 페이징 처리 (두 가지 모드):
+     * - 커서 모드 (검색어와 page가 없을 때, 기본):
+     *   (pinned, createdAt, id) 기준 키셋 조회 → OFFSET/COUNT 없이 깊은 페이지도 일정한 비용
+     * - 번호 모드 (page 지정 또는 검색):
+     *   PageRequest.of(page, size)로 조회, Page 객체에 전체 페이지 수, 총 게시글 수 등 포함
      *
      * 검색 처리:
      * - keyword가 비어있으면 전체 목록 조회
      * - keyword가 있으면 제목/내용에서 검색
      */
     @GetMapping("/notice")
-    public String noticeList(@RequestParam(defaultValue = "0") int page,
+    public String noticeList(@RequestParam(required = false) Integer page,
+                             @RequestParam(required = false) String cursor,
                              @RequestParam(defaultValue = "") String keyword,
                              Model model) {
 
-        Pageable pageable = PageRequest.of(page, DEFAULT_PAGE_SIZE);
-
-        Page<NoticeListResponseDto> notices;
-        if (keyword.isBlank()) {
-            notices = noticeService.getNoticeList(pageable);
+        boolean cursorMode = keyword.isBlank() && page == null;
+        if (cursorMode) {
+            model.addAttribute("notices", noticeService.getNoticeListByCursor(cursor, DEFAULT_PAGE_SIZE));
         } else {
-            notices = noticeService.searchNotices(keyword, pageable);
+            Pageable pageable = PageRequest.of(page == null ? 0 : page, DEFAULT_PAGE_SIZE);
+
+            Page<NoticeListResponseDto> notices;
+            if (keyword.isBlank()) {
+                notices = noticeService.getNoticeList(pageable);
+            } else {
+                notices = noticeService.searchNotices(keyword, pageable);
+            }
+            model.addAttribute("notices", notices);
         }
 
-        model.addAttribute("notices", notices);
+        model.addAttribute("cursorMode", cursorMode);
         model.addAttribute("keyword", keyword);  // 검색어 유지 (폼에 다시 표시)
         model.addAttribute("breadcrumbItems", createNoticeBreadcrumb("공지사항", "/support/notice"));
         model.addAttribute("sidebarMenus", createSupportSidebarMenus());
@@ -129,7 +140,7 @@ public class SupportController {
      *
      * 조회수 처리:
      * - getNoticeDetailWithViewCount() 메서드가 조회와 동시에 조회수 증가
-     * - @Transactional로 묶여 있어 조회수 증가가 DB에 반영됨
+     * - 증가분은 CounterService에 모았다가 주기적으로 DB에 일괄 반영됨
      */
     @GetMapping("/notice/{id}")
     public String noticeDetail(@PathVariable Long id,
@@ -215,16 +226,24 @@ public class SupportController {
         return "redirect:/support/inquiry/list";
     }
 
-    // 내 문의 목록
+    // 내 문의 목록 (page 지정 시 번호 페이징, 그 외 커서 페이징)
     @GetMapping("/inquiry/list")
-    public String inquiryList(@RequestParam(defaultValue = "0") int page,
+    public String inquiryList(@RequestParam(required = false) Integer page,
+                              @RequestParam(required = false) String cursor,
                               @AuthenticationPrincipal CustomUserDetails userDetails,
                               Model model) {
 
-        Pageable pageable = PageRequest.of(page, DEFAULT_PAGE_SIZE);
-        Page<InquiryListResponseDto> inquiries = inquiryService.getMyInquiries(userDetails.getMember(), pageable);
+        boolean cursorMode = page == null;
+        if (cursorMode) {
+            model.addAttribute("inquiries",
+                    inquiryService.getMyInquiriesByCursor(userDetails.getMember(), cursor, DEFAULT_PAGE_SIZE));
+        } else {
+            Pageable pageable = PageRequest.of(page, DEFAULT_PAGE_SIZE);
+            Page<InquiryListResponseDto> inquiries = inquiryService.getMyInquiries(userDetails.getMember(), pageable);
+            model.addAttribute("inquiries", inquiries);
+        }
 
-        model.addAttribute("inquiries", inquiries);
+        model.addAttribute("cursorMode", cursorMode);
         model.addAttribute("totalCount", inquiryService.countMyInquiries(userDetails.getMember()));
         model.addAttribute("breadcrumbItems", createInquiryBreadcrumb("내 문의 목록", "/support/inquiry/list"));
         model.addAttribute("sidebarMenus", createSupportSidebarMenus());
@@ -250,22 +269,30 @@ public class SupportController {
 
     /**
      * 자료실 목록 페이지
+     * - 검색어와 page가 없으면 커서 페이징, 그 외 번호 페이징 (공지사항 목록과 동일)
      */
     @GetMapping("/resource")
-    public String resourceList(@RequestParam(defaultValue = "0") int page,
+    public String resourceList(@RequestParam(required = false) Integer page,
+                               @RequestParam(required = false) String cursor,
                                @RequestParam(defaultValue = "") String keyword,
                                Model model) {
 
-        Pageable pageable = PageRequest.of(page, DEFAULT_PAGE_SIZE);
-
-        Page<ResourceListResponseDto> resources;
-        if (keyword.isBlank()) {
-            resources = resourceService.getResourceList(pageable);
+        boolean cursorMode = keyword.isBlank() && page == null;
+        if (cursorMode) {
+            model.addAttribute("resources", resourceService.getResourceListByCursor(cursor, DEFAULT_PAGE_SIZE));
         } else {
-            resources = resourceService.searchResources(keyword, pageable);
+            Pageable pageable = PageRequest.of(page == null ? 0 : page, DEFAULT_PAGE_SIZE);
+
+            Page<ResourceListResponseDto> resources;
+            if (keyword.isBlank()) {
+                resources = resourceService.getResourceList(pageable);
+            } else {
+                resources = resourceService.searchResources(keyword, pageable);
+            }
+            model.addAttribute("resources", resources);
         }
 
-        model.addAttribute("resources", resources);
+        model.addAttribute("cursorMode", cursorMode);
         model.addAttribute("keyword", keyword);
         model.addAttribute("breadcrumbItems", createResourceBreadcrumb());
         model.addAttribute("sidebarMenus", createSupportSidebarMenus());
@@ -296,32 +323,30 @@ public class SupportController {
 
     /**
      * 자료 다운로드
+     * - Range 이어받기, ETag/If-Range 조건부 요청 지원 (FileDownloadHandler)
+     * - 다운로드 수는 파일 끝까지 전송한 경우에만 증가 (사전 확인용 구간 요청, 중간 구간 요청은 제외)
      */
     @GetMapping("/resource/{id}/download")
-    public ResponseEntity<?> downloadResource(@PathVariable Long id) {
+    public void downloadResource(@PathVariable Long id,
+                                 HttpServletRequest request,
+                                 HttpServletResponse response) throws IOException {
+        Resource resource;
         try {
-            var resource = resourceService.getResourceForDownload(id);
-
-            Path filePath = Paths.get(resource.getFilePath());
-            var fileResource = new UrlResource(filePath.toUri());
+            resource = resourceService.getResourceForDownload(id);
+        } catch (IllegalArgumentException e) {
+            response.sendRedirect("/support/resource");
+            return;
+        }
 
-            if (fileResource.exists() && fileResource.isReadable()) {
-                String encodedFileName = URLEncoder.encode(resource.getFileName(), StandardCharsets.UTF_8)
-                        .replaceAll("\\+", "%20");
+        Path filePath = Paths.get(resource.getFilePath());
+        if (!Files.isRegularFile(filePath) || !Files.isReadable(filePath)) {
+            // 파일이 없는 경우 (테스트 데이터) - 상세 페이지로 리다이렉트
+            response.sendRedirect("/support/resource/" + id);
+            return;
+        }
 
-                return ResponseEntity.ok()
-                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFileName)
-                        .body(fileResource);
-            } else {
-                // 파일이 없는 경우 (테스트 데이터) - 상세 페이지로 리다이렉트
-                return ResponseEntity.status(302)
-                        .header(HttpHeaders.LOCATION, "/support/resource/" + id)
-                        .build();
-            }
-        } catch (Exception e) {
-            return ResponseEntity.status(302)
-                    .header(HttpHeaders.LOCATION, "/support/resource")
-                    .build();
+        if (fileDownloadHandler.handle(request, response, filePath, resource.getFileName())) {
+            resourceService.increaseDownloadCount(id);
         }
     }
 
@@ -329,14 +354,22 @@ public class SupportController {
 
     /**
      * 게시글 목록 조회
+     * - 검색어와 page가 없으면 커서 페이징, 그 외 번호 페이징 (공지사항 목록과 동일)
      */
     @GetMapping("/board")
-    public String boardList(@RequestParam(defaultValue = "0") int page,
+    public String boardList(@RequestParam(required = false) Integer page,
+                            @RequestParam(required = false) String cursor,
                             @RequestParam(defaultValue = "") String keyword,
                             @RequestParam(defaultValue = "all") String searchType,
                             Model model) {
-        Page<BoardListResponseDto> boards = boardService.getBoardList(page, keyword, searchType);
-        model.addAttribute("boards", boards);
+        boolean cursorMode = keyword.isBlank() && page == null;
+        if (cursorMode) {
+            model.addAttribute("boards", boardService.getBoardListByCursor(cursor));
+        } else {
+            Page<BoardListResponseDto> boards = boardService.getBoardList(page == null ? 0 : page, keyword, searchType);
+            model.addAttribute("boards", boards);
+        }
+        model.addAttribute("cursorMode", cursorMode);
         model.addAttribute("keyword", keyword);
         model.addAttribute("searchType", searchType);
         model.addAttribute("breadcrumbItems", createBoardBreadcrumb("자유게시판", "/support/board"));
@@ -486,62 +519,40 @@ public class SupportController {
      * 흐름:
      * 1. 게시글 조회 (조회수 증가 없이)
      * 2. 첨부파일 존재 여부 확인 → 없으면 상세 페이지로 리다이렉트
-     * 3. 파일 경로로 실제 파일 리소스 생성
-     * 4. 파일 존재 및 읽기 가능 여부 확인
-     *    - 가능하면 → 파일 다운로드 응답 반환
-     *    - 불가능하면 → 상세 페이지로 리다이렉트
-     * 5. 예외 발생 시 → 목록 페이지로 리다이렉트
+     * 3. 파일 존재 및 읽기 가능 여부 확인 → 불가능하면 상세 페이지로 리다이렉트
+     * 4. FileDownloadHandler로 파일 전송 (Range 이어받기, ETag 조건부 요청 지원)
+     * 5. 존재하지 않는 게시글 → 목록 페이지로 리다이렉트
      */
     @GetMapping("/board/{id}/download")
-    public ResponseEntity<?> boardFileDownload(@PathVariable Long id) {
+    public void boardFileDownload(@PathVariable Long id,
+                                  HttpServletRequest request,
+                                  HttpServletResponse response) throws IOException {
+        // 1. 게시글 조회 (조회수 증가 없이 - 다운로드는 조회가 아니므로)
+        BoardDetailResponseDto board;
         try {
-            // 1. 게시글 조회 (조회수 증가 없이 - 다운로드는 조회가 아니므로)
-            BoardDetailResponseDto board = boardService.getBoardDetailWithoutViewCount(id);
+            board = boardService.getBoardDetailWithoutViewCount(id);
+        } catch (IllegalArgumentException e) {
+            // 5. 존재하지 않는 게시글 → 목록 페이지로 리다이렉트
+            response.sendRedirect("/support/board");
+            return;
+        }
 
-            // 2. 첨부파일 존재 여부 확인
-            //    - 첨부파일이 없으면 상세 페이지로 302 리다이렉트
-            if (!board.isHasAttachment()) {
-                return ResponseEntity.status(302)
-                        .header(HttpHeaders.LOCATION, "/support/board/" + id)
-                        .build();
-            }
+        // 2. 첨부파일 존재 여부 확인
+        if (!board.isHasAttachment()) {
+            response.sendRedirect("/support/board/" + id);
+            return;
+        }
 
-            // 3. DB에 저장된 파일 경로로 실제 파일 리소스 객체 생성
-            //    - Paths.get(): 문자열 경로를 Path 객체로 변환
-            //    - UrlResource: Spring의 Resource 구현체, 파일 접근용
-            Path filePath = Paths.get(board.getAttachmentPath());
-            var fileResource = new UrlResource(filePath.toUri());
-
-            // 4. 파일이 실제로 존재하고 읽을 수 있는지 확인
-            if (fileResource.exists() && fileResource.isReadable()) {
-                // 4-A. 파일 다운로드 응답 생성
-
-                // 파일명 URL 인코딩 (한글 파일명 깨짐 방지)
-                // - URLEncoder.encode(): 특수문자/한글을 %XX 형식으로 변환
-                // - replaceAll("\\+", "%20"): 공백이 +로 변환되는 것을 %20으로 교체
-                String encodedFileName = URLEncoder.encode(board.getAttachmentName(), StandardCharsets.UTF_8)
-                        .replaceAll("\\+", "%20");
-
-                // Content-Disposition 헤더: 브라우저에게 파일 다운로드 방식 지시
-                // - attachment: 다운로드로 처리 (inline이면 브라우저에서 열기 시도)
-                // - filename*=UTF-8'': RFC 5987 표준, UTF-8 인코딩된 파일명 지정
-                return ResponseEntity.ok()
-                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFileName)
-                        .body(fileResource);
-            } else {
-                // 4-B. 파일이 없거나 읽을 수 없음 (삭제됨, 권한 문제 등)
-                //      → 상세 페이지로 리다이렉트
-                return ResponseEntity.status(302)
-                        .header(HttpHeaders.LOCATION, "/support/board/" + id)
-                        .build();
-            }
-        } catch (Exception e) {
-            // 5. 예외 발생 시 (잘못된 ID, DB 오류 등)
-            //    → 목록 페이지로 리다이렉트
-            return ResponseEntity.status(302)
-                    .header(HttpHeaders.LOCATION, "/support/board")
-                    .build();
+        // 3. 파일이 실제로 존재하고 읽을 수 있는지 확인 (삭제됨, 권한 문제 등)
+        Path filePath = Paths.get(board.getAttachmentPath());
+        if (!Files.isRegularFile(filePath) || !Files.isReadable(filePath)) {
+            response.sendRedirect("/support/board/" + id);
+            return;
         }
+
+        // 4. 파일 전송
+        //    - 한글 파일명 인코딩(Content-Disposition), ETag, Range 처리는 핸들러가 담당
+        fileDownloadHandler.handle(request, response, filePath, board.getAttachmentName());
     }
 
     // ==================== 유틸리티 메서드 ====================
@@ -0,0 +1,349 @@
+package com.mydata.mydatatestbed.download;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 파일 다운로드 응답 처리 (Range / 조건부 요청 지원)
+ *
+ * 지원 기능:
+ * - ETag(강한 검증자: 파일 크기 + 수정 시각), Last-Modified
+ * - If-None-Match / If-Modified-Since → 304 Not Modified
+ * - Range: 단일 구간 → 206 + Content-Range, 여러 구간 → 206 multipart/byteranges
+ * - If-Range: 파일이 바뀌었으면 Range를 무시하고 전체 파일 전송 (이어받기 중 파일 교체 대비)
+ * - 만족할 수 없는 Range → 416 + "Content-Range: bytes *&#47;크기"
+ *
+ * 전송 방식:
+ * - 전체 또는 단일 구간이고 Tomcat이 sendfile을 지원하면 요청 속성만 지정하고 반환
+ *   → 서블릿이 끝난 뒤 Tomcat이 커널 sendfile로 전송 (JVM 힙을 거치지 않음)
+ * - 그 외에는 FileChannel.transferTo()로 출력 스트림에 전송
+ */
+@Component
+public class FileDownloadHandler {
+
+    // Tomcat sendfile 요청 속성 (org.apache.coyote.Constants)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * 이보다 작은 구간은 sendfile보다 일반 쓰기가 빠름 (Tomcat 기본값과 동일)
+     */
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    /**
+     * 한 요청에서 허용하는 최대 구간 수 (병합 후 기준)
+     * - 작은 구간을 수천 개 요청해 서버 자원을 소모시키는 요청 방지
+     */
+    private static final int MAX_RANGES = 16;
+
+    private static final String CRLF = "\r\n";
+
+    /**
+     * 파일 다운로드 응답 작성
+     *
+     * @param file     전송할 파일 (존재하고 읽을 수 있는 일반 파일이어야 함)
+     * @param fileName 다운로드 파일명 (Content-Disposition)
+     * @return 응답 본문이 파일의 마지막 바이트까지 포함하면 true (전체 200 또는 끝까지 가는 단일 구간)
+     *         다운로드 수 중복 집계 방지용: 304/416/HEAD, 끝에 닿지 않는 구간(bytes=0-0 같은
+     *         다운로드 관리자/플레이어의 사전 확인 요청 등), 여러 구간 요청은 false
+     */
+    public boolean handle(HttpServletRequest request, HttpServletResponse response,
+                          Path file, String fileName) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long length = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String etag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+        String contentType = MediaTypeFactory.getMediaType(fileName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+
+        // 검증자 헤더는 304/206/416 응답에도 포함
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // 저장은 허용하되 매번 ETag로 재검증 (Spring Security 기본값 no-store 대체)
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        // 1. 조건부 요청: 클라이언트가 가진 파일이 최신이면 304
+        if (isNotModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename*=UTF-8''" + encodeFileName(fileName));
+
+        // 2. Range 해석 (If-Range가 어긋나면 Range 무시 → 전체 전송)
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        List<ByteRange> ranges = null;
+        if (rangeHeader != null && isIfRangeSatisfied(request, etag, lastModified)) {
+            ranges = parseRanges(rangeHeader, length);
+        }
+
+        boolean headOnly = "HEAD".equalsIgnoreCase(request.getMethod());
+
+        // 2-A. 전체 파일
+        if (ranges == null) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(contentType);
+            response.setContentLengthLong(length);
+            if (!headOnly) {
+                send(request, response, file, 0, length);
+            }
+            return !headOnly;
+        }
+
+        // 2-B. 만족할 수 있는 구간이 없음
+        if (ranges.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.setContentLengthLong(0);
+            return false;
+        }
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+
+        // 2-C. 단일 구간
+        if (ranges.size() == 1) {
+            ByteRange range = ranges.get(0);
+            response.setContentType(contentType);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, range.contentRange(length));
+            response.setContentLengthLong(range.length());
+            if (!headOnly) {
+                send(request, response, file, range.start(), range.length());
+            }
+            return range.end() == length - 1 && !headOnly;
+        }
+
+        // 2-D. 여러 구간 → multipart/byteranges
+        String boundary = UUID.randomUUID().toString().replace("-", "");
+        List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+        long contentLength = 0;
+        for (ByteRange range : ranges) {
+            byte[] partHeader = (CRLF + "--" + boundary + CRLF
+                    + HttpHeaders.CONTENT_TYPE + ": " + contentType + CRLF
+                    + HttpHeaders.CONTENT_RANGE + ": " + range.contentRange(length) + CRLF
+                    + CRLF).getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(partHeader);
+            contentLength += partHeader.length + range.length();
+        }
+        byte[] closing = (CRLF + "--" + boundary + "--" + CRLF).getBytes(StandardCharsets.US_ASCII);
+        contentLength += closing.length;
+
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+        if (headOnly) {
+            return false;
+        }
+
+        ServletOutputStream out = response.getOutputStream();
+        WritableByteChannel target = Channels.newChannel(out);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            for (int i = 0; i < ranges.size(); i++) {
+                out.write(partHeaders.get(i));
+                transfer(channel, ranges.get(i).start(), ranges.get(i).length(), target);
+            }
+        }
+        out.write(closing);
+        return false;
+    }
+
+    // ==================== 조건부 요청 ====================
+
+    /**
+     * If-None-Match가 있으면 그것만 보고, 없을 때만 If-Modified-Since 확인 (RFC 9110 13.2.2)
+     */
+    private boolean isNotModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return matchesAny(ifNoneMatch, etag);
+        }
+        long ifModifiedSince = parseDateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        // HTTP 날짜는 초 단위이므로 밀리초를 버리고 비교
+        return ifModifiedSince != -1 && lastModified / 1000 <= ifModifiedSince / 1000;
+    }
+
+    /**
+     * If-Range는 강한 비교만 허용 (W/ 약한 ETag는 항상 불일치)
+     */
+    private boolean isIfRangeSatisfied(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null || ifRange.isBlank()) {
+            return true;
+        }
+        ifRange = ifRange.trim();
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        long date = parseDateHeader(request, HttpHeaders.IF_RANGE);
+        return date != -1 && lastModified / 1000 == date / 1000;
+    }
+
+    /**
+     * If-None-Match는 약한 비교 (W/ 접두사를 떼고 비교)
+     */
+    private boolean matchesAny(String header, String etag) {
+        for (String candidate : header.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.equals("*")) {
+                return true;
+            }
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long parseDateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;  // 형식이 잘못된 날짜는 헤더가 없는 것으로 취급
+        }
+    }
+
+    // ==================== Range 해석 ====================
+
+    /**
+     * Range 헤더 해석
+     *
+     * @return null: 헤더 형식 오류 또는 구간이 너무 많음 → Range 무시하고 전체 전송
+     *         빈 리스트: 만족할 수 있는 구간 없음 → 416
+     *         그 외: 시작 위치 순으로 정렬하고 겹치거나 붙어 있는 구간을 병합한 목록
+     */
+    List<ByteRange> parseRanges(String header, long length) {
+        if (!header.startsWith("bytes=")) {
+            return null;
+        }
+
+        List<ByteRange> ranges = new ArrayList<>();
+        for (String spec : header.substring("bytes=".length()).split(",")) {
+            spec = spec.trim();
+            int dash = spec.indexOf('-');
+            if (dash < 0) {
+                return null;
+            }
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            try {
+                if (first.isEmpty()) {
+                    // "-500": 마지막 500바이트
+                    long suffix = Long.parseLong(last);
+                    if (suffix < 0) {
+                        return null;
+                    }
+                    if (suffix > 0 && length > 0) {
+                        ranges.add(new ByteRange(Math.max(0, length - suffix), length - 1));
+                    }
+                    continue;
+                }
+                long start = Long.parseLong(first);
+                long end = last.isEmpty() ? length - 1 : Long.parseLong(last);
+                if (start < 0 || end < start) {
+                    return null;
+                }
+                if (start < length) {
+                    ranges.add(new ByteRange(start, Math.min(end, length - 1)));
+                }
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        List<ByteRange> merged = merge(ranges);
+        return merged.size() > MAX_RANGES ? null : merged;
+    }
+
+    private List<ByteRange> merge(List<ByteRange> ranges) {
+        ranges.sort(Comparator.comparingLong(ByteRange::start));
+        List<ByteRange> merged = new ArrayList<>(ranges.size());
+        for (ByteRange range : ranges) {
+            if (!merged.isEmpty()) {
+                ByteRange previous = merged.get(merged.size() - 1);
+                if (range.start() <= previous.end() + 1) {
+                    merged.set(merged.size() - 1,
+                            new ByteRange(previous.start(), Math.max(previous.end(), range.end())));
+                    continue;
+                }
+            }
+            merged.add(range);
+        }
+        return merged;
+    }
+
+    // ==================== 전송 ====================
+
+    private void send(HttpServletRequest request, HttpServletResponse response,
+                      Path file, long start, long count) throws IOException {
+        if (count >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, start + count);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            transfer(channel, start, count, Channels.newChannel(response.getOutputStream()));
+        }
+    }
+
+    /**
+     * transferTo()는 요청한 바이트를 한 번에 모두 보내지 않을 수 있으므로 반복
+     */
+    private void transfer(FileChannel channel, long position, long count,
+                          WritableByteChannel target) throws IOException {
+        long end = position + count;
+        while (position < end) {
+            long transferred = channel.transferTo(position, end - position, target);
+            if (transferred <= 0) {
+                throw new IOException("파일 전송이 중단되었습니다 (파일 크기 변경 가능성)");
+            }
+            position += transferred;
+        }
+    }
+
+    private String encodeFileName(String fileName) {
+        // 공백이 +로 변환되는 것을 %20으로 교체 (RFC 5987)
+        return URLEncoder.encode(fileName, StandardCharsets.UTF_8).replaceAll("\\+", "%20");
+    }
+
+    /**
+     * 바이트 구간 (start, end 모두 포함)
+     */
+    record ByteRange(long start, long end) {
+
+        long length() {
+            return end - start + 1;
+        }
+
+        String contentRange(long total) {
+            return "bytes " + start + "-" + end + "/" + total;
+        }
+    }
+}
@@ -1,12 +1,19 @@
 package com.mydata.mydatatestbed.dto.board;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 
+/**
+ * 게시글 목록 응답 DTO
+ * - @AllArgsConstructor: BoardRepository의 JPQL 생성자 표현식(SELECT new ...)에서 사용
+ *   → 필드 순서를 바꾸면 쿼리의 인자 순서도 함께 바꿔야 함
+ */
 @Getter
 @Builder
+@AllArgsConstructor
 public class BoardListResponseDto {
 
     private final Long id;
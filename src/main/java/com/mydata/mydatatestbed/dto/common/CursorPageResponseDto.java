@@ -0,0 +1,28 @@
+package com.mydata.mydatatestbed.dto.common;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답 DTO
+ *
+ * Page와 달리 전체 건수/전체 페이지 수가 없음 (COUNT 쿼리를 실행하지 않음)
+ * - nextCursor: 다음 페이지 커서 (없으면 null)
+ * - prevCursor: 이전 페이지 커서 (없으면 null)
+ * - startIndex: 첫 행의 목록 내 위치 (0부터, 화면 구간 표시용)
+ *   커서를 따라 세므로 페이지를 넘기는 사이 추가/삭제된 글만큼 어긋날 수 있음 (첫 페이지로 돌아오면 0)
+ */
+@Getter
+@Builder
+public class CursorPageResponseDto<T> {
+
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private String prevCursor;
+    private boolean hasNext;
+    private boolean hasPrevious;
+    private long startIndex;
+}
@@ -0,0 +1,25 @@
+package com.mydata.mydatatestbed.dto.common;
+
+import java.time.LocalDateTime;
+
+/**
+ * 키셋(seek) 페이지네이션 커서
+ *
+ * 목록 정렬 키 (pinned, createdAt, id) 중 마지막으로 본 행의 값을 담음
+ * - pinned는 공지사항에서만 사용 (그 외 목록은 항상 false)
+ * - backward=false: 이 행 "다음" 행부터 조회 (다음 페이지)
+ * - backward=true : 이 행 "이전" 행까지 거꾸로 조회 (이전 페이지)
+ *
+ * - offset: 이 행의 목록 내 위치 (0부터, 화면 구간 표시용 → 조회 조건에는 쓰지 않음)
+ *
+ * 화면에는 CursorPageMapper가 인코딩한 불투명 문자열로만 노출
+ */
+public record PageCursor(boolean backward, boolean pinned, LocalDateTime createdAt, Long id, long offset) {
+
+    /**
+     * 정렬 키만 담은 커서 (행 → 키 변환용, 위치는 CursorPageMapper가 채움)
+     */
+    public PageCursor(boolean backward, boolean pinned, LocalDateTime createdAt, Long id) {
+        this(backward, pinned, createdAt, id, 0L);
+    }
+}
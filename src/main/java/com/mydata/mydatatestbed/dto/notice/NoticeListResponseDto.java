@@ -1,5 +1,6 @@
 package com.mydata.mydatatestbed.dto.notice;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,9 +9,13 @@ import java.time.LocalDateTime;
 /**
  * 공지사항 목록 응답 DTO
  * 목록 페이지에서 필요한 정보만 포함
+ *
+ * @AllArgsConstructor: NoticeRepository의 JPQL 생성자 표현식(SELECT new ...)에서 사용
+ * → 필드 순서를 바꾸면 쿼리의 인자 순서도 함께 바꿔야 함
  */
 @Getter
 @Builder
+@AllArgsConstructor
 public class NoticeListResponseDto {
 
     private Long id;
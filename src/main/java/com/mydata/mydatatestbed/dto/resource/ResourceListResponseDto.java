@@ -1,5 +1,7 @@
 package com.mydata.mydatatestbed.dto.resource;
 
+import com.mydata.mydatatestbed.util.FileSizeFormatter;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -7,6 +9,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class ResourceListResponseDto {
 
     private Long id;
@@ -17,4 +20,14 @@ public class ResourceListResponseDto {
     private int downloadCount;
     private String authorName;
     private LocalDateTime createdAt;
+
+    /**
+     * ResourceRepository의 JPQL 생성자 표현식(SELECT new ...) 전용
+     * - description(TEXT)은 목록에서 쓰지 않으므로 조회하지 않음
+     * - 파일 크기는 바이트 값으로 받아 표시용 문자열로 변환
+     */
+    public ResourceListResponseDto(Long id, String title, String fileName, Long fileSize,
+                                   int downloadCount, String authorName, LocalDateTime createdAt) {
+        this(id, title, null, fileName, FileSizeFormatter.format(fileSize), downloadCount, authorName, createdAt);
+    }
 }
\ No newline at end of file
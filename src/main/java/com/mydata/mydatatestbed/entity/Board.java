@@ -7,7 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "boards")
+@Table(name = "boards", indexes = @Index(name = "idx_boards_created_at_id", columnList = "created_at, id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Board extends BaseTimeEntity {
@@ -26,7 +26,8 @@ public class Board extends BaseTimeEntity {
     @Column(columnDefinition = "TEXT", nullable = false)
     private String content;
 
-    @Column(nullable = false)
+    // 조회수는 CounterService가 직접 UPDATE로 누적 (엔티티 수정 시 덮어쓰지 않도록 updatable = false)
+    @Column(nullable = false, updatable = false)
     private int viewCount = 0;
 
     @Column(length = 500)
@@ -49,10 +50,6 @@ public class Board extends BaseTimeEntity {
         this.viewCount = 0;
     }
 
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
     public void update(String title, String content,
                        String attachmentPath, String attachmentName, Long attachmentSize) {
         this.title = title;
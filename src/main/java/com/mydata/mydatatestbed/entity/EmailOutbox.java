@@ -0,0 +1,81 @@
+package com.mydata.mydatatestbed.entity;
+
+import com.mydata.mydatatestbed.entity.Enum.EmailOutboxStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메일 발송 대기열(outbox) Entity
+ *
+ * 메일을 요청 스레드에서 바로 보내지 않고,
+ * 업무 데이터(예: 인증 토큰)와 같은 트랜잭션으로 이 테이블에 먼저 저장
+ * → 커밋되면 백그라운드 워커가 꺼내서 SMTP로 발송
+ *
+ * 장점:
+ * - 요청 처리 시간이 SMTP 지연과 무관해짐
+ * - 트랜잭션이 롤백되면 메일도 나가지 않음 (토큰 없는 메일 방지)
+ * - 서버가 재시작되어도 대기 중인 메일이 유실되지 않음
+ */
+@Entity
+@Table(name = "email_outbox",
+        indexes = @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String recipient;
+
+    @Column(nullable = false, length = 200)
+    private String subject;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EmailOutboxStatus status;
+
+    /**
+     * 발송 시도 횟수 (실패할 때마다 증가)
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * 다음 발송 시도 시각 (재시도 시 지수 백오프로 늦춰짐)
+     */
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 마지막 실패 사유
+     */
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    @Builder
+    private EmailOutbox(String recipient, String subject, String body) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+        this.status = EmailOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+}
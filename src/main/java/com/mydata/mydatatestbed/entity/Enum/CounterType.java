@@ -0,0 +1,31 @@
+package com.mydata.mydatatestbed.entity.Enum;
+
+/**
+ * 누적 카운터 종류 열거형
+ *
+ * CounterService가 메모리에 모아 두었다가 주기적으로 반영하는 카운터
+ * 각 카운터는 반영 대상 테이블/컬럼을 가짐 (UPDATE 문 생성에 사용, 외부 입력 아님)
+ */
+public enum CounterType {
+
+    BOARD_VIEW("boards", "view_count"),
+    NOTICE_VIEW("notices", "view_count"),
+    RESOURCE_VIEW("resources", "view_count"),
+    RESOURCE_DOWNLOAD("resources", "download_count");
+
+    private final String tableName;
+    private final String columnName;
+
+    CounterType(String tableName, String columnName) {
+        this.tableName = tableName;
+        this.columnName = columnName;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String getColumnName() {
+        return columnName;
+    }
+}
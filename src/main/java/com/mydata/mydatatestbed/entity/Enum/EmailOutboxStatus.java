@@ -0,0 +1,23 @@
+package com.mydata.mydatatestbed.entity.Enum;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메일 발송 대기열(outbox) 상태
+ *
+ * PENDING → SENDING → SENT
+ *             ↓ 실패
+ *          PENDING (재시도 대기) → ... → DEAD (최대 재시도 초과)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EmailOutboxStatus {
+    PENDING("발송 대기"),
+    SENDING("발송 중"),
+    SENT("발송 완료"),
+    DEAD("발송 실패"),
+    CANCELLED("발송 취소");
+
+    private final String displayName;
+}
@@ -7,7 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "notices")
+@Table(name = "notices", indexes = @Index(name = "idx_notices_pinned_created_at_id", columnList = "pinned, created_at, id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notice extends BaseTimeEntity {
@@ -28,7 +28,10 @@ public class Notice extends BaseTimeEntity {
     @Column(nullable = false)
     private boolean pinned;
 
-    @Column(nullable = false)
+    /**
+     * 조회수 (CounterService가 직접 UPDATE로 누적, 엔티티 수정 시 덮어쓰지 않음)
+     */
+    @Column(nullable = false, updatable = false)
     private int viewCount;
 
     /**
@@ -71,13 +74,6 @@ public class Notice extends BaseTimeEntity {
 
     // === 비즈니스 메서드 === //
 
-    /**
-     * 조회수 증가
-     */
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
     /**
      * 공지사항 내용 수정
      */
@@ -7,7 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "resources")
+@Table(name = "resources", indexes = @Index(name = "idx_resources_created_at_id", columnList = "created_at, id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Resource extends BaseTimeEntity {
@@ -40,15 +40,15 @@ public class Resource extends BaseTimeEntity {
     private Long fileSize;
 
     /**
-     * 조회수
+     * 조회수 (CounterService가 직접 UPDATE로 누적, 엔티티 수정 시 덮어쓰지 않음)
      */
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private int viewCount;
 
     /**
-     * 다운로드 횟수
+     * 다운로드 횟수 (조회수와 동일하게 CounterService가 누적)
      */
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private int downloadCount;
 
     /**
@@ -73,20 +73,6 @@ public class Resource extends BaseTimeEntity {
 
     // === 비즈니스 메서드 === //
 
-    /**
-     * 조회수 증가
-     */
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
-    /**
-     * 다운로드 횟수 증가
-     */
-    public void incrementDownloadCount() {
-        this.downloadCount++;
-    }
-
     /**
      * 자료 정보 수정
      */
@@ -0,0 +1,118 @@
+package com.mydata.mydatatestbed.mail;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SMTP 연결(Transport) 풀
+ *
+ * JavaMailSender.send()는 메일 한 통마다 연결 → STARTTLS → 인증 → 발송 → 종료를 반복함
+ * 이 풀은 인증까지 마친 연결을 보관해 두고 워커끼리 돌려 쓰므로
+ * 두 번째 메일부터는 MAIL FROM/RCPT TO/DATA만 주고받음
+ *
+ * 연결 관리:
+ * - 빌릴 때: 보관 중인 연결이 있으면 재사용, 없으면 새로 연결
+ * - 오래 쉬었던 연결은 재사용 전에 isConnected()(NOOP)로 확인
+ * - 발송 중 예외가 난 연결은 상태를 알 수 없으므로 닫고 버림
+ * - 보관 개수는 워커 수까지만 (넘치면 닫음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SmtpTransportPool {
+
+    /**
+     * 이 시간 이상 쉬었던 연결은 재사용 전에 살아 있는지 확인
+     * (SMTP 서버는 보통 수십 초~수 분 뒤 유휴 연결을 끊음)
+     */
+    private static final long VALIDATE_AFTER_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final JavaMailSenderImpl mailSender;
+
+    private final BlockingQueue<PooledTransport> idle = new LinkedBlockingQueue<>();
+
+    @Value("${email.outbox.workers:4}")
+    private int maxIdle;
+
+    /**
+     * 풀의 메일 세션으로 빈 메시지 생성 (spring.mail.properties 설정 적용)
+     */
+    public MimeMessage createMimeMessage() {
+        return mailSender.createMimeMessage();
+    }
+
+    /**
+     * 메시지 발송
+     *
+     * @throws MessagingException 연결 또는 발송 실패 (호출한 쪽에서 재시도 여부 판단)
+     */
+    public void send(MimeMessage message) throws MessagingException {
+        message.saveChanges();
+
+        Transport transport = borrow();
+        boolean reusable = false;
+        try {
+            transport.sendMessage(message, message.getAllRecipients());
+            reusable = true;
+        } finally {
+            release(transport, reusable);
+        }
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        PooledTransport pooled;
+        while ((pooled = idle.poll()) != null) {
+            close(pooled.transport());
+        }
+    }
+
+    private Transport borrow() throws MessagingException {
+        PooledTransport pooled;
+        while ((pooled = idle.poll()) != null) {
+            boolean recentlyUsed = System.nanoTime() - pooled.releasedAt() < VALIDATE_AFTER_NANOS;
+            if (recentlyUsed || pooled.transport().isConnected()) {
+                return pooled.transport();
+            }
+            close(pooled.transport());
+        }
+        return connect();
+    }
+
+    private Transport connect() throws MessagingException {
+        Transport transport = mailSender.getSession().getTransport(mailSender.getProtocol());
+        transport.connect(mailSender.getHost(), mailSender.getPort(),
+                mailSender.getUsername(), mailSender.getPassword());
+        log.debug("SMTP 연결 생성: {}:{}", mailSender.getHost(), mailSender.getPort());
+        return transport;
+    }
+
+    private void release(Transport transport, boolean reusable) {
+        if (reusable && idle.size() < maxIdle && idle.offer(new PooledTransport(transport, System.nanoTime()))) {
+            return;
+        }
+        close(transport);
+    }
+
+    private void close(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("SMTP 연결 종료 중 오류 (무시): {}", e.getMessage());
+        }
+    }
+
+    private record PooledTransport(Transport transport, long releasedAt) {
+    }
+}
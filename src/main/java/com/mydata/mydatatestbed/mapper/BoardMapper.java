@@ -43,13 +43,18 @@ public class BoardMapper {
     }
 
     public BoardDetailResponseDto toDetailResponseDto(Board board) {
+        return toDetailResponseDto(board, board.getViewCount());
+    }
+
+    // viewCount: DB 값에 아직 반영되지 않은 증가분을 더한 조회수
+    public BoardDetailResponseDto toDetailResponseDto(Board board, int viewCount) {
         return BoardDetailResponseDto.builder()
                 .id(board.getId())
                 .title(board.getTitle())
                 .content(board.getContent())
                 .authorId(board.getMember().getId())
                 .authorName(board.getMember().getName())
-                .viewCount(board.getViewCount())
+                .viewCount(viewCount)
                 .attachmentPath(board.getAttachmentPath())
                 .attachmentName(board.getAttachmentName())
                 .formattedFileSize(FileSizeFormatter.format(board.getAttachmentSize()))
@@ -0,0 +1,137 @@
+package com.mydata.mydatatestbed.mapper;
+
+import com.mydata.mydatatestbed.dto.common.CursorPageResponseDto;
+import com.mydata.mydatatestbed.dto.common.PageCursor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지네이션 Mapper
+ *
+ * 담당:
+ * - 커서 문자열 ↔ PageCursor 변환
+ * - seek 쿼리 결과(size + 1건) → CursorPageResponseDto 변환
+ *
+ * 커서 형식: Base64URL("방향|pinned|createdAt|id|offset")
+ * - 화면에서는 내용을 해석하지 않는 불투명 값으로 취급
+ * - offset은 커서 행의 목록 내 위치 (COUNT 없이 보고 있는 구간을 표시하기 위해 페이지를 넘길 때마다 이어 셈)
+ * - offset이 없는 이전 형식 커서는 0으로 해석
+ */
+@Component
+public class CursorPageMapper {
+
+    private static final String FORWARD = "n";
+    private static final String BACKWARD = "p";
+    private static final String DELIMITER = "|";
+
+    /**
+     * 커서 문자열 → PageCursor 변환
+     *
+     * @param cursor 화면에서 전달된 커서 (빈 문자열이면 첫 페이지)
+     * @return 디코딩된 커서, 비어 있거나 형식이 잘못되었으면 null (첫 페이지부터 조회)
+     */
+    public PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String payload = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = payload.split("\\" + DELIMITER, 5);
+            if (parts.length < 4 || !(FORWARD.equals(parts[0]) || BACKWARD.equals(parts[0]))) {
+                return null;
+            }
+            long offset = parts.length == 5 ? Long.parseLong(parts[4]) : 0L;
+            if (offset < 0) {
+                return null;
+            }
+            return new PageCursor(
+                    BACKWARD.equals(parts[0]),
+                    "1".equals(parts[1]),
+                    LocalDateTime.parse(parts[2]),
+                    Long.parseLong(parts[3]),
+                    offset);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * seek 쿼리 결과 → 커서 목록 응답 변환
+     *
+     * @param rows      seek 쿼리 결과 (size + 1건까지, 역방향 조회면 오름차순)
+     * @param requested 요청된 커서 (첫 페이지면 null)
+     * @param size      페이지 크기
+     * @param keyOf     행 → 정렬 키 (방향은 무시됨)
+     * @param mapper    행 → 응답 DTO
+     *
+     * 흐름:
+     * 1. size를 넘는 1건이 있으면 그 방향으로 더 있다는 뜻 → 잘라냄
+     * 2. 역방향 조회 결과는 화면 순서(내림차순)로 뒤집음
+     * 3. 첫 행의 목록 내 위치 계산
+     *    - 다음 페이지: 요청 커서 행 바로 뒤
+     *    - 이전 페이지: 요청 커서 행에서 이번 페이지 행 수만큼 앞 (더 앞이 없으면 맨 처음 → 0으로 바로잡음)
+     * 4. 첫 행으로 이전 커서, 마지막 행으로 다음 커서 생성 (각 행의 위치 포함)
+     */
+    public <E, T> CursorPageResponseDto<T> toCursorPage(List<E> rows, PageCursor requested, int size,
+                                                        Function<E, PageCursor> keyOf, Function<E, T> mapper) {
+        boolean backward = requested != null && requested.backward();
+        boolean hasMore = rows.size() > size;
+
+        List<E> page = new ArrayList<>(hasMore ? rows.subList(0, size) : rows);
+        if (backward) {
+            Collections.reverse(page);
+        }
+
+        // 역방향으로 왔다면 뒤쪽(다음)은 이미 본 페이지이므로 항상 존재
+        boolean hasNext = backward || hasMore;
+        boolean hasPrevious = backward ? hasMore : requested != null;
+
+        long startIndex;
+        if (requested == null || (backward && !hasMore)) {
+            startIndex = 0;
+        } else if (backward) {
+            startIndex = Math.max(0, requested.offset() - page.size());
+        } else {
+            startIndex = requested.offset() + 1;
+        }
+
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!page.isEmpty()) {
+            if (hasNext) {
+                nextCursor = encode(keyOf.apply(page.get(page.size() - 1)), false, startIndex + page.size() - 1);
+            }
+            if (hasPrevious) {
+                prevCursor = encode(keyOf.apply(page.get(0)), true, startIndex);
+            }
+        }
+
+        return CursorPageResponseDto.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .size(size)
+                .nextCursor(nextCursor)
+                .prevCursor(prevCursor)
+                .hasNext(nextCursor != null)
+                .hasPrevious(prevCursor != null)
+                .startIndex(startIndex)
+                .build();
+    }
+
+    private String encode(PageCursor key, boolean backward, long offset) {
+        String payload = (backward ? BACKWARD : FORWARD) + DELIMITER
+                + (key.pinned() ? "1" : "0") + DELIMITER
+                + key.createdAt() + DELIMITER
+                + key.id() + DELIMITER
+                + offset;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
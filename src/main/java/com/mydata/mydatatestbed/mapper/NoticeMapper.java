@@ -38,12 +38,23 @@ public class NoticeMapper {
      * @return 상세용 DTO (전체 정보 포함)
      */
     public NoticeDetailResponseDto toDetailResponseDto(Notice notice) {
+        return toDetailResponseDto(notice, notice.getViewCount());
+    }
+
+    /**
+     * Notice Entity → 상세 응답 DTO 변환 (표시용 조회수 지정)
+     *
+     * @param notice    Notice Entity
+     * @param viewCount DB 값에 아직 반영되지 않은 증가분을 더한 조회수
+     * @return 상세용 DTO
+     */
+    public NoticeDetailResponseDto toDetailResponseDto(Notice notice, int viewCount) {
         return NoticeDetailResponseDto.builder()
                 .id(notice.getId())
                 .title(notice.getTitle())
                 .content(notice.getContent())
                 .pinned(notice.isPinned())
-                .viewCount(notice.getViewCount())
+                .viewCount(viewCount)
                 .attachmentPath(notice.getAttachmentPath())
                 .attachmentName(notice.getAttachmentName())
                 .authorName(notice.getAuthor() != null ? notice.getAuthor().getName() : null)
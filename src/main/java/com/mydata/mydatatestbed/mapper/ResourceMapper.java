@@ -18,14 +18,19 @@ public class ResourceMapper {
     }
 
     public ResourceDetailResponseDto toDetailResponseDto(Resource resource) {
+        return toDetailResponseDto(resource, resource.getViewCount(), resource.getDownloadCount());
+    }
+
+    // viewCount, downloadCount: DB 값에 아직 반영되지 않은 증가분을 더한 값
+    public ResourceDetailResponseDto toDetailResponseDto(Resource resource, int viewCount, int downloadCount) {
         return ResourceDetailResponseDto.builder()
                 .id(resource.getId())
                 .title(resource.getTitle())
                 .content(resource.getDescription())
                 .fileName(resource.getFileName())
                 .formattedFileSize(resource.getFormattedFileSize())
-                .viewCount(resource.getViewCount())
-                .downloadCount(resource.getDownloadCount())
+                .viewCount(viewCount)
+                .downloadCount(downloadCount)
                 .authorName(resource.getAuthor() != null ? resource.getAuthor().getName() : "관리자")
                 .createdAt(resource.getCreatedAt())
                 .build();
@@ -0,0 +1,24 @@
+package com.mydata.mydatatestbed.mock.bank;
+
+import com.mydata.mydatatestbed.mock.consent.MockConsentScope;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 모의 은행 자산 구분 (API 그룹 단위)
+ *
+ * scope: 해당 API 그룹을 호출할 때 필요한 접근토큰 권한 범위
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MockAccountCategory {
+
+    DEPOSIT("수신계좌", MockConsentScope.BANK_DEPOSIT),
+    INVEST("펀드상품계좌", MockConsentScope.BANK_INVEST),
+    LOAN("대출상품계좌", MockConsentScope.BANK_LOAN),
+    IRP("개인형 IRP 계좌", MockConsentScope.BANK_IRP),
+    PREPAID("선불카드", MockConsentScope.BANK_PREPAID);
+
+    private final String displayName;
+    private final MockConsentScope scope;
+}
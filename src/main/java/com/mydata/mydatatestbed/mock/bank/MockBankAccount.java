@@ -0,0 +1,41 @@
+package com.mydata.mydatatestbed.mock.bank;
+
+import com.mydata.mydatatestbed.mock.record.MockListEntry;
+import com.mydata.mydatatestbed.mock.record.MockRecordLog;
+import com.mydata.mydatatestbed.mock.record.MockRecordSource;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 모의 은행 자산 1건 (계좌, IRP, 선불카드)
+ *
+ * 조회 결과가 요청 파라미터와 무관한 API는 응답 본문 전체를 미리 직렬화해 보관
+ * - basicBody: 기본정보 (은행-002/005/008, IRP-002, 선불-002 잔액)
+ * - detailBody: 추가정보 (은행-003/006/009)
+ *
+ * 기간/페이지 조회 API는 MockRecordSource로 조회
+ * - transactions: 거래내역 (컬럼 저장 MockTransactionStore, 입출금계좌는 조회 시 계산 MockDepositTransactionGenerator)
+ * - items: IRP 개별운용상품(IRP-003, 미리 직렬화한 MockRecordLog) 또는 선불카드 승인내역(선불-004, MockTransactionStore)
+ */
+@Getter
+@Builder
+public class MockBankAccount implements MockListEntry {
+
+    private final MockAccountCategory category;
+    private final String accountNum;
+    private final String accountType;
+
+    /**
+     * 목록 API(은행-001, IRP-001, 선불-001)의 목록 원소 JSON
+     */
+    private final byte[] listEntry;
+
+    private final byte[] basicBody;
+    private final byte[] detailBody;
+
+    @Builder.Default
+    private final MockRecordSource transactions = MockRecordLog.EMPTY;
+
+    @Builder.Default
+    private final MockRecordSource items = MockRecordLog.EMPTY;
+}
@@ -0,0 +1,323 @@
+package com.mydata.mydatatestbed.mock.bank;
+
+import com.mydata.mydatatestbed.mock.common.MockApi;
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockApiResponder;
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import com.mydata.mydatatestbed.mock.common.MockTenant;
+import com.mydata.mydatatestbed.mock.common.MockTenantResolver;
+import com.mydata.mydatatestbed.mock.consent.MockConsentScope;
+import com.mydata.mydatatestbed.mock.consent.MockConsentStore;
+import com.mydata.mydatatestbed.mock.record.MockPaging;
+import com.mydata.mydatatestbed.mock.record.MockRecordSource;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+import static com.mydata.mydatatestbed.mock.bank.MockBankFields.*;
+
+/**
+ * 모의 은행 정보제공 API (info-api/bank-api.html 규격)
+ *
+ * 접근토큰별로 독립된 모의 데이터셋을 사용 (MockTenantResolver, 회원 샌드박스 MockSandbox)
+ * 개별인증으로 발급한 접근토큰은 API 그룹별 scope가 전송요구되어 있어야 함 (MockConsentStore)
+ *
+ * 응답 방식:
+ * - 기본/추가정보: 데이터셋 생성 시 미리 직렬화한 본문을 그대로 출력
+ * - 목록/거래내역: 미리 직렬화한 원소를 이어 붙여 출력 (요청마다 객체 → JSON 변환 없음)
+ *
+ * 페이지네이션: MockPaging (업권 모듈과 공용)
+ * - next_page: 다음 페이지 시작 커서 (목록에 따라 위치 또는 거래일시, 직전 응답 값을 그대로 전달)
+ * - limit: 1 ~ 500
+ */
+@RestController
+@RequestMapping("/v2/bank")
+@RequiredArgsConstructor
+public class MockBankController {
+
+    private static final String CONSENT_CYCLE = "1/w";
+    private static final String CONSENT_PERIOD = "99991231";
+
+    private final MockTenantResolver tenantResolver;
+    private final MockApiResponder responder;
+
+    @Value("${mock.consent.purpose:모의 마이데이터 서비스 제공}")
+    private String consentPurpose;
+
+    // ==================== 은행-001 계좌 목록 ====================
+
+    @MockApi("은행-001")
+    @GetMapping("/accounts")
+    public void accounts(@RequestParam("org_code") String orgCode,
+                         @RequestParam(value = "search_timestamp", required = false) Long searchTimestamp,
+                         @RequestParam(value = "next_page", required = false) String nextPage,
+                         @RequestParam("limit") int limit,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        MockBankDataset dataset = dataset(request, orgCode, MockConsentScope.BANK_LIST);
+        MockJsonWriter writer = responder.begin()
+                .field(SEARCH_TIMESTAMP).number(dataset.getSearchTimestamp())
+                .field(REG_DATE).digits(dataset.getRegDate(), 8);
+        MockPaging.writeList(writer, dataset.getAccounts(), nextPage, limit, ACCOUNT_CNT, ACCOUNT_LIST);
+        responder.send(request, response, writer);
+    }
+
+    // ==================== 은행-002~004 수신계좌 ====================
+
+    @MockApi("은행-002")
+    @PostMapping("/accounts/deposit/basic")
+    public void depositBasic(@RequestBody MockBankRequest body,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        sendBasic(request, response, body, MockAccountCategory.DEPOSIT);
+    }
+
+    @MockApi("은행-003")
+    @PostMapping("/accounts/deposit/detail")
+    public void depositDetail(@RequestBody MockBankRequest body,
+                              HttpServletRequest request,
+                              HttpServletResponse response) throws IOException {
+        sendDetail(request, response, body, MockAccountCategory.DEPOSIT);
+    }
+
+    @MockApi("은행-004")
+    @PostMapping("/accounts/deposit/transactions")
+    public void depositTransactions(@RequestBody MockBankRequest body,
+                                    HttpServletRequest request,
+                                    HttpServletResponse response) throws IOException {
+        sendTransactions(request, response, body, MockAccountCategory.DEPOSIT);
+    }
+
+    // ==================== 은행-005~007 펀드상품계좌 ====================
+
+    @MockApi("은행-005")
+    @PostMapping("/accounts/invest/basic")
+    public void investBasic(@RequestBody MockBankRequest body,
+                            HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        sendBasic(request, response, body, MockAccountCategory.INVEST);
+    }
+
+    @MockApi("은행-006")
+    @PostMapping("/accounts/invest/detail")
+    public void investDetail(@RequestBody MockBankRequest body,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        sendDetail(request, response, body, MockAccountCategory.INVEST);
+    }
+
+    @MockApi("은행-007")
+    @PostMapping("/accounts/invest/transactions")
+    public void investTransactions(@RequestBody MockBankRequest body,
+                                   HttpServletRequest request,
+                                   HttpServletResponse response) throws IOException {
+        sendTransactions(request, response, body, MockAccountCategory.INVEST);
+    }
+
+    // ==================== 은행-008~010 대출상품계좌 ====================
+
+    @MockApi("은행-008")
+    @PostMapping("/accounts/loan/basic")
+    public void loanBasic(@RequestBody MockBankRequest body,
+                          HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        sendBasic(request, response, body, MockAccountCategory.LOAN);
+    }
+
+    @MockApi("은행-009")
+    @PostMapping("/accounts/loan/detail")
+    public void loanDetail(@RequestBody MockBankRequest body,
+                           HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+        sendDetail(request, response, body, MockAccountCategory.LOAN);
+    }
+
+    @MockApi("은행-010")
+    @PostMapping("/accounts/loan/transactions")
+    public void loanTransactions(@RequestBody MockBankRequest body,
+                                 HttpServletRequest request,
+                                 HttpServletResponse response) throws IOException {
+        sendTransactions(request, response, body, MockAccountCategory.LOAN);
+    }
+
+    // ==================== IRP-001~004 개인형 IRP ====================
+
+    @MockApi("IRP-001")
+    @GetMapping("/irps")
+    public void irps(@RequestParam("org_code") String orgCode,
+                     @RequestParam(value = "search_timestamp", required = false) Long searchTimestamp,
+                     HttpServletRequest request,
+                     HttpServletResponse response) throws IOException {
+        MockBankDataset dataset = dataset(request, orgCode, MockConsentScope.BANK_IRP);
+        responder.sendBody(request, response, dataset.getIrpListBody());
+    }
+
+    @MockApi("IRP-002")
+    @PostMapping("/irps/basic")
+    public void irpBasic(@RequestBody MockBankRequest body,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        sendBasic(request, response, body, MockAccountCategory.IRP);
+    }
+
+    /**
+     * IRP-003: 개인형 IRP 계좌의 개별운용상품 목록 (페이지 조회, 기간 조건 없음)
+     */
+    @MockApi("IRP-003")
+    @PostMapping("/irps/detail")
+    public void irpDetail(@RequestBody MockBankRequest body,
+                          HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        MockBankDataset dataset = dataset(request, body.getOrgCode(), MockConsentScope.BANK_IRP);
+        MockBankAccount irp = dataset.find(MockAccountCategory.IRP, require(body.getAccountNum(), "account_num"));
+        MockJsonWriter writer = responder.begin()
+                .field(SEARCH_TIMESTAMP).number(dataset.getSearchTimestamp());
+        MockPaging.writeRecords(writer, irp.getItems(), Long.MIN_VALUE, Long.MAX_VALUE,
+                body.getNextPage(), body.getLimit(), IRP_CNT, IRP_LIST);
+        responder.send(request, response, writer);
+    }
+
+    @MockApi("IRP-004")
+    @PostMapping("/irps/transactions")
+    public void irpTransactions(@RequestBody MockBankRequest body,
+                                HttpServletRequest request,
+                                HttpServletResponse response) throws IOException {
+        sendTransactions(request, response, body, MockAccountCategory.IRP);
+    }
+
+    // ==================== 선불-001~004 선불카드 ====================
+
+    @MockApi("선불-001")
+    @GetMapping("/prepaid")
+    public void prepaid(@RequestParam("org_code") String orgCode,
+                        @RequestParam(value = "search_timestamp", required = false) Long searchTimestamp,
+                        @RequestParam(value = "next_page", required = false) String nextPage,
+                        @RequestParam("limit") int limit,
+                        HttpServletRequest request,
+                        HttpServletResponse response) throws IOException {
+        MockBankDataset dataset = dataset(request, orgCode, MockConsentScope.BANK_PREPAID);
+        MockJsonWriter writer = responder.begin()
+                .field(SEARCH_TIMESTAMP).number(dataset.getSearchTimestamp());
+        MockPaging.writeList(writer, dataset.getPrepaids(), nextPage, limit, PP_CNT, PP_LIST);
+        responder.send(request, response, writer);
+    }
+
+    @MockApi("선불-002")
+    @PostMapping("/prepaid/balance")
+    public void prepaidBalance(@RequestBody MockBankRequest body,
+                               HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
+        MockBankDataset dataset = dataset(request, body.getOrgCode(), MockConsentScope.BANK_PREPAID);
+        MockBankAccount card = dataset.find(MockAccountCategory.PREPAID, require(body.getPpId(), "pp_id"));
+        responder.sendBody(request, response, card.getBasicBody());
+    }
+
+    @MockApi("선불-003")
+    @PostMapping("/prepaid/transactions")
+    public void prepaidTransactions(@RequestBody MockBankRequest body,
+                                    HttpServletRequest request,
+                                    HttpServletResponse response) throws IOException {
+        MockBankDataset dataset = dataset(request, body.getOrgCode(), MockConsentScope.BANK_PREPAID);
+        MockBankAccount card = dataset.find(MockAccountCategory.PREPAID, require(body.getPpId(), "pp_id"));
+        sendDateRange(request, response, body, card.getTransactions(), TRANS_CNT, TRANS_LIST);
+    }
+
+    @MockApi("선불-004")
+    @PostMapping("/prepaid/approval")
+    public void prepaidApproval(@RequestBody MockBankRequest body,
+                                HttpServletRequest request,
+                                HttpServletResponse response) throws IOException {
+        MockBankDataset dataset = dataset(request, body.getOrgCode(), MockConsentScope.BANK_PREPAID);
+        MockBankAccount card = dataset.find(MockAccountCategory.PREPAID, require(body.getPpId(), "pp_id"));
+        sendDateRange(request, response, body, card.getItems(), APPROVED_CNT, APPROVED_LIST);
+    }
+
+    // ==================== 정보제공-공통-002 전송요구 내역 ====================
+
+    /**
+     * 접근토큰 발급 시 등록한 전송요구 (개별인증으로 발급하지 않은 토큰은 전송요구가 없으므로 40402)
+     * 전송 주기는 규격상 시행 초기 값인 주 1회 고정, 보유기간은 개별인증 기준 99991231 고정
+     */
+    @MockApi("정보제공-공통-002")
+    @GetMapping("/consents")
+    public void consents(@RequestParam("org_code") String orgCode,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        MockTenant tenant = tenantResolver.resolveTenant(request, null);
+        require(orgCode, "org_code");
+        MockConsentStore.Consent consent = tenant.sandbox().getConsents().get(tenant.consentId());
+        if (consent == null) {
+            throw new MockApiException(MockRspCode.NOT_FOUND, "전송요구 내역이 없습니다.");
+        }
+
+        MockJsonWriter writer = responder.begin()
+                .field(IS_SCHEDULED).bool(consent.isScheduled());
+        if (consent.isScheduled()) {
+            writer.field(FND_CYCLE).string(CONSENT_CYCLE)
+                    .field(ADD_CYCLE).string(CONSENT_CYCLE);
+        }
+        writer.field(END_DATE).date(consent.getEndDate())
+                .field(PURPOSE).string(consentPurpose)
+                .field(PERIOD).string(CONSENT_PERIOD)
+                .field(IS_CONSENT_TRANS_MEMO).bool(consent.isTransMemo())
+                .field(IS_CONSENT_MERCHANT_NAME_REGNO).bool(consent.isMerchantNameRegno());
+        responder.send(request, response, writer);
+    }
+
+    // ==================== 공통 처리 ====================
+
+    private MockBankDataset dataset(HttpServletRequest request, String orgCode, MockConsentScope scope) {
+        MockTenant tenant = tenantResolver.resolveTenant(request, scope);
+        require(orgCode, "org_code");
+        return tenant.sandbox().bankDataset(tenant.key());
+    }
+
+    private void sendBasic(HttpServletRequest request, HttpServletResponse response,
+                           MockBankRequest body, MockAccountCategory category) throws IOException {
+        MockBankDataset dataset = dataset(request, body.getOrgCode(), category.getScope());
+        MockBankAccount account = dataset.find(category, require(body.getAccountNum(), "account_num"));
+        responder.sendBody(request, response, account.getBasicBody());
+    }
+
+    private void sendDetail(HttpServletRequest request, HttpServletResponse response,
+                            MockBankRequest body, MockAccountCategory category) throws IOException {
+        MockBankDataset dataset = dataset(request, body.getOrgCode(), category.getScope());
+        MockBankAccount account = dataset.find(category, require(body.getAccountNum(), "account_num"));
+        responder.sendBody(request, response, account.getDetailBody());
+    }
+
+    private void sendTransactions(HttpServletRequest request, HttpServletResponse response,
+                                  MockBankRequest body, MockAccountCategory category) throws IOException {
+        MockBankDataset dataset = dataset(request, body.getOrgCode(), category.getScope());
+        MockBankAccount account = dataset.find(category, require(body.getAccountNum(), "account_num"));
+        sendDateRange(request, response, body, account.getTransactions(), TRANS_CNT, TRANS_LIST);
+    }
+
+    /**
+     * from_date ~ to_date 기간의 레코드를 페이지 단위로 응답
+     */
+    private void sendDateRange(HttpServletRequest request, HttpServletResponse response, MockBankRequest body,
+                               MockRecordSource records, byte[] countKey, byte[] listKey) throws IOException {
+        MockJsonWriter writer = responder.begin();
+        MockPaging.writeDateRange(writer, records, body.getFromDate(), body.getToDate(),
+                body.getNextPage(), body.getLimit(), countKey, listKey);
+        responder.send(request, response, writer);
+    }
+
+    private String require(String value, String name) {
+        if (value == null || value.isBlank()) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, name + "는 필수입니다.");
+        }
+        return value;
+    }
+}
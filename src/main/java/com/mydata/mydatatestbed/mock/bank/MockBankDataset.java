@@ -0,0 +1,95 @@
+package com.mydata.mydatatestbed.mock.bank;
+
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 테넌트 1개의 모의 은행 데이터셋 (생성 후 변경되지 않음)
+ *
+ * 여러 요청 스레드가 잠금 없이 동시에 읽음
+ */
+@Getter
+public class MockBankDataset {
+
+    /**
+     * 데이터 생성에 사용한 시드 (같은 테넌트 키 → 같은 시드 → 같은 데이터)
+     */
+    private final long seed;
+
+    /**
+     * 데이터셋 생성 시각 (yyyyMMddHHmmss) - 응답의 search_timestamp
+     */
+    private final long searchTimestamp;
+
+    /**
+     * 고객정보 최초생성일 (yyyyMMdd)
+     */
+    private final int regDate;
+
+    /**
+     * 은행-001 계좌 목록 (수신/펀드/대출, 계좌구분 → 계좌번호 오름차순)
+     */
+    private final List<MockBankAccount> accounts;
+
+    private final List<MockBankAccount> irps;
+    private final List<MockBankAccount> prepaids;
+
+    /**
+     * IRP-001 응답 본문 (페이지 없는 목록이므로 전체를 미리 직렬화)
+     */
+    private final byte[] irpListBody;
+
+    /**
+     * 자산 구분별 계좌번호 색인
+     */
+    private final Map<MockAccountCategory, Map<String, MockBankAccount>> index;
+
+    /**
+     * @param loanViews 마이너스통장의 대출 정보 (수신 계좌번호로 은행-008/009 조회 시 사용)
+     */
+    @Builder
+    private MockBankDataset(long seed, long searchTimestamp, int regDate,
+                            List<MockBankAccount> accounts, List<MockBankAccount> irps,
+                            List<MockBankAccount> prepaids, List<MockBankAccount> loanViews,
+                            byte[] irpListBody) {
+        this.seed = seed;
+        this.searchTimestamp = searchTimestamp;
+        this.regDate = regDate;
+        this.accounts = List.copyOf(accounts);
+        this.irps = List.copyOf(irps);
+        this.prepaids = List.copyOf(prepaids);
+        this.irpListBody = irpListBody;
+
+        Map<MockAccountCategory, Map<String, MockBankAccount>> index = new EnumMap<>(MockAccountCategory.class);
+        for (MockAccountCategory category : MockAccountCategory.values()) {
+            index.put(category, new HashMap<>());
+        }
+        for (List<MockBankAccount> group : List.of(accounts, irps, prepaids, loanViews)) {
+            for (MockBankAccount account : group) {
+                index.get(account.getCategory()).put(account.getAccountNum(), account);
+            }
+        }
+        this.index = index;
+    }
+
+    /**
+     * 자산 조회
+     *
+     * @throws MockApiException 해당 구분의 자산이 없으면 40402
+     */
+    public MockBankAccount find(MockAccountCategory category, String accountNum) {
+        MockBankAccount account = accountNum == null ? null : index.get(category).get(accountNum);
+        if (account == null) {
+            throw new MockApiException(MockRspCode.NOT_FOUND,
+                    category.getDisplayName() + " " + accountNum + "을(를) 찾을 수 없습니다.");
+        }
+        return account;
+    }
+}
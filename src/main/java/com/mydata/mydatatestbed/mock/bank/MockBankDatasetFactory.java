@@ -0,0 +1,801 @@
+package com.mydata.mydatatestbed.mock.bank;
+
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import com.mydata.mydatatestbed.mock.record.MockRecordLog;
+import com.mydata.mydatatestbed.mock.record.MockRecordSource;
+import com.mydata.mydatatestbed.mock.record.MockTransactionStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+import static com.mydata.mydatatestbed.mock.bank.MockBankFields.*;
+import static com.mydata.mydatatestbed.mock.common.MockApiResponder.RSP_CODE;
+import static com.mydata.mydatatestbed.mock.common.MockApiResponder.RSP_MSG;
+
+/**
+ * 모의 은행 데이터셋 생성기
+ *
+ * 테넌트 키에서 시드를 만들고 SplittableRandom으로 모든 값을 결정
+ * - 같은 테넌트 키 → 항상 같은 계좌번호/상품/거래내역 (서버 재시작 후에도 동일)
+ * - 계좌마다 split()한 난수 생성기를 사용 → 계좌 수 설정이 바뀌어도 앞 계좌의 데이터는 유지
+ *
+ * 금액은 원 단위 × 1000 (F(18,3) 소수 셋째 자리까지), 금리는 % × 100000 (F(7,5))로 계산
+ */
+@Component
+public class MockBankDatasetFactory {
+
+    private static final long MILLI = 1_000L;
+    private static final String KRW = "KRW";
+    private static final byte[] KRW_JSON = MockJsonWriter.encodeString(KRW);
+    private static final String REPAY_ORG_CODE_VALUE = "AA000001";
+
+    private static final String[] DEPOSIT_TYPES = {"1001", "1002", "1003"};
+    private static final String[] FUND_NAMES = {"글로벌 주식형 펀드", "국내 채권형 펀드", "TDF 2045 펀드", "배당성장 펀드"};
+    private static final String[] IRP_PRODUCT_NAMES = {"정기예금(IRP)", "원리금보장 ELB", "TDF 2050 펀드", "국내 채권형 펀드(IRP)"};
+    private static final String[] MERCHANTS = {"편의점", "카페", "온라인쇼핑몰", "대중교통", "서점", "베이커리"};
+
+    @Value("${mock.bank.transactions-per-account:120}")
+    private int transactionsPerAccount;
+
+    @Value("${mock.bank.deposit-weekly-transactions:3}")
+    private int depositWeeklyTransactions;
+
+    @Value("${mock.bank.history-days:365}")
+    private int historyDays;
+
+    @Value("${mock.bank.deposit-accounts:3}")
+    private int depositAccounts;
+
+    @Value("${mock.bank.invest-accounts:1}")
+    private int investAccounts;
+
+    @Value("${mock.bank.loan-accounts:2}")
+    private int loanAccounts;
+
+    @Value("${mock.bank.irp-accounts:1}")
+    private int irpAccounts;
+
+    @Value("${mock.bank.prepaid-cards:1}")
+    private int prepaidCards;
+
+    public MockBankDataset create(String tenantKey) {
+        long seed = seedOf(tenantKey);
+        SplittableRandom random = new SplittableRandom(seed);
+        Context context = new Context(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS), historyDays);
+
+        int regDate = date(context.now.toLocalDate().minusDays(historyDays + random.nextInt(365 * 5)));
+
+        List<MockBankAccount> accounts = new ArrayList<>();
+        List<MockBankAccount> loanViews = new ArrayList<>();
+        String salaryAccount = null;
+        for (int i = 0; i < depositAccounts; i++) {
+            String accountType = DEPOSIT_TYPES[i % DEPOSIT_TYPES.length];
+            boolean minus = accountType.equals("1001") && random.nextInt(4) == 0;
+            DepositResult result = deposit(random.split(), context, accountType, minus);
+            accounts.add(result.account());
+            if (result.loanView() != null) {
+                loanViews.add(result.loanView());
+            }
+            if (salaryAccount == null && accountType.equals("1001")) {
+                salaryAccount = result.account().getAccountNum();
+            }
+        }
+        for (int i = 0; i < investAccounts; i++) {
+            accounts.add(invest(random.split(), context));
+        }
+        for (int i = 0; i < loanAccounts; i++) {
+            accounts.add(loan(random.split(), context, i % 2 == 0 ? "3100" : "3200", salaryAccount));
+        }
+        accounts.sort(Comparator.comparing(MockBankAccount::getAccountType)
+                .thenComparing(MockBankAccount::getAccountNum));
+
+        List<MockBankAccount> irps = new ArrayList<>();
+        for (int i = 0; i < irpAccounts; i++) {
+            irps.add(irp(random.split(), context));
+        }
+
+        List<MockBankAccount> prepaids = new ArrayList<>();
+        for (int i = 0; i < prepaidCards; i++) {
+            prepaids.add(prepaid(random.split(), context, i));
+        }
+
+        return MockBankDataset.builder()
+                .seed(seed)
+                .searchTimestamp(context.searchTimestamp)
+                .regDate(regDate)
+                .accounts(accounts)
+                .irps(irps)
+                .prepaids(prepaids)
+                .loanViews(loanViews)
+                .irpListBody(irpListBody(context, irps))
+                .build();
+    }
+
+    /**
+     * 테넌트 키 → 64비트 시드 (FNV-1a 후 비트 섞기)
+     */
+    public static long seedOf(String tenantKey) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : tenantKey.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    // ==================== 수신계좌 ====================
+
+    private record DepositResult(MockBankAccount account, MockBankAccount loanView) {
+    }
+
+    private DepositResult deposit(SplittableRandom random, Context context, String accountType, boolean minus) {
+        String accountNum = context.accountNum(random, "110");
+        String prodName = switch (accountType) {
+            case "1001" -> minus ? "직장인 마이너스통장" : "MY 입출금통장";
+            case "1002" -> "스마트 정기예금";
+            default -> "자유적금";
+        };
+        long rate = switch (accountType) {
+            case "1001" -> 10_000L;                               // 0.1%
+            case "1002" -> 300_000L + random.nextInt(100) * 1_000L;  // 3.0 ~ 3.99%
+            default -> 350_000L + random.nextInt(100) * 1_000L;
+        };
+        LocalDateTime issued = context.historyStart.plusDays(random.nextInt(30));
+        LocalDate expDate = accountType.equals("1001") ? null : issued.toLocalDate().plusYears(accountType.equals("1002") ? 1 : 2);
+        long commitAmt = accountType.equals("1002") ? (1 + random.nextInt(50)) * 1_000_000L * MILLI : 0;
+        long monthlyAmt = accountType.equals("1003") ? (1 + random.nextInt(20)) * 50_000L * MILLI : 0;
+
+        MockJsonWriter writer = context.writer;
+        MockRecordSource transactions;
+        long balance;
+        int paidInCount = 0;
+
+        switch (accountType) {
+            case "1001" -> {
+                // 입출금: 거래내역을 저장하지 않고 조회 시점에 계산
+                long baseBalance = (100 + random.nextInt(5_000)) * 1_000L * MILLI;
+                MockDepositTransactionGenerator generator = new MockDepositTransactionGenerator(
+                        random.nextLong(), issued, context.now, baseBalance, depositWeeklyTransactions);
+                transactions = generator;
+                balance = generator.closingBalance();
+            }
+            case "1002" -> {
+                balance = commitAmt;
+                MockTransactionStore.Builder rows = depositRows();
+                depositRow(rows, dtime(issued), 1, "01", "인터넷뱅킹", commitAmt, balance, 0, "신규");
+                transactions = rows.build();
+            }
+            default -> {
+                MockTransactionStore.Builder rows = depositRows();
+                balance = 0;
+                for (LocalDateTime paidAt = issued; !paidAt.isAfter(context.now); paidAt = paidAt.plusMonths(1)) {
+                    balance += monthlyAmt;
+                    paidInCount++;
+                    depositRow(rows, dtime(paidAt), paidInCount, paidInCount == 1 ? "01" : "03",
+                            "자동이체", monthlyAmt, balance, paidInCount, "적금납입");
+                }
+                transactions = rows.build();
+            }
+        }
+
+        long finalBalance = balance;
+        int lastPaidInCount = paidInCount;
+        byte[] listEntry = object(writer, w -> w
+                .field(ACCOUNT_NUM).string(accountNum)
+                .field(IS_CONSENT).bool(true)
+                .field(IS_FOREIGN_DEPOSIT).bool(false)
+                .field(PROD_NAME).string(prodName)
+                .field(IS_MINUS).bool(minus)
+                .field(ACCOUNT_TYPE).string(accountType)
+                .field(ACCOUNT_STATUS).string("01"));
+
+        byte[] basicBody = body(context, w -> {
+            w.field(BASIC_CNT).number(1)
+                    .field(BASIC_LIST).beginArray().beginObject()
+                    .field(CURRENCY_CODE).string(KRW)
+                    .field(SAVING_METHOD).string(switch (accountType) {
+                        case "1001" -> "01";
+                        case "1002" -> "02";
+                        default -> "04";
+                    })
+                    .field(ISSUE_DATE).digits(date(issued.toLocalDate()), 8);
+            if (expDate != null) {
+                w.field(EXP_DATE).digits(date(expDate), 8);
+            }
+            if (commitAmt > 0) {
+                w.field(COMMIT_AMT).decimal(commitAmt, 3);
+            }
+            if (monthlyAmt > 0) {
+                w.field(MONTHLY_PAID_IN_AMT).decimal(monthlyAmt, 3);
+            }
+            w.endObject().endArray();
+        });
+
+        byte[] detailBody = body(context, w -> {
+            w.field(DETAIL_CNT).number(1)
+                    .field(DETAIL_LIST).beginArray().beginObject()
+                    .field(CURRENCY_CODE).string(KRW)
+                    .field(BALANCE_AMT).decimal(finalBalance, 3)
+                    .field(WITHDRAWABLE_AMT).decimal(accountType.equals("1001") ? finalBalance : 0, 3)
+                    .field(OFFERED_RATE).decimal(rate, 5);
+            if (lastPaidInCount > 0) {
+                w.field(LAST_PAID_IN_CNT).number(lastPaidInCount);
+            }
+            w.endObject().endArray();
+        });
+
+        MockBankAccount account = MockBankAccount.builder()
+                .category(MockAccountCategory.DEPOSIT)
+                .accountNum(accountNum)
+                .accountType(accountType)
+                .listEntry(listEntry)
+                .basicBody(basicBody)
+                .detailBody(detailBody)
+                .transactions(transactions)
+                .build();
+
+        // 마이너스통장: 같은 계좌번호로 대출 기본/추가정보 조회 가능 (거래내역은 은행-004로 조회)
+        MockBankAccount loanView = null;
+        if (minus) {
+            long limit = (10 + random.nextInt(50)) * 1_000_000L * MILLI;
+            long loanRate = 450_000L + random.nextInt(200) * 1_000L;
+            LocalDate loanExp = issued.toLocalDate().plusYears(1);
+            loanView = MockBankAccount.builder()
+                    .category(MockAccountCategory.LOAN)
+                    .accountNum(accountNum)
+                    .accountType(accountType)
+                    .basicBody(body(context, w -> w
+                            .field(ISSUE_DATE).digits(date(issued.toLocalDate()), 8)
+                            .field(EXP_DATE).digits(date(loanExp), 8)
+                            .field(LAST_OFFERED_RATE).decimal(loanRate, 5)
+                            .field(REPAY_METHOD).string("01")))
+                    .detailBody(body(context, w -> w
+                            .field(CURRENCY_CODE).string(KRW)
+                            .field(BALANCE_AMT).decimal(0, 3)
+                            .field(LOAN_PRINCIPAL).decimal(limit, 3)))
+                    .build();
+        }
+        return new DepositResult(account, loanView);
+    }
+
+    private static final int DEPOSIT_AMT = 0;
+    private static final int DEPOSIT_BALANCE = 1;
+    private static final int DEPOSIT_TRANS_NO = 2;
+    private static final int DEPOSIT_PAID_IN_CNT = 3;
+    private static final int DEPOSIT_TYPE = 0;
+    private static final int DEPOSIT_CLASS = 1;
+    private static final int DEPOSIT_MEMO = 2;
+
+    private static final MockTransactionStore.RowFormat DEPOSIT_FORMAT = (w, store, row) -> {
+        w.beginObject()
+                .field(TRANS_DTIME).digits(store.key(row), 14)
+                .field(TRANS_NO).numberString(store.value(DEPOSIT_TRANS_NO, row))
+                .field(TRANS_TYPE).raw(store.code(DEPOSIT_TYPE, row))
+                .field(TRANS_CLASS).raw(store.code(DEPOSIT_CLASS, row))
+                .field(CURRENCY_CODE).raw(KRW_JSON)
+                .field(TRANS_AMT).decimal(store.value(DEPOSIT_AMT, row), 3)
+                .field(BALANCE_AMT).decimal(store.value(DEPOSIT_BALANCE, row), 3);
+        long paidInCount = store.value(DEPOSIT_PAID_IN_CNT, row);
+        if (paidInCount != MockTransactionStore.ABSENT) {
+            w.field(PAID_IN_CNT).number(paidInCount);
+        }
+        w.field(TRANS_MEMO).raw(store.code(DEPOSIT_MEMO, row))
+                .endObject();
+    };
+
+    private static MockTransactionStore.Builder depositRows() {
+        return MockTransactionStore.builder(DEPOSIT_FORMAT, 4, 3);
+    }
+
+    private static void depositRow(MockTransactionStore.Builder rows, long time, int transNo, String transType,
+                                   String transClass, long amount, long balance, int paidInCount, String memo) {
+        rows.row(time)
+                .value(DEPOSIT_AMT, amount)
+                .value(DEPOSIT_BALANCE, balance)
+                .value(DEPOSIT_TRANS_NO, transNo)
+                .code(DEPOSIT_TYPE, transType)
+                .code(DEPOSIT_CLASS, transClass)
+                .code(DEPOSIT_MEMO, memo);
+        if (paidInCount > 0) {
+            rows.value(DEPOSIT_PAID_IN_CNT, paidInCount);
+        }
+    }
+
+    // ==================== 펀드상품계좌 ====================
+
+    private MockBankAccount invest(SplittableRandom random, Context context) {
+        String accountNum = context.accountNum(random, "220");
+        String prodName = FUND_NAMES[random.nextInt(FUND_NAMES.length)];
+        String fundCode = "KR5" + digits(random, 9);
+        LocalDateTime issued = context.historyStart.plusDays(random.nextInt(30));
+        long monthly = (1 + random.nextInt(10)) * 100_000L;  // 원
+
+        MockJsonWriter writer = context.writer;
+        MockTransactionStore.Builder transactions = MockTransactionStore.builder(INVEST_FORMAT, 4, 1);
+        long price = 1_000_000L + random.nextInt(500_000);   // 기준가 × 1000 (1000.000 ~ 1499.999)
+        long unitsMilli = 0;
+        long principal = 0;
+        int transNo = 0;
+        for (LocalDateTime paidAt = issued; !paidAt.isAfter(context.now); paidAt = paidAt.plusMonths(1)) {
+            price = Math.max(500_000L, price + random.nextInt(-30_000, 40_000));
+            price -= price % 10;  // 기준가는 소수 둘째 자리까지
+            long tradedUnits = monthly * 1_000_000_000L / price;
+            unitsMilli += tradedUnits;
+            principal += monthly * MILLI;
+            transNo++;
+            transactions.row(dtime(paidAt))
+                    .value(INVEST_BASE_AMT, price)
+                    .value(INVEST_FUND_NUM, tradedUnits)
+                    .value(INVEST_AMT, monthly * MILLI)
+                    .value(INVEST_BALANCE, principal)
+                    .code(INVEST_TYPE, transNo == 1 ? "01" : "02");
+        }
+
+        long finalPrincipal = principal;
+        long finalUnits = unitsMilli;
+        long evalAmt = unitsMilli * price / 1_000_000L;
+        byte[] listEntry = object(writer, w -> w
+                .field(ACCOUNT_NUM).string(accountNum)
+                .field(IS_CONSENT).bool(true)
+                .field(PROD_NAME).string(prodName)
+                .field(ACCOUNT_TYPE).string("2001")
+                .field(ACCOUNT_STATUS).string("01"));
+
+        return MockBankAccount.builder()
+                .category(MockAccountCategory.INVEST)
+                .accountNum(accountNum)
+                .accountType("2001")
+                .listEntry(listEntry)
+                .basicBody(body(context, w -> w
+                        .field(STANDARD_FUND_CODE).string(fundCode)
+                        .field(PAID_IN_TYPE).string("02")
+                        .field(ISSUE_DATE).digits(date(issued.toLocalDate()), 8)
+                        .field(EXP_DATE).digits(date(issued.toLocalDate().plusYears(3)), 8)))
+                .detailBody(body(context, w -> w
+                        .field(CURRENCY_CODE).string(KRW)
+                        .field(BALANCE_AMT).decimal(evalAmt, 3)
+                        .field(EVAL_AMT).decimal(evalAmt, 3)
+                        .field(INV_PRINCIPAL).decimal(finalPrincipal, 3)
+                        .field(FUND_NUM).decimal(finalUnits, 3)))
+                .transactions(transactions.build())
+                .build();
+    }
+
+    private static final int INVEST_BASE_AMT = 0;
+    private static final int INVEST_FUND_NUM = 1;
+    private static final int INVEST_AMT = 2;
+    private static final int INVEST_BALANCE = 3;
+    private static final int INVEST_TYPE = 0;
+
+    /**
+     * 거래번호는 거래일시를 그대로 사용
+     */
+    private static final MockTransactionStore.RowFormat INVEST_FORMAT = (w, store, row) -> w.beginObject()
+            .field(TRANS_DTIME).digits(store.key(row), 14)
+            .field(TRANS_NO).numberString(store.key(row))
+            .field(TRANS_TYPE).raw(store.code(INVEST_TYPE, row))
+            .field(CURRENCY_CODE).raw(KRW_JSON)
+            .field(BASE_AMT).decimal(store.value(INVEST_BASE_AMT, row), 3)
+            .field(TRANS_FUND_NUM).decimal(store.value(INVEST_FUND_NUM, row), 3)
+            .field(TRANS_AMT).decimal(store.value(INVEST_AMT, row), 3)
+            .field(BALANCE_AMT).decimal(store.value(INVEST_BALANCE, row), 3)
+            .endObject();
+
+    // ==================== 대출상품계좌 ====================
+
+    /**
+     * @param accountType 3100: 주택담보대출 (원금균등분할상환), 3200: 신용대출 (만기일시상환)
+     */
+    private MockBankAccount loan(SplittableRandom random, Context context, String accountType, String repayAccount) {
+        String accountNum = context.accountNum(random, "330");
+        boolean mortgage = accountType.equals("3100");
+        String prodName = mortgage ? "아파트 주택담보대출" : "직장인 신용대출";
+        long principal = (mortgage ? 100 + random.nextInt(300) : 5 + random.nextInt(45)) * 1_000_000L;  // 원
+        long rate = (mortgage ? 350_000L : 500_000L) + random.nextInt(150) * 1_000L;           // % × 100000
+        int termMonths = mortgage ? 360 : 12;
+        int repayDay = 1 + random.nextInt(28);
+        LocalDate issued = context.historyStart.toLocalDate().withDayOfMonth(repayDay);
+        LocalDate expDate = issued.plusMonths(termMonths);
+
+        MockJsonWriter writer = context.writer;
+        MockTransactionStore.Builder transactions = MockTransactionStore.builder(LOAN_FORMAT, 7, 1);
+        long balance = principal;
+        loanRow(transactions, dtime(issued.atTime(10, 0)), "01", principal, balance, 0, 0, null, null, rate);
+
+        LocalDate previous = issued;
+        LocalDate nextRepay = issued.plusMonths(1);
+        while (!nextRepay.isAfter(context.now.toLocalDate())) {
+            long interest = balance * rate / 100 / 100_000 / 12;
+            long principalPart = mortgage ? principal / termMonths : 0;
+            balance -= principalPart;
+            loanRow(transactions, dtime(nextRepay.atTime(9, 0)), "02", principalPart + interest, balance,
+                    principalPart, interest, previous, nextRepay.minusDays(1), rate);
+            previous = nextRepay;
+            nextRepay = nextRepay.plusMonths(1);
+        }
+
+        long finalBalance = balance;
+        LocalDate finalNextRepay = nextRepay;
+        byte[] listEntry = object(writer, w -> w
+                .field(ACCOUNT_NUM).string(accountNum)
+                .field(IS_CONSENT).bool(true)
+                .field(PROD_NAME).string(prodName)
+                .field(ACCOUNT_TYPE).string(accountType)
+                .field(ACCOUNT_STATUS).string("01"));
+
+        return MockBankAccount.builder()
+                .category(MockAccountCategory.LOAN)
+                .accountNum(accountNum)
+                .accountType(accountType)
+                .listEntry(listEntry)
+                .basicBody(body(context, w -> {
+                    w.field(ISSUE_DATE).digits(date(issued), 8)
+                            .field(EXP_DATE).digits(date(expDate), 8)
+                            .field(LAST_OFFERED_RATE).decimal(rate, 5)
+                            .field(REPAY_DATE).digits(repayDay, 2)
+                            .field(REPAY_METHOD).string(mortgage ? "02" : "01");
+                    if (repayAccount != null) {
+                        w.field(REPAY_ORG_CODE).string(REPAY_ORG_CODE_VALUE)
+                                .field(REPAY_ACCOUNT_NUM).string(repayAccount);
+                    }
+                }))
+                .detailBody(body(context, w -> w
+                        .field(CURRENCY_CODE).string(KRW)
+                        .field(BALANCE_AMT).decimal(finalBalance * MILLI, 3)
+                        .field(LOAN_PRINCIPAL).decimal(principal * MILLI, 3)
+                        .field(NEXT_REPAY_DATE).digits(date(finalNextRepay), 8)))
+                .transactions(transactions.build())
+                .build();
+    }
+
+    private static final int LOAN_AMT = 0;
+    private static final int LOAN_BALANCE = 1;
+    private static final int LOAN_PRINCIPAL_AMT = 2;
+    private static final int LOAN_INT_AMT = 3;
+    private static final int LOAN_INT_START = 4;
+    private static final int LOAN_INT_END = 5;
+    private static final int LOAN_INT_RATE = 6;
+    private static final int LOAN_TYPE = 0;
+
+    private static final byte[] INT_TYPE_NORMAL = MockJsonWriter.encodeString("01");
+
+    /**
+     * 이자 적용 기간이 있는 거래(상환)만 int_list 1건, 실행 거래는 빈 목록
+     */
+    private static final MockTransactionStore.RowFormat LOAN_FORMAT = (w, store, row) -> {
+        w.beginObject()
+                .field(TRANS_DTIME).digits(store.key(row), 14)
+                .field(TRANS_NO).numberString(store.key(row))
+                .field(TRANS_TYPE).raw(store.code(LOAN_TYPE, row))
+                .field(CURRENCY_CODE).raw(KRW_JSON)
+                .field(TRANS_AMT).decimal(store.value(LOAN_AMT, row), 3)
+                .field(BALANCE_AMT).decimal(store.value(LOAN_BALANCE, row), 3)
+                .field(PRINCIPAL_AMT).decimal(store.value(LOAN_PRINCIPAL_AMT, row), 3)
+                .field(INT_AMT).decimal(store.value(LOAN_INT_AMT, row), 3)
+                .field(RET_INT_AMT).decimal(0, 3);
+        long interestStart = store.value(LOAN_INT_START, row);
+        if (interestStart == MockTransactionStore.ABSENT) {
+            w.field(INT_CNT).number(0)
+                    .field(INT_LIST).beginArray().endArray()
+                    .endObject();
+            return;
+        }
+        w.field(INT_CNT).number(1)
+                .field(INT_LIST).beginArray().beginObject()
+                .field(INT_START_DATE).digits(interestStart, 8)
+                .field(INT_END_DATE).digits(store.value(LOAN_INT_END, row), 8)
+                .field(INT_RATE).decimal(store.value(LOAN_INT_RATE, row), 3)
+                .field(APPLIED_INT_AMT).decimal(store.value(LOAN_INT_AMT, row), 3)
+                .field(INT_TYPE).raw(INT_TYPE_NORMAL)
+                .endObject().endArray()
+                .endObject();
+    };
+
+    /**
+     * 대출 거래 1건 (금액은 원 단위로 받아 F(18,3)으로 기록, 거래번호는 거래일시)
+     */
+    private static void loanRow(MockTransactionStore.Builder rows, long time, String transType, long amount,
+                                long balance, long principalPart, long interest, LocalDate interestStart,
+                                LocalDate interestEnd, long rate) {
+        rows.row(time)
+                .value(LOAN_AMT, amount * MILLI)
+                .value(LOAN_BALANCE, balance * MILLI)
+                .value(LOAN_PRINCIPAL_AMT, principalPart * MILLI)
+                .value(LOAN_INT_AMT, interest * MILLI)
+                .code(LOAN_TYPE, transType);
+        if (interestStart != null) {
+            rows.value(LOAN_INT_START, date(interestStart))
+                    .value(LOAN_INT_END, date(interestEnd))
+                    .value(LOAN_INT_RATE, rate / 100);
+        }
+    }
+
+    // ==================== 개인형 IRP ====================
+
+    private MockBankAccount irp(SplittableRandom random, Context context) {
+        String accountNum = context.accountNum(random, "440");
+        LocalDate issued = context.historyStart.toLocalDate().plusDays(random.nextInt(30));
+        long monthlyEmployee = (1 + random.nextInt(5)) * 100_000L;
+        long monthlyEmployer = random.nextBoolean() ? (1 + random.nextInt(3)) * 100_000L : 0;
+
+        MockJsonWriter writer = context.writer;
+        MockTransactionStore.Builder transactions = MockTransactionStore.builder(IRP_FORMAT, 1, 1);
+        long employee = 0;
+        long employer = 0;
+        int transNo = 0;
+        for (LocalDate paidAt = issued; !paidAt.isAfter(context.now.toLocalDate()); paidAt = paidAt.plusMonths(1)) {
+            employee += monthlyEmployee;
+            employer += monthlyEmployer;
+            // 거래일자만 있는 API이므로 일자 + 순번을 정렬 키로 사용
+            transactions.row(date(paidAt) * 1_000_000L + ++transNo)
+                    .value(IRP_AMT, monthlyEmployee + monthlyEmployer)
+                    .code(IRP_TRANS_TYPE, "01");
+        }
+
+        long accum = employee + employer;
+        long eval = accum + accum * random.nextInt(-5, 15) / 100;
+        MockRecordLog.Builder products = MockRecordLog.builder();
+        int productCount = 1 + random.nextInt(IRP_PRODUCT_NAMES.length);
+        for (int i = 0; i < productCount; i++) {
+            String name = IRP_PRODUCT_NAMES[i];
+            String irpNo = "P" + digits(random, 11);
+            boolean guaranteed = i < 2;
+            long share = eval / productCount;
+            long rate = guaranteed ? 3_000 + random.nextInt(1_500) : 0;   // % × 1000 (F(5,3))
+            products.add(i, object(writer, w -> {
+                w.field(IRP_NAME).string(name)
+                        .field(IRP_NO).string(irpNo)
+                        .field(IRP_TYPE).string(guaranteed ? "01" : "02")
+                        .field(EVAL_AMT).decimal(share * MILLI, 3)
+                        .field(INV_PRINCIPAL).decimal(accum / productCount * MILLI, 3)
+                        .field(FUND_NUM).decimal(guaranteed ? 0 : share * MILLI, 3)
+                        .field(OPEN_DATE).digits(date(issued), 8)
+                        .field(EXP_DATE).digits(date(issued.plusYears(guaranteed ? 1 : 10)), 8);
+                if (guaranteed) {
+                    w.field(INT_RATE).decimal(rate, 3);
+                }
+            }));
+        }
+
+        long finalEmployee = employee;
+        long finalEmployer = employer;
+        return MockBankAccount.builder()
+                .category(MockAccountCategory.IRP)
+                .accountNum(accountNum)
+                .accountType("IRP")
+                .listEntry(object(writer, w -> w
+                        .field(PROD_NAME).string("개인형 IRP")
+                        .field(ACCOUNT_NUM).string(accountNum)
+                        .field(IS_CONSENT).bool(true)))
+                .basicBody(body(context, w -> w
+                        .field(ACCUM_AMT).decimal(accum * MILLI, 3)
+                        .field(EVAL_AMT).decimal(eval * MILLI, 3)
+                        .field(EMPLOYER_AMT).decimal(finalEmployer * MILLI, 3)
+                        .field(EMPLOYEE_AMT).decimal(finalEmployee * MILLI, 3)
+                        .field(ISSUE_DATE).digits(date(issued), 8)
+                        .field(FIRST_DEPOSIT_DATE).digits(date(issued), 8)))
+                .transactions(transactions.build())
+                .items(products.build())
+                .build();
+    }
+
+    private static final int IRP_AMT = 0;
+    private static final int IRP_TRANS_TYPE = 0;
+
+    /**
+     * 키 = 거래일자 × 1000000 + 순번 → trans_dtime은 일자(DATE), trans_no는 순번
+     */
+    private static final MockTransactionStore.RowFormat IRP_FORMAT = (w, store, row) -> w.beginObject()
+            .field(TRANS_DTIME).digits(store.key(row) / 1_000_000L, 8)
+            .field(TRANS_NO).numberString(store.key(row) % 1_000_000L)
+            .field(TRANS_TYPE).raw(store.code(IRP_TRANS_TYPE, row))
+            .field(TRANS_AMT).number(store.value(IRP_AMT, row))
+            .endObject();
+
+    private byte[] irpListBody(Context context, List<MockBankAccount> irps) {
+        return body(context, w -> {
+            w.field(IRP_CNT).number(irps.size())
+                    .field(IRP_LIST).beginArray();
+            for (MockBankAccount irp : irps) {
+                w.raw(irp.getListEntry());
+            }
+            w.endArray();
+        });
+    }
+
+    // ==================== 선불카드 ====================
+
+    private MockBankAccount prepaid(SplittableRandom random, Context context, int index) {
+        String ppId = "PP" + digits(random, 14);
+        String ppName = index == 0 ? "MY 페이 선불카드" : "MY 페이 선불카드 " + (index + 1);
+        LocalDate regDate = context.historyStart.toLocalDate().minusDays(random.nextInt(365));
+
+        MockJsonWriter writer = context.writer;
+        MockTransactionStore.Builder transactions = MockTransactionStore.builder(PREPAID_FORMAT, 2, 1);
+        MockTransactionStore.Builder approvals = MockTransactionStore.builder(APPROVAL_FORMAT, 3, 2);
+        long balance = 0;
+        long reserve = 0;
+        long[] times = context.randomTimes(random, transactionsPerAccount);
+        for (int i = 0; i < times.length; i++) {
+            long time = times[i];
+            if (balance < 10_000 || random.nextInt(3) == 0) {
+                // 충전 (5201) 또는 적립 (5301)
+                boolean charge = random.nextInt(5) != 0;
+                long amount = charge ? (1 + random.nextInt(10)) * 10_000L : (1 + random.nextInt(50)) * 10L;
+                if (charge) {
+                    balance += amount;
+                } else {
+                    reserve += amount;
+                }
+                transactions.row(time)
+                        .value(PREPAID_AMT, amount)
+                        .value(PREPAID_BALANCE, (balance + reserve) * MILLI)
+                        .code(PREPAID_TYPE, charge ? "5201" : "5301");
+            } else {
+                // 결제 → 승인내역 (선불-004)
+                long amount = Math.min(balance, (1 + random.nextInt(300)) * 100L);
+                balance -= amount;
+                approvals.row(time)
+                        .value(APPROVAL_AMT, amount)
+                        .value(APPROVAL_NUM, random.nextLong(100_000_000L))
+                        .value(APPROVAL_MERCHANT_REGNO, random.nextLong(10_000_000_000L))
+                        .code(APPROVAL_STATUS, "01")
+                        .code(APPROVAL_MERCHANT, MERCHANTS[random.nextInt(MERCHANTS.length)]);
+            }
+        }
+
+        long charged = balance;
+        long reserved = reserve;
+        return MockBankAccount.builder()
+                .category(MockAccountCategory.PREPAID)
+                .accountNum(ppId)
+                .accountType("PREPAID")
+                .listEntry(object(writer, w -> w
+                        .field(PP_ID).string(ppId)
+                        .field(PP_NAME).string(ppName)
+                        .field(IS_CONSENT).bool(true)
+                        .field(REG_DATE).digits(date(regDate), 8)
+                        .field(LIMIT_AMT).number(200)))
+                .basicBody(body(context, w -> w
+                        .field(TOTAL_BALANCE_AMT).decimal((charged + reserved) * MILLI, 3)
+                        .field(CHARGE_BALANCE_AMT).decimal(charged * MILLI, 3)
+                        .field(RESERVE_BALANCE_AMT).decimal(reserved * MILLI, 3)
+                        .field(RESERVE_DUE_AMT).decimal(0, 3)
+                        .field(EXP_DUE_AMT).decimal(0, 3)))
+                .transactions(transactions.build())
+                .items(approvals.build())
+                .build();
+    }
+
+    private static final int PREPAID_AMT = 0;
+    private static final int PREPAID_BALANCE = 1;
+    private static final int PREPAID_TYPE = 0;
+
+    /**
+     * 거래번호는 선불카드 안에서의 일련번호 (행 번호 + 1)
+     */
+    private static final MockTransactionStore.RowFormat PREPAID_FORMAT = (w, store, row) -> w.beginObject()
+            .field(TRANS_TYPE).raw(store.code(PREPAID_TYPE, row))
+            .field(TRANS_DTIME).digits(store.key(row), 14)
+            .field(TRANS_NO).numberString(row + 1)
+            .field(TRANS_AMT).number(store.value(PREPAID_AMT, row))
+            .field(BALANCE_AMT).decimal(store.value(PREPAID_BALANCE, row), 3)
+            .endObject();
+
+    private static final int APPROVAL_AMT = 0;
+    private static final int APPROVAL_NUM = 1;
+    private static final int APPROVAL_MERCHANT_REGNO = 2;
+    private static final int APPROVAL_STATUS = 0;
+    private static final int APPROVAL_MERCHANT = 1;
+
+    private static final MockTransactionStore.RowFormat APPROVAL_FORMAT = (w, store, row) -> w.beginObject()
+            .field(APPROVED_NUM).digits(store.value(APPROVAL_NUM, row), 8)
+            .field(APPROVED_DTIME).digits(store.key(row), 14)
+            .field(STATUS).raw(store.code(APPROVAL_STATUS, row))
+            .field(TRANS_DTIME).digits(store.key(row), 14)
+            .field(MERCHANT_NAME).raw(store.code(APPROVAL_MERCHANT, row))
+            .field(MERCHANT_REGNO).digits(store.value(APPROVAL_MERCHANT_REGNO, row), 10)
+            .field(APPROVED_AMT).number(store.value(APPROVAL_AMT, row))
+            .endObject();
+
+    // ==================== 공통 ====================
+
+    /**
+     * 미리 직렬화한 성공 응답 본문 (rsp_code, rsp_msg, search_timestamp + 지정한 필드)
+     */
+    private byte[] body(Context context, Consumer<MockJsonWriter> fields) {
+        MockJsonWriter writer = context.writer.reset()
+                .beginObject()
+                .field(RSP_CODE).raw(MockRspCode.SUCCESS.getEncodedCode())
+                .field(RSP_MSG).raw(MockRspCode.SUCCESS.getEncodedMessage())
+                .field(SEARCH_TIMESTAMP).number(context.searchTimestamp);
+        fields.accept(writer);
+        return writer.endObject().toByteArray();
+    }
+
+    private byte[] object(MockJsonWriter writer, Consumer<MockJsonWriter> fields) {
+        writer.reset().beginObject();
+        fields.accept(writer);
+        return writer.endObject().toByteArray();
+    }
+
+    private static String digits(SplittableRandom random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('0' + random.nextInt(10));
+        }
+        return new String(chars);
+    }
+
+    static int date(LocalDate date) {
+        return date.getYear() * 10_000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    static long dtime(LocalDateTime time) {
+        return date(time.toLocalDate()) * 1_000_000L
+                + time.getHour() * 10_000L + time.getMinute() * 100L + time.getSecond();
+    }
+
+    /**
+     * 데이터셋 1개를 생성하는 동안 공유하는 상태
+     */
+    private static final class Context {
+
+        private final LocalDateTime now;
+        private final LocalDateTime historyStart;
+        private final long searchTimestamp;
+        private final long historySeconds;
+        private final MockJsonWriter writer = new MockJsonWriter(1024);
+        private final Set<String> accountNums = new HashSet<>();
+
+        private Context(LocalDateTime now, int historyDays) {
+            this.now = now;
+            this.historyStart = now.minusDays(historyDays);
+            this.searchTimestamp = dtime(now);
+            this.historySeconds = historyDays * 86_400L;
+        }
+
+        /**
+         * 조회 기간 안의 임의 시각 count개 (오름차순, yyyyMMddHHmmss)
+         */
+        private long[] randomTimes(SplittableRandom random, int count) {
+            long[] offsets = new long[count];
+            for (int i = 0; i < count; i++) {
+                offsets[i] = random.nextLong(historySeconds);
+            }
+            Arrays.sort(offsets);
+            long[] times = new long[count];
+            for (int i = 0; i < count; i++) {
+                times[i] = dtime(historyStart.plusSeconds(offsets[i]));
+            }
+            return times;
+        }
+
+        /**
+         * 데이터셋 안에서 중복되지 않는 계좌번호 (prefix + 9자리)
+         */
+        private String accountNum(SplittableRandom random, String prefix) {
+            String accountNum;
+            do {
+                accountNum = prefix + digits(random, 9);
+            } while (!accountNums.add(accountNum));
+            return accountNum;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.mydata.mydatatestbed.mock.bank;
+
+import static com.mydata.mydatatestbed.mock.common.MockJsonWriter.key;
+
+/**
+ * 은행 업권 정보제공 API 필드명 (미리 인코딩한 JSON 키)
+ */
+final class MockBankFields {
+
+    private MockBankFields() {
+    }
+
+    // 공통
+    static final byte[] SEARCH_TIMESTAMP = key("search_timestamp");
+    static final byte[] REG_DATE = key("reg_date");
+    static final byte[] NEXT_PAGE = key("next_page");
+    static final byte[] CURRENCY_CODE = key("currency_code");
+    static final byte[] IS_CONSENT = key("is_consent");
+    static final byte[] ISSUE_DATE = key("issue_date");
+    static final byte[] EXP_DATE = key("exp_date");
+    static final byte[] BALANCE_AMT = key("balance_amt");
+    static final byte[] EVAL_AMT = key("eval_amt");
+    static final byte[] INV_PRINCIPAL = key("inv_principal");
+    static final byte[] FUND_NUM = key("fund_num");
+    static final byte[] PRINCIPAL_AMT = key("principal_amt");
+
+    // 계좌 목록 (은행-001)
+    static final byte[] ACCOUNT_CNT = key("account_cnt");
+    static final byte[] ACCOUNT_LIST = key("account_list");
+    static final byte[] ACCOUNT_NUM = key("account_num");
+    static final byte[] SEQNO = key("seqno");
+    static final byte[] IS_FOREIGN_DEPOSIT = key("is_foreign_deposit");
+    static final byte[] PROD_NAME = key("prod_name");
+    static final byte[] IS_MINUS = key("is_minus");
+    static final byte[] ACCOUNT_TYPE = key("account_type");
+    static final byte[] ACCOUNT_STATUS = key("account_status");
+
+    // 수신계좌 (은행-002~004)
+    static final byte[] BASIC_CNT = key("basic_cnt");
+    static final byte[] BASIC_LIST = key("basic_list");
+    static final byte[] SAVING_METHOD = key("saving_method");
+    static final byte[] COMMIT_AMT = key("commit_amt");
+    static final byte[] MONTHLY_PAID_IN_AMT = key("monthly_paid_in_amt");
+    static final byte[] DETAIL_CNT = key("detail_cnt");
+    static final byte[] DETAIL_LIST = key("detail_list");
+    static final byte[] WITHDRAWABLE_AMT = key("withdrawable_amt");
+    static final byte[] OFFERED_RATE = key("offered_rate");
+    static final byte[] LAST_PAID_IN_CNT = key("last_paid_in_cnt");
+
+    // 거래내역 공통
+    static final byte[] TRANS_CNT = key("trans_cnt");
+    static final byte[] TRANS_LIST = key("trans_list");
+    static final byte[] TRANS_DTIME = key("trans_dtime");
+    static final byte[] TRANS_NO = key("trans_no");
+    static final byte[] TRANS_TYPE = key("trans_type");
+    static final byte[] TRANS_CLASS = key("trans_class");
+    static final byte[] TRANS_AMT = key("trans_amt");
+    static final byte[] PAID_IN_CNT = key("paid_in_cnt");
+    static final byte[] TRANS_MEMO = key("trans_memo");
+
+    // 펀드상품계좌 (은행-005~007)
+    static final byte[] STANDARD_FUND_CODE = key("standard_fund_code");
+    static final byte[] PAID_IN_TYPE = key("paid_in_type");
+    static final byte[] BASE_AMT = key("base_amt");
+    static final byte[] TRANS_FUND_NUM = key("trans_fund_num");
+
+    // 대출상품계좌 (은행-008~010)
+    static final byte[] LAST_OFFERED_RATE = key("last_offered_rate");
+    static final byte[] REPAY_DATE = key("repay_date");
+    static final byte[] REPAY_METHOD = key("repay_method");
+    static final byte[] REPAY_ORG_CODE = key("repay_org_code");
+    static final byte[] REPAY_ACCOUNT_NUM = key("repay_account_num");
+    static final byte[] LOAN_PRINCIPAL = key("loan_principal");
+    static final byte[] NEXT_REPAY_DATE = key("next_repay_date");
+    static final byte[] INT_AMT = key("int_amt");
+    static final byte[] RET_INT_AMT = key("ret_int_amt");
+    static final byte[] INT_CNT = key("int_cnt");
+    static final byte[] INT_LIST = key("int_list");
+    static final byte[] INT_START_DATE = key("int_start_date");
+    static final byte[] INT_END_DATE = key("int_end_date");
+    static final byte[] INT_RATE = key("int_rate");
+    static final byte[] APPLIED_INT_AMT = key("applied_int_amt");
+    static final byte[] INT_TYPE = key("int_type");
+
+    // 개인형 IRP (IRP-001~004)
+    static final byte[] IRP_CNT = key("irp_cnt");
+    static final byte[] IRP_LIST = key("irp_list");
+    static final byte[] ACCUM_AMT = key("accum_amt");
+    static final byte[] EMPLOYER_AMT = key("employer_amt");
+    static final byte[] EMPLOYEE_AMT = key("employee_amt");
+    static final byte[] FIRST_DEPOSIT_DATE = key("first_deposit_date");
+    static final byte[] IRP_NAME = key("irp_name");
+    static final byte[] IRP_NO = key("irp_no");
+    static final byte[] IRP_TYPE = key("irp_type");
+    static final byte[] OPEN_DATE = key("open_date");
+
+    // 선불카드 (선불-001~004)
+    static final byte[] PP_CNT = key("pp_cnt");
+    static final byte[] PP_LIST = key("pp_list");
+    static final byte[] PP_ID = key("pp_id");
+    static final byte[] PP_NAME = key("pp_name");
+    static final byte[] LIMIT_AMT = key("limit_amt");
+    static final byte[] TOTAL_BALANCE_AMT = key("total_balance_amt");
+    static final byte[] CHARGE_BALANCE_AMT = key("charge_balance_amt");
+    static final byte[] RESERVE_BALANCE_AMT = key("reserve_balance_amt");
+    static final byte[] RESERVE_DUE_AMT = key("reserve_due_amt");
+    static final byte[] EXP_DUE_AMT = key("exp_due_amt");
+    static final byte[] TRANS_ORG_CODE = key("trans_org_code");
+    static final byte[] TRANS_ID = key("trans_id");
+    static final byte[] APPROVED_CNT = key("approved_cnt");
+    static final byte[] APPROVED_LIST = key("approved_list");
+    static final byte[] APPROVED_NUM = key("approved_num");
+    static final byte[] APPROVED_DTIME = key("approved_dtime");
+    static final byte[] STATUS = key("status");
+    static final byte[] MERCHANT_NAME = key("merchant_name");
+    static final byte[] MERCHANT_REGNO = key("merchant_regno");
+    static final byte[] APPROVED_AMT = key("approved_amt");
+
+    // 전송요구 내역 (정보제공-공통-002)
+    static final byte[] IS_SCHEDULED = key("is_scheduled");
+    static final byte[] FND_CYCLE = key("fnd_cycle");
+    static final byte[] ADD_CYCLE = key("add_cycle");
+    static final byte[] END_DATE = key("end_date");
+    static final byte[] PURPOSE = key("purpose");
+    static final byte[] PERIOD = key("period");
+    static final byte[] IS_CONSENT_TRANS_MEMO = key("is_consent_trans_memo");
+    static final byte[] IS_CONSENT_MERCHANT_NAME_REGNO = key("is_consent_merchant_name_regno");
+}
@@ -0,0 +1,30 @@
+package com.mydata.mydatatestbed.mock.bank;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 은행 업권 POST API 공통 요청 본문
+ *
+ * API마다 사용하는 필드만 다르고 이름/형식은 같으므로 하나의 DTO로 받음
+ * (org_code, account_num, seqno, pp_id, search_timestamp, from_date, to_date, next_page, limit)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class MockBankRequest {
+
+    private String orgCode;
+    private String accountNum;
+    private String seqno;
+    private String ppId;
+    private Long searchTimestamp;
+    private String fromDate;
+    private String toDate;
+    private String nextPage;
+    private Integer limit;
+}
@@ -0,0 +1,321 @@
+package com.mydata.mydatatestbed.mock.bank;
+
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+import com.mydata.mydatatestbed.mock.record.MockRecordPage;
+import com.mydata.mydatatestbed.mock.record.MockRecordSource;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static com.mydata.mydatatestbed.mock.bank.MockBankFields.*;
+
+/**
+ * 입출금계좌(1001) 거래내역 생성기
+ *
+ * 거래내역을 저장하지 않고 (계좌 시드, 조회 기간)만으로 조회 시점에 계산
+ * - 계좌당 보관하는 상태는 시드/개설일시/기준시각/기준잔액뿐 (기간이 50년이어도 메모리 사용량 동일)
+ * - 같은 요청 → 항상 같은 거래내역 (페이지를 어느 순서로 조회해도 결과 동일)
+ *
+ * 주(월요일 0시 ~ 일요일 24시) 단위로 독립 계산:
+ * - 주마다 (계좌 시드, 주 번호)로 SplittableRandom을 만들어 거래 건수/시각/금액을 결정
+ * - 주 시작 잔액 opening(w)는 (시드, 주 번호)의 해시로 바로 계산 → 앞 주를 계산할 필요 없음
+ * - 주의 마지막 거래 금액은 다음 주 시작 잔액에 맞춰 결정 → 주 경계에서도 잔액이 이어짐
+ *
+ * 조회 비용은 조회 기간이 아니라 응답 건수에 비례 (limit 건을 채우면 중단)
+ * 응답은 거래일시 내림차순, 커서(next_page)는 다음 페이지 첫 거래의 거래일시 (yyyyMMddHHmmss)
+ */
+public final class MockDepositTransactionGenerator implements MockRecordSource {
+
+    private static final long MILLI = 1_000L;
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final long SECONDS_PER_WEEK = 7 * SECONDS_PER_DAY;
+
+    /**
+     * 1970-01-05 (월요일) 0시 → 주 번호 0의 시작
+     */
+    private static final long WEEK_ORIGIN = 4 * SECONDS_PER_DAY;
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private static final byte[] KRW = MockJsonWriter.encodeString("KRW");
+    private static final byte[] TYPE_OPEN = MockJsonWriter.encodeString("01");
+    private static final byte[] TYPE_WITHDRAW = MockJsonWriter.encodeString("02");
+    private static final byte[] TYPE_DEPOSIT = MockJsonWriter.encodeString("03");
+    private static final byte[][] TRANS_CLASSES = encode("인터넷뱅킹", "모바일뱅킹", "ATM", "창구", "자동이체");
+    private static final byte[][] TRANS_MEMOS = encode("급여", "카드대금", "관리비", "통신요금", "이체", "편의점", "보험료", "용돈");
+    private static final byte[] MEMO_OPEN = MockJsonWriter.encodeString("신규");
+
+    private final long seed;
+    private final long startSecond;
+    private final long endSecond;
+    private final long firstWeek;
+    private final long baseBalance;
+    private final int maxPerWeek;
+
+    /**
+     * @param seed               계좌별 시드
+     * @param opened             계좌 개설일시 (첫 거래 이후 시각)
+     * @param until              데이터셋 기준시각 (이후 거래는 조회되지 않음)
+     * @param baseBalance        주 시작 잔액의 하한 (원 × 1000)
+     * @param weeklyTransactions 주당 평균 거래 건수 (1 ~ 49)
+     */
+    public MockDepositTransactionGenerator(long seed, LocalDateTime opened, LocalDateTime until,
+                                           long baseBalance, int weeklyTransactions) {
+        if (weeklyTransactions < 1 || weeklyTransactions > 49) {
+            throw new IllegalArgumentException("주당 거래 건수는 1~49 사이여야 합니다.");
+        }
+        this.seed = seed;
+        this.startSecond = opened.toEpochSecond(ZoneOffset.UTC);
+        this.endSecond = until.toEpochSecond(ZoneOffset.UTC);
+        this.firstWeek = weekOf(startSecond);
+        this.baseBalance = baseBalance;
+        this.maxPerWeek = weeklyTransactions * 2 - 1;
+    }
+
+    @Override
+    public void page(long fromKey, long toKey, String cursor, int limit, MockRecordPage page) {
+        long endKey = toKey;
+        if (cursor != null && !cursor.isEmpty()) {
+            endKey = parseCursor(cursor);
+            if (endKey < fromKey || endKey > toKey) {
+                throw MockRecordPage.invalidCursor();
+            }
+        }
+        long from = Math.max(toEpochSecond(fromKey), startSecond);
+        long to = Math.min(toEpochSecond(endKey), endSecond);
+
+        // 최신 거래부터 (거래일시 내림차순): 마지막 주부터 거꾸로 계산
+        Week week = new Week(maxPerWeek);
+        String nextPage = null;
+        int count = 0;
+        for (long w = weekOf(to); w >= weekOf(from) && nextPage == null && from <= to; w--) {
+            generate(w, week);
+            for (int i = week.size - 1; i >= 0; i--) {
+                long time = week.times[i];
+                if (time > to) {
+                    continue;
+                }
+                if (time < from) {
+                    break;
+                }
+                if (count == limit) {
+                    nextPage = Long.toString(dtime(time));
+                    break;
+                }
+                write(page.writer(), w, i, week);
+                page.added();
+                count++;
+            }
+        }
+        page.end(nextPage);
+    }
+
+    /**
+     * 기준시각 현재 잔액 (원 × 1000)
+     */
+    public long closingBalance() {
+        long w = weekOf(endSecond);
+        if (w < firstWeek) {
+            return 0;
+        }
+        Week week = new Week(maxPerWeek);
+        generate(w, week);
+        long balance = opening(w);
+        for (int i = 0; i < week.size && week.times[i] <= endSecond; i++) {
+            balance = week.balances[i];
+        }
+        return balance;
+    }
+
+    // ==================== 주 단위 계산 ====================
+
+    /**
+     * 주 w의 거래를 시각 오름차순으로 계산
+     */
+    private void generate(long w, Week week) {
+        week.size = 0;
+        if (w < firstWeek) {
+            return;
+        }
+        SplittableRandom random = new SplittableRandom(mix(seed + w * GOLDEN_GAMMA));
+        long weekStart = WEEK_ORIGIN + w * SECONDS_PER_WEEK;
+        long minOffset = w == firstWeek ? startSecond - weekStart : 0;
+        long remaining = SECONDS_PER_WEEK - minOffset;
+        int count = (int) Math.min(1 + random.nextInt(maxPerWeek), remaining);
+        long span = remaining - count + 1;
+
+        // 서로 다른 시각: [0, span) 난수를 정렬한 뒤 i초씩 밀어서 중복 제거
+        long[] times = week.times;
+        for (int i = 0; i < count; i++) {
+            times[i] = random.nextLong(span);
+        }
+        Arrays.sort(times, 0, count);
+        for (int i = 0; i < count; i++) {
+            times[i] = weekStart + minOffset + times[i] + i;
+        }
+
+        long balance = opening(w);
+        long closing = opening(w + 1);
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            long amount;
+            boolean deposit;
+            if (i < count - 1) {
+                amount = (1 + random.nextInt(50_000)) * 10L * MILLI;
+                deposit = random.nextInt(100) < 45 || amount > balance;
+            } else {
+                // 마지막 거래: 다음 주 시작 잔액과 맞춤
+                long diff = closing - balance;
+                amount = Math.abs(diff);
+                deposit = diff >= 0;
+            }
+            int transClass = random.nextInt(TRANS_CLASSES.length);
+            int memo = random.nextInt(TRANS_MEMOS.length);
+            if (amount == 0) {
+                continue;
+            }
+            balance += deposit ? amount : -amount;
+            times[size] = times[i];
+            week.amounts[size] = amount;
+            week.balances[size] = balance;
+            week.types[size] = w == firstWeek && size == 0 ? 0 : deposit ? 2 : 1;
+            week.classes[size] = transClass;
+            week.memos[size] = memo;
+            week.ordinals[size] = i + 1;
+            size++;
+        }
+        week.size = size;
+    }
+
+    /**
+     * 주 w 시작 시점 잔액 (첫 주는 0, 이후는 [기준잔액, 기준잔액 × 2) 구간에서 10원 단위)
+     */
+    private long opening(long w) {
+        if (w <= firstWeek) {
+            return 0;
+        }
+        long unit = 10L * MILLI;
+        long swing = Math.max(baseBalance / unit, 1);
+        return (baseBalance / unit + Math.floorMod(mix(seed ^ (w * GOLDEN_GAMMA)), swing)) * unit;
+    }
+
+    private void write(MockJsonWriter writer, long w, int i, Week week) {
+        int type = week.types[i];
+        writer.beginObject()
+                .field(TRANS_DTIME).digits(dtime(week.times[i]), 14)
+                .field(TRANS_NO).digits(w * 100 + week.ordinals[i], 8)
+                .field(TRANS_TYPE).raw(type == 0 ? TYPE_OPEN : type == 2 ? TYPE_DEPOSIT : TYPE_WITHDRAW)
+                .field(TRANS_CLASS).raw(TRANS_CLASSES[week.classes[i]])
+                .field(CURRENCY_CODE).raw(KRW)
+                .field(TRANS_AMT).decimal(week.amounts[i], 3)
+                .field(BALANCE_AMT).decimal(week.balances[i], 3)
+                .field(TRANS_MEMO).raw(type == 0 ? MEMO_OPEN : TRANS_MEMOS[week.memos[i]])
+                .endObject();
+    }
+
+    /**
+     * 주 1개 계산용 작업 공간 (page() 호출마다 1개 생성해 주마다 재사용)
+     */
+    private static final class Week {
+
+        private final long[] times;
+        private final long[] amounts;
+        private final long[] balances;
+        private final int[] types;
+        private final int[] classes;
+        private final int[] memos;
+        private final int[] ordinals;
+        private int size;
+
+        private Week(int capacity) {
+            times = new long[capacity];
+            amounts = new long[capacity];
+            balances = new long[capacity];
+            types = new int[capacity];
+            classes = new int[capacity];
+            memos = new int[capacity];
+            ordinals = new int[capacity];
+        }
+    }
+
+    // ==================== 시각 변환 ====================
+
+    private static long weekOf(long epochSecond) {
+        return Math.floorDiv(epochSecond - WEEK_ORIGIN, SECONDS_PER_WEEK);
+    }
+
+    /**
+     * yyyyMMddHHmmss → epoch 초 (시각 부분이 235959를 넘으면 그날 23:59:59로 처리)
+     */
+    static long toEpochSecond(long dtime) {
+        long date = dtime / 1_000_000L;
+        long time = Math.min(dtime % 1_000_000L, 235_959L);
+        long days = daysFromCivil((int) (date / 10_000), (int) (date / 100 % 100), (int) (date % 100));
+        return days * SECONDS_PER_DAY + time / 10_000 * 3_600 + time / 100 % 100 * 60 + time % 100;
+    }
+
+    /**
+     * epoch 초 → yyyyMMddHHmmss (LocalDateTime 생성 없이 계산)
+     */
+    static long dtime(long epochSecond) {
+        long days = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        long seconds = Math.floorMod(epochSecond, SECONDS_PER_DAY);
+
+        // days → 연/월/일 (그레고리력, 3월 시작 연도 기준으로 계산)
+        long z = days + 719_468;
+        long era = Math.floorDiv(z, 146_097);
+        long doe = z - era * 146_097;
+        long yoe = (doe - doe / 1_460 + doe / 36_524 - doe / 146_096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        long day = doy - (153 * mp + 2) / 5 + 1;
+        long month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+
+        long time = seconds / 3_600 * 10_000 + seconds / 60 % 60 * 100 + seconds % 60;
+        return (year * 10_000 + month * 100 + day) * 1_000_000L + time;
+    }
+
+    private static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yoe = y - era * 400;
+        long doy = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146_097 + doe - 719_468;
+    }
+
+    private static long parseCursor(String cursor) {
+        if (cursor.length() != 14) {
+            throw MockRecordPage.invalidCursor();
+        }
+        long value = 0;
+        for (int i = 0; i < cursor.length(); i++) {
+            char c = cursor.charAt(i);
+            if (c < '0' || c > '9') {
+                throw MockRecordPage.invalidCursor();
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * 64비트 해시 섞기 (SplitMix64 마무리 단계)
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static byte[][] encode(String... values) {
+        byte[][] encoded = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            encoded[i] = MockJsonWriter.encodeString(values[i]);
+        }
+        return encoded;
+    }
+}
@@ -0,0 +1,164 @@
+package com.mydata.mydatatestbed.mock.ca;
+
+import com.mydata.mydatatestbed.mock.common.MockApi;
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockApiResponder;
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import com.mydata.mydatatestbed.mock.common.MockTenantResolver;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import static com.mydata.mydatatestbed.mock.common.MockApiResponder.TRAN_ID_HEADER;
+
+/**
+ * 모의 통합인증기관 전자서명 API (cert-api/integrated-api.html 규격, v1)
+ *
+ * - 통합인증-102 POST /v1/ca/sign_request : 전자서명 요청 → cert_tx_id 발급
+ * - 통합인증-103 POST /v1/ca/sign_result  : 전자서명 결과 조회 (long-polling)
+ *
+ * 결과 조회는 서명이 끝날 때까지 최대 result-wait-ms 동안 응답을 보류하고,
+ * 그 사이 서명이 끝나면 바로 결과를 응답 (짧은 주기로 반복 조회하지 않아도 됨)
+ * 대기 시간이 지나도 서명 전이면 40901(전자서명 진행 중) → 같은 요청으로 다시 조회
+ */
+@RestController
+@RequestMapping("/v1/ca")
+@RequiredArgsConstructor
+public class MockCaController {
+
+    private static final int MAX_SIGN_TX_ID_LENGTH = 49;   // 규격: aNS(49)
+    private static final int MAX_CONSENT_CNT = 9999;       // 규격: N(4)
+    private static final Set<String> DEVICE_CODES = Set.of("PC", "TB", "MO");
+    private static final Set<String> DEVICE_BROWSERS = Set.of("WB", "NA", "HY");
+    private static final Set<String> CONSENT_TYPES = Set.of("0", "1");
+
+    private static final byte[] SIGN_IOS_APP_SCHEME_URL = MockJsonWriter.key("sign_ios_app_scheme_url");
+    private static final byte[] SIGN_AOS_APP_SCHEME_URL = MockJsonWriter.key("sign_aos_app_scheme_url");
+    private static final byte[] SIGN_WEB_URL = MockJsonWriter.key("sign_web_url");
+    private static final byte[] CERT_TX_ID = MockJsonWriter.key("cert_tx_id");
+
+    private final MockSignSessionRegistry sessionRegistry;
+    private final MockTenantResolver tenantResolver;
+    private final MockApiResponder responder;
+
+    @Value("${mock.ca.result-wait-ms:25000}")
+    private long resultWaitMs;
+
+    @Value("${mock.ca.app-scheme-url:mockca://sign}")
+    private String appSchemeUrl;
+
+    @Value("${mock.ca.sign-web-url:http://localhost:8080/mock/ca/sign}")
+    private String signWebUrl;
+
+    // ==================== 통합인증-102 전자서명 요청 ====================
+
+    @MockApi("통합인증-102")
+    @PostMapping("/sign_request")
+    public void signRequest(@RequestBody MockSignRequest body,
+                            HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        String tenantKey = tenantResolver.resolve(request);
+        validate(body);
+
+        MockSignSession session = sessionRegistry.open(tenantKey, body.getSignTxId(), body.getConsentList());
+        String certTxId = session.getCertTxId();
+        responder.send(request, response, responder.begin()
+                .field(SIGN_IOS_APP_SCHEME_URL).string(signUrl(appSchemeUrl, certTxId))
+                .field(SIGN_AOS_APP_SCHEME_URL).string(signUrl(appSchemeUrl, certTxId))
+                .field(SIGN_WEB_URL).string(signUrl(signWebUrl, certTxId))
+                .field(CERT_TX_ID).string(certTxId));
+    }
+
+    // ==================== 통합인증-103 전자서명 결과 조회 ====================
+
+    /**
+     * 서명 완료 콜백에서 응답을 채우므로 대기 중에는 요청 스레드를 점유하지 않음 (Servlet 비동기 처리)
+     */
+    @MockApi("통합인증-103")
+    @PostMapping("/sign_result")
+    public DeferredResult<ResponseEntity<byte[]>> signResult(@RequestBody MockSignResultRequest body,
+                                                             HttpServletRequest request) {
+        String tenantKey = tenantResolver.resolve(request);
+        MockSignSession session = sessionRegistry.find(body.getCertTxId());
+        if (session == null || !session.getTenantKey().equals(tenantKey)) {
+            throw new MockApiException(MockRspCode.SIGN_NOT_FOUND, null);
+        }
+        if (!session.getSignTxId().equals(body.getSignTxId())) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, "sign_tx_id가 전자서명 요청과 다릅니다.");
+        }
+
+        String tranId = request.getHeader(TRAN_ID_HEADER);
+        DeferredResult<ResponseEntity<byte[]>> result = new DeferredResult<>(resultWaitMs);
+        result.onTimeout(() -> result.setResult(
+                responder.entity(tranId, responder.begin(MockRspCode.SIGN_PENDING), MockRspCode.SIGN_PENDING)));
+        session.onResult((signedBody, error) -> {
+            if (error != null) {
+                result.setErrorResult(error);
+            } else {
+                result.setResult(responder.entity(tranId, signedBody, MockRspCode.SUCCESS.getHttpStatus()));
+            }
+        });
+        return result;
+    }
+
+    // ==================== 검증 ====================
+
+    private void validate(MockSignRequest body) {
+        String signTxId = require(body.getSignTxId(), "sign_tx_id");
+        if (signTxId.length() > MAX_SIGN_TX_ID_LENGTH) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, "sign_tx_id는 49자 이하여야 합니다.");
+        }
+        require(body.getUserCi(), "user_ci");
+        require(body.getReturnAppSchemeUrl(), "return_app_scheme_url");
+        requireOneOf(body.getDeviceCode(), DEVICE_CODES, "device_code");
+        requireOneOf(body.getDeviceBrowser(), DEVICE_BROWSERS, "device_browser");
+        requireOneOf(body.getConsentType(), CONSENT_TYPES, "consent_type");
+
+        List<MockSignRequest.Consent> consents = body.getConsentList();
+        if (consents == null || consents.isEmpty() || consents.size() > MAX_CONSENT_CNT) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, "consent_list는 1 ~ 9999건이어야 합니다.");
+        }
+        if (body.getConsentCnt() == null || body.getConsentCnt() != consents.size()) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, "consent_cnt와 consent_list 건수가 다릅니다.");
+        }
+        for (MockSignRequest.Consent consent : consents) {
+            if (consent == null) {
+                throw new MockApiException(MockRspCode.INVALID_PARAMETER, "consent_list에 빈 항목이 있습니다.");
+            }
+            require(consent.getTxId(), "consent_list.tx_id");
+            require(consent.getConsent(), "consent_list.consent");
+        }
+    }
+
+    private String require(String value, String name) {
+        if (value == null || value.isBlank()) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, name + "는 필수입니다.");
+        }
+        return value;
+    }
+
+    private void requireOneOf(String value, Set<String> allowed, String name) {
+        if (value == null || !allowed.contains(value)) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, name + " 값이 올바르지 않습니다.");
+        }
+    }
+
+    private String signUrl(String baseUrl, String certTxId) {
+        return UriComponentsBuilder.fromUriString(baseUrl)
+                .queryParam("cert_tx_id", certTxId)
+                .toUriString();
+    }
+}
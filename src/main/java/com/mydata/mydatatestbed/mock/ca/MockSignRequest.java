@@ -0,0 +1,46 @@
+package com.mydata.mydatatestbed.mock.ca;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 통합인증-102 전자서명 요청 본문
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class MockSignRequest {
+
+    private String signTxId;
+    private String userCi;
+    private String realName;
+    private String phoneNum;
+    private String requestTitle;
+    private String deviceCode;
+    private String deviceBrowser;
+    private String returnAppSchemeUrl;
+    private String consentType;
+    private Integer consentCnt;
+    private List<Consent> consentList;
+
+    /**
+     * 전송요구내역 (요청 순서대로 서명 결과를 돌려줌)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static class Consent {
+
+        private Integer consentLen;
+        private String consentTitle;
+        private String consent;
+        private String txId;
+    }
+}
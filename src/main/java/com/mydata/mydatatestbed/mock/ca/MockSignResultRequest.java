@@ -0,0 +1,20 @@
+package com.mydata.mydatatestbed.mock.ca;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 통합인증-103 전자서명 결과 조회 본문
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class MockSignResultRequest {
+
+    private String certTxId;
+    private String signTxId;
+}
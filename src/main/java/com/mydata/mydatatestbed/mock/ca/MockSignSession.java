@@ -0,0 +1,54 @@
+package com.mydata.mydatatestbed.mock.ca;
+
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
+/**
+ * 전자서명 요청 1건 (cert_tx_id 단위)
+ *
+ * 서명 결과는 CompletableFuture로 보관
+ * - 서명 완료: 결과 조회 응답 본문(미리 직렬화)으로 완료 → 대기 중인 결과 조회에 바로 전달
+ * - 만료: 예외로 완료 → 대기 중인 결과 조회는 40403
+ * 결과를 기다리는 동안 스레드를 점유하지 않음 (콜백만 등록)
+ */
+@Getter
+public class MockSignSession {
+
+    private final String certTxId;
+    private final String signTxId;
+    private final String tenantKey;
+    private final List<MockSignRequest.Consent> consents;
+
+    @Getter(lombok.AccessLevel.NONE)
+    private final CompletableFuture<byte[]> result = new CompletableFuture<>();
+
+    MockSignSession(String certTxId, String signTxId, String tenantKey, List<MockSignRequest.Consent> consents) {
+        this.certTxId = certTxId;
+        this.signTxId = signTxId;
+        this.tenantKey = tenantKey;
+        this.consents = consents;
+    }
+
+    /**
+     * 서명 결과가 나오면(이미 나왔으면 즉시) action 호출 (body 또는 error 중 하나만 값이 있음)
+     */
+    public void onResult(BiConsumer<byte[], Throwable> action) {
+        result.whenComplete(action);
+    }
+
+    public boolean isSigned() {
+        return result.isDone() && !result.isCompletedExceptionally();
+    }
+
+    void complete(byte[] signedBody) {
+        result.complete(signedBody);
+    }
+
+    void expire(MockApiException reason) {
+        result.completeExceptionally(reason);
+    }
+}
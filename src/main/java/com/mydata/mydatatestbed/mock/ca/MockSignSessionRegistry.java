@@ -0,0 +1,174 @@
+package com.mydata.mydatatestbed.mock.ca;
+
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockApiResponder;
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모의 통합인증기관 전자서명 요청 저장소 (메모리)
+ *
+ * 실제 인증기관은 사용자가 인증앱에서 서명해야 결과가 나오므로,
+ * 모의 서버는 요청 후 sign-delay-ms가 지나면 자동으로 서명 완료 처리
+ *
+ * 스레드 사용:
+ * - 서명 완료/만료 처리는 예약 스레드 1개가 담당 (요청 수와 무관)
+ * - 결과 조회는 세션의 CompletableFuture에 콜백만 등록하고 요청 스레드를 반환 (MockCaController)
+ *   → 서명 대기 중인 요청이 수천 건이어도 플랫폼 스레드를 점유하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MockSignSessionRegistry {
+
+    private static final int CERT_TX_ID_BYTES = 24;  // base64url 32자 (규격: aNS(40))
+    private static final byte[] SIGNED_DATA_PREFIX = "MOCK-CMS-SIGNED-DATA:".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] SIGNED_CONSENT_CNT = MockJsonWriter.key("signed_consent_cnt");
+    private static final byte[] SIGNED_CONSENT_LIST = MockJsonWriter.key("signed_consent_list");
+    private static final byte[] SIGNED_CONSENT_LEN = MockJsonWriter.key("signed_consent_len");
+    private static final byte[] SIGNED_CONSENT = MockJsonWriter.key("signed_consent");
+    private static final byte[] TX_ID = MockJsonWriter.key("tx_id");
+
+    private final MockApiResponder responder;
+
+    @Value("${mock.ca.max-sessions:100000}")
+    private int maxSessions;
+
+    @Value("${mock.ca.sign-delay-ms:3000}")
+    private long signDelayMs;
+
+    @Value("${mock.ca.session-ttl-seconds:600}")
+    private long sessionTtlSeconds;
+
+    private final ConcurrentHashMap<String, MockSignSession> sessions = new ConcurrentHashMap<>();
+    private final SecureRandom random = new SecureRandom();
+    private final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+
+    private ScheduledThreadPoolExecutor scheduler;
+
+    @PostConstruct
+    void startScheduler() {
+        scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "mock-ca-sign");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    @PreDestroy
+    void stopScheduler() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 전자서명 요청 등록 → sign-delay-ms 후 서명 완료, session-ttl-seconds 후 삭제
+     */
+    public MockSignSession open(String tenantKey, String signTxId, List<MockSignRequest.Consent> consents) {
+        if (sessions.size() >= maxSessions) {
+            throw new MockApiException(MockRspCode.SYSTEM_ERROR, "처리 중인 전자서명 요청이 너무 많습니다.");
+        }
+        MockSignSession session;
+        do {
+            session = new MockSignSession(newCertTxId(), signTxId, tenantKey, List.copyOf(consents));
+        } while (sessions.putIfAbsent(session.getCertTxId(), session) != null);
+
+        MockSignSession opened = session;
+        scheduler.schedule(() -> sign(opened), signDelayMs, TimeUnit.MILLISECONDS);
+        scheduler.schedule(() -> expire(opened), sessionTtlSeconds, TimeUnit.SECONDS);
+        return session;
+    }
+
+    /**
+     * 만료되지 않은 전자서명 요청 조회 (없으면 null)
+     */
+    public MockSignSession find(String certTxId) {
+        return certTxId == null ? null : sessions.get(certTxId);
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    private void sign(MockSignSession session) {
+        try {
+            session.complete(signedBody(session));
+        } catch (RuntimeException e) {
+            log.warn("모의 전자서명 처리 실패: certTxId={}", session.getCertTxId(), e);
+            session.expire(new MockApiException(MockRspCode.SYSTEM_ERROR, "전자서명 처리에 실패했습니다."));
+        }
+    }
+
+    private void expire(MockSignSession session) {
+        sessions.remove(session.getCertTxId(), session);
+        session.expire(new MockApiException(MockRspCode.SIGN_NOT_FOUND, "전자서명 요청이 만료되었습니다."));
+    }
+
+    /**
+     * 결과 조회 응답 본문 (서명 완료 시 1번만 작성하고 이후 조회는 그대로 출력)
+     */
+    private byte[] signedBody(MockSignSession session) {
+        List<MockSignRequest.Consent> consents = session.getConsents();
+        MockJsonWriter writer = responder.begin()
+                .field(SIGNED_CONSENT_CNT).number(consents.size())
+                .field(SIGNED_CONSENT_LIST).beginArray();
+        MessageDigest digest = sha256();
+        for (MockSignRequest.Consent consent : consents) {
+            String signed = signedData(digest, session, consent);
+            writer.beginObject()
+                    .field(SIGNED_CONSENT_LEN).number(signed.length())
+                    .field(SIGNED_CONSENT).string(signed)
+                    .field(TX_ID).string(consent.getTxId())
+                    .endObject();
+        }
+        writer.endArray();
+        return responder.toBody(writer);
+    }
+
+    /**
+     * 모의 CMS SignedData: 고정 접두어 + SHA-256(cert_tx_id, tx_id, 전송요구내역)을 Base64 url-safe 인코딩
+     * (형식만 맞춘 값이며 실제 서명 검증은 불가)
+     */
+    private String signedData(MessageDigest digest, MockSignSession session, MockSignRequest.Consent consent) {
+        digest.update(session.getCertTxId().getBytes(StandardCharsets.UTF_8));
+        digest.update(consent.getTxId().getBytes(StandardCharsets.UTF_8));
+        digest.update(consent.getConsent().getBytes(StandardCharsets.UTF_8));
+        byte[] hash = digest.digest();
+
+        byte[] data = new byte[SIGNED_DATA_PREFIX.length + hash.length];
+        System.arraycopy(SIGNED_DATA_PREFIX, 0, data, 0, SIGNED_DATA_PREFIX.length);
+        System.arraycopy(hash, 0, data, SIGNED_DATA_PREFIX.length, hash.length);
+        return encoder.encodeToString(data);
+    }
+
+    private String newCertTxId() {
+        byte[] bytes = new byte[CERT_TX_ID_BYTES];
+        random.nextBytes(bytes);
+        return encoder.encodeToString(bytes);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 모의 API 핸들러의 규격 API ID (예: "은행-001")
+ *
+ * API별 호출 건수/응답시간 집계(MockLatencyRegistry)와 통계자료 재전송의 api_type에 사용
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MockApi {
+
+    String value();
+}
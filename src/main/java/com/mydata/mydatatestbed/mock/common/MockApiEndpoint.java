@@ -0,0 +1,35 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * 코드로 등록한 모의 API 핸들러 (@MockApi의 등록형, 업권 모듈 MockSectorEngine 참고)
+ *
+ * 같은 핸들러 메서드를 API마다 다른 객체로 등록하므로
+ * 호출 집계/규격 검증/시나리오는 메서드 대신 핸들러 객체로 API를 구분
+ */
+public interface MockApiEndpoint {
+
+    /**
+     * 규격 API ID (예: "카드-001")
+     */
+    String apiId();
+
+    /**
+     * 핸들러의 규격 API ID (@MockApi도 MockApiEndpoint도 아니면 null)
+     */
+    static String apiId(HandlerMethod handler) {
+        if (handler.getBean() instanceof MockApiEndpoint endpoint) {
+            return endpoint.apiId();
+        }
+        MockApi api = handler.getMethod().getAnnotation(MockApi.class);
+        return api == null ? null : api.value();
+    }
+
+    /**
+     * API별 캐시 키 (등록형은 핸들러 객체, 그 외는 메서드)
+     */
+    static Object key(HandlerMethod handler) {
+        return handler.getBean() instanceof MockApiEndpoint endpoint ? endpoint : handler.getMethod();
+    }
+}
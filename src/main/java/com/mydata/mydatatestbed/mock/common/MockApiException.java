@@ -0,0 +1,18 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import lombok.Getter;
+
+/**
+ * 모의 API 요청 처리 실패
+ * - MockApiExceptionHandler가 rsp_code / rsp_msg 형식의 JSON으로 응답
+ */
+@Getter
+public class MockApiException extends RuntimeException {
+
+    private final MockRspCode rspCode;
+
+    public MockApiException(MockRspCode rspCode, String detail) {
+        super(detail);
+        this.rspCode = rspCode;
+    }
+}
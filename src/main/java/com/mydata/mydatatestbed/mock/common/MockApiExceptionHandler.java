@@ -0,0 +1,57 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.MissingRequestHeaderException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import java.io.IOException;
+
+/**
+ * 모의 API 예외 처리
+ * - 화면 컨트롤러와 달리 에러 페이지가 아닌 rsp_code / rsp_msg JSON으로 응답
+ */
+@Slf4j
+@RestControllerAdvice(basePackages = "com.mydata.mydatatestbed.mock")
+@RequiredArgsConstructor
+public class MockApiExceptionHandler {
+
+    private final MockApiResponder responder;
+
+    @ExceptionHandler(MockApiException.class)
+    public void handleMockApiException(MockApiException e,
+                                       HttpServletRequest request,
+                                       HttpServletResponse response) throws IOException {
+        responder.sendError(request, response, e.getRspCode(), e.getMessage());
+    }
+
+    /**
+     * 본문 JSON 형식 오류, 필수 헤더/파라미터 누락, 타입 불일치
+     */
+    @ExceptionHandler({
+            HttpMessageNotReadableException.class,
+            MissingRequestHeaderException.class,
+            MissingServletRequestParameterException.class,
+            MethodArgumentTypeMismatchException.class
+    })
+    public void handleBadRequest(Exception e,
+                                 HttpServletRequest request,
+                                 HttpServletResponse response) throws IOException {
+        String detail = e instanceof HttpMessageNotReadableException ? "요청 본문 형식 오류" : e.getMessage();
+        responder.sendError(request, response, MockRspCode.INVALID_PARAMETER, detail);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public void handleException(Exception e,
+                                HttpServletRequest request,
+                                HttpServletResponse response) throws IOException {
+        log.error("모의 API 처리 중 오류: {} {}", request.getMethod(), request.getRequestURI(), e);
+        responder.sendError(request, response, MockRspCode.SYSTEM_ERROR, null);
+    }
+}
@@ -0,0 +1,175 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import com.mydata.mydatatestbed.catalog.ApiSchema;
+import com.mydata.mydatatestbed.catalog.ApiSchemaValidator;
+import com.mydata.mydatatestbed.catalog.ApiViolation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 모의 API 응답 작성
+ *
+ * 응답 흐름:
+ * 1. begin(): 현재 스레드의 작성기를 비우고 { "rsp_code", "rsp_msg" 까지 작성
+ * 2. 호출한 쪽에서 나머지 필드 작성
+ * 3. send(): 객체를 닫고 Content-Length를 지정해 한 번에 출력
+ *
+ * 미리 직렬화해 둔 응답 본문(계좌 기본정보 등)은 sendBody()로 그대로 출력
+ * 비동기 응답(DeferredResult)은 요청 스레드 밖에서 완료되므로 entity()로 본문을 ResponseEntity에 담아 반환
+ * 모든 응답에 요청의 x-api-tran-id를 그대로 회신
+ *
+ * mock.validation.response를 켜면 성공 응답 본문을 출력 전에 규격(MockValidationInterceptor가 찾은 검증 트리)과 대조
+ * → 위반 시 x-testbed-response-violation 헤더 (응답은 그대로 전송, 비동기 entity() 응답은 제외)
+ * → 경고 로그는 API마다 처음 1번만 (이후는 DEBUG, 부하 테스트 중 로그가 응답마다 쌓이지 않도록)
+ * 응답마다 본문을 다시 파싱하므로 기본은 꺼 둠 (규격 점검용)
+ * 출력한 응답은 요청과 함께 MockCaptureLog에 캡처 (mock.capture.enabled)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MockApiResponder {
+
+    public static final String TRAN_ID_HEADER = "x-api-tran-id";
+    public static final String RESPONSE_VIOLATION_HEADER = "x-testbed-response-violation";
+
+    private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+
+    public static final byte[] RSP_CODE = MockJsonWriter.key("rsp_code");
+    public static final byte[] RSP_MSG = MockJsonWriter.key("rsp_msg");
+
+    /**
+     * 스레드마다 작성기 하나를 재사용 (요청당 버퍼 할당 없음)
+     */
+    private static final ThreadLocal<MockJsonWriter> WRITERS =
+            ThreadLocal.withInitial(() -> new MockJsonWriter(8 * 1024));
+
+    private final ApiSchemaValidator validator;
+    private final MockCaptureLog captureLog;
+
+    /**
+     * 응답 규격 위반 경고를 이미 남긴 API
+     */
+    private final Set<ApiSchema> warnedSchemas = ConcurrentHashMap.newKeySet();
+
+    @Value("${mock.validation.response:false}")
+    private boolean validateResponse;
+
+    public MockJsonWriter begin() {
+        return begin(MockRspCode.SUCCESS);
+    }
+
+    public MockJsonWriter begin(MockRspCode rspCode) {
+        return WRITERS.get().reset()
+                .beginObject()
+                .field(RSP_CODE).raw(rspCode.getEncodedCode())
+                .field(RSP_MSG).raw(rspCode.getEncodedMessage());
+    }
+
+    /**
+     * rsp_code / rsp_msg 없이 시작 (OAuth 토큰 발급 응답 등 규격에 응답코드가 없는 API)
+     */
+    public MockJsonWriter beginPlain() {
+        return WRITERS.get().reset().beginObject();
+    }
+
+    public void send(HttpServletRequest request, HttpServletResponse response,
+                     MockJsonWriter writer) throws IOException {
+        send(request, response, writer, MockRspCode.SUCCESS.getHttpStatus());
+    }
+
+    public void send(HttpServletRequest request, HttpServletResponse response,
+                     MockJsonWriter writer, int status) throws IOException {
+        writer.endObject();
+        if (status < 400) {
+            validateResponse(request, response, writer.buffer(), writer.length());
+        }
+        writeHeaders(request, response, status, writer.length());
+        writer.writeTo(response.getOutputStream());
+        captureLog.capture(request, status, writer.buffer(), writer.length());
+    }
+
+    /**
+     * 미리 직렬화해 둔 응답 본문 출력
+     */
+    public void sendBody(HttpServletRequest request, HttpServletResponse response,
+                         byte[] body) throws IOException {
+        validateResponse(request, response, body, body.length);
+        writeHeaders(request, response, MockRspCode.SUCCESS.getHttpStatus(), body.length);
+        response.getOutputStream().write(body);
+        captureLog.capture(request, MockRspCode.SUCCESS.getHttpStatus(), body, body.length);
+    }
+
+    /**
+     * 객체를 닫고 본문 바이트로 꺼냄 (작성기는 스레드마다 재사용하므로 복사본 반환)
+     */
+    public byte[] toBody(MockJsonWriter writer) {
+        writer.endObject();
+        return writer.toByteArray();
+    }
+
+    public ResponseEntity<byte[]> entity(String tranId, MockJsonWriter writer, MockRspCode rspCode) {
+        return entity(tranId, toBody(writer), rspCode.getHttpStatus());
+    }
+
+    public ResponseEntity<byte[]> entity(String tranId, byte[] body, int status) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(status)
+                .contentType(MediaType.parseMediaType(CONTENT_TYPE))
+                .contentLength(body.length);
+        if (tranId != null) {
+            builder.header(TRAN_ID_HEADER, tranId);
+        }
+        return builder.body(body);
+    }
+
+    public void sendError(HttpServletRequest request, HttpServletResponse response,
+                          MockRspCode rspCode, String detail) throws IOException {
+        MockJsonWriter writer = WRITERS.get().reset()
+                .beginObject()
+                .field(RSP_CODE).raw(rspCode.getEncodedCode())
+                .field(RSP_MSG).string(detail == null ? rspCode.getMessage() : rspCode.getMessage() + " - " + detail);
+        send(request, response, writer, rspCode.getHttpStatus());
+    }
+
+    private void validateResponse(HttpServletRequest request, HttpServletResponse response,
+                                  byte[] body, int length) {
+        if (!validateResponse) {
+            return;
+        }
+        ApiSchema schema = MockValidationInterceptor.schema(request);
+        if (schema == null) {
+            return;
+        }
+        List<ApiViolation> violations = validator.validateBody(schema.responseBody(), body, 0, length);
+        if (!violations.isEmpty()) {
+            if (warnedSchemas.add(schema)) {
+                log.warn("모의 응답 규격 위반 (이후 같은 API는 DEBUG): {} {} {}",
+                        schema.spec().apiId(), schema.spec().version(), violations);
+            } else {
+                log.debug("모의 응답 규격 위반: {} {} {}", schema.spec().apiId(), schema.spec().version(), violations);
+            }
+            response.setHeader(RESPONSE_VIOLATION_HEADER, MockValidationInterceptor.headerValue(violations));
+        }
+    }
+
+    private void writeHeaders(HttpServletRequest request, HttpServletResponse response,
+                              int status, int contentLength) {
+        response.setStatus(status);
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(contentLength);
+        String tranId = request.getHeader(TRAN_ID_HEADER);
+        if (tranId != null) {
+            response.setHeader(TRAN_ID_HEADER, tranId);
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 모의 API 요청/응답 캡처 (추가 전용 바이너리 세그먼트 로그)
+ *
+ * - 요청 스레드: 요청/응답 1쌍을 스레드별 작업 버퍼에 인코딩 → MockCaptureRing에 복사 (잠금 없음, 자리가 없으면 버림)
+ * - 기록 스레드 1개: 링의 연속 구간을 그대로 세그먼트 파일에 씀, segment-bytes를 넘으면 새 파일
+ * → 디스크 쓰기는 요청 처리 경로에 없음
+ *
+ * 세그먼트 파일 (capture-{yyyyMMdd-HHmmss-SSS}-{순번}.seg, 재생은 loadgen 모듈의 CaptureSegment)
+ *   "MDCAPT01" (8바이트) + 레코드 반복
+ *   레코드 = [길이 int (헤더 포함, 8바이트 정렬)][종류 int = 1][내용][0 채움]
+ *   내용 = 시작 시각(epoch μs) long, 처리 시간(μs) int, HTTP 상태 short,
+ *          method, URI(쿼리 포함), 헤더 수 short + (이름, 값)…, 요청 본문, 응답 본문
+ *   문자열은 [UTF-8 길이 unsigned short][바이트], 본문은 [길이 int][바이트], 정수는 big-endian
+ *
+ * 요청 본문: JSON은 MockRequestBodyAdvice가 보관한 원본, form은 파라미터를 다시 인코딩
+ * 응답 본문: MockApiResponder가 출력한 바이트 (비동기 entity() 응답은 캡처하지 않음)
+ * 접근토큰 등 헤더를 그대로 남기므로 운영 데이터가 있는 환경에서는 켜지 않음
+ */
+@Slf4j
+@Component
+public class MockCaptureLog {
+
+    public static final byte[] SEGMENT_MAGIC = "MDCAPT01".getBytes(StandardCharsets.US_ASCII);
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int MAX_RETAINED_CAPACITY = 256 * 1024;
+
+    /**
+     * 재생 시 HTTP 클라이언트가 직접 정하는 헤더 (캡처하지 않음)
+     */
+    private static final Set<String> SKIPPED_HEADERS = Set.of(
+            "host", "connection", "content-length", "transfer-encoding", "expect", "upgrade", "keep-alive");
+
+    private static final ThreadLocal<Encoder> ENCODERS = ThreadLocal.withInitial(Encoder::new);
+
+    @Value("${mock.capture.enabled:false}")
+    private boolean enabled;
+
+    @Value("${mock.capture.dir:./mock-capture}")
+    private String directory;
+
+    @Value("${mock.capture.ring-bytes:8388608}")
+    private int ringBytes;
+
+    @Value("${mock.capture.segment-bytes:67108864}")
+    private long segmentBytes;
+
+    private final LongAdder captured = new LongAdder();
+
+    private MockCaptureRing ring;
+    private Thread flusher;
+    private volatile boolean running;
+
+    // 기록 스레드 전용
+    private FileChannel segment;
+    private long segmentSize;
+    private int segmentSequence;
+
+    @PostConstruct
+    void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        ring = new MockCaptureRing(ringBytes);
+        Files.createDirectories(Path.of(directory));
+        running = true;
+        flusher = Thread.ofPlatform().name("mock-capture-flush").daemon().start(this::flushLoop);
+        log.info("모의 API 캡처 시작: {}", Path.of(directory).toAbsolutePath());
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        log.info("모의 API 캡처 종료: 기록 {}건, 버림 {}건", captured.sum(), ring.dropped());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // ==================== 요청 스레드 ====================
+
+    /**
+     * 요청/응답 1쌍 캡처 (링에 자리가 없으면 버림)
+     */
+    public void capture(HttpServletRequest request, int status, byte[] responseBody, int responseLength) {
+        if (!running) {
+            return;
+        }
+        long durationMicros = Math.max(0, (System.nanoTime() - MockLatencyInterceptor.startNanos(request)) / 1_000L);
+        Encoder encoder = ENCODERS.get().reset();
+        encoder.putLong(System.currentTimeMillis() * 1_000L - durationMicros);
+        encoder.putInt((int) Math.min(Integer.MAX_VALUE, durationMicros));
+        encoder.putShort(status);
+        encoder.putString(request.getMethod());
+        String query = request.getQueryString();
+        encoder.putString(query == null ? request.getRequestURI() : request.getRequestURI() + "?" + query);
+
+        int countPosition = encoder.length;
+        encoder.putShort(0);
+        int headerCount = 0;
+        for (Enumeration<String> names = request.getHeaderNames(); names.hasMoreElements(); ) {
+            String name = names.nextElement();
+            if (SKIPPED_HEADERS.contains(name.toLowerCase())) {
+                continue;
+            }
+            for (Enumeration<String> values = request.getHeaders(name); values.hasMoreElements(); ) {
+                encoder.putString(name);
+                encoder.putString(values.nextElement());
+                headerCount++;
+            }
+        }
+        encoder.patchShort(countPosition, headerCount);
+
+        if (request.getAttribute(MockRequestBodyAdvice.BODY_ATTRIBUTE) instanceof byte[] body) {
+            encoder.putBytes(body, body.length);
+        } else if (isForm(request)) {
+            byte[] form = encodeForm(request.getParameterMap());
+            encoder.putBytes(form, form.length);
+        } else {
+            encoder.putBytes(null, 0);
+        }
+        encoder.putBytes(responseBody, responseLength);
+
+        if (ring.offer(encoder.buffer, encoder.length)) {
+            captured.increment();
+        }
+    }
+
+    private static boolean isForm(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.startsWith("application/x-www-form-urlencoded");
+    }
+
+    private static byte[] encodeForm(Map<String, String[]> parameters) {
+        StringBuilder form = new StringBuilder();
+        parameters.forEach((name, values) -> {
+            for (String value : values) {
+                if (!form.isEmpty()) {
+                    form.append('&');
+                }
+                form.append(URLEncoder.encode(name, StandardCharsets.UTF_8)).append('=')
+                        .append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+            }
+        });
+        return form.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // ==================== 기록 스레드 ====================
+
+    private void flushLoop() {
+        while (true) {
+            ByteBuffer batch = ring.poll();
+            if (batch == null) {
+                if (!running) {
+                    break;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            try {
+                write(batch);
+            } catch (IOException e) {
+                log.error("모의 API 캡처 기록 실패 (이번 구간은 버림)", e);
+                closeSegment();
+            }
+            ring.release(batch);
+        }
+        closeSegment();
+    }
+
+    private void write(ByteBuffer batch) throws IOException {
+        if (segment == null || segmentSize + batch.remaining() > segmentBytes) {
+            closeSegment();
+            Path file = Path.of(directory).resolve(String.format("capture-%s-%04d.seg",
+                    LocalDateTime.now().format(FILE_TIME), segmentSequence++));
+            segment = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            segment.write(ByteBuffer.wrap(SEGMENT_MAGIC));
+            segmentSize = SEGMENT_MAGIC.length;
+        }
+        segmentSize += batch.remaining();
+        while (batch.hasRemaining()) {
+            segment.write(batch);
+        }
+    }
+
+    private void closeSegment() {
+        if (segment == null) {
+            return;
+        }
+        try {
+            segment.close();
+        } catch (IOException e) {
+            log.warn("캡처 세그먼트 닫기 실패", e);
+        }
+        segment = null;
+    }
+
+    /**
+     * 스레드별 레코드 작업 버퍼 (요청마다 할당하지 않음)
+     */
+    private static final class Encoder {
+
+        private byte[] buffer = new byte[8 * 1024];
+        private int length;
+
+        Encoder reset() {
+            if (buffer.length > MAX_RETAINED_CAPACITY) {
+                buffer = new byte[8 * 1024];
+            }
+            length = 0;
+            return this;
+        }
+
+        void putLong(long value) {
+            putInt((int) (value >>> 32));
+            putInt((int) value);
+        }
+
+        void putInt(int value) {
+            ensure(4);
+            buffer[length++] = (byte) (value >>> 24);
+            buffer[length++] = (byte) (value >>> 16);
+            buffer[length++] = (byte) (value >>> 8);
+            buffer[length++] = (byte) value;
+        }
+
+        void putShort(int value) {
+            ensure(2);
+            buffer[length++] = (byte) (value >>> 8);
+            buffer[length++] = (byte) value;
+        }
+
+        void patchShort(int position, int value) {
+            buffer[position] = (byte) (value >>> 8);
+            buffer[position + 1] = (byte) value;
+        }
+
+        void putBytes(byte[] bytes, int count) {
+            putInt(count);
+            if (count > 0) {
+                ensure(count);
+                System.arraycopy(bytes, 0, buffer, length, count);
+                length += count;
+            }
+        }
+
+        /**
+         * [UTF-8 길이 unsigned short][바이트] (65535바이트를 넘는 부분은 자름)
+         */
+        void putString(String value) {
+            int lengthPosition = length;
+            putShort(0);
+            ensure(value.length() * 3);
+            int start = length;
+            for (int i = 0; i < value.length(); i++) {
+                int before = length;
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    buffer[length++] = (byte) c;
+                } else if (c < 0x800) {
+                    buffer[length++] = (byte) (0xC0 | (c >> 6));
+                    buffer[length++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    buffer[length++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[length++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    buffer[length++] = (byte) (0xE0 | (c >> 12));
+                    buffer[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buffer[length++] = (byte) (0x80 | (c & 0x3F));
+                }
+                if (length - start > 0xFFFF) {
+                    length = before;
+                    break;
+                }
+            }
+            patchShort(lengthPosition, length - start);
+        }
+
+        private void ensure(int count) {
+            if (length + count > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + count));
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 모의 API 캡처용 잠금 없는 링 버퍼 (생산자 여러 개: 요청 스레드, 소비자 1개: 기록 스레드)
+ *
+ * 레코드 = [길이 int][종류 int][내용][0 채움] (8바이트 정렬, 길이는 헤더 포함)
+ * 1. 생산자는 tail을 CAS로 전진시켜 자리를 잡고 (끝에 자리가 모자라면 남은 구간을 채움 레코드로 잡고 0부터)
+ * 2. 종류와 내용을 쓴 뒤 길이를 release로 써서 공개
+ * 3. 소비자는 head 위치의 길이를 acquire로 읽어 0이 아니면 공개된 레코드 → 읽고 0으로 지운 뒤 head 전진
+ *
+ * 자리가 없으면 기다리지 않고 버림 (요청 처리를 늦추지 않음, 버린 건수는 dropped로 집계)
+ * 링에 담긴 레코드는 그대로 세그먼트 파일 형식이므로 소비자는 연속 구간을 한 번에 파일로 씀
+ */
+public final class MockCaptureRing {
+
+    public static final int HEADER_LENGTH = 8;
+    public static final int TYPE_EXCHANGE = 1;
+    private static final int TYPE_PADDING = -1;
+
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final byte[] ZEROS = new byte[4096];
+
+    private final ByteBuffer buffer;
+    private final int capacity;
+    private final int mask;
+    private final int maxRecordLength;
+
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * @param capacity 바이트 수 (2의 거듭제곱)
+     */
+    public MockCaptureRing(int capacity) {
+        if (capacity < 1024 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("링 버퍼 크기는 1024 이상인 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.buffer = ByteBuffer.allocateDirect(capacity + 8).alignedSlice(8).limit(capacity).slice();
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.maxRecordLength = capacity / 4;
+    }
+
+    static int align(int length) {
+        return (length + 7) & ~7;
+    }
+
+    // ==================== 생산자 ====================
+
+    /**
+     * 레코드 1건 추가 (내용 source[0, length)), 자리가 없거나 너무 크면 false
+     */
+    public boolean offer(byte[] source, int length) {
+        int recordLength = align(HEADER_LENGTH + length);
+        if (recordLength > maxRecordLength) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        while (true) {
+            long currentTail = tail.get();
+            int index = (int) (currentTail & mask);
+            int toEnd = capacity - index;
+            int required = recordLength > toEnd ? toEnd + recordLength : recordLength;
+            if (currentTail + required - head > capacity) {
+                dropped.incrementAndGet();
+                return false;
+            }
+            if (!tail.compareAndSet(currentTail, currentTail + required)) {
+                continue;
+            }
+            if (required != recordLength) {
+                buffer.putInt(index + 4, TYPE_PADDING);
+                INT.setRelease(buffer, index, toEnd);
+                index = 0;
+            }
+            buffer.putInt(index + 4, TYPE_EXCHANGE);
+            buffer.put(index + HEADER_LENGTH, source, 0, length);
+            INT.setRelease(buffer, index, recordLength);
+            return true;
+        }
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+
+    // ==================== 소비자 (스레드 1개) ====================
+
+    /**
+     * 공개된 연속 레코드 구간 (채움 레코드는 건너뜀), 없으면 null
+     * → 사용 후 반드시 release(구간) 호출
+     */
+    public ByteBuffer poll() {
+        long currentHead = head;
+        int index = (int) (currentHead & mask);
+        int length = (int) INT.getAcquire(buffer, index);
+        if (length != 0 && buffer.getInt(index + 4) == TYPE_PADDING) {
+            clear(index, length);
+            head = currentHead + length;
+            return poll();
+        }
+        int end = index;
+        while (end < capacity && length != 0 && buffer.getInt(end + 4) != TYPE_PADDING) {
+            end += length;
+            length = end < capacity ? (int) INT.getAcquire(buffer, end) : 0;
+        }
+        return end == index ? null : buffer.slice(index, end - index);
+    }
+
+    /**
+     * poll()로 받은 구간을 비우고 생산자에게 반환
+     */
+    public void release(ByteBuffer batch) {
+        long currentHead = head;
+        clear((int) (currentHead & mask), batch.capacity());
+        head = currentHead + batch.capacity();
+    }
+
+    private void clear(int index, int length) {
+        for (int offset = 0; offset < length; offset += ZEROS.length) {
+            buffer.put(index + offset, ZEROS, 0, Math.min(ZEROS.length, length - offset));
+        }
+    }
+}
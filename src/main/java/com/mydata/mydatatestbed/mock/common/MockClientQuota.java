@@ -0,0 +1,60 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 마이데이터 서비스(client_id) 1개의 API별 호출 한도 카운터 (MockQuotaInterceptor가 client_id마다 생성)
+ *
+ * API × 호출 구분(정기/비정기)마다 슬라이딩 윈도 카운터 1개를 long 하나에 담아 CAS로 갱신
+ * - [윈도 번호 22비트][현재 윈도 건수 21비트][직전 윈도 건수 21비트]
+ * - 추정 건수 = 직전 윈도 건수 × (현재 윈도에서 남은 비율) + 현재 윈도 건수
+ *   → 고정 윈도 경계에서 한도의 2배까지 몰리는 문제 없이 칸 1개로 근사
+ * - 윈도가 바뀌면 CAS 한 번으로 현재 → 직전 이동 (별도 타이머/잠금 없음)
+ *
+ * client_id가 다르면 카운터 객체가 다르므로 서비스 간 경합 없음
+ */
+final class MockClientQuota {
+
+    static final int MAX_COUNT = (1 << 21) - 1;
+
+    private static final int COUNT_BITS = 21;
+    private static final long COUNT_MASK = MAX_COUNT;
+    private static final long WINDOW_MASK = (1L << 22) - 1;
+
+    private final AtomicLongArray counters;
+
+    MockClientQuota(int slots) {
+        this.counters = new AtomicLongArray(slots);
+    }
+
+    /**
+     * 한도 안이면 1건 기록하고 true, 넘으면 기록하지 않고 false
+     *
+     * @param slot         API 번호 × 2 + 호출 구분
+     * @param nowMillis    현재 시각 (epoch ms)
+     * @param windowMillis 윈도 길이
+     * @param limit        윈도당 최대 건수 (MAX_COUNT 이하)
+     */
+    boolean tryAcquire(int slot, long nowMillis, long windowMillis, int limit) {
+        long windowIndex = nowMillis / windowMillis;
+        long window = windowIndex & WINDOW_MASK;
+        double remaining = 1.0 - (double) (nowMillis - windowIndex * windowMillis) / windowMillis;
+        while (true) {
+            long packed = counters.get(slot);
+            long packedWindow = packed >>> (COUNT_BITS * 2);
+            long current = (packed >>> COUNT_BITS) & COUNT_MASK;
+            long previous = packed & COUNT_MASK;
+            if (packedWindow != window) {
+                previous = packedWindow == ((windowIndex - 1) & WINDOW_MASK) ? current : 0;
+                current = 0;
+            }
+            if (previous * remaining + current >= limit) {
+                return false;
+            }
+            long next = (window << (COUNT_BITS * 2)) | ((current + 1) << COUNT_BITS) | previous;
+            if (counters.compareAndSet(slot, packed, next)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 모의 API 응답용 JSON 바이트 작성기
+ *
+ * Jackson ObjectMapper를 거치지 않고 UTF-8 바이트 버퍼에 직접 작성
+ * - 필드명은 미리 인코딩한 byte[] 사용 (key() 참고) → 요청마다 문자열 인코딩 없음
+ * - 숫자/날짜는 자릿수를 직접 기록 → Long.toString() 등 중간 문자열 없음
+ * - 버퍼는 재사용 (reset()) → 스레드당 하나의 작성기를 계속 사용 (MockApiResponder 참고)
+ *
+ * 쉼표 처리:
+ * - 깊이별로 "이미 원소가 있는지"를 비트로 기록하여 필요한 위치에만 쉼표를 넣음
+ * - 최대 중첩 깊이 63
+ */
+public final class MockJsonWriter {
+
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L
+    };
+
+    /**
+     * 재사용 시 이보다 커진 버퍼는 버리고 새로 할당 (큰 응답 한 번으로 메모리를 계속 잡고 있지 않도록)
+     */
+    private static final int MAX_RETAINED_CAPACITY = 256 * 1024;
+
+    private final int initialCapacity;
+    private byte[] buffer;
+    private int length;
+
+    private int depth;
+    private long hasElement;
+    private boolean afterKey;
+
+    public MockJsonWriter(int initialCapacity) {
+        this.initialCapacity = initialCapacity;
+        this.buffer = new byte[initialCapacity];
+    }
+
+    public MockJsonWriter reset() {
+        if (buffer.length > MAX_RETAINED_CAPACITY) {
+            buffer = new byte[initialCapacity];
+        }
+        length = 0;
+        depth = 0;
+        hasElement = 0;
+        afterKey = false;
+        return this;
+    }
+
+    // ==================== 구조 ====================
+
+    public MockJsonWriter beginObject() {
+        beforeValue();
+        writeByte('{');
+        push();
+        return this;
+    }
+
+    public MockJsonWriter endObject() {
+        depth--;
+        writeByte('}');
+        return this;
+    }
+
+    public MockJsonWriter beginArray() {
+        beforeValue();
+        writeByte('[');
+        push();
+        return this;
+    }
+
+    public MockJsonWriter endArray() {
+        depth--;
+        writeByte(']');
+        return this;
+    }
+
+    /**
+     * 필드명 작성
+     *
+     * @param key key()로 미리 인코딩한 필드명 ("name": 형태)
+     */
+    public MockJsonWriter field(byte[] key) {
+        comma();
+        writeBytes(key, 0, key.length);
+        afterKey = true;
+        return this;
+    }
+
+    // ==================== 값 ====================
+
+    public MockJsonWriter string(String value) {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        writeEscaped(value);
+        return this;
+    }
+
+    /**
+     * 미리 인코딩한 JSON 값/객체를 그대로 기록 (encodeString(), toByteArray() 결과 등)
+     */
+    public MockJsonWriter raw(byte[] json) {
+        beforeValue();
+        writeBytes(json, 0, json.length);
+        return this;
+    }
+
+    /**
+     * 다른 작성기에 작성한 JSON 값을 그대로 기록 (버퍼 복사 1회)
+     */
+    public MockJsonWriter raw(MockJsonWriter json) {
+        beforeValue();
+        writeBytes(json.buffer, 0, json.length);
+        return this;
+    }
+
+    public MockJsonWriter number(long value) {
+        beforeValue();
+        writeLong(value);
+        return this;
+    }
+
+    /**
+     * 숫자를 문자열로 기록 (예: 거래번호 "12")
+     */
+    public MockJsonWriter numberString(long value) {
+        beforeValue();
+        writeByte('"');
+        writeLong(value);
+        writeByte('"');
+        return this;
+    }
+
+    /**
+     * 고정 소수점 값 기록 (끝자리 0은 생략)
+     * 예: decimal(1500000, 3) → 1500, decimal(3250, 5) → 0.0325
+     *
+     * @param unscaled 10^scale 배 한 정수 값
+     */
+    public MockJsonWriter decimal(long unscaled, int scale) {
+        beforeValue();
+        if (unscaled < 0) {
+            writeByte('-');
+            unscaled = -unscaled;
+        }
+        long divisor = POWERS_OF_TEN[scale];
+        long integer = unscaled / divisor;
+        long fraction = unscaled % divisor;
+        writeLong(integer);
+        if (fraction != 0) {
+            while (fraction % 10 == 0) {
+                fraction /= 10;
+                scale--;
+            }
+            writeByte('.');
+            writeDigits(fraction, scale);
+        }
+        return this;
+    }
+
+    public MockJsonWriter bool(boolean value) {
+        beforeValue();
+        byte[] literal = value ? TRUE : FALSE;
+        writeBytes(literal, 0, literal.length);
+        return this;
+    }
+
+    public MockJsonWriter nullValue() {
+        beforeValue();
+        writeByte('n');
+        writeByte('u');
+        writeByte('l');
+        writeByte('l');
+        return this;
+    }
+
+    /**
+     * 숫자를 고정 자릿수 문자열로 기록 (DATE "yyyyMMdd", DTIME "yyyyMMddHHmmss" 등)
+     */
+    public MockJsonWriter digits(long value, int width) {
+        beforeValue();
+        writeByte('"');
+        writeDigits(value, width);
+        writeByte('"');
+        return this;
+    }
+
+    /**
+     * 일자를 DATE "yyyyMMdd" 문자열로 기록
+     */
+    public MockJsonWriter date(LocalDate value) {
+        return digits(value.getYear() * 10_000L + value.getMonthValue() * 100L + value.getDayOfMonth(), 8);
+    }
+
+    // ==================== 출력 ====================
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * 내부 버퍼 (복사 없이 읽기만, 유효 범위는 0 ~ length())
+     */
+    byte[] buffer() {
+        return buffer;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, length);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, length);
+    }
+
+    // ==================== 정적 인코딩 ====================
+
+    /**
+     * 필드명을 "name": 형태의 바이트로 미리 인코딩
+     */
+    public static byte[] key(String name) {
+        return ("\"" + name + "\":").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 문자열 값을 따옴표와 이스케이프를 포함한 JSON 바이트로 미리 인코딩
+     */
+    public static byte[] encodeString(String value) {
+        MockJsonWriter writer = new MockJsonWriter(value.length() * 3 + 2);
+        writer.writeEscaped(value);
+        return writer.toByteArray();
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    private void push() {
+        depth++;
+        hasElement &= ~(1L << depth);
+    }
+
+    private void beforeValue() {
+        if (afterKey) {
+            afterKey = false;
+            return;
+        }
+        comma();
+    }
+
+    private void comma() {
+        long bit = 1L << depth;
+        if (depth > 0 && (hasElement & bit) != 0) {
+            writeByte(',');
+        }
+        hasElement |= bit;
+    }
+
+    private void writeLong(long value) {
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) {
+                byte[] min = Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+                writeBytes(min, 0, min.length);
+                return;
+            }
+            writeByte('-');
+            value = -value;
+        }
+        int width = 1;
+        for (long probe = value; probe >= 10; probe /= 10) {
+            width++;
+        }
+        writeDigits(value, width);
+    }
+
+    /**
+     * 0 이상의 값을 width 자리로 기록 (모자라면 앞을 0으로 채움)
+     */
+    private void writeDigits(long value, int width) {
+        ensureCapacity(width);
+        for (int i = length + width - 1; i >= length; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length += width;
+    }
+
+    private void writeEscaped(String value) {
+        ensureCapacity(value.length() + 2);
+        buffer[length++] = '"';
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c == '"' || c == '\\') {
+                    writeByte('\\');
+                    writeByte(c);
+                } else if (c < 0x20) {
+                    writeByte('\\');
+                    writeByte('u');
+                    writeByte('0');
+                    writeByte('0');
+                    writeByte(HEX[c >> 4]);
+                    writeByte(HEX[c & 0xF]);
+                } else {
+                    writeByte(c);
+                }
+            } else if (c < 0x800) {
+                writeByte(0xC0 | (c >> 6));
+                writeByte(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                writeByte(0xF0 | (codePoint >> 18));
+                writeByte(0x80 | ((codePoint >> 12) & 0x3F));
+                writeByte(0x80 | ((codePoint >> 6) & 0x3F));
+                writeByte(0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                writeByte('?');  // 짝이 맞지 않는 서로게이트
+            } else {
+                writeByte(0xE0 | (c >> 12));
+                writeByte(0x80 | ((c >> 6) & 0x3F));
+                writeByte(0x80 | (c & 0x3F));
+            }
+        }
+        writeByte('"');
+    }
+
+    private void writeByte(int b) {
+        if (length == buffer.length) {
+            ensureCapacity(1);
+        }
+        buffer[length++] = (byte) b;
+    }
+
+    private void writeBytes(byte[] bytes, int offset, int count) {
+        ensureCapacity(count);
+        System.arraycopy(bytes, offset, buffer, length, count);
+        length += count;
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = length + additional;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+    }
+}
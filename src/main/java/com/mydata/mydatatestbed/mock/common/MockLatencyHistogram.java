@@ -0,0 +1,88 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 응답시간 히스토그램 (로그-선형 버킷, HDR Histogram 방식)
+ *
+ * 값(마이크로초)을 2의 거듭제곱 구간으로 나누고 구간마다 32칸으로 균등 분할
+ * - 0 ~ 31µs: 1µs 단위
+ * - 그 이상: 구간 폭의 1/32 단위 → 상대 오차 약 3% 이내
+ * - 최대 2^31µs (약 35분), 그 이상은 마지막 칸에 기록
+ * 칸 번호는 비트 연산 몇 번으로 계산 (864칸, 약 7KB)
+ *
+ * 기록은 한 스레드만 (MockLatencyRecorder), 읽기는 여러 스레드에서 가능
+ * - 기록: 일반 읽기 + release 쓰기 (CAS/잠금 없음)
+ * - 읽기: acquire 읽기로 각 칸을 더함 (읽는 도중 기록된 값은 포함되지 않을 수 있음)
+ */
+public final class MockLatencyHistogram {
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int MAX_BITS = 31;
+    private static final long MAX_VALUE = (1L << MAX_BITS) - 1;
+
+    public static final int BUCKETS = (MAX_BITS - SUB_BITS + 1) << SUB_BITS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * 기록 (소유 스레드에서만 호출)
+     */
+    void record(long micros) {
+        int index = index(micros);
+        counts.setRelease(index, counts.getPlain(index) + 1);
+    }
+
+    /**
+     * 칸별 건수를 merged에 더함 (여러 스레드의 히스토그램 병합)
+     */
+    public void addTo(long[] merged) {
+        for (int i = 0; i < BUCKETS; i++) {
+            merged[i] += counts.getAcquire(i);
+        }
+    }
+
+    public static int index(long micros) {
+        long value = Math.min(Math.max(micros, 0), MAX_VALUE);
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return ((shift + 1) << SUB_BITS) + (int) ((value >>> shift) - SUB_COUNT);
+    }
+
+    /**
+     * 칸의 대표값 (칸 범위의 중간값)
+     */
+    public static long valueAt(int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+        int shift = (index >>> SUB_BITS) - 1;
+        long lower = (long) ((index & (SUB_COUNT - 1)) + SUB_COUNT) << shift;
+        return lower + (((1L << shift) - 1) >>> 1);
+    }
+
+    /**
+     * 병합한 칸 배열에서 백분위 값 (예: 99.9 → p99.9), 기록이 없으면 0
+     */
+    public static long percentile(long[] merged, double percentile) {
+        long total = 0;
+        for (long count : merged) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < merged.length; i++) {
+            seen += merged[i];
+            if (seen >= rank) {
+                return valueAt(i);
+            }
+        }
+        return valueAt(merged.length - 1);
+    }
+}
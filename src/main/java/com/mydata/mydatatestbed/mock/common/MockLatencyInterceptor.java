@@ -0,0 +1,61 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * @MockApi 핸들러의 응답시간 기록
+ *
+ * - 시작 시각은 요청 속성에 보관 → 비동기 처리(전자서명 결과 조회, 모의 시나리오 지연 등)는 최초 요청부터 응답 완료까지 측정
+ * - 성공/실패: HTTP 상태 400 미만이면 성공
+ * - 정기적 전송 여부: x-api-type: scheduled
+ */
+@Component
+@RequiredArgsConstructor
+public class MockLatencyInterceptor implements HandlerInterceptor {
+
+    public static final String API_TYPE_HEADER = "x-api-type";
+    public static final String SCHEDULED = "scheduled";
+
+    private static final String START_ATTRIBUTE = MockLatencyInterceptor.class.getName() + ".start";
+
+    private final MockLatencyRegistry latencyRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(START_ATTRIBUTE) == null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    /**
+     * 요청을 처음 받은 시각 (System.nanoTime, 기록 전이면 지금)
+     */
+    static long startNanos(HttpServletRequest request) {
+        return request.getAttribute(START_ATTRIBUTE) instanceof Long start ? start : System.nanoTime();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        // 응답을 열어 둔 채 비동기로 넘긴 경우(모의 시나리오 지연)는 다시 처리한 뒤에 기록
+        if (request.isAsyncStarted()
+                || !(handler instanceof HandlerMethod handlerMethod)
+                || !(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        int endpointId = latencyRegistry.endpointId(handlerMethod);
+        if (endpointId < 0) {
+            return;
+        }
+        latencyRegistry.record(endpointId,
+                SCHEDULED.equalsIgnoreCase(request.getHeader(API_TYPE_HEADER)),
+                response.getStatus() < 400,
+                System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,74 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 스레드 1개 × API 1개의 호출 기록 (MockLatencyRegistry가 스레드마다 생성)
+ *
+ * - histogram: 기동 후 전체 응답시간 분포 (관리자 화면 백분위)
+ * - 현재 시간대 누적값: 호출 구분(정기/비정기)별 성공/실패 건수, 응답시간 합/제곱합
+ *   → 시간대가 바뀌면 MockLatencyRegistry가 공유 시간대 표로 옮기고 비움
+ *
+ * 쓰는 스레드가 하나뿐이므로 잠금/CAS 없이 release 쓰기만 사용
+ */
+final class MockLatencyRecorder {
+
+    static final int KINDS = 2;        // 0: 비정기적 전송, 1: 정기적 전송 (x-api-type: scheduled)
+    static final int FIELDS = 4;
+    static final int SUCCESS = 0;
+    static final int FAIL = 1;
+    static final int SUM_MICROS = 2;
+    static final int SQUARE_SUM_MS = 3;  // 밀리초 제곱합 (double 비트)
+
+    final MockLatencyHistogram histogram = new MockLatencyHistogram();
+
+    private final AtomicLongArray hour = new AtomicLongArray(KINDS * FIELDS);
+
+    /**
+     * 현재 누적 중인 시간대 (epoch 시)
+     */
+    private volatile long hourKey;
+
+    MockLatencyRecorder(long hourKey) {
+        this.hourKey = hourKey;
+    }
+
+    long hourKey() {
+        return hourKey;
+    }
+
+    /**
+     * 기록 (소유 스레드에서만 호출, 시간대 전환은 호출 전에 MockLatencyRegistry가 처리)
+     */
+    void record(int kind, boolean success, long micros) {
+        histogram.record(micros);
+        int base = kind * FIELDS;
+        int counter = base + (success ? SUCCESS : FAIL);
+        hour.setRelease(counter, hour.getPlain(counter) + 1);
+        hour.setRelease(base + SUM_MICROS, hour.getPlain(base + SUM_MICROS) + micros);
+        double ms = micros / 1000.0;
+        double squareSum = Double.longBitsToDouble(hour.getPlain(base + SQUARE_SUM_MS)) + ms * ms;
+        hour.setRelease(base + SQUARE_SUM_MS, Double.doubleToRawLongBits(squareSum));
+    }
+
+    /**
+     * 현재 시간대 누적값을 target에 더함 ([성공, 실패, 응답시간 합(µs), 제곱합(ms²)])
+     */
+    void addHourTo(int kind, double[] target) {
+        int base = kind * FIELDS;
+        target[SUCCESS] += hour.getAcquire(base + SUCCESS);
+        target[FAIL] += hour.getAcquire(base + FAIL);
+        target[SUM_MICROS] += hour.getAcquire(base + SUM_MICROS);
+        target[SQUARE_SUM_MS] += Double.longBitsToDouble(hour.getAcquire(base + SQUARE_SUM_MS));
+    }
+
+    /**
+     * 누적값을 비우고 새 시간대로 전환 (MockLatencyRegistry 잠금 안에서 소유 스레드가 호출)
+     */
+    void resetHour(long newHourKey) {
+        for (int i = 0; i < KINDS * FIELDS; i++) {
+            hour.setRelease(i, 0);
+        }
+        hourKey = newHourKey;
+    }
+}
@@ -0,0 +1,209 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.mydata.mydatatestbed.mock.common.MockLatencyRecorder.FIELDS;
+import static com.mydata.mydatatestbed.mock.common.MockLatencyRecorder.KINDS;
+
+/**
+ * 모의 API별 호출 건수/응답시간 기록 (MockLatencyInterceptor가 요청마다 호출)
+ *
+ * 기록 경로 (요청마다):
+ * - 스레드마다 API별 MockLatencyRecorder를 하나씩 두고 그 스레드만 씀 → 스레드 간 경합/잠금 없음
+ * - 시간대(1시간)가 바뀐 첫 기록에서만 잠금을 잡고 지난 시간대 누적값을 공유 표로 옮김
+ *
+ * 조회 경로 (관리자 화면, 통계자료 재전송):
+ * - 백분위: 모든 스레드의 히스토그램을 칸별로 더한 뒤 계산
+ * - 시간대별 집계: 공유 표 + 아직 옮기지 않은 스레드별 현재 누적값
+ *
+ * 시간대별 집계는 최근 15일(지원-104 재전송 대상인 직전 일요일 기준 전주 + 여유)만 보관
+ */
+@Component
+public class MockLatencyRegistry {
+
+    static final int RETAINED_HOURS = 15 * 24;
+
+    static final int MAX_ENDPOINTS = 128;
+    private static final long MILLIS_PER_HOUR = 3_600_000L;
+    private static final long EMPTY_HOUR = Long.MIN_VALUE;
+
+    private final Map<Object, Integer> handlerIds = new ConcurrentHashMap<>();
+    private final Map<String, Integer> endpointIds = new HashMap<>();
+    private final String[] apiIds = new String[MAX_ENDPOINTS];
+    private volatile int endpointCount;
+
+    @SuppressWarnings("unchecked")
+    private final List<MockLatencyRecorder>[] recorders = new List[MAX_ENDPOINTS];
+
+    /**
+     * API별 공유 시간대 표: 시간대 위치(epoch 시 % 보관 시간)마다 [구분][성공, 실패, 응답시간 합, 제곱합]
+     */
+    private final long[][] hourKeys = new long[MAX_ENDPOINTS][];
+    private final double[][] hourValues = new double[MAX_ENDPOINTS][];
+
+    private final ThreadLocal<MockLatencyRecorder[]> localRecorders =
+            ThreadLocal.withInitial(() -> new MockLatencyRecorder[MAX_ENDPOINTS]);
+
+    /**
+     * 핸들러의 API 번호 (@MockApi 메서드도 MockApiEndpoint도 아니면 -1)
+     */
+    public int endpointId(HandlerMethod handler) {
+        Object key = MockApiEndpoint.key(handler);
+        Integer id = handlerIds.get(key);
+        if (id == null) {
+            String apiId = MockApiEndpoint.apiId(handler);
+            id = apiId == null ? -1 : register(apiId);
+            handlerIds.put(key, id);
+        }
+        return id;
+    }
+
+    public int endpointCount() {
+        return endpointCount;
+    }
+
+    public String apiId(int endpointId) {
+        return apiIds[endpointId];
+    }
+
+    /**
+     * 호출 1건 기록
+     *
+     * @param scheduled 정기적 전송 여부 (x-api-type: scheduled)
+     */
+    public void record(int endpointId, boolean scheduled, boolean success, long nanos) {
+        long hour = System.currentTimeMillis() / MILLIS_PER_HOUR;
+        MockLatencyRecorder[] local = localRecorders.get();
+        MockLatencyRecorder recorder = local[endpointId];
+        if (recorder == null) {
+            recorder = new MockLatencyRecorder(hour);
+            recorders[endpointId].add(recorder);
+            local[endpointId] = recorder;
+        } else if (recorder.hourKey() != hour) {
+            rollOver(endpointId, recorder, hour);
+        }
+        recorder.record(scheduled ? 1 : 0, success, nanos / 1_000L);
+    }
+
+    /**
+     * API별 응답시간 백분위 (기동 후 전체)
+     */
+    public List<MockLatencySnapshot> snapshots() {
+        int count = endpointCount;
+        List<MockLatencySnapshot> snapshots = new ArrayList<>(count);
+        long[] merged = new long[MockLatencyHistogram.BUCKETS];
+        for (int id = 0; id < count; id++) {
+            Arrays.fill(merged, 0);
+            for (MockLatencyRecorder recorder : recorders[id]) {
+                recorder.histogram.addTo(merged);
+            }
+            long total = 0;
+            int highest = 0;
+            for (int i = 0; i < merged.length; i++) {
+                if (merged[i] > 0) {
+                    total += merged[i];
+                    highest = i;
+                }
+            }
+            snapshots.add(new MockLatencySnapshot(apiIds[id], total,
+                    millis(MockLatencyHistogram.percentile(merged, 50)),
+                    millis(MockLatencyHistogram.percentile(merged, 90)),
+                    millis(MockLatencyHistogram.percentile(merged, 99)),
+                    millis(MockLatencyHistogram.percentile(merged, 99.9)),
+                    total == 0 ? 0 : millis(MockLatencyHistogram.valueAt(highest))));
+        }
+        return snapshots;
+    }
+
+    /**
+     * fromHour부터 target.length 시간 동안의 시간대별 집계를 target에 채움
+     * ([시간][성공, 실패, 응답시간 합(µs), 제곱합(ms²)], 보관 기간이 지난 시간대는 0)
+     *
+     * @param scheduled true: 정기적 전송, false: 비정기적 전송
+     */
+    public synchronized void hourly(int endpointId, boolean scheduled, long fromHour, double[][] target) {
+        int kind = scheduled ? 1 : 0;
+        long[] keys = hourKeys[endpointId];
+        double[] values = hourValues[endpointId];
+        for (int i = 0; i < target.length; i++) {
+            long hour = fromHour + i;
+            Arrays.fill(target[i], 0);
+            int slot = slot(hour);
+            if (keys[slot] == hour) {
+                int base = (slot * KINDS + kind) * FIELDS;
+                for (int field = 0; field < FIELDS; field++) {
+                    target[i][field] += values[base + field];
+                }
+            }
+        }
+        for (MockLatencyRecorder recorder : recorders[endpointId]) {
+            long offset = recorder.hourKey() - fromHour;
+            if (offset >= 0 && offset < target.length) {
+                recorder.addHourTo(kind, target[(int) offset]);
+            }
+        }
+    }
+
+    /**
+     * 지난 시간대 누적값을 공유 표로 옮기고 recorder를 새 시간대로 전환
+     * (조회와 같은 잠금 → 조회 중에 같은 값이 두 번 더해지거나 빠지지 않음)
+     */
+    private synchronized void rollOver(int endpointId, MockLatencyRecorder recorder, long hour) {
+        long previous = recorder.hourKey();
+        long[] keys = hourKeys[endpointId];
+        double[] values = hourValues[endpointId];
+        int slot = slot(previous);
+        if (keys[slot] != previous && (keys[slot] == EMPTY_HOUR || keys[slot] < previous)) {
+            keys[slot] = previous;
+            Arrays.fill(values, slot * KINDS * FIELDS, (slot + 1) * KINDS * FIELDS, 0);
+        }
+        if (keys[slot] == previous) {
+            double[] hourTotals = new double[FIELDS];
+            for (int kind = 0; kind < KINDS; kind++) {
+                Arrays.fill(hourTotals, 0);
+                recorder.addHourTo(kind, hourTotals);
+                int base = (slot * KINDS + kind) * FIELDS;
+                for (int field = 0; field < FIELDS; field++) {
+                    values[base + field] += hourTotals[field];
+                }
+            }
+        }
+        recorder.resetHour(hour);
+    }
+
+    private synchronized int register(String apiId) {
+        Integer id = endpointIds.get(apiId);
+        if (id != null) {
+            return id;
+        }
+        if (endpointCount == MAX_ENDPOINTS) {
+            throw new IllegalStateException("@MockApi는 최대 " + MAX_ENDPOINTS + "개까지 등록할 수 있습니다.");
+        }
+        id = endpointCount;
+        apiIds[id] = apiId;
+        recorders[id] = new CopyOnWriteArrayList<>();
+        hourKeys[id] = new long[RETAINED_HOURS];
+        Arrays.fill(hourKeys[id], EMPTY_HOUR);
+        hourValues[id] = new double[RETAINED_HOURS * KINDS * FIELDS];
+        endpointIds.put(apiId, id);
+        endpointCount = id + 1;
+        return id;
+    }
+
+    private static int slot(long hour) {
+        return (int) Math.floorMod(hour, (long) RETAINED_HOURS);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
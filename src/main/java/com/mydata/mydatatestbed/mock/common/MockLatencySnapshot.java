@@ -0,0 +1,20 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * API 1개의 호출 건수와 응답시간 백분위 (밀리초, 조회 시점에 스레드별 기록을 병합한 값)
+ */
+@Getter
+@RequiredArgsConstructor
+public class MockLatencySnapshot {
+
+    private final String apiId;
+    private final long count;
+    private final double p50;
+    private final double p90;
+    private final double p99;
+    private final double p999;
+    private final double max;
+}
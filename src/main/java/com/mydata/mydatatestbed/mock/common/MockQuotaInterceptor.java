@@ -0,0 +1,80 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.mydata.mydatatestbed.mock.common.MockLatencyInterceptor.API_TYPE_HEADER;
+import static com.mydata.mydatatestbed.mock.common.MockLatencyInterceptor.SCHEDULED;
+
+/**
+ * 모의 정보제공 API 호출 한도 (client_id × API × 호출 구분별, 슬라이딩 윈도)
+ *
+ * - 호출 구분: x-api-type: scheduled면 정기적 전송, 아니면 비정기적 전송 (정보주체 요청)
+ * - 한도를 넘으면 핸들러를 실행하지 않고 42901 (HTTP 429)
+ * - client_id별 카운터 객체 → 조회는 ConcurrentHashMap.get 1번, 기록은 CAS 1번 (잠금 없음)
+ * - 개별인증 없이 임의 토큰으로 부하 테스트하는 경우(등록되지 않은 토큰)는 client_id가 없으므로 제한하지 않음
+ *
+ * 한도가 0이면 해당 호출 구분은 제한하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class MockQuotaInterceptor implements HandlerInterceptor {
+
+    private static final int KINDS = 2;  // 0: 비정기적 전송, 1: 정기적 전송
+
+    private final MockLatencyRegistry latencyRegistry;
+    private final MockTenantResolver tenantResolver;
+
+    private final Map<String, MockClientQuota> quotas = new ConcurrentHashMap<>();
+
+    @Value("${mock.quota.window-seconds:86400}")
+    private long windowSeconds;
+
+    @Value("${mock.quota.scheduled-limit:0}")
+    private int scheduledLimit;
+
+    @Value("${mock.quota.on-demand-limit:0}")
+    private int onDemandLimit;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기로 다시 들어온 요청(모의 시나리오 지연 후 재처리)은 최초 요청에서 이미 셈
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        boolean scheduled = SCHEDULED.equalsIgnoreCase(request.getHeader(API_TYPE_HEADER));
+        int limit = Math.min(scheduled ? scheduledLimit : onDemandLimit, MockClientQuota.MAX_COUNT);
+        if (limit <= 0) {
+            return true;
+        }
+        int endpointId = latencyRegistry.endpointId(handlerMethod);
+        if (endpointId < 0) {
+            return true;
+        }
+        String clientId = tenantResolver.resolveClient(request);
+        if (clientId == null) {
+            return true;
+        }
+
+        MockClientQuota quota = quotas.get(clientId);
+        if (quota == null) {
+            quota = quotas.computeIfAbsent(clientId,
+                    id -> new MockClientQuota(MockLatencyRegistry.MAX_ENDPOINTS * KINDS));
+        }
+        int slot = endpointId * KINDS + (scheduled ? 1 : 0);
+        if (!quota.tryAcquire(slot, System.currentTimeMillis(), windowSeconds * 1_000L, limit)) {
+            throw new MockApiException(MockRspCode.TOO_MANY_REQUESTS,
+                    (scheduled ? "정기적" : "비정기적") + " 전송 호출 한도(" + limit + "건/" + windowSeconds + "초)를 초과했습니다.");
+        }
+        return true;
+    }
+}
@@ -0,0 +1,84 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import com.mydata.mydatatestbed.catalog.ApiSchema;
+import com.mydata.mydatatestbed.catalog.ApiSchemaValidator;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+
+/**
+ * 모의 API 요청 JSON 본문 처리 (@RequestBody를 읽기 전에 본문 바이트를 한 번 받아 둠)
+ *
+ * - 규격 검증: 토큰 단위로 검사 (검증 트리는 MockValidationInterceptor가 요청 속성에 보관한 것을 사용)
+ * - 캡처: 본문 바이트를 요청 속성에 보관 → MockApiResponder가 응답과 함께 MockCaptureLog에 기록
+ * 같은 바이트를 변환기에 다시 넘기므로 본문은 한 번만 읽음
+ */
+@ControllerAdvice(basePackages = "com.mydata.mydatatestbed.mock")
+@RequiredArgsConstructor
+public class MockRequestBodyAdvice extends RequestBodyAdviceAdapter {
+
+    static final String BODY_ATTRIBUTE = MockRequestBodyAdvice.class.getName() + ".body";
+
+    private final ApiSchemaValidator validator;
+    private final MockValidationInterceptor validationInterceptor;
+    private final MockCaptureLog captureLog;
+
+    @Value("${mock.validation.request:true}")
+    private boolean validateRequest;
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return (validateRequest || captureLog.isEnabled())
+                && (methodParameter.hasMethodAnnotation(MockApi.class)
+                || MockApiEndpoint.class.isAssignableFrom(methodParameter.getContainingClass()))
+                && AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage, MethodParameter parameter,
+                                           Type targetType, Class<? extends HttpMessageConverter<?>> converterType)
+            throws IOException {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return inputMessage;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        ApiSchema schema = validateRequest ? MockValidationInterceptor.schema(request) : null;
+        boolean validate = schema != null && schema.requestBody() != null;
+        if (!validate && !captureLog.isEnabled()) {
+            return inputMessage;
+        }
+        byte[] body = inputMessage.getBody().readAllBytes();
+        if (captureLog.isEnabled()) {
+            request.setAttribute(BODY_ATTRIBUTE, body);
+        }
+        if (validate) {
+            validationInterceptor.report(attributes.getResponse(), validator.validateBody(schema.requestBody(), body));
+        }
+        return new HttpInputMessage() {
+            @Override
+            public InputStream getBody() {
+                return new ByteArrayInputStream(body);
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return inputMessage.getHeaders();
+            }
+        };
+    }
+}
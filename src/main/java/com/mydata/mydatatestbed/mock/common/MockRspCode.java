@@ -0,0 +1,60 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import lombok.Getter;
+
+/**
+ * 모의 API 세부 응답코드 (rsp_code / rsp_msg)
+ *
+ * 응답마다 인코딩하지 않도록 코드와 메시지의 JSON 바이트를 미리 만들어 둠
+ */
+@Getter
+public enum MockRspCode {
+
+    SUCCESS("00000", "성공", 200),
+    INVALID_PARAMETER("40001", "요청 파라미터 오류", 400),
+    INVALID_GRANT("40002", "유효하지 않은 인가코드 또는 리프레시 토큰", 400),
+    INVALID_TOKEN("40101", "유효하지 않은 접근토큰", 401),
+    INVALID_CLIENT("40102", "클라이언트 인증 실패", 401),
+    INSUFFICIENT_SCOPE("40301", "전송요구 범위를 벗어난 요청", 403),
+    NOT_FOUND("40402", "정보주체의 자산이 존재하지 않음", 404),
+    SIGN_NOT_FOUND("40403", "전자서명 요청 내역이 존재하지 않음", 404),
+    TOO_MANY_REQUESTS("42901", "정보제공 요청 한도 초과", 429),
+    SYSTEM_ERROR("50001", "시스템 장애", 500),
+
+    /**
+     * 개별인증-004 접근토큰 폐기: 폐기 대상 토큰이 없거나 이미 만료/폐기됨
+     */
+    INVALID_REVOKE_TOKEN("99999", "유효하지 않은 토큰", 200),
+
+    /**
+     * 통합인증-103 전자서명 결과 조회: 대기 시간 안에 서명이 끝나지 않음 (같은 요청으로 다시 조회)
+     */
+    SIGN_PENDING("40901", "전자서명 진행 중", 200);
+
+    private final String code;
+    private final String message;
+    private final int httpStatus;
+
+    private final byte[] encodedCode;
+    private final byte[] encodedMessage;
+
+    MockRspCode(String code, String message, int httpStatus) {
+        this.code = code;
+        this.message = message;
+        this.httpStatus = httpStatus;
+        this.encodedCode = MockJsonWriter.encodeString(code);
+        this.encodedMessage = MockJsonWriter.encodeString(message);
+    }
+
+    /**
+     * 세부 응답코드로 찾기 (없으면 null)
+     */
+    public static MockRspCode of(String code) {
+        for (MockRspCode rspCode : values()) {
+            if (rspCode.code.equals(code)) {
+                return rspCode;
+            }
+        }
+        return null;
+    }
+}
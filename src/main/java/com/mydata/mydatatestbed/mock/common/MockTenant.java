@@ -0,0 +1,13 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import com.mydata.mydatatestbed.mock.sandbox.MockSandbox;
+
+/**
+ * 모의 API 요청의 테넌트 (MockTenantResolver)
+ *
+ * @param key       데이터셋 식별값 (인가 시 받은 x-user-ci, 등록되지 않은 토큰이면 토큰 값)
+ * @param sandbox   데이터셋/전송요구를 조회할 회원 샌드박스 (등록되지 않은 토큰이면 공용)
+ * @param consentId 샌드박스 안의 전송요구 번호 (등록되지 않은 토큰이면 MockConsentStore.NONE)
+ */
+public record MockTenant(String key, MockSandbox sandbox, int consentId) {
+}
@@ -0,0 +1,111 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import com.mydata.mydatatestbed.mock.consent.MockConsentScope;
+import com.mydata.mydatatestbed.mock.consent.MockConsentStore;
+import com.mydata.mydatatestbed.mock.oauth.MockOAuthGrant;
+import com.mydata.mydatatestbed.mock.oauth.MockOAuthToken;
+import com.mydata.mydatatestbed.mock.oauth.MockOAuthTokenStore;
+import com.mydata.mydatatestbed.mock.oauth.MockOAuthTokenType;
+import com.mydata.mydatatestbed.mock.sandbox.MockSandbox;
+import com.mydata.mydatatestbed.mock.sandbox.MockSandboxRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모의 API 요청의 테넌트(데이터셋) 식별
+ *
+ * - 모의 개별인증(/v2/oauth/2.0/token)으로 발급한 접근토큰: 인가 시 받은 x-user-ci를 테넌트 키로 사용
+ *   → 토큰을 갱신해도 같은 고객이면 같은 데이터셋, 만료/폐기된 토큰은 40101
+ * - 그 밖의 토큰: 기본은 40101, allow-unregistered-tokens를 켜면 토큰 값 자체를 테넌트 키로 사용
+ *   (개별인증 없이 임의 토큰으로 부하 테스트하는 경우, 토큰마다 독립된 데이터셋)
+ *
+ * 데이터셋/전송요구는 토큰 발급 시 client_secret으로 확인한 회원의 샌드박스에서 조회 (MockSandboxRegistry)
+ * 등록되지 않은 토큰은 별도의 익명 샌드박스(MockSandbox.ANONYMOUS) → 회원/공용 샌드박스의 데이터를 조회할 수 없음
+ *
+ * scope를 지정하면 발급한 접근토큰의 전송요구(MockConsentStore)에 해당 scope가 있는지도 확인 (없으면 40301)
+ * - 인가에 기록한 전송요구 번호로 비트만 확인 → 토큰/샌드박스 조회 외 추가 해시 조회 없음
+ * - 등록되지 않은 토큰은 전송요구가 없으므로 확인하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class MockTenantResolver {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final int MAX_TOKEN_LENGTH = 1500;  // 규격: Authorization aNS(1500)
+
+    private final MockOAuthTokenStore tokenStore;
+    private final MockSandboxRegistry sandboxRegistry;
+
+    @Value("${mock.oauth.allow-unregistered-tokens:false}")
+    private boolean allowUnregisteredTokens;
+
+    public String resolve(HttpServletRequest request) {
+        return resolve(request, null);
+    }
+
+    /**
+     * @param scope 호출하는 API의 권한 범위 (null이면 확인하지 않음)
+     */
+    public String resolve(HttpServletRequest request, MockConsentScope scope) {
+        return resolveTenant(request, scope).key();
+    }
+
+    /**
+     * 테넌트 키 + 회원 샌드박스 + 전송요구 번호
+     *
+     * @param scope 호출하는 API의 권한 범위 (null이면 확인하지 않음)
+     */
+    public MockTenant resolveTenant(HttpServletRequest request, MockConsentScope scope) {
+        String token = bearerToken(request);
+        MockOAuthGrant grant = grant(token);
+        if (grant == null) {
+            return new MockTenant(token, sandboxRegistry.anonymous(), MockConsentStore.NONE);
+        }
+        MockSandbox sandbox = sandboxRegistry.get(grant.getMemberId());
+        if (scope != null && !sandbox.getConsents().isConsented(grant.getConsentId(), scope)) {
+            throw new MockApiException(MockRspCode.INSUFFICIENT_SCOPE,
+                    "전송요구하지 않았거나 철회/종료된 scope입니다: " + scope.getValue());
+        }
+        return new MockTenant(grant.getTenantKey(), sandbox, grant.getConsentId());
+    }
+
+    /**
+     * 접근토큰을 발급받은 마이데이터 서비스의 client_id (등록되지 않은 토큰이면 null)
+     */
+    public String resolveClient(HttpServletRequest request) {
+        MockOAuthGrant grant = grant(bearerToken(request));
+        return grant == null ? null : grant.getClientId();
+    }
+
+    private String bearerToken(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            throw new MockApiException(MockRspCode.INVALID_TOKEN, "Authorization: Bearer 접근토큰이 필요합니다.");
+        }
+        String token = authorization.substring(BEARER_PREFIX.length()).trim();
+        if (token.isEmpty() || token.length() > MAX_TOKEN_LENGTH) {
+            throw new MockApiException(MockRspCode.INVALID_TOKEN, "접근토큰 형식이 올바르지 않습니다.");
+        }
+        return token;
+    }
+
+    /**
+     * 발급한 접근토큰의 인가 (등록되지 않은 토큰이 허용되면 null)
+     */
+    private MockOAuthGrant grant(String token) {
+        if (MockOAuthTokenType.ACCESS_TOKEN.matches(token)) {
+            MockOAuthToken accessToken = tokenStore.find(token, MockOAuthTokenType.ACCESS_TOKEN);
+            if (accessToken == null) {
+                throw new MockApiException(MockRspCode.INVALID_TOKEN, "만료되었거나 폐기된 접근토큰입니다.");
+            }
+            return accessToken.getGrant();
+        }
+        if (!allowUnregisteredTokens) {
+            throw new MockApiException(MockRspCode.INVALID_TOKEN, "발급되지 않은 접근토큰입니다.");
+        }
+        return null;
+    }
+}
@@ -0,0 +1,178 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 (초 단위 만료 처리)
+ *
+ * 만료 시각마다 예약 작업을 만들거나 전체 목록을 주기적으로 훑지 않고,
+ * 만료 시각이 속한 칸(slot)의 연결 리스트에 넣어 두었다가 해당 칸의 시각이 되면 꺼냄
+ * - 등록/취소: O(1) (타이머 객체가 직접 리스트 노드 역할)
+ * - advance(): 경과한 초 수 + 만료된 타이머 수에 비례 (살아 있는 타이머 수와 무관)
+ *
+ * 구조: 단계 5개 × 칸 64개
+ * - 0단계: 1초 단위 64칸 (64초)
+ * - 1단계: 64초 단위 64칸 (약 68분)
+ * - ... 4단계: 64^4초 단위 (최대 약 34년)
+ * - 상위 단계의 칸은 시각이 도달하면 하위 단계로 다시 배치 (cascade)
+ *
+ * 스레드 안전하지 않음 → 호출하는 쪽에서 잠금 (MockOAuthTokenStore 참고)
+ */
+public final class MockTimingWheel<T extends MockTimingWheel.Timer> {
+
+    private static final int LEVELS = 5;
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final long MAX_DELAY = (1L << (BITS * LEVELS)) - 1;
+
+    /**
+     * 휠에 넣을 수 있는 타이머 (리스트 노드 필드를 직접 가짐)
+     */
+    public abstract static class Timer {
+
+        long deadline;
+        Timer prev;
+        Timer next;
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        boolean isScheduled() {
+            return prev != null;
+        }
+    }
+
+    /**
+     * 칸마다 하나씩 두는 원형 리스트의 머리 노드
+     */
+    private static final class Head extends Timer {
+
+        private Head() {
+            linkSelf(this);
+        }
+    }
+
+    private final Head[][] slots = new Head[LEVELS][SLOTS];
+
+    /**
+     * 다음에 처리할 시각 (epoch 초)
+     */
+    private long nextTick;
+    private int size;
+
+    public MockTimingWheel(long startSecond) {
+        this.nextTick = startSecond;
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                slots[level][slot] = new Head();
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * deadline(epoch 초)에 만료되도록 등록 (이미 등록된 타이머는 새 시각으로 이동)
+     */
+    public void schedule(T timer, long deadline) {
+        if (timer.isScheduled()) {
+            unlink(timer);
+            size--;
+        }
+        timer.deadline = Math.min(Math.max(deadline, nextTick), nextTick + MAX_DELAY);
+        place(timer);
+        size++;
+    }
+
+    /**
+     * 등록 취소 (등록되지 않은 타이머면 무시)
+     */
+    public boolean cancel(T timer) {
+        if (!timer.isScheduled()) {
+            return false;
+        }
+        unlink(timer);
+        size--;
+        return true;
+    }
+
+    /**
+     * now(epoch 초)까지 만료된 타이머를 꺼내 expired에 전달
+     * - expired 안에서 이 휠에 등록/취소하지 말 것 (꺼내는 중인 목록이 깨짐)
+     */
+    @SuppressWarnings("unchecked")
+    public void advance(long now, Consumer<T> expired) {
+        while (nextTick <= now) {
+            long tick = nextTick;
+
+            // 상위 단계부터: 이번 시각에 시작하는 칸을 하위 단계로 재배치
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((tick & ((1L << (BITS * level)) - 1)) == 0) {
+                    Head head = slots[level][(int) (tick >>> (BITS * level)) & MASK];
+                    for (Timer timer = detachAll(head); timer != null; ) {
+                        Timer following = timer.next;
+                        timer.next = null;
+                        place(timer);
+                        timer = following;
+                    }
+                }
+            }
+
+            Head head = slots[0][(int) tick & MASK];
+            for (Timer timer = detachAll(head); timer != null; ) {
+                Timer following = timer.next;
+                timer.prev = null;
+                timer.next = null;
+                size--;
+                expired.accept((T) timer);
+                timer = following;
+            }
+            nextTick = tick + 1;
+        }
+    }
+
+    /**
+     * nextTick 기준 남은 시간으로 단계를 고르고, 만료 시각의 해당 단계 자릿값으로 칸을 고름
+     */
+    private void place(Timer timer) {
+        long delay = timer.deadline - nextTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= 1L << (BITS * (level + 1))) {
+            level++;
+        }
+        Head head = slots[level][(int) (timer.deadline >>> (BITS * level)) & MASK];
+        timer.prev = head.prev;
+        timer.next = head;
+        head.prev.next = timer;
+        head.prev = timer;
+    }
+
+    /**
+     * 칸의 노드를 모두 떼어 내고 첫 노드를 반환 (next로 이어진 단방향 목록, 마지막은 null)
+     */
+    private static Timer detachAll(Head head) {
+        if (head.next == head) {
+            return null;
+        }
+        Timer first = head.next;
+        head.prev.next = null;
+        linkSelf(head);
+        return first;
+    }
+
+    private static void unlink(Timer timer) {
+        timer.prev.next = timer.next;
+        timer.next.prev = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+    }
+
+    private static void linkSelf(Head head) {
+        head.prev = head;
+        head.next = head;
+    }
+}
@@ -0,0 +1,120 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import com.mydata.mydatatestbed.catalog.ApiSchema;
+import com.mydata.mydatatestbed.catalog.ApiSchemaValidator;
+import com.mydata.mydatatestbed.catalog.ApiViolation;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 모의 API 요청 규격 검증 (헤더, 쿼리 파라미터)
+ *
+ * - 핸들러의 @MockApi + 주소 버전(/v2/ → v2, /v1/ → v1, 그 외 v0)으로 검증 트리를 찾아 요청 속성에 보관
+ *   → JSON 본문은 MockRequestBodyAdvice, 응답 본문은 MockApiResponder가 같은 검증 트리로 검사
+ * - 검증 트리는 API(핸들러 메서드 또는 등록형 핸들러 MockApiEndpoint)별로 한 번만 찾음
+ * - 위반 시 기본은 핸들러를 그대로 실행하고 x-testbed-violation 헤더로 알림 ("항목:유형" 쉼표 구분)
+ *   reject-invalid를 켜면 40001 (어느 항목이 왜 틀렸는지 rsp_msg에 포함)
+ *
+ * Authorization 헤더는 검사하지 않음 (접근토큰 검증은 각 모의 API가 담당)
+ * form 본문(토큰 발급 등)은 검사하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class MockValidationInterceptor implements HandlerInterceptor {
+
+    public static final String VIOLATION_HEADER = "x-testbed-violation";
+
+    static final String SCHEMA_ATTRIBUTE = MockValidationInterceptor.class.getName() + ".schema";
+
+    private final ApiSchemaValidator validator;
+
+    private final Map<Object, Optional<ApiSchema>> schemas = new ConcurrentHashMap<>();
+
+    @Value("${mock.validation.request:true}")
+    private boolean validateRequest;
+
+    @Value("${mock.validation.reject-invalid:false}")
+    private boolean rejectInvalid;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기로 다시 들어온 요청은 최초 요청에서 이미 검사
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        ApiSchema schema = schemas.computeIfAbsent(MockApiEndpoint.key(handlerMethod),
+                key -> schema(handlerMethod, request.getServletPath())).orElse(null);
+        if (schema == null) {
+            return true;
+        }
+        request.setAttribute(SCHEMA_ATTRIBUTE, schema);
+        if (!validateRequest) {
+            return true;
+        }
+
+        List<ApiViolation> headers = validator.validateValues(schema.requestHeaders(), request::getHeader);
+        List<ApiViolation> parameters = validator.validateValues(schema.parameters(), request::getParameter);
+        if (headers.isEmpty()) {
+            report(response, parameters);
+        } else if (parameters.isEmpty()) {
+            report(response, headers);
+        } else {
+            List<ApiViolation> violations = new ArrayList<>(headers);
+            violations.addAll(parameters);
+            report(response, violations);
+        }
+        return true;
+    }
+
+    private Optional<ApiSchema> schema(HandlerMethod handler, String path) {
+        String apiId = MockApiEndpoint.apiId(handler);
+        if (apiId == null) {
+            return Optional.empty();
+        }
+        String version = path.startsWith("/v2/") ? "v2" : path.startsWith("/v1/") ? "v1" : "v0";
+        return Optional.ofNullable(validator.schema(apiId, version));
+    }
+
+    /**
+     * 요청 속성에 보관한 검증 트리 (@MockApi 핸들러가 아니거나 카탈로그에 없으면 null)
+     */
+    static ApiSchema schema(HttpServletRequest request) {
+        return request.getAttribute(SCHEMA_ATTRIBUTE) instanceof ApiSchema schema ? schema : null;
+    }
+
+    /**
+     * 요청 위반 처리 (거부 또는 헤더로 알림)
+     */
+    void report(HttpServletResponse response, List<ApiViolation> violations) {
+        if (violations.isEmpty()) {
+            return;
+        }
+        if (rejectInvalid) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, violations.stream()
+                    .map(ApiViolation::toString)
+                    .collect(Collectors.joining(", ")));
+        }
+        if (response != null) {
+            response.addHeader(VIOLATION_HEADER, headerValue(violations));
+        }
+    }
+
+    static String headerValue(List<ApiViolation> violations) {
+        return violations.stream()
+                .map(ApiViolation::toHeaderValue)
+                .collect(Collectors.joining(","));
+    }
+}
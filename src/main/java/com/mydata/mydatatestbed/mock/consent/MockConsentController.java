@@ -0,0 +1,109 @@
+package com.mydata.mydatatestbed.mock.consent;
+
+import com.mydata.mydatatestbed.mock.common.MockApi;
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockApiResponder;
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import com.mydata.mydatatestbed.mock.common.MockTenant;
+import com.mydata.mydatatestbed.mock.common.MockTenantResolver;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 모의 마이데이터사업자 지원 API - 전송요구 내역 조회 (support-api/provider-api.html 규격, v1)
+ *
+ * - 지원-103 POST /v1/mgmts/consents : 종합포털 → 마이데이터사업자, 정보주체의 유효한 전송요구 내역
+ *
+ * 모의 개별인증으로 접근토큰을 발급받을 때 등록된 전송요구(MockConsentStore)를 client_id별로 묶어 응답
+ * 전송요구는 호출한 접근토큰의 회원 샌드박스에서 조회 (다른 회원이 등록한 전송요구는 보이지 않음)
+ * 유효한 전송요구가 하나도 없으면 가입 고객이 아닌 것으로 간주 (is_member=false)
+ */
+@RestController
+@RequestMapping("/v1/mgmts")
+@RequiredArgsConstructor
+public class MockConsentController {
+
+    private static final byte[] IS_MEMBER = MockJsonWriter.key("is_member");
+    private static final byte[] SERVICE_CNT = MockJsonWriter.key("service_cnt");
+    private static final byte[] SERVICE_LIST = MockJsonWriter.key("service_list");
+    private static final byte[] CLIENT_ID = MockJsonWriter.key("client_id");
+    private static final byte[] CONSENT_CNT = MockJsonWriter.key("consent_cnt");
+    private static final byte[] CONSENT_LIST = MockJsonWriter.key("consent_list");
+    private static final byte[] ORG_CODE = MockJsonWriter.key("org_code");
+    private static final byte[] SCOPE = MockJsonWriter.key("scope");
+    private static final byte[] CONSENT_DATE = MockJsonWriter.key("consent_date");
+    private static final byte[] CONSENT_END_DATE = MockJsonWriter.key("consent_end_date");
+
+    private final MockTenantResolver tenantResolver;
+    private final MockApiResponder responder;
+
+    @MockApi("지원-103")
+    @PostMapping("/consents")
+    public void consents(@RequestBody MockConsentRequest body,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        MockTenant tenant = tenantResolver.resolveTenant(request, null);
+        require(body.getOrgCode(), "org_code");
+        List<MockConsentStore.Consent> consents = tenant.sandbox().getConsents().findByUser(require(body.getUserCi(), "user_ci"));
+
+        MockJsonWriter writer = responder.begin()
+                .field(IS_MEMBER).bool(!consents.isEmpty());
+        if (consents.isEmpty()) {
+            responder.send(request, response, writer);
+            return;
+        }
+
+        consents.sort(Comparator.comparing(MockConsentStore.Consent::getClientId));
+        int serviceCount = 1;
+        for (int i = 1; i < consents.size(); i++) {
+            if (!consents.get(i).getClientId().equals(consents.get(i - 1).getClientId())) {
+                serviceCount++;
+            }
+        }
+
+        writer.field(SERVICE_CNT).number(serviceCount)
+                .field(SERVICE_LIST).beginArray();
+        int from = 0;
+        while (from < consents.size()) {
+            String clientId = consents.get(from).getClientId();
+            int to = from;
+            while (to < consents.size() && consents.get(to).getClientId().equals(clientId)) {
+                to++;
+            }
+            writer.beginObject()
+                    .field(CLIENT_ID).string(clientId)
+                    .field(CONSENT_CNT).number(to - from)
+                    .field(CONSENT_LIST).beginArray();
+            for (int i = from; i < to; i++) {
+                MockConsentStore.Consent consent = consents.get(i);
+                writer.beginObject()
+                        .field(ORG_CODE).string(consent.getOrgCode())
+                        .field(SCOPE).string(consent.scopeNames())
+                        .field(CONSENT_DATE).date(consent.getConsentDate())
+                        .field(CONSENT_END_DATE).date(consent.getEndDate())
+                        .endObject();
+            }
+            writer.endArray().endObject();
+            from = to;
+        }
+        writer.endArray();
+        responder.send(request, response, writer);
+    }
+
+    private String require(String value, String name) {
+        if (value == null || value.isBlank()) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, name + "는 필수입니다.");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,20 @@
+package com.mydata.mydatatestbed.mock.consent;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 지원-103 정보주체 별 전송요구 내역 조회 본문
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class MockConsentRequest {
+
+    private String orgCode;
+    private String userCi;
+}
@@ -0,0 +1,82 @@
+package com.mydata.mydatatestbed.mock.consent;
+
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 접근토큰 권한 범위(scope) - 전송요구 중분류
+ *
+ * 상수마다 long 비트 하나를 배정 (ordinal 순서, 최대 64개)
+ * → 전송요구 1건의 scope 집합을 long 하나로 보관하고 비트 연산으로 확인 (MockConsentStore)
+ */
+@Getter
+public enum MockConsentScope {
+
+    BANK_LIST("bank.list"),
+    BANK_DEPOSIT("bank.deposit"),
+    BANK_INVEST("bank.invest"),
+    BANK_LOAN("bank.loan"),
+    BANK_IRP("bank.irp"),
+    BANK_PREPAID("bank.prepaid"),
+    CARD_LIST("card.list"),
+    CARD_CARD("card.card"),
+    CARD_POINT("card.point"),
+    TELECOM_LIST("telecom.list"),
+    TELECOM_TRANSACTION("telecom.transaction");
+
+    private static final MockConsentScope[] VALUES = values();
+    private static final Map<String, MockConsentScope> BY_NAME = new HashMap<>();
+
+    static {
+        for (MockConsentScope scope : VALUES) {
+            BY_NAME.put(scope.value, scope);
+        }
+    }
+
+    private final String value;
+    private final long bit;
+
+    MockConsentScope(String value) {
+        this.value = value;
+        this.bit = 1L << ordinal();
+    }
+
+    /**
+     * 공백으로 구분한 scope 목록 → 비트 집합 (알 수 없는 scope는 40001)
+     */
+    public static long mask(String scopes) {
+        long mask = 0;
+        if (scopes == null) {
+            return mask;
+        }
+        for (String name : scopes.trim().split(" +")) {
+            if (name.isEmpty()) {
+                continue;
+            }
+            MockConsentScope scope = BY_NAME.get(name);
+            if (scope == null) {
+                throw new MockApiException(MockRspCode.INVALID_PARAMETER, "지원하지 않는 scope입니다: " + name);
+            }
+            mask |= scope.bit;
+        }
+        return mask;
+    }
+
+    /**
+     * 비트 집합 → 공백으로 구분한 scope 목록 (상수 선언 순서)
+     */
+    public static String names(long mask) {
+        StringBuilder names = new StringBuilder();
+        for (long rest = mask; rest != 0; rest &= rest - 1) {
+            if (!names.isEmpty()) {
+                names.append(' ');
+            }
+            names.append(VALUES[Long.numberOfTrailingZeros(rest)].value);
+        }
+        return names.toString();
+    }
+}
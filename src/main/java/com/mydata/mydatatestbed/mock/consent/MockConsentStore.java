@@ -0,0 +1,376 @@
+package com.mydata.mydatatestbed.mock.consent;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 모의 전송요구 내역 저장소 (메모리)
+ *
+ * 전송요구 1건 = 정보주체 × 마이데이터 서비스(client_id) × 정보제공자(org_code) × scope 집합 × 기간
+ * 모의 정보제공 API 호출마다 확인하므로 건별 객체 없이 컬럼별 기본형 배열의 한 칸(번호)으로 보관
+ * - 정보주체: x-user-ci의 64비트 지문 (문자열을 보관하지 않음, 천만 건 기준 충돌 확률 약 10^-5)
+ * - client_id/org_code: 종류가 적으므로 번호로 바꿔(intern) int로 보관
+ * - scope 집합: long 비트 집합 (MockConsentScope)
+ * - 전송요구 일자/종료 일자: epoch 일수 (int)
+ * → 건당 약 40바이트 + 해시 표 → 수천만 건도 객체 헤더/참조 없이 보관
+ *
+ * 조회 경로:
+ * - 접근토큰 확인(isConsented): 인가에 기록한 번호로 배열을 바로 읽고 비트 확인 (해시 조회는 토큰 조회 1번뿐)
+ * - 낙관적 읽기(StampedLock) → 쓰기와 겹치지 않으면 잠금 없이 처리
+ *
+ * 같은 정보주체/서비스/기관으로 다시 전송요구하면 같은 번호를 갱신 (철회한 번호도 재사용)
+ * 회원 샌드박스(MockSandbox)마다 1개씩 두므로 번호와 잠금은 샌드박스 안에서만 유효
+ */
+public class MockConsentStore {
+
+    public static final int NONE = -1;
+
+    public static final int SCHEDULED = 1;
+    public static final int TRANS_MEMO = 1 << 1;
+    public static final int MERCHANT_NAME_REGNO = 1 << 2;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private final StampedLock lock = new StampedLock();
+    private final long offsetMillis =
+            ZoneId.systemDefault().getRules().getOffset(Instant.now()).getTotalSeconds() * 1_000L;
+
+    /**
+     * client_id/org_code ↔ 번호
+     */
+    private final Map<String, Integer> codeIds = new HashMap<>();
+    private final List<String> codes = new ArrayList<>();
+
+    private long[] userKeys = new long[INITIAL_CAPACITY];
+    private int[] clientIds = new int[INITIAL_CAPACITY];
+    private int[] orgIds = new int[INITIAL_CAPACITY];
+    private long[] scopes = new long[INITIAL_CAPACITY];
+    private int[] consentDays = new int[INITIAL_CAPACITY];
+    private int[] endDays = new int[INITIAL_CAPACITY];
+    private byte[] flags = new byte[INITIAL_CAPACITY];
+    private int[] nextOfUser = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * (정보주체, client_id, org_code) → 번호 + 1 (0: 빈 칸), 선형 탐사
+     */
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+
+    /**
+     * 정보주체 → 가장 최근 번호 + 1 (정보주체별 목록은 nextOfUser로 연결)
+     */
+    private long[] userSlotKeys = new long[INITIAL_CAPACITY * 2];
+    private int[] userSlots = new int[INITIAL_CAPACITY * 2];
+    private int userCount;
+
+    /**
+     * 전송요구 등록/갱신
+     *
+     * @param flags SCHEDULED, TRANS_MEMO, MERCHANT_NAME_REGNO 조합
+     * @return 전송요구 번호 (인가에 기록해 두고 isConsented에 사용)
+     */
+    public int consent(String userCi, String clientId, String orgCode, long scopeMask,
+                       LocalDate consentDate, LocalDate endDate, int flags) {
+        long user = fingerprint(userCi);
+        long stamp = lock.writeLock();
+        try {
+            int client = intern(clientId);
+            int org = intern(orgCode);
+            int id = find(user, client, org);
+            if (id == NONE) {
+                id = append(user, client, org);
+            }
+            scopes[id] = scopeMask;
+            consentDays[id] = (int) consentDate.toEpochDay();
+            endDays[id] = (int) endDate.toEpochDay();
+            this.flags[id] = (byte) flags;
+            return id;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 전송요구 철회 (scope를 비움, 번호는 같은 조합의 재전송요구 때 재사용)
+     */
+    public void withdraw(int id) {
+        long stamp = lock.writeLock();
+        try {
+            if (id >= 0 && id < size) {
+                scopes[id] = 0;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * scope가 전송요구되어 있고 종료 일자가 지나지 않았는지
+     */
+    public boolean isConsented(int id, MockConsentScope scope) {
+        int today = today();
+        long stamp = lock.tryOptimisticRead();
+        long[] scopeColumn = scopes;
+        int[] endColumn = endDays;
+        // 낙관적 읽기 중 배열이 교체될 수 있으므로 범위를 먼저 확인
+        boolean consented = id >= 0 && id < scopeColumn.length && id < endColumn.length
+                && (scopeColumn[id] & scope.getBit()) != 0 && endColumn[id] >= today;
+        if (lock.validate(stamp)) {
+            return consented;
+        }
+        stamp = lock.readLock();
+        try {
+            return id >= 0 && id < size && (scopes[id] & scope.getBit()) != 0 && endDays[id] >= today;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 유효한 전송요구 1건 (철회/종료되었으면 null)
+     */
+    public Consent get(int id) {
+        int today = today();
+        long stamp = lock.readLock();
+        try {
+            return id >= 0 && id < size && isValid(id, today) ? snapshot(id) : null;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 정보주체의 유효한 전송요구 목록 (최근 등록 순)
+     */
+    public List<Consent> findByUser(String userCi) {
+        long user = fingerprint(userCi);
+        int today = today();
+        List<Consent> consents = new ArrayList<>();
+        long stamp = lock.readLock();
+        try {
+            for (int id = userHead(user); id != NONE; id = nextOfUser[id]) {
+                if (isValid(id, today)) {
+                    consents.add(snapshot(id));
+                }
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return consents;
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // ==================== 내부 처리 (잠금 안에서 호출) ====================
+
+    private boolean isValid(int id, int today) {
+        return scopes[id] != 0 && endDays[id] >= today;
+    }
+
+    private Consent snapshot(int id) {
+        return new Consent(codes.get(clientIds[id]), codes.get(orgIds[id]), scopes[id],
+                LocalDate.ofEpochDay(consentDays[id]), LocalDate.ofEpochDay(endDays[id]), flags[id]);
+    }
+
+    private int intern(String code) {
+        Integer id = codeIds.get(code);
+        if (id == null) {
+            id = codes.size();
+            codes.add(code);
+            codeIds.put(code, id);
+        }
+        return id;
+    }
+
+    private int find(long user, int client, int org) {
+        int mask = slots.length - 1;
+        for (int i = slotOf(user, client, org) & mask; ; i = (i + 1) & mask) {
+            int ref = slots[i];
+            if (ref == 0) {
+                return NONE;
+            }
+            int id = ref - 1;
+            if (userKeys[id] == user && clientIds[id] == client && orgIds[id] == org) {
+                return id;
+            }
+        }
+    }
+
+    private int append(long user, int client, int org) {
+        if (size == userKeys.length) {
+            grow(size * 2);
+        }
+        int id = size++;
+        userKeys[id] = user;
+        clientIds[id] = client;
+        orgIds[id] = org;
+
+        if (size * 2 > slots.length) {
+            rehashSlots(slots.length * 2);
+        } else {
+            insertSlot(id);
+        }
+
+        nextOfUser[id] = userHead(user);
+        setUserHead(user, id);
+        return id;
+    }
+
+    private void insertSlot(int id) {
+        int mask = slots.length - 1;
+        int i = slotOf(userKeys[id], clientIds[id], orgIds[id]) & mask;
+        while (slots[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        slots[i] = id + 1;
+    }
+
+    private void rehashSlots(int capacity) {
+        slots = new int[capacity];
+        for (int id = 0; id < size; id++) {
+            insertSlot(id);
+        }
+    }
+
+    private int userHead(long user) {
+        int mask = userSlots.length - 1;
+        for (int i = (int) mix(user) & mask; ; i = (i + 1) & mask) {
+            int ref = userSlots[i];
+            if (ref == 0) {
+                return NONE;
+            }
+            if (userSlotKeys[i] == user) {
+                return ref - 1;
+            }
+        }
+    }
+
+    private void setUserHead(long user, int id) {
+        int mask = userSlots.length - 1;
+        int i = (int) mix(user) & mask;
+        while (userSlots[i] != 0 && userSlotKeys[i] != user) {
+            i = (i + 1) & mask;
+        }
+        if (userSlots[i] == 0) {
+            userCount++;
+        }
+        userSlotKeys[i] = user;
+        userSlots[i] = id + 1;
+        if (userCount * 2 > userSlots.length) {
+            rehashUsers(userSlots.length * 2);
+        }
+    }
+
+    private void rehashUsers(int capacity) {
+        long[] oldKeys = userSlotKeys;
+        int[] oldSlots = userSlots;
+        userSlotKeys = new long[capacity];
+        userSlots = new int[capacity];
+        int mask = capacity - 1;
+        for (int j = 0; j < oldSlots.length; j++) {
+            if (oldSlots[j] == 0) {
+                continue;
+            }
+            int i = (int) mix(oldKeys[j]) & mask;
+            while (userSlots[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            userSlotKeys[i] = oldKeys[j];
+            userSlots[i] = oldSlots[j];
+        }
+    }
+
+    private void grow(int capacity) {
+        userKeys = Arrays.copyOf(userKeys, capacity);
+        clientIds = Arrays.copyOf(clientIds, capacity);
+        orgIds = Arrays.copyOf(orgIds, capacity);
+        scopes = Arrays.copyOf(scopes, capacity);
+        consentDays = Arrays.copyOf(consentDays, capacity);
+        endDays = Arrays.copyOf(endDays, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        nextOfUser = Arrays.copyOf(nextOfUser, capacity);
+    }
+
+    private int today() {
+        return (int) Math.floorDiv(System.currentTimeMillis() + offsetMillis, MILLIS_PER_DAY);
+    }
+
+    private static int slotOf(long user, int client, int org) {
+        return (int) mix(user ^ (((long) client << 32) | (org & 0xFFFFFFFFL)));
+    }
+
+    /**
+     * 문자열 → 64비트 지문 (FNV-1a 후 비트 섞기)
+     */
+    static long fingerprint(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+
+    /**
+     * 전송요구 1건 (조회 시점 복사본)
+     */
+    @Getter
+    public static final class Consent {
+
+        private final String clientId;
+        private final String orgCode;
+        private final long scopes;
+        private final LocalDate consentDate;
+        private final LocalDate endDate;
+        private final int flags;
+
+        private Consent(String clientId, String orgCode, long scopes,
+                        LocalDate consentDate, LocalDate endDate, int flags) {
+            this.clientId = clientId;
+            this.orgCode = orgCode;
+            this.scopes = scopes;
+            this.consentDate = consentDate;
+            this.endDate = endDate;
+            this.flags = flags;
+        }
+
+        public boolean isScheduled() {
+            return (flags & SCHEDULED) != 0;
+        }
+
+        public boolean isTransMemo() {
+            return (flags & TRANS_MEMO) != 0;
+        }
+
+        public boolean isMerchantNameRegno() {
+            return (flags & MERCHANT_NAME_REGNO) != 0;
+        }
+
+        public String scopeNames() {
+            return MockConsentScope.names(scopes);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.mydata.mydatatestbed.mock.oauth;
+
+import com.mydata.mydatatestbed.mock.common.MockApi;
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockApiResponder;
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import com.mydata.mydatatestbed.mock.consent.MockConsentScope;
+import com.mydata.mydatatestbed.mock.consent.MockConsentStore;
+import com.mydata.mydatatestbed.mock.registry.MockOrgRegistry;
+import com.mydata.mydatatestbed.mock.sandbox.MockSandboxRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+import static com.mydata.mydatatestbed.mock.common.MockApiResponder.TRAN_ID_HEADER;
+
+/**
+ * 모의 개별인증 API (cert-api/individual-api.html 규격, v2)
+ *
+ * - 개별인증-001 GET  /v2/oauth/2.0/authorize : 인가코드 발급 → redirect_uri로 리다이렉트
+ * - 개별인증-002 POST /v2/oauth/2.0/token     : grant_type=authorization_code → 접근토큰/리프레시 토큰 발급
+ * - 개별인증-003 POST /v2/oauth/2.0/token     : grant_type=refresh_token → 접근토큰 갱신
+ * - 개별인증-004 POST /v2/oauth/2.0/revoke    : 접근토큰/리프레시 토큰 폐기
+ *
+ * 모의 서버이므로 인증 화면 없이 바로 인가코드를 발급하고,
+ * 토큰 발급/갱신/폐기 시 client_id/client_secret을 등록부의 서비스와 대조 (MockOrgRegistry.authenticate, 다르면 40102)
+ * 발급한 접근토큰으로 모의 정보제공 API를 호출하면 x-user-ci별 데이터셋을 조회 (MockTenantResolver)
+ *
+ * 접근토큰 발급 시 인가의 scope로 전송요구를 등록 (MockConsentStore, 종료 시점은 1년 후)
+ * 토큰을 폐기하면 전송요구도 철회
+ * 전송요구는 client_id를 소유한 회원의 샌드박스에 등록 (소유 회원이 없으면 공용)
+ * - 인가코드에 기록한 회원은 토큰 발급 시 client_secret으로 확인한 회원과 같아야 함
+ *   (인가 후 등록부에서 서비스의 소유 회원이 바뀌었으면 40002)
+ */
+@RestController
+@RequestMapping("/v2/oauth/2.0")
+@RequiredArgsConstructor
+public class MockOAuthController {
+
+    private static final String GRANT_AUTHORIZATION_CODE = "authorization_code";
+    private static final String GRANT_REFRESH_TOKEN = "refresh_token";
+
+    private static final byte[] TOKEN_TYPE = MockJsonWriter.key("token_type");
+    private static final byte[] ACCESS_TOKEN = MockJsonWriter.key("access_token");
+    private static final byte[] EXPIRES_IN = MockJsonWriter.key("expires_in");
+    private static final byte[] REFRESH_TOKEN = MockJsonWriter.key("refresh_token");
+    private static final byte[] REFRESH_TOKEN_EXPIRES_IN = MockJsonWriter.key("refresh_token_expires_in");
+    private static final byte[] SCOPE = MockJsonWriter.key("scope");
+    private static final byte[] BEARER = MockJsonWriter.encodeString("Bearer");
+
+    private final MockOAuthTokenStore tokenStore;
+    private final MockSandboxRegistry sandboxRegistry;
+    private final MockOrgRegistry orgRegistry;
+    private final MockApiResponder responder;
+
+    @Value("${mock.oauth.code-ttl-seconds:600}")
+    private long codeTtlSeconds;
+
+    @Value("${mock.oauth.access-token-ttl-seconds:7776000}")
+    private long accessTokenTtlSeconds;
+
+    @Value("${mock.oauth.refresh-token-ttl-seconds:31536000}")
+    private long refreshTokenTtlSeconds;
+
+    @Value("${mock.oauth.scope:bank.list bank.deposit bank.invest bank.loan bank.irp bank.prepaid card.list card.card card.point telecom.list telecom.transaction}")
+    private String scope;
+
+    /**
+     * 개별인증-001: 인가코드 발급 후 redirect_uri?code=...&state=...&api_tran_id=... 로 리다이렉트
+     */
+    @MockApi("개별인증-001")
+    @GetMapping("/authorize")
+    public void authorize(@RequestHeader("x-user-ci") String userCi,
+                          @RequestHeader(TRAN_ID_HEADER) String tranId,
+                          @RequestParam("org_code") String orgCode,
+                          @RequestParam("response_type") String responseType,
+                          @RequestParam("client_id") String clientId,
+                          @RequestParam("redirect_uri") String redirectUri,
+                          @RequestParam("app_scheme") String appScheme,
+                          @RequestParam("state") String state,
+                          HttpServletResponse response) throws IOException {
+        if (!"code".equals(responseType)) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, "response_type은 'code'여야 합니다.");
+        }
+        require(userCi, "x-user-ci");
+        require(orgCode, "org_code");
+        require(clientId, "client_id");
+        require(appScheme, "app_scheme");
+        require(state, "state");
+
+        MockOAuthGrant grant = MockOAuthGrant.builder()
+                .tenantKey(userCi)
+                .memberId(orgRegistry.memberOf(clientId))
+                .orgCode(orgCode)
+                .clientId(clientId)
+                .redirectUri(require(redirectUri, "redirect_uri"))
+                .scope(scope)
+                .build();
+        MockOAuthToken code = tokenStore.issue(MockOAuthTokenType.AUTHORIZATION_CODE, grant, codeTtlSeconds);
+
+        String location = UriComponentsBuilder.fromUriString(redirectUri)
+                .queryParam("code", code.getValue())
+                .queryParam("state", state)
+                .queryParam("api_tran_id", tranId)
+                .encode()
+                .toUriString();
+        response.setHeader(TRAN_ID_HEADER, tranId);
+        response.sendRedirect(location);
+    }
+
+    /**
+     * 개별인증-002 접근토큰 발급 / 개별인증-003 접근토큰 갱신
+     */
+    @MockApi("개별인증-002")
+    @PostMapping(value = "/token", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+    public void token(@RequestParam("org_code") String orgCode,
+                      @RequestParam("grant_type") String grantType,
+                      @RequestParam("client_id") String clientId,
+                      @RequestParam("client_secret") String clientSecret,
+                      @RequestParam(value = "code", required = false) String code,
+                      @RequestParam(value = "redirect_uri", required = false) String redirectUri,
+                      @RequestParam(value = "refresh_token", required = false) String refreshToken,
+                      @RequestParam(value = "is_refresh_token_reissue", required = false) Boolean reissue,
+                      HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        require(orgCode, "org_code");
+        long memberId = authenticate(clientId, clientSecret);
+
+        switch (grantType) {
+            case GRANT_AUTHORIZATION_CODE -> issueTokens(request, response, clientId, memberId, code, redirectUri);
+            case GRANT_REFRESH_TOKEN -> refreshTokens(request, response, clientId, memberId, refreshToken,
+                    Boolean.TRUE.equals(reissue));
+            default -> throw new MockApiException(MockRspCode.INVALID_PARAMETER,
+                    "grant_type은 authorization_code 또는 refresh_token이어야 합니다.");
+        }
+    }
+
+    /**
+     * 개별인증-004: 접근토큰(또는 리프레시 토큰)과 같은 인가의 토큰을 모두 폐기
+     */
+    @MockApi("개별인증-004")
+    @PostMapping(value = "/revoke", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+    public void revoke(@RequestParam("org_code") String orgCode,
+                       @RequestParam("token") String token,
+                       @RequestParam("client_id") String clientId,
+                       @RequestParam("client_secret") String clientSecret,
+                       @RequestParam(value = "revoke_type", required = false) String revokeType,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        require(orgCode, "org_code");
+        authenticate(clientId, clientSecret);
+
+        MockOAuthToken found = tokenStore.find(token, MockOAuthTokenType.ACCESS_TOKEN);
+        if (found == null) {
+            found = tokenStore.find(token, MockOAuthTokenType.REFRESH_TOKEN);
+        }
+        if (found == null || !found.getGrant().getClientId().equals(clientId)) {
+            throw new MockApiException(MockRspCode.INVALID_REVOKE_TOKEN, null);
+        }
+        tokenStore.revoke(found.getGrant());
+        consents(found.getGrant()).withdraw(found.getGrant().getConsentId());
+        responder.send(request, response, responder.begin());
+    }
+
+    // ==================== 토큰 발급 ====================
+
+    private void issueTokens(HttpServletRequest request, HttpServletResponse response,
+                             String clientId, long memberId, String code, String redirectUri) throws IOException {
+        MockOAuthToken authorizationCode = tokenStore.take(code, MockOAuthTokenType.AUTHORIZATION_CODE);
+        if (authorizationCode == null) {
+            throw new MockApiException(MockRspCode.INVALID_GRANT, "인가코드가 없거나 만료되었습니다.");
+        }
+        MockOAuthGrant grant = authorizationCode.getGrant();
+        if (!grant.getClientId().equals(clientId) || !grant.getRedirectUri().equals(redirectUri)) {
+            throw new MockApiException(MockRspCode.INVALID_GRANT, "인가코드 발급 시의 client_id/redirect_uri와 다릅니다.");
+        }
+        checkMember(grant, memberId);
+        LocalDate today = LocalDate.now();
+        grant.bindConsent(consents(grant).consent(grant.getTenantKey(), clientId, grant.getOrgCode(),
+                MockConsentScope.mask(grant.getScope()), today, today.plusYears(1),
+                MockConsentStore.SCHEDULED | MockConsentStore.TRANS_MEMO | MockConsentStore.MERCHANT_NAME_REGNO));
+
+        MockOAuthToken access = tokenStore.issue(MockOAuthTokenType.ACCESS_TOKEN, grant, accessTokenTtlSeconds);
+        MockOAuthToken refresh = tokenStore.issue(MockOAuthTokenType.REFRESH_TOKEN, grant, refreshTokenTtlSeconds);
+        sendTokens(request, response, access, refresh, true);
+    }
+
+    private void refreshTokens(HttpServletRequest request, HttpServletResponse response,
+                               String clientId, long memberId, String refreshToken, boolean reissue) throws IOException {
+        MockOAuthToken refresh = tokenStore.find(refreshToken, MockOAuthTokenType.REFRESH_TOKEN);
+        if (refresh == null || !refresh.getGrant().getClientId().equals(clientId)) {
+            throw new MockApiException(MockRspCode.INVALID_GRANT, "리프레시 토큰이 없거나 만료되었습니다.");
+        }
+        MockOAuthGrant grant = refresh.getGrant();
+        checkMember(grant, memberId);
+
+        MockOAuthToken access = tokenStore.issue(MockOAuthTokenType.ACCESS_TOKEN, grant, accessTokenTtlSeconds);
+        if (reissue) {
+            refresh = tokenStore.issue(MockOAuthTokenType.REFRESH_TOKEN, grant, refreshTokenTtlSeconds);
+        }
+        sendTokens(request, response, access, refresh, false);
+    }
+
+    private void sendTokens(HttpServletRequest request, HttpServletResponse response,
+                            MockOAuthToken access, MockOAuthToken refresh, boolean withScope) throws IOException {
+        long now = tokenStore.now();
+        MockJsonWriter writer = responder.beginPlain()
+                .field(TOKEN_TYPE).raw(BEARER)
+                .field(ACCESS_TOKEN).string(access.getValue())
+                .field(EXPIRES_IN).number(access.remainingSeconds(now))
+                .field(REFRESH_TOKEN).string(refresh.getValue())
+                .field(REFRESH_TOKEN_EXPIRES_IN).number(refresh.remainingSeconds(now));
+        if (withScope) {
+            writer.field(SCOPE).string(access.getGrant().getScope());
+        }
+        responder.send(request, response, writer);
+    }
+
+    private MockConsentStore consents(MockOAuthGrant grant) {
+        return sandboxRegistry.get(grant.getMemberId()).getConsents();
+    }
+
+    // ==================== 검증 ====================
+
+    /**
+     * @return client_id를 소유한 회원 (MockOrgRegistry.authenticate)
+     */
+    private long authenticate(String clientId, String clientSecret) {
+        if (clientId == null || clientId.isBlank() || clientSecret == null || clientSecret.isBlank()) {
+            throw new MockApiException(MockRspCode.INVALID_CLIENT, "client_id와 client_secret이 필요합니다.");
+        }
+        return orgRegistry.authenticate(clientId, clientSecret);
+    }
+
+    private void checkMember(MockOAuthGrant grant, long memberId) {
+        if (grant.getMemberId() != memberId) {
+            throw new MockApiException(MockRspCode.INVALID_GRANT, "인가 이후 client_id의 소유 회원이 변경되었습니다.");
+        }
+    }
+
+    private String require(String value, String name) {
+        if (value == null || value.isBlank()) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, name + "는 필수입니다.");
+        }
+        return value;
+    }
+}
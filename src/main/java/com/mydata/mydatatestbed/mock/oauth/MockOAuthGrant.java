@@ -0,0 +1,58 @@
+package com.mydata.mydatatestbed.mock.oauth;
+
+import com.mydata.mydatatestbed.mock.consent.MockConsentStore;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 정보주체 1명이 마이데이터 서비스(client_id)에 허용한 인가 (개별인증-001에서 생성)
+ *
+ * 인가코드 → 접근토큰/리프레시 토큰으로 교환되어도 같은 인가를 공유
+ * - tenantKey: 모의 데이터셋 식별값 (x-user-ci) → 토큰을 갱신해도 같은 데이터 조회
+ * - 현재 유효한 접근토큰/리프레시 토큰을 기록해 두고 갱신/폐기 시 함께 처리
+ * - memberId: client_id를 소유한 포털 회원 (MockSandbox) → 데이터셋/전송요구를 회원의 샌드박스에서 조회
+ * - consentId: 접근토큰 발급 시 샌드박스에 등록한 전송요구 번호 (MockConsentStore) → 호출마다 scope 확인
+ */
+@Getter
+public class MockOAuthGrant {
+
+    private final String tenantKey;
+    private final long memberId;
+    private final String orgCode;
+    private final String clientId;
+    private final String redirectUri;
+    private final String scope;
+
+    private volatile MockOAuthToken accessToken;
+    private volatile MockOAuthToken refreshToken;
+    private volatile int consentId = MockConsentStore.NONE;
+
+    @Builder
+    public MockOAuthGrant(String tenantKey, long memberId, String orgCode, String clientId, String redirectUri, String scope) {
+        this.tenantKey = tenantKey;
+        this.memberId = memberId;
+        this.orgCode = orgCode;
+        this.clientId = clientId;
+        this.redirectUri = redirectUri;
+        this.scope = scope;
+    }
+
+    void bindConsent(int consentId) {
+        this.consentId = consentId;
+    }
+
+    /**
+     * 새로 발급한 토큰으로 교체하고 이전 토큰을 반환
+     */
+    MockOAuthToken replace(MockOAuthToken token) {
+        MockOAuthToken previous;
+        if (token.getType() == MockOAuthTokenType.ACCESS_TOKEN) {
+            previous = accessToken;
+            accessToken = token;
+        } else {
+            previous = refreshToken;
+            refreshToken = token;
+        }
+        return previous;
+    }
+}
@@ -0,0 +1,40 @@
+package com.mydata.mydatatestbed.mock.oauth;
+
+import com.mydata.mydatatestbed.mock.common.MockTimingWheel;
+import lombok.Getter;
+
+/**
+ * 발급한 인가코드/접근토큰/리프레시 토큰 1건
+ *
+ * 만료 처리용 타이밍 휠의 노드를 겸함 (토큰마다 예약 작업을 만들지 않음)
+ */
+@Getter
+public class MockOAuthToken extends MockTimingWheel.Timer {
+
+    private final String value;
+    private final MockOAuthTokenType type;
+    private final MockOAuthGrant grant;
+
+    /**
+     * 만료 시각 (epoch 초)
+     */
+    private final long expiresAt;
+
+    MockOAuthToken(String value, MockOAuthTokenType type, MockOAuthGrant grant, long expiresAt) {
+        this.value = value;
+        this.type = type;
+        this.grant = grant;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+
+    /**
+     * 남은 유효기간 (초)
+     */
+    public long remainingSeconds(long now) {
+        return Math.max(0, expiresAt - now);
+    }
+}
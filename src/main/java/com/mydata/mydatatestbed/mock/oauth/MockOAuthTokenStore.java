@@ -0,0 +1,168 @@
+package com.mydata.mydatatestbed.mock.oauth;
+
+import com.mydata.mydatatestbed.mock.common.MockTimingWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 모의 개별인증 토큰 저장소 (메모리)
+ *
+ * 토큰 값의 해시로 샤드를 나누고, 샤드마다 ConcurrentHashMap + 타이밍 휠을 둠
+ * - 조회(find): 잠금 없이 ConcurrentHashMap 조회 + 만료 시각 확인 → 모의 API 호출마다 사용
+ * - 발급/폐기: 해당 샤드만 잠금 (휠은 스레드 안전하지 않음) → 발급이 몰려도 샤드 수만큼 나뉨
+ * - 만료: 1초마다 각 샤드의 휠을 현재 시각까지 진행 → 만료된 토큰만 꺼내 삭제
+ *   (살아 있는 토큰 전체를 훑지 않으므로 토큰 수가 늘어도 만료 처리 비용은 만료 건수에 비례)
+ */
+@Slf4j
+@Component
+public class MockOAuthTokenStore {
+
+    private static final int SHARD_COUNT = 16;
+    private static final int TOKEN_BYTES = 32;
+
+    private final Shard[] shards = new Shard[SHARD_COUNT];
+    private final SecureRandom random = new SecureRandom();
+    private final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+
+    public MockOAuthTokenStore() {
+        long now = now();
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards[i] = new Shard(now);
+        }
+    }
+
+    /**
+     * 토큰 발급 (접근토큰/리프레시 토큰은 인가의 현재 토큰을 교체하고 이전 토큰은 폐기)
+     */
+    public MockOAuthToken issue(MockOAuthTokenType type, MockOAuthGrant grant, long ttlSeconds) {
+        MockOAuthToken token;
+        Shard shard;
+        do {
+            token = new MockOAuthToken(newValue(type), type, grant, now() + ttlSeconds);
+            shard = shardOf(token.getValue());
+        } while (!shard.add(token));
+
+        if (type != MockOAuthTokenType.AUTHORIZATION_CODE) {
+            MockOAuthToken previous = grant.replace(token);
+            if (previous != null) {
+                remove(previous);
+            }
+        }
+        return token;
+    }
+
+    /**
+     * 유효한 토큰 조회 (없거나 만료되었거나 종류가 다르면 null)
+     */
+    public MockOAuthToken find(String value, MockOAuthTokenType type) {
+        if (value == null || !type.matches(value)) {
+            return null;
+        }
+        MockOAuthToken token = shardOf(value).tokens.get(value);
+        if (token == null || token.isExpired(now())) {
+            return null;
+        }
+        return token;
+    }
+
+    /**
+     * 토큰을 꺼내면서 삭제 (인가코드 1회 사용)
+     */
+    public MockOAuthToken take(String value, MockOAuthTokenType type) {
+        MockOAuthToken token = find(value, type);
+        return token != null && remove(token) ? token : null;
+    }
+
+    /**
+     * 토큰 삭제 (이미 삭제된 경우 false)
+     */
+    public boolean remove(MockOAuthToken token) {
+        return shardOf(token.getValue()).remove(token);
+    }
+
+    /**
+     * 인가에 속한 접근토큰/리프레시 토큰 모두 폐기
+     */
+    public void revoke(MockOAuthGrant grant) {
+        MockOAuthToken access = grant.getAccessToken();
+        MockOAuthToken refresh = grant.getRefreshToken();
+        if (access != null) {
+            remove(access);
+        }
+        if (refresh != null) {
+            remove(refresh);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.tokens.size();
+        }
+        return size;
+    }
+
+    @Scheduled(fixedDelayString = "${mock.oauth.sweep-interval-ms:1000}")
+    public void expire() {
+        long now = now();
+        int expired = 0;
+        for (Shard shard : shards) {
+            expired += shard.expire(now);
+        }
+        if (expired > 0) {
+            log.debug("모의 토큰 만료 처리: {}건", expired);
+        }
+    }
+
+    long now() {
+        return System.currentTimeMillis() / 1_000L;
+    }
+
+    private String newValue(MockOAuthTokenType type) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return type.getPrefix() + encoder.encodeToString(bytes);
+    }
+
+    private Shard shardOf(String value) {
+        int hash = value.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & (SHARD_COUNT - 1)];
+    }
+
+    private static final class Shard {
+
+        private final ConcurrentHashMap<String, MockOAuthToken> tokens = new ConcurrentHashMap<>();
+        private final MockTimingWheel<MockOAuthToken> wheel;
+
+        private Shard(long now) {
+            this.wheel = new MockTimingWheel<>(now);
+        }
+
+        private synchronized boolean add(MockOAuthToken token) {
+            if (tokens.putIfAbsent(token.getValue(), token) != null) {
+                return false;
+            }
+            wheel.schedule(token, token.getExpiresAt());
+            return true;
+        }
+
+        private synchronized boolean remove(MockOAuthToken token) {
+            if (!tokens.remove(token.getValue(), token)) {
+                return false;
+            }
+            wheel.cancel(token);
+            return true;
+        }
+
+        private synchronized int expire(long now) {
+            int before = tokens.size();
+            wheel.advance(now, token -> tokens.remove(token.getValue(), token));
+            return before - tokens.size();
+        }
+    }
+}
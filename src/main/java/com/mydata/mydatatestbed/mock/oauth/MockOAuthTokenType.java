@@ -0,0 +1,24 @@
+package com.mydata.mydatatestbed.mock.oauth;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 모의 개별인증 토큰 종류
+ *
+ * 토큰 값 앞에 종류별 접두어를 붙여 발급 → 만료/폐기된 토큰과 임의로 만든 토큰을 구분 (MockTenantResolver)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MockOAuthTokenType {
+
+    AUTHORIZATION_CODE("ac_"),
+    ACCESS_TOKEN("at_"),
+    REFRESH_TOKEN("rt_");
+
+    private final String prefix;
+
+    public boolean matches(String value) {
+        return value.startsWith(prefix);
+    }
+}
@@ -0,0 +1,12 @@
+package com.mydata.mydatatestbed.mock.record;
+
+/**
+ * 목록 API(은행-001, 카드-001 등)의 원소 1개를 미리 직렬화해 둔 자산
+ */
+public interface MockListEntry {
+
+    /**
+     * 목록 원소 JSON 객체 바이트
+     */
+    byte[] getListEntry();
+}
@@ -0,0 +1,122 @@
+package com.mydata.mydatatestbed.mock.record;
+
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+
+import java.util.List;
+
+/**
+ * 정보제공 API 공통 페이지 응답 작성 (은행 + 업권 모듈 공용)
+ *
+ * - 자산 목록: 미리 직렬화한 원소(MockListEntry)를 위치 커서로 잘라 이어 붙임
+ * - 기간 조회: from_date ~ to_date를 레코드 키 구간으로 바꿔 MockRecordSource에 위임
+ *   (레코드 키는 yyyyMMddHHmmss, 일자만 있는 거래는 yyyyMMdd + 6자리 순번)
+ * - 레코드 배열은 스레드당 하나인 MockRecordPage에 모은 뒤 응답 작성기에 복사 (요청마다 버퍼 할당 없음)
+ *
+ * limit: 1 ~ 500, next_page: 직전 응답 값을 그대로 전달
+ */
+public final class MockPaging {
+
+    public static final int MAX_LIMIT = 500;
+
+    private static final byte[] NEXT_PAGE = MockJsonWriter.key("next_page");
+
+    private static final ThreadLocal<MockRecordPage> PAGES = ThreadLocal.withInitial(MockRecordPage::new);
+
+    private MockPaging() {
+    }
+
+    /**
+     * from_date ~ to_date 기간의 레코드를 next_page 위치부터 limit개 작성
+     */
+    public static void writeDateRange(MockJsonWriter writer, MockRecordSource records, String fromDate, String toDate,
+                                      String nextPage, Integer limit, byte[] countKey, byte[] listKey) {
+        int from = parseDate(fromDate, "from_date");
+        int to = parseDate(toDate, "to_date");
+        if (from > to) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, "from_date가 to_date보다 늦습니다.");
+        }
+        writeRecords(writer, records, from * 1_000_000L, to * 1_000_000L + 999_999L,
+                nextPage, limit, countKey, listKey);
+    }
+
+    /**
+     * [fromKey, toKey] 구간 중 next_page 위치부터 limit개 작성
+     */
+    public static void writeRecords(MockJsonWriter writer, MockRecordSource records, long fromKey, long toKey,
+                                    String nextPage, Integer limit, byte[] countKey, byte[] listKey) {
+        MockRecordPage page = PAGES.get().begin();
+        records.page(fromKey, toKey, nextPage, checkLimit(limit), page);
+
+        if (page.getNextPage() != null) {
+            writer.field(NEXT_PAGE).string(page.getNextPage());
+        }
+        writer.field(countKey).number(page.getCount())
+                .field(listKey).raw(page.getList());
+    }
+
+    /**
+     * 자산 목록 중 next_page 위치부터 limit개 작성
+     */
+    public static void writeList(MockJsonWriter writer, List<? extends MockListEntry> entries,
+                                 String nextPage, Integer limit, byte[] countKey, byte[] listKey) {
+        int start = pageStart(nextPage, entries.size());
+        int end = Math.min(entries.size(), start + checkLimit(limit));
+
+        if (end < entries.size()) {
+            writer.field(NEXT_PAGE).string(Integer.toString(end));
+        }
+        writer.field(countKey).number(end - start)
+                .field(listKey).beginArray();
+        for (int i = start; i < end; i++) {
+            writer.raw(entries.get(i).getListEntry());
+        }
+        writer.endArray();
+    }
+
+    private static int pageStart(String nextPage, int size) {
+        if (nextPage == null || nextPage.isEmpty()) {
+            return 0;
+        }
+        try {
+            int start = Integer.parseInt(nextPage);
+            if (start >= 0 && start <= size) {
+                return start;
+            }
+        } catch (NumberFormatException ignored) {
+            // 아래에서 파라미터 오류로 응답
+        }
+        throw MockRecordPage.invalidCursor();
+    }
+
+    private static int checkLimit(Integer limit) {
+        if (limit == null || limit < 1 || limit > MAX_LIMIT) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, "limit은 1~" + MAX_LIMIT + " 사이여야 합니다.");
+        }
+        return limit;
+    }
+
+    /**
+     * DATE(yyyyMMdd) 파라미터 → 정수
+     */
+    private static int parseDate(String value, String name) {
+        if (value == null || value.length() != 8) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, name + "는 yyyyMMdd 형식이어야 합니다.");
+        }
+        int date = 0;
+        for (int i = 0; i < 8; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new MockApiException(MockRspCode.INVALID_PARAMETER, name + "는 yyyyMMdd 형식이어야 합니다.");
+            }
+            date = date * 10 + (c - '0');
+        }
+        int month = date / 100 % 100;
+        int day = date % 100;
+        if (month < 1 || month > 12 || day < 1 || day > 31) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, name + " 날짜가 올바르지 않습니다.");
+        }
+        return date;
+    }
+}
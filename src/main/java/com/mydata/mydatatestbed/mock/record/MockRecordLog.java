@@ -0,0 +1,112 @@
+package com.mydata.mydatatestbed.mock.record;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 키 + 미리 직렬화한 JSON 레코드 목록 (IRP 개별운용상품 등 건수가 적은 목록)
+ *
+ * - keys: 오름차순 (순번 등)
+ * - records: keys[i]에 해당하는 JSON 객체 바이트
+ *
+ * 조회 기간은 이진 탐색으로 [시작 인덱스, 끝 인덱스) 구간을 구하고
+ * 페이지는 해당 구간의 레코드 바이트를 그대로 이어 붙여 응답 (요청마다 직렬화하지 않음)
+ * - next_page: 다음 페이지 첫 레코드의 인덱스
+ */
+public final class MockRecordLog implements MockRecordSource {
+
+    public static final MockRecordLog EMPTY = new MockRecordLog(new long[0], new byte[0][]);
+
+    private final long[] keys;
+    private final byte[][] records;
+
+    private MockRecordLog(long[] keys, byte[][] records) {
+        this.keys = keys;
+        this.records = records;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public byte[] record(int index) {
+        return records[index];
+    }
+
+    /**
+     * key 이상인 첫 레코드 위치
+     */
+    public int lowerBound(long key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * key 초과인 첫 레코드 위치
+     */
+    public int upperBound(long key) {
+        return key == Long.MAX_VALUE ? keys.length : lowerBound(key + 1);
+    }
+
+    @Override
+    public void page(long fromKey, long toKey, String cursor, int limit, MockRecordPage page) {
+        int rangeStart = lowerBound(fromKey);
+        int rangeEnd = upperBound(toKey);
+        int start = rangeStart;
+        if (cursor != null && !cursor.isEmpty()) {
+            try {
+                start = Integer.parseInt(cursor);
+            } catch (NumberFormatException e) {
+                throw MockRecordPage.invalidCursor();
+            }
+            if (start < rangeStart || start > rangeEnd) {
+                throw MockRecordPage.invalidCursor();
+            }
+        }
+        int end = (int) Math.min(rangeEnd, (long) start + limit);
+        for (int i = start; i < end; i++) {
+            page.add(records[i]);
+        }
+        page.end(end < rangeEnd ? Integer.toString(end) : null);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private long[] keys = new long[16];
+        private byte[][] records = new byte[16][];
+        private int size;
+
+        /**
+         * 레코드 추가 (키 오름차순으로 추가해야 함)
+         */
+        public Builder add(long key, byte[] record) {
+            if (size > 0 && keys[size - 1] > key) {
+                throw new IllegalArgumentException("레코드는 키 오름차순으로 추가해야 합니다.");
+            }
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                records = Arrays.copyOf(records, size * 2);
+            }
+            keys[size] = key;
+            records[size] = record;
+            size++;
+            return this;
+        }
+
+        public MockRecordLog build() {
+            return size == 0 ? EMPTY : new MockRecordLog(Arrays.copyOf(keys, size), Arrays.copyOf(records, size));
+        }
+    }
+}
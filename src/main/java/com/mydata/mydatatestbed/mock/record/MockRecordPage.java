@@ -0,0 +1,59 @@
+package com.mydata.mydatatestbed.mock.record;
+
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import lombok.Getter;
+
+/**
+ * 페이지 조회 결과 (레코드 배열 JSON + 건수 + 다음 페이지 커서)
+ *
+ * 응답은 next_page → *_cnt → *_list 순서로 작성해야 하므로
+ * 레코드 배열은 별도 버퍼에 먼저 모은 뒤 응답 작성기에 통째로 복사
+ * - 스레드당 하나를 재사용 (MockPaging 참고)
+ */
+@Getter
+public final class MockRecordPage {
+
+    private final MockJsonWriter list = new MockJsonWriter(8 * 1024);
+    private int count;
+    private String nextPage;
+
+    public MockRecordPage begin() {
+        list.reset().beginArray();
+        count = 0;
+        nextPage = null;
+        return this;
+    }
+
+    /**
+     * 미리 직렬화한 레코드 추가
+     */
+    public void add(byte[] record) {
+        list.raw(record);
+        count++;
+    }
+
+    /**
+     * 레코드를 직접 작성할 작성기 (beginObject ~ endObject 작성 후 added() 호출)
+     */
+    public MockJsonWriter writer() {
+        return list;
+    }
+
+    public void added() {
+        count++;
+    }
+
+    /**
+     * @param nextPage 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    public void end(String nextPage) {
+        list.endArray();
+        this.nextPage = nextPage;
+    }
+
+    public static MockApiException invalidCursor() {
+        return new MockApiException(MockRspCode.INVALID_PARAMETER, "next_page 값이 올바르지 않습니다.");
+    }
+}
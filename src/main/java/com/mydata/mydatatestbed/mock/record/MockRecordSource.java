@@ -0,0 +1,21 @@
+package com.mydata.mydatatestbed.mock.record;
+
+/**
+ * 키 범위 + 커서로 페이지 조회가 가능한 레코드 목록
+ *
+ * - MockRecordLog: 미리 직렬화해 둔 레코드, 키 오름차순 (커서 = 위치)
+ * - MockTransactionStore: 컬럼 저장 거래내역, 거래일시 내림차순 (커서 = 36진수 행 번호)
+ * - MockDepositTransactionGenerator: 조회 시점에 계산하는 거래내역, 거래일시 내림차순 (커서 = 거래일시)
+ *
+ * 커서 형식은 구현마다 다르며 클라이언트는 직전 응답의 next_page를 그대로 전달
+ */
+public interface MockRecordSource {
+
+    /**
+     * [fromKey, toKey] 구간의 레코드를 cursor 위치부터 최대 limit개 작성
+     *
+     * @param cursor 직전 응답의 next_page (첫 페이지는 null)
+     * @throws com.mydata.mydatatestbed.mock.common.MockApiException 커서가 구간을 벗어난 경우 (40001)
+     */
+    void page(long fromKey, long toKey, String cursor, int limit, MockRecordPage page);
+}
@@ -0,0 +1,219 @@
+package com.mydata.mydatatestbed.mock.record;
+
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계좌별 거래내역 컬럼 저장소
+ *
+ * 거래 1건을 객체/JSON으로 보관하지 않고 컬럼별 기본형 배열로 보관
+ * - keys: 거래일시 (yyyyMMddHHmmss, 일자만 있는 경우 yyyyMMdd + 6자리 순번), 오름차순
+ * - values[column]: 금액/잔액/회차 등 숫자 (원 × 1000 등 정수로 환산한 값)
+ * - codes[column]: 거래유형/거래구분/적요 등 문자열 → 사전(dictionary) 인덱스
+ *
+ * 조회:
+ * - 기간은 keys 이진 탐색으로 행 구간을 구하고, 최신 거래부터 (거래일시 내림차순) limit 건 작성
+ * - 행 → JSON 변환은 RowFormat이 컬럼 배열에서 바로 작성 (조회 시 행 단위 객체 생성 없음)
+ * - next_page: 다음 페이지 첫 행 번호 (36진수, 예: 수백만 건도 4~5자)
+ */
+public final class MockTransactionStore implements MockRecordSource {
+
+    /**
+     * 값이 없는 숫자 컬럼 (응답에서 해당 필드 생략)
+     */
+    public static final long ABSENT = Long.MIN_VALUE;
+
+    private static final int CURSOR_RADIX = 36;
+
+    /**
+     * 행 1개를 JSON 객체로 작성 (상품 유형별로 1개씩, 상태 없이 공유)
+     */
+    @FunctionalInterface
+    public interface RowFormat {
+
+        void write(MockJsonWriter writer, MockTransactionStore store, int row);
+    }
+
+    private final RowFormat format;
+    private final long[] keys;
+    private final long[][] values;
+    private final short[][] codes;
+    private final byte[][][] dictionaries;
+
+    private MockTransactionStore(RowFormat format, long[] keys, long[][] values,
+                                 short[][] codes, byte[][][] dictionaries) {
+        this.format = format;
+        this.keys = keys;
+        this.values = values;
+        this.codes = codes;
+        this.dictionaries = dictionaries;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public long key(int row) {
+        return keys[row];
+    }
+
+    public long value(int column, int row) {
+        return values[column][row];
+    }
+
+    /**
+     * 사전 인코딩한 문자열 컬럼 값 (따옴표 포함 JSON 바이트)
+     */
+    public byte[] code(int column, int row) {
+        return dictionaries[column][codes[column][row]];
+    }
+
+    @Override
+    public void page(long fromKey, long toKey, String cursor, int limit, MockRecordPage page) {
+        int low = lowerBound(fromKey);
+        int high = upperBound(toKey) - 1;
+        int start = high;
+        if (cursor != null && !cursor.isEmpty()) {
+            try {
+                start = Integer.parseInt(cursor, CURSOR_RADIX);
+            } catch (NumberFormatException e) {
+                throw MockRecordPage.invalidCursor();
+            }
+            if (start < low || start > high) {
+                throw MockRecordPage.invalidCursor();
+            }
+        }
+
+        int end = Math.max(low, start - limit + 1);
+        MockJsonWriter writer = page.writer();
+        for (int row = start; row >= end; row--) {
+            format.write(writer, this, row);
+            page.added();
+        }
+        page.end(end > low ? Integer.toString(end - 1, CURSOR_RADIX) : null);
+    }
+
+    /**
+     * key 이상인 첫 행
+     */
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * key 초과인 첫 행
+     */
+    private int upperBound(long key) {
+        return key == Long.MAX_VALUE ? keys.length : lowerBound(key + 1);
+    }
+
+    /**
+     * @param valueColumns 숫자 컬럼 수
+     * @param codeColumns  문자열(사전 인코딩) 컬럼 수
+     */
+    public static Builder builder(RowFormat format, int valueColumns, int codeColumns) {
+        return new Builder(format, valueColumns, codeColumns);
+    }
+
+    public static final class Builder {
+
+        private final RowFormat format;
+        private long[] keys = new long[16];
+        private final long[][] values;
+        private final short[][] codes;
+        private final List<Map<String, Short>> codeIndexes = new ArrayList<>();
+        private final List<List<byte[]>> dictionaries = new ArrayList<>();
+        private int size;
+
+        private Builder(RowFormat format, int valueColumns, int codeColumns) {
+            this.format = format;
+            this.values = new long[valueColumns][16];
+            this.codes = new short[codeColumns][16];
+            for (int i = 0; i < codeColumns; i++) {
+                codeIndexes.add(new HashMap<>());
+                dictionaries.add(new ArrayList<>());
+            }
+        }
+
+        /**
+         * 행 추가 (키 오름차순으로 추가해야 함, 숫자 컬럼은 ABSENT로 초기화)
+         */
+        public Builder row(long key) {
+            if (size > 0 && keys[size - 1] > key) {
+                throw new IllegalArgumentException("거래는 거래일시 오름차순으로 추가해야 합니다.");
+            }
+            if (size == keys.length) {
+                int capacity = size * 2;
+                keys = Arrays.copyOf(keys, capacity);
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = Arrays.copyOf(values[i], capacity);
+                }
+                for (int i = 0; i < codes.length; i++) {
+                    codes[i] = Arrays.copyOf(codes[i], capacity);
+                }
+            }
+            keys[size] = key;
+            for (long[] column : values) {
+                column[size] = ABSENT;
+            }
+            size++;
+            return this;
+        }
+
+        /**
+         * 마지막 행의 숫자 컬럼 값
+         */
+        public Builder value(int column, long value) {
+            values[column][size - 1] = value;
+            return this;
+        }
+
+        /**
+         * 마지막 행의 문자열 컬럼 값 (같은 문자열은 사전에 1번만 저장)
+         */
+        public Builder code(int column, String value) {
+            Map<String, Short> index = codeIndexes.get(column);
+            Short code = index.get(value);
+            if (code == null) {
+                List<byte[]> dictionary = dictionaries.get(column);
+                if (dictionary.size() > Short.MAX_VALUE) {
+                    throw new IllegalArgumentException("문자열 컬럼의 값 종류가 너무 많습니다.");
+                }
+                code = (short) dictionary.size();
+                dictionary.add(MockJsonWriter.encodeString(value));
+                index.put(value, code);
+            }
+            codes[column][size - 1] = code;
+            return this;
+        }
+
+        public MockTransactionStore build() {
+            long[][] trimmedValues = new long[values.length][];
+            for (int i = 0; i < values.length; i++) {
+                trimmedValues[i] = Arrays.copyOf(values[i], size);
+            }
+            short[][] trimmedCodes = new short[codes.length][];
+            byte[][][] encoded = new byte[codes.length][][];
+            for (int i = 0; i < codes.length; i++) {
+                trimmedCodes[i] = Arrays.copyOf(codes[i], size);
+                encoded[i] = dictionaries.get(i).toArray(new byte[0][]);
+            }
+            return new MockTransactionStore(format, Arrays.copyOf(keys, size), trimmedValues, trimmedCodes, encoded);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.mydata.mydatatestbed.mock.registry;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 모의 종합포털 기관정보 (지원-002 기관정보 / 지원-006 통합인증기관용 기관정보의 원본)
+ *
+ * 테스트베드 전용 등록 API의 요청 본문으로도 사용 (MockRegistryController)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class MockOrg {
+
+    private String orgCode;
+    private String orgType;
+    private Boolean isRcvOrg;
+    private String orgName;
+    private String orgRegno;
+    private String corpRegno;
+    private String serialNum;
+    private String address;
+    private String domain;
+    private List<String> domainIpList;
+    private String relayOrgCode;
+    private String industry;
+    private String authType;
+    private List<String> ipList;
+    private String cpCode;
+    private String serverCertIssuerDn;
+    private String serverCertSubjectDn;
+}
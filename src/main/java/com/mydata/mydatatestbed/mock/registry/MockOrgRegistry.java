@@ -0,0 +1,386 @@
+package com.mydata.mydatatestbed.mock.registry;
+
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import com.mydata.mydatatestbed.mock.sandbox.MockSandbox;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.mydata.mydatatestbed.mock.common.MockJsonWriter.key;
+
+/**
+ * 모의 종합포털 기관/서비스 등록부 (메모리)
+ *
+ * 현재 기관/서비스 목록과 함께 조회 API별 변경 이력(MockRegistryLog)을 유지
+ * - 지원-002 기관정보, 지원-006 통합인증기관용 기관정보: 같은 기관 변경을 API별 형식으로 각각 직렬화해 기록
+ * - 지원-003 서비스정보: 서비스 변경을 기관코드별로 묶어 응답
+ *
+ * 변경 시각은 search_timestamp 형식(yyyyMMddHHmmss)이며 직전 변경보다 작아지지 않도록 보정
+ * 기동 시 테스트베드 모의 기관(정보제공자/마이데이터사업자/통합인증기관)을 등록
+ */
+@Slf4j
+@Component
+public class MockOrgRegistry {
+
+    static final String OP_INSERT = "I";
+    static final String OP_MODIFY = "M";
+    static final String OP_DELETE = "D";
+
+    private static final byte[] ORG_CNT = key("org_cnt");
+    private static final byte[] ORG_LIST = key("org_list");
+    private static final byte[] SERVICE_CNT = key("service_cnt");
+    private static final byte[] SERVICE_LIST = key("service_list");
+
+    private static final byte[] OP_TYPE = key("op_type");
+    private static final byte[] ORG_CODE = key("org_code");
+    private static final byte[] ORG_TYPE = key("org_type");
+    private static final byte[] IS_RCV_ORG = key("is_rcv_org");
+    private static final byte[] ORG_NAME = key("org_name");
+    private static final byte[] ORG_REGNO = key("org_regno");
+    private static final byte[] CORP_REGNO = key("corp_regno");
+    private static final byte[] SERIAL_NUM = key("serial_num");
+    private static final byte[] ADDRESS = key("address");
+    private static final byte[] DOMAIN = key("domain");
+    private static final byte[] DOMAIN_IP_CNT = key("domain_ip_cnt");
+    private static final byte[] DOMAIN_IP_LIST = key("domain_ip_list");
+    private static final byte[] DOMAIN_IP = key("domain_ip");
+    private static final byte[] RELAY_ORG_CODE = key("relay_org_code");
+    private static final byte[] INDUSTRY = key("industry");
+    private static final byte[] AUTH_TYPE = key("auth_type");
+    private static final byte[] IP_CNT = key("ip_cnt");
+    private static final byte[] IP_LIST = key("ip_list");
+    private static final byte[] IP = key("ip");
+    private static final byte[] CP_CODE = key("cp_code");
+    private static final byte[] SERVER_CERT_ISSUER_DN = key("server_cert_issuer_dn");
+    private static final byte[] SERVER_CERT_SUBJECT_DN = key("server_cert_subject_dn");
+    private static final byte[] SERVICE_NAME = key("service_name");
+    private static final byte[] CLIENT_ID = key("client_id");
+    private static final byte[] CLIENT_SECRET = key("client_secret");
+    private static final byte[] REDIRECT_URI_CNT = key("redirect_uri_cnt");
+    private static final byte[] REDIRECT_URI_LIST = key("redirect_uri_list");
+    private static final byte[] REDIRECT_URI = key("redirect_uri");
+    private static final byte[] APP_SCHEME_CNT = key("app_scheme_cnt");
+    private static final byte[] APP_SCHEME_LIST = key("app_scheme_list");
+    private static final byte[] APP_SCHEME = key("app_scheme");
+
+    private final Map<String, MockOrg> orgs = new HashMap<>();
+    private final Map<String, MockService> services = new HashMap<>();
+
+    private final MockRegistryLog orgLog = new MockRegistryLog(ORG_CNT, ORG_LIST);
+    private final MockRegistryLog caOrgLog = new MockRegistryLog(ORG_CNT, ORG_LIST);
+    private final MockRegistryLog serviceLog =
+            new MockRegistryLog(ORG_CNT, ORG_LIST, ORG_CODE, SERVICE_CNT, SERVICE_LIST);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long lastTimestamp;
+
+    @Value("${mock.registry.provider-org-code:MOCKBANK01}")
+    private String providerOrgCode;
+
+    @Value("${mock.statistics.client-org-code:MOCKMYDATA}")
+    private String mydataOrgCode;
+
+    @Value("${mock.registry.ca-org-code:MOCKCA0001}")
+    private String caOrgCode;
+
+    @Value("${mock.registry.client-id:mock-client}")
+    private String clientId;
+
+    @PostConstruct
+    void registerMockOrgs() {
+        upsertOrg(org(providerOrgCode, "01", "모의 은행", "bank"));
+        upsertOrg(org(mydataOrgCode, "03", "모의 마이데이터사업자", null));
+        upsertOrg(org(caOrgCode, "05", "모의 통합인증기관", null));
+
+        MockService service = new MockService();
+        service.setOrgCode(mydataOrgCode);
+        service.setServiceName("모의 마이데이터 서비스");
+        service.setClientId(clientId);
+        service.setClientSecret(clientId + "-secret");
+        service.setRedirectUriList(List.of("http://localhost:8080/mock/callback"));
+        upsertService(service);
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 지원-002 기관정보 (search_timestamp가 0이면 전체)
+     */
+    public void writeOrgs(MockJsonWriter writer, long searchTimestamp) {
+        write(orgLog, writer, searchTimestamp);
+    }
+
+    /**
+     * 지원-003 서비스정보 (기관코드별 묶음)
+     */
+    public void writeServices(MockJsonWriter writer, long searchTimestamp) {
+        write(serviceLog, writer, searchTimestamp);
+    }
+
+    /**
+     * 지원-006 통합인증기관용 기관정보
+     */
+    public void writeOrgsForCa(MockJsonWriter writer, long searchTimestamp) {
+        write(caOrgLog, writer, searchTimestamp);
+    }
+
+    /**
+     * client_id를 소유한 회원 (등록되지 않았거나 소유 회원이 없으면 MockSandbox.SHARED)
+     */
+    public long memberOf(String clientId) {
+        lock.readLock().lock();
+        try {
+            MockService service = services.get(clientId);
+            return service == null || service.getMemberId() == null ? MockSandbox.SHARED : service.getMemberId();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * client_id/client_secret이 등록부의 서비스와 일치하는지 확인하고 client_id를 소유한 회원을 반환
+     * (소유 회원이 없으면 MockSandbox.SHARED)
+     *
+     * 회원 샌드박스는 이 확인을 거쳐 발급한 토큰으로만 조회 → client_id만 알아서는 다른 회원의 샌드박스에 접근할 수 없음
+     *
+     * @throws MockApiException 등록되지 않은 client_id이거나 client_secret이 다르면 40102
+     */
+    public long authenticate(String clientId, String clientSecret) {
+        MockService service;
+        lock.readLock().lock();
+        try {
+            service = services.get(clientId);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (service == null || service.getClientSecret() == null || !MessageDigest.isEqual(
+                service.getClientSecret().getBytes(StandardCharsets.UTF_8), clientSecret.getBytes(StandardCharsets.UTF_8))) {
+            throw new MockApiException(MockRspCode.INVALID_CLIENT, "등록되지 않은 client_id이거나 client_secret이 다릅니다.");
+        }
+        return service.getMemberId() == null ? MockSandbox.SHARED : service.getMemberId();
+    }
+
+    /**
+     * 응답에 넣을 현재 search_timestamp (이 시각 이후 변경분은 다음 조회에 포함)
+     */
+    public long now() {
+        return timestamp(LocalDateTime.now());
+    }
+
+    private void write(MockRegistryLog changeLog, MockJsonWriter writer, long searchTimestamp) {
+        // 변경이 없는 주기적 조회는 잠금 없이 시각 비교로 끝냄
+        if (searchTimestamp > 0 && changeLog.isUnchangedSince(searchTimestamp)) {
+            changeLog.writeEmpty(writer);
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            changeLog.writeTo(writer, searchTimestamp);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ==================== 변경 ====================
+
+    public void upsertOrg(MockOrg org) {
+        require(org.getOrgCode(), "org_code");
+        require(org.getOrgType(), "org_type");
+        require(org.getOrgName(), "org_name");
+        lock.writeLock().lock();
+        try {
+            String op = orgs.put(org.getOrgCode(), org) == null ? OP_INSERT : OP_MODIFY;
+            long timestamp = nextTimestamp();
+            orgLog.append(timestamp, org.getOrgCode(), null, orgEntry(op, org), false);
+            caOrgLog.append(timestamp, org.getOrgCode(), null, caOrgEntry(op, org), false);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("모의 기관정보 등록: orgCode={}", org.getOrgCode());
+    }
+
+    public void deleteOrg(String orgCode) {
+        lock.writeLock().lock();
+        try {
+            if (orgs.remove(orgCode) == null) {
+                throw new MockApiException(MockRspCode.NOT_FOUND, "등록되지 않은 기관입니다: " + orgCode);
+            }
+            long timestamp = nextTimestamp();
+            byte[] entry = deleteEntry(ORG_CODE, orgCode);
+            orgLog.append(timestamp, orgCode, null, entry, true);
+            caOrgLog.append(timestamp, orgCode, null, entry, true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsertService(MockService service) {
+        require(service.getOrgCode(), "org_code");
+        require(service.getClientId(), "client_id");
+        require(service.getServiceName(), "service_name");
+        lock.writeLock().lock();
+        try {
+            if (!orgs.containsKey(service.getOrgCode())) {
+                throw new MockApiException(MockRspCode.NOT_FOUND, "등록되지 않은 기관입니다: " + service.getOrgCode());
+            }
+            MockService previous = services.put(service.getClientId(), service);
+            long timestamp = nextTimestamp();
+            // 다른 기관으로 옮기면 이전 기관 목록에서는 삭제로 알림
+            if (previous != null && !previous.getOrgCode().equals(service.getOrgCode())) {
+                serviceLog.append(timestamp, serviceKey(previous), previous.getOrgCode(),
+                        serviceDeleteEntry(previous), true);
+                previous = null;
+            }
+            String op = previous == null ? OP_INSERT : OP_MODIFY;
+            serviceLog.append(timestamp, serviceKey(service), service.getOrgCode(), serviceEntry(op, service), false);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void deleteService(String clientId) {
+        lock.writeLock().lock();
+        try {
+            MockService removed = services.remove(clientId);
+            if (removed == null) {
+                throw new MockApiException(MockRspCode.NOT_FOUND, "등록되지 않은 서비스입니다: " + clientId);
+            }
+            serviceLog.append(nextTimestamp(), serviceKey(removed), removed.getOrgCode(), serviceDeleteEntry(removed), true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 변경 시각 (쓰기 잠금 안에서 호출, 시계가 되돌아가도 직전 변경보다 작아지지 않음)
+     */
+    private long nextTimestamp() {
+        lastTimestamp = Math.max(lastTimestamp, now());
+        return lastTimestamp;
+    }
+
+    /**
+     * 서비스 변경 이력의 키 (기관별 목록으로 묶으므로 기관코드 포함 → 기관을 옮긴 서비스의 삭제/신규가 따로 남음)
+     */
+    private static String serviceKey(MockService service) {
+        return service.getOrgCode() + ":" + service.getClientId();
+    }
+
+    // ==================== 목록 원소 직렬화 ====================
+
+    private byte[] orgEntry(String op, MockOrg org) {
+        MockJsonWriter writer = new MockJsonWriter(512).beginObject()
+                .field(OP_TYPE).string(op)
+                .field(ORG_CODE).string(org.getOrgCode())
+                .field(ORG_TYPE).string(org.getOrgType())
+                .field(IS_RCV_ORG).bool(Boolean.TRUE.equals(org.getIsRcvOrg()))
+                .field(ORG_NAME).string(org.getOrgName());
+        optional(writer, ORG_REGNO, org.getOrgRegno());
+        optional(writer, CORP_REGNO, org.getCorpRegno());
+        optional(writer, SERIAL_NUM, org.getSerialNum());
+        optional(writer, ADDRESS, org.getAddress());
+        optional(writer, DOMAIN, org.getDomain());
+        list(writer, DOMAIN_IP_CNT, DOMAIN_IP_LIST, DOMAIN_IP, org.getDomainIpList());
+        optional(writer, RELAY_ORG_CODE, org.getRelayOrgCode());
+        optional(writer, INDUSTRY, org.getIndustry());
+        optional(writer, AUTH_TYPE, org.getAuthType());
+        list(writer, IP_CNT, IP_LIST, IP, org.getIpList());
+        return writer.endObject().toByteArray();
+    }
+
+    private byte[] caOrgEntry(String op, MockOrg org) {
+        MockJsonWriter writer = new MockJsonWriter(512).beginObject()
+                .field(ORG_CODE).string(org.getOrgCode())
+                .field(OP_TYPE).string(op)
+                .field(ORG_TYPE).string(org.getOrgType())
+                .field(IS_RCV_ORG).bool(Boolean.TRUE.equals(org.getIsRcvOrg()))
+                .field(ORG_NAME).string(org.getOrgName());
+        optional(writer, DOMAIN, org.getDomain());
+        optional(writer, CP_CODE, org.getCpCode());
+        optional(writer, RELAY_ORG_CODE, org.getRelayOrgCode());
+        optional(writer, SERVER_CERT_ISSUER_DN, org.getServerCertIssuerDn());
+        optional(writer, SERVER_CERT_SUBJECT_DN, org.getServerCertSubjectDn());
+        list(writer, IP_CNT, IP_LIST, IP, org.getIpList());
+        return writer.endObject().toByteArray();
+    }
+
+    private byte[] serviceEntry(String op, MockService service) {
+        MockJsonWriter writer = new MockJsonWriter(512).beginObject()
+                .field(SERVICE_NAME).string(service.getServiceName())
+                .field(OP_TYPE).string(op)
+                .field(CLIENT_ID).string(service.getClientId());
+        optional(writer, CLIENT_SECRET, service.getClientSecret());
+        list(writer, REDIRECT_URI_CNT, REDIRECT_URI_LIST, REDIRECT_URI, service.getRedirectUriList());
+        list(writer, APP_SCHEME_CNT, APP_SCHEME_LIST, APP_SCHEME, service.getAppSchemeList());
+        return writer.endObject().toByteArray();
+    }
+
+    private byte[] serviceDeleteEntry(MockService service) {
+        return new MockJsonWriter(128).beginObject()
+                .field(SERVICE_NAME).string(service.getServiceName())
+                .field(OP_TYPE).string(OP_DELETE)
+                .field(CLIENT_ID).string(service.getClientId())
+                .endObject().toByteArray();
+    }
+
+    /**
+     * 삭제 원소: op_type과 키만 회신 (기관명 등은 미회신)
+     */
+    private byte[] deleteEntry(byte[] keyField, String key) {
+        return new MockJsonWriter(64).beginObject()
+                .field(OP_TYPE).string(OP_DELETE)
+                .field(keyField).string(key)
+                .endObject().toByteArray();
+    }
+
+    private void optional(MockJsonWriter writer, byte[] field, String value) {
+        if (value != null && !value.isEmpty()) {
+            writer.field(field).string(value);
+        }
+    }
+
+    private void list(MockJsonWriter writer, byte[] countField, byte[] listField, byte[] itemField, List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        writer.field(countField).number(values.size())
+                .field(listField).beginArray();
+        for (String value : values) {
+            writer.beginObject().field(itemField).string(value).endObject();
+        }
+        writer.endArray();
+    }
+
+    private MockOrg org(String orgCode, String orgType, String orgName, String industry) {
+        MockOrg org = new MockOrg();
+        org.setOrgCode(orgCode);
+        org.setOrgType(orgType);
+        org.setOrgName(orgName);
+        org.setIndustry(industry);
+        org.setDomain("localhost:8080");
+        return org;
+    }
+
+    private void require(String value, String name) {
+        if (value == null || value.isBlank()) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, name + "는 필수입니다.");
+        }
+    }
+
+    static long timestamp(LocalDateTime time) {
+        return time.getYear() * 10_000_000_000L + time.getMonthValue() * 100_000_000L
+                + time.getDayOfMonth() * 1_000_000L + time.getHour() * 10_000L
+                + time.getMinute() * 100L + time.getSecond();
+    }
+}
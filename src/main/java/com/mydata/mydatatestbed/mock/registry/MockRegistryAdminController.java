@@ -0,0 +1,73 @@
+package com.mydata.mydatatestbed.mock.registry;
+
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockApiResponder;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import com.mydata.mydatatestbed.repository.MemberRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * 테스트베드 전용 (규격 외): 모의 종합포털 등록부 변경
+ *
+ * - PUT    /admin/mock/registry/orgs               : 기관 신규/수정
+ * - DELETE /admin/mock/registry/orgs/{org_code}    : 기관 삭제
+ * - PUT    /admin/mock/registry/services           : 서비스 신규/수정
+ * - DELETE /admin/mock/registry/services/{client_id} : 서비스 삭제
+ *
+ * 서비스의 member_id는 토큰/샌드박스를 어느 회원에게 묶을지 정하므로 관리자만 변경 (SecurityConfig.mockAdminFilterChain, HTTP Basic)
+ * 서비스에 member_id를 지정하면 포털 회원으로 등록되어 있어야 함 (없으면 40402)
+ */
+@RestController
+@RequestMapping("/admin/mock/registry")
+@RequiredArgsConstructor
+public class MockRegistryAdminController {
+
+    private final MockOrgRegistry registry;
+    private final MockApiResponder responder;
+    private final MemberRepository memberRepository;
+
+    @PutMapping("/orgs")
+    public void putOrg(@RequestBody MockOrg org,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        registry.upsertOrg(org);
+        responder.send(request, response, responder.begin());
+    }
+
+    @DeleteMapping("/orgs/{orgCode}")
+    public void deleteOrg(@PathVariable("orgCode") String orgCode,
+                          HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        registry.deleteOrg(orgCode);
+        responder.send(request, response, responder.begin());
+    }
+
+    @PutMapping("/services")
+    public void putService(@RequestBody MockService service,
+                           HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+        if (service.getMemberId() != null && !memberRepository.existsById(service.getMemberId())) {
+            throw new MockApiException(MockRspCode.NOT_FOUND, "등록되지 않은 회원입니다: " + service.getMemberId());
+        }
+        registry.upsertService(service);
+        responder.send(request, response, responder.begin());
+    }
+
+    @DeleteMapping("/services/{clientId}")
+    public void deleteService(@PathVariable("clientId") String clientId,
+                              HttpServletRequest request,
+                              HttpServletResponse response) throws IOException {
+        registry.deleteService(clientId);
+        responder.send(request, response, responder.begin());
+    }
+}
@@ -0,0 +1,71 @@
+package com.mydata.mydatatestbed.mock.registry;
+
+import com.mydata.mydatatestbed.mock.common.MockApi;
+import com.mydata.mydatatestbed.mock.common.MockApiResponder;
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+import com.mydata.mydatatestbed.mock.common.MockTenantResolver;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.function.BiConsumer;
+
+/**
+ * 모의 종합포털 지원 API - 기관/서비스정보 배포 (support-api/portal-api.html 규격, v2)
+ *
+ * - 지원-002 GET /v2/mgmts/orgs        : 기관정보 (search_timestamp 이후 변경분, 0이면 전체)
+ * - 지원-003 GET /v2/mgmts/services    : 서비스정보 (기관코드별 묶음)
+ * - 지원-006 GET /v2/mgmts/orgs_for_ca : 통합인증기관용 기관정보
+ *
+ * 등록부 변경은 관리자 전용 MockRegistryAdminController (/admin/mock/registry)
+ */
+@RestController
+@RequestMapping("/v2/mgmts")
+@RequiredArgsConstructor
+public class MockRegistryController {
+
+    private static final byte[] SEARCH_TIMESTAMP = MockJsonWriter.key("search_timestamp");
+
+    private final MockOrgRegistry registry;
+    private final MockTenantResolver tenantResolver;
+    private final MockApiResponder responder;
+
+    @MockApi("지원-002")
+    @GetMapping("/orgs")
+    public void orgs(@RequestParam("search_timestamp") long searchTimestamp,
+                     HttpServletRequest request,
+                     HttpServletResponse response) throws IOException {
+        send(request, response, searchTimestamp, registry::writeOrgs);
+    }
+
+    @MockApi("지원-003")
+    @GetMapping("/services")
+    public void services(@RequestParam("search_timestamp") long searchTimestamp,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        send(request, response, searchTimestamp, registry::writeServices);
+    }
+
+    @MockApi("지원-006")
+    @GetMapping("/orgs_for_ca")
+    public void orgsForCa(@RequestParam("search_timestamp") long searchTimestamp,
+                          HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        send(request, response, searchTimestamp, registry::writeOrgsForCa);
+    }
+
+    private void send(HttpServletRequest request, HttpServletResponse response, long searchTimestamp,
+                      BiConsumer<MockJsonWriter, Long> list) throws IOException {
+        tenantResolver.resolve(request);
+        // 처리 시각을 먼저 정해야 목록을 만드는 동안의 변경이 다음 조회에서 빠지지 않음
+        MockJsonWriter writer = responder.begin()
+                .field(SEARCH_TIMESTAMP).number(registry.now());
+        list.accept(writer, searchTimestamp);
+        responder.send(request, response, writer);
+    }
+}
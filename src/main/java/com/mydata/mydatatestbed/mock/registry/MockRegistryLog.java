@@ -0,0 +1,200 @@
+package com.mydata.mydatatestbed.mock.registry;
+
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 조회 API 1개(지원-002/003/006)의 변경 이력 (추가만 하는 로그) + 전체 목록 캐시
+ *
+ * 변경 1건마다 응답에 들어갈 목록 원소를 미리 직렬화해 (시각, 키, 원소) 순서대로 추가
+ * - 변경 없음: search_timestamp > 마지막 변경 시각 → 시각 비교 1번으로 빈 목록 응답 (잠금 없음)
+ * - 변경분(delta): search_timestamp 이후 구간을 이진 탐색으로 찾아 키별 마지막 원소만 이어 붙임
+ * - 전체(search_timestamp=0): 키별 최신 원소 중 삭제되지 않은 것을 이어 붙인 목록을 버전(로그 길이)별로 캐시
+ *
+ * 같은 초에 응답한 뒤 변경된 내역을 놓치지 않도록 search_timestamp와 같은 시각의 변경도 포함해서 응답
+ * (같은 원소를 다시 받아도 op_type이 같으므로 반영 결과는 같음)
+ *
+ * 쓰기는 MockOrgRegistry의 쓰기 잠금 안에서, 변경분/전체 조회는 읽기 잠금 안에서 호출
+ */
+final class MockRegistryLog {
+
+    private static final byte[] EMPTY_LIST = {'[', ']'};
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final byte[] countKey;
+    private final byte[] listKey;
+
+    /**
+     * 묶음 목록(지원-003: 기관별 서비스 목록)이면 묶음 키/내부 건수/내부 목록 필드명, 아니면 null
+     */
+    private final byte[] groupKey;
+    private final byte[] innerCountKey;
+    private final byte[] innerListKey;
+
+    private long[] timestamps = new long[INITIAL_CAPACITY];
+    private String[] keys = new String[INITIAL_CAPACITY];
+    private String[] groups = new String[INITIAL_CAPACITY];
+    private byte[][] entries = new byte[INITIAL_CAPACITY][];
+    private boolean[] deleted = new boolean[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * 키 → 최신 변경 위치
+     */
+    private final Map<String, Integer> latest = new HashMap<>();
+
+    private volatile long lastModified;
+    private volatile Snapshot snapshot;
+
+    MockRegistryLog(byte[] countKey, byte[] listKey) {
+        this(countKey, listKey, null, null, null);
+    }
+
+    MockRegistryLog(byte[] countKey, byte[] listKey, byte[] groupKey, byte[] innerCountKey, byte[] innerListKey) {
+        this.countKey = countKey;
+        this.listKey = listKey;
+        this.groupKey = groupKey;
+        this.innerCountKey = innerCountKey;
+        this.innerListKey = innerListKey;
+    }
+
+    /**
+     * 변경 1건 추가 (timestamp는 직전 변경 이상이어야 함)
+     */
+    void append(long timestamp, String key, String group, byte[] entry, boolean delete) {
+        if (size == timestamps.length) {
+            int capacity = size * 2;
+            timestamps = Arrays.copyOf(timestamps, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            groups = Arrays.copyOf(groups, capacity);
+            entries = Arrays.copyOf(entries, capacity);
+            deleted = Arrays.copyOf(deleted, capacity);
+        }
+        timestamps[size] = timestamp;
+        keys[size] = key;
+        groups[size] = group;
+        entries[size] = entry;
+        deleted[size] = delete;
+        latest.put(key, size);
+        size++;
+        lastModified = timestamp;
+    }
+
+    /**
+     * 변경 없음 여부 (잠금 없이 호출 가능)
+     */
+    boolean isUnchangedSince(long searchTimestamp) {
+        return searchTimestamp > lastModified;
+    }
+
+    /**
+     * 건수/목록 필드를 작성 (search_timestamp가 0이면 전체, 아니면 변경분)
+     */
+    void writeTo(MockJsonWriter writer, long searchTimestamp) {
+        if (isUnchangedSince(searchTimestamp)) {
+            writeEmpty(writer);
+            return;
+        }
+        Snapshot list = searchTimestamp <= 0 ? full() : delta(searchTimestamp);
+        writer.field(countKey).number(list.count)
+                .field(listKey).raw(list.body);
+    }
+
+    /**
+     * 빈 목록 (변경 없음)
+     */
+    void writeEmpty(MockJsonWriter writer) {
+        writer.field(countKey).number(0)
+                .field(listKey).raw(EMPTY_LIST);
+    }
+
+    /**
+     * 전체 목록 (로그가 그대로면 캐시 사용)
+     */
+    private Snapshot full() {
+        Snapshot cached = snapshot;
+        if (cached != null && cached.version == size) {
+            return cached;
+        }
+        List<Integer> live = new ArrayList<>(latest.size());
+        for (int index : latest.values()) {
+            if (!deleted[index]) {
+                live.add(index);
+            }
+        }
+        live.sort(null);
+        Snapshot built = build(live, size);
+        snapshot = built;
+        return built;
+    }
+
+    /**
+     * searchTimestamp 이후 변경분 (키별 마지막 변경만, 변경 순서대로)
+     */
+    private Snapshot delta(long searchTimestamp) {
+        int from = firstAtOrAfter(searchTimestamp);
+        Set<String> seen = new HashSet<>();
+        List<Integer> changed = new ArrayList<>();
+        for (int i = size - 1; i >= from; i--) {
+            if (seen.add(keys[i])) {
+                changed.add(i);
+            }
+        }
+        changed.sort(null);
+        return build(changed, size);
+    }
+
+    private int firstAtOrAfter(long timestamp) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[mid] < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private Snapshot build(List<Integer> indexes, int version) {
+        MockJsonWriter list = new MockJsonWriter(1024).beginArray();
+        if (groupKey == null) {
+            for (int index : indexes) {
+                list.raw(entries[index]);
+            }
+            return new Snapshot(version, indexes.size(), list.endArray().toByteArray());
+        }
+
+        Map<String, List<Integer>> byGroup = new LinkedHashMap<>();
+        for (int index : indexes) {
+            byGroup.computeIfAbsent(groups[index], group -> new ArrayList<>()).add(index);
+        }
+        for (Map.Entry<String, List<Integer>> group : byGroup.entrySet()) {
+            list.beginObject()
+                    .field(groupKey).string(group.getKey())
+                    .field(innerCountKey).number(group.getValue().size())
+                    .field(innerListKey).beginArray();
+            for (int index : group.getValue()) {
+                list.raw(entries[index]);
+            }
+            list.endArray().endObject();
+        }
+        return new Snapshot(version, byGroup.size(), list.endArray().toByteArray());
+    }
+
+    /**
+     * 직렬화한 목록 (version: 만들 때의 로그 길이)
+     */
+    private record Snapshot(int version, int count, byte[] body) {
+    }
+}
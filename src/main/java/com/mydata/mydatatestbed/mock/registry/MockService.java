@@ -0,0 +1,31 @@
+package com.mydata.mydatatestbed.mock.registry;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 모의 종합포털 서비스정보 (지원-003, 마이데이터사업자 기관별 서비스)
+ *
+ * 테스트베드 전용 등록 API의 요청 본문으로도 사용 (MockRegistryController)
+ * - member_id (규격 외): 서비스를 소유한 포털 회원, 이 client_id로 발급한 접근토큰은 회원의 샌드박스 데이터를 사용
+ *   (지정하지 않으면 공용 샌드박스, 지원-003 응답에는 포함하지 않음)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class MockService {
+
+    private String orgCode;
+    private String serviceName;
+    private String clientId;
+    private String clientSecret;
+    private List<String> redirectUriList;
+    private List<String> appSchemeList;
+    private Long memberId;
+}
@@ -0,0 +1,117 @@
+package com.mydata.mydatatestbed.mock.sandbox;
+
+import com.mydata.mydatatestbed.mock.bank.MockBankDataset;
+import com.mydata.mydatatestbed.mock.bank.MockBankDatasetFactory;
+import com.mydata.mydatatestbed.mock.consent.MockConsentStore;
+import com.mydata.mydatatestbed.mock.sector.MockSectorDataset;
+import com.mydata.mydatatestbed.mock.sector.MockSectorEngine;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * 포털 회원 1명의 모의 데이터 공간 (정보주체별 은행/업권 데이터셋 + 전송요구)
+ *
+ * - 정보주체(테넌트 키)의 데이터셋은 처음 요청할 때 생성 (computeIfAbsent → 같은 테넌트 동시 요청도 1번만 생성)
+ * - 시드에 회원 번호를 섞음 → 같은 x-user-ci라도 회원마다 다른 계좌/거래내역 (공용 샌드박스는 기존과 같은 시드)
+ * - 보관 개수 상한도 샌드박스마다 따로 적용 (은행, 업권 모듈별로 각각)
+ *   → 부하 테스트로 토큰을 대량 발급하는 회원은 자기 데이터셋만 밀어내고 다른 회원의 데이터셋은 그대로 유지
+ * - 전송요구 저장소도 샌드박스마다 별도 (쓰기 잠금이 다른 회원의 토큰 발급/scope 확인과 겹치지 않음)
+ */
+@Slf4j
+public final class MockSandbox {
+
+    /**
+     * 소유 회원이 없는 client_id(모의 서비스 등)로 발급한 토큰이 사용하는 공용 샌드박스
+     */
+    public static final long SHARED = 0L;
+
+    /**
+     * 개별인증 없이 쓰는 임의 토큰(mock.oauth.allow-unregistered-tokens)이 사용하는 샌드박스
+     * (발급한 토큰의 공용/회원 샌드박스와 데이터셋/전송요구를 공유하지 않음)
+     */
+    public static final long ANONYMOUS = -1L;
+
+    @Getter
+    private final long memberId;
+    private final MockBankDatasetFactory datasetFactory;
+    private final int maxDatasets;
+
+    private final Map<String, MockBankDataset> datasets = new ConcurrentHashMap<>();
+
+    /**
+     * 업권 모듈 번호(MockSectorEngine) → 정보주체별 데이터셋 (모듈을 처음 호출할 때 생성)
+     */
+    private final AtomicReferenceArray<Map<String, MockSectorDataset>> sectorDatasets =
+            new AtomicReferenceArray<>(MockSectorEngine.MAX_SECTORS);
+
+    @Getter
+    private final MockConsentStore consents = new MockConsentStore();
+
+    MockSandbox(long memberId, MockBankDatasetFactory datasetFactory, int maxDatasets) {
+        this.memberId = memberId;
+        this.datasetFactory = datasetFactory;
+        this.maxDatasets = maxDatasets;
+    }
+
+    public MockBankDataset bankDataset(String tenantKey) {
+        return dataset(datasets, tenantKey, seedKey -> {
+            MockBankDataset created = datasetFactory.create(seedKey);
+            log.debug("모의 은행 데이터셋 생성: memberId={}, accounts={}, seed={}",
+                    memberId, created.getAccounts().size(), created.getSeed());
+            return created;
+        });
+    }
+
+    /**
+     * @param sector    업권 모듈 번호 (0 ~ MockSectorEngine.MAX_SECTORS - 1)
+     * @param generator 시드 키(회원 번호를 섞은 테넌트 키) → 데이터셋
+     */
+    public MockSectorDataset sectorDataset(int sector, String tenantKey,
+                                           Function<String, MockSectorDataset> generator) {
+        Map<String, MockSectorDataset> map = sectorDatasets.get(sector);
+        if (map == null) {
+            sectorDatasets.compareAndSet(sector, null, new ConcurrentHashMap<>());
+            map = sectorDatasets.get(sector);
+        }
+        return dataset(map, tenantKey, generator);
+    }
+
+    /**
+     * 보관 중인 데이터셋 수 (은행 + 업권 모듈)
+     */
+    public int size() {
+        int size = datasets.size();
+        for (int i = 0; i < sectorDatasets.length(); i++) {
+            Map<String, MockSectorDataset> map = sectorDatasets.get(i);
+            size += map == null ? 0 : map.size();
+        }
+        return size;
+    }
+
+    private <T> T dataset(Map<String, T> map, String tenantKey, Function<String, T> generator) {
+        T dataset = map.get(tenantKey);
+        if (dataset != null) {
+            return dataset;
+        }
+        if (map.size() >= maxDatasets) {
+            evictOne(map);
+        }
+        return map.computeIfAbsent(tenantKey, key -> generator.apply(memberId == SHARED ? key : memberId + ":" + key));
+    }
+
+    /**
+     * 시드로 결정되는 데이터이므로 제거된 테넌트가 다시 요청하면 같은 데이터가 재생성됨
+     */
+    private static void evictOne(Map<String, ?> map) {
+        Iterator<String> keys = map.keySet().iterator();
+        if (keys.hasNext()) {
+            map.remove(keys.next());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.mydata.mydatatestbed.mock.sandbox;
+
+import com.mydata.mydatatestbed.mock.bank.MockBankDatasetFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 회원별 샌드박스 보관소 (회원 번호로 샤드를 나눔)
+ *
+ * 모의 API 호출마다 조회하므로
+ * - 조회: 샤드의 현재 표(volatile)를 읽고 선형 탐사 → 잠금 없음, 회원 번호 박싱 없음
+ * - 생성: 처음 요청한 회원의 샌드박스만 그때 만들고, 해당 샤드의 잠금 안에서 표를 복사해 교체 (copy-on-write)
+ *   → 생성은 회원당 1번뿐이고, 다른 샤드의 조회/생성과는 잠금을 공유하지 않음
+ *
+ * 샌드박스 안의 데이터셋/전송요구도 회원마다 별도 (MockSandbox) → 한 회원의 부하가 다른 회원의 데이터를 밀어내지 않음
+ * 회원 수는 포털 가입자 수로 제한되므로 샌드박스는 제거하지 않음
+ */
+@Slf4j
+@Component
+public class MockSandboxRegistry {
+
+    private final MockBankDatasetFactory datasetFactory;
+    private final int maxDatasets;
+    private final Shard[] shards;
+
+    public MockSandboxRegistry(MockBankDatasetFactory datasetFactory,
+                               @Value("${mock.sandbox.shards:16}") int shardCount,
+                               @Value("${mock.sandbox.max-datasets:1000}") int maxDatasets) {
+        if (shardCount <= 0 || Integer.bitCount(shardCount) != 1) {
+            throw new IllegalArgumentException("mock.sandbox.shards는 2의 거듭제곱이어야 합니다: " + shardCount);
+        }
+        this.datasetFactory = datasetFactory;
+        this.maxDatasets = maxDatasets;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard();
+        }
+    }
+
+    /**
+     * 회원의 샌드박스 (없으면 생성, MockSandbox.SHARED는 공용, MockSandbox.ANONYMOUS는 등록되지 않은 토큰용)
+     */
+    public MockSandbox get(long memberId) {
+        long hash = mix(memberId);
+        Shard shard = shards[(int) (hash >>> 32) & (shards.length - 1)];
+        MockSandbox sandbox = shard.table.find(memberId, hash);
+        return sandbox != null ? sandbox : shard.create(memberId, hash);
+    }
+
+    public MockSandbox shared() {
+        return get(MockSandbox.SHARED);
+    }
+
+    public MockSandbox anonymous() {
+        return get(MockSandbox.ANONYMOUS);
+    }
+
+    /**
+     * 생성된 샌드박스 수
+     */
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.table.size;
+        }
+        return size;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+
+    private final class Shard {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile Table table = new Table(8);
+
+        MockSandbox create(long memberId, long hash) {
+            lock.lock();
+            try {
+                MockSandbox sandbox = table.find(memberId, hash);
+                if (sandbox != null) {
+                    return sandbox;
+                }
+                sandbox = new MockSandbox(memberId, datasetFactory, maxDatasets);
+                Table current = table;
+                int capacity = (current.size + 1) * 2 > current.keys.length ? current.keys.length * 2 : current.keys.length;
+                Table next = new Table(capacity);
+                for (int i = 0; i < current.keys.length; i++) {
+                    if (current.values[i] != null) {
+                        next.insert(current.keys[i], mix(current.keys[i]), current.values[i]);
+                    }
+                }
+                next.insert(memberId, hash, sandbox);
+                table = next;
+                log.debug("모의 샌드박스 생성: memberId={}", memberId);
+                return sandbox;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 회원 번호 → 샌드박스 (선형 탐사, 게시 후에는 바꾸지 않음)
+     */
+    private static final class Table {
+
+        private final long[] keys;
+        private final MockSandbox[] values;
+        private int size;
+
+        Table(int capacity) {
+            keys = new long[capacity];
+            values = new MockSandbox[capacity];
+        }
+
+        MockSandbox find(long memberId, long hash) {
+            int mask = keys.length - 1;
+            for (int i = (int) hash & mask; ; i = (i + 1) & mask) {
+                MockSandbox value = values[i];
+                if (value == null || keys[i] == memberId) {
+                    return value;
+                }
+            }
+        }
+
+        void insert(long memberId, long hash, MockSandbox sandbox) {
+            int mask = keys.length - 1;
+            int i = (int) hash & mask;
+            while (values[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = memberId;
+            values[i] = sandbox;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.mydata.mydatatestbed.mock.scenario;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 모의 시나리오의 응답 지연 분포
+ *
+ * - FIXED: 항상 delayMs
+ * - UNIFORM: delayMs ~ maxDelayMs 균등 분포
+ * - LOGNORMAL: 중앙값 delayMs, 로그 표준편차 sigma (실제 응답시간처럼 꼬리가 긴 분포)
+ *   → maxDelayMs가 있으면 그 값에서 자름
+ */
+public enum MockLatencyDistribution {
+
+    FIXED {
+        @Override
+        long sample(long delayMs, long maxDelayMs, double sigma, RandomGenerator random) {
+            return delayMs;
+        }
+    },
+    UNIFORM {
+        @Override
+        long sample(long delayMs, long maxDelayMs, double sigma, RandomGenerator random) {
+            return maxDelayMs <= delayMs ? delayMs : random.nextLong(delayMs, maxDelayMs + 1);
+        }
+    },
+    LOGNORMAL {
+        @Override
+        long sample(long delayMs, long maxDelayMs, double sigma, RandomGenerator random) {
+            long sampled = Math.round(delayMs * Math.exp(sigma * random.nextGaussian()));
+            return maxDelayMs > 0 ? Math.min(sampled, maxDelayMs) : sampled;
+        }
+    };
+
+    abstract long sample(long delayMs, long maxDelayMs, double sigma, RandomGenerator random);
+}
@@ -0,0 +1,98 @@
+package com.mydata.mydatatestbed.mock.scenario;
+
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import lombok.Getter;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 모의 API 1개(또는 전체) × 테넌트 1개(또는 전체)에 적용하는 지연/오류/타임아웃 시나리오
+ *
+ * 요청마다 decide()로 한 번 추첨
+ * 1. timeoutRate 확률로 타임아웃: timeoutMs 동안 응답하지 않다가 50001
+ * 2. 그 밖에는 분포에서 뽑은 지연 후 errorRate 확률로 errorCode, 아니면 정상 처리
+ */
+@Getter
+public class MockScenario {
+
+    public static final String ANY = "*";
+
+    private static final long MAX_DELAY_MS = 600_000L;
+
+    private final String apiId;
+    private final String tenant;
+    private final MockLatencyDistribution distribution;
+    private final long delayMs;
+    private final long maxDelayMs;
+    private final double sigma;
+    private final double errorRate;
+    private final MockRspCode errorCode;
+    private final double timeoutRate;
+    private final long timeoutMs;
+
+    /**
+     * 요청 1건에 적용할 지연(ms)과 오류 (오류가 없으면 error null)
+     */
+    public record Injection(long delayMs, MockRspCode error, String detail) {
+    }
+
+    public MockScenario(MockScenarioRequest request) {
+        this.apiId = isBlank(request.getApiId()) ? ANY : request.getApiId();
+        this.tenant = isBlank(request.getTenant()) ? ANY : request.getTenant();
+        this.distribution = request.getDistribution() == null ? MockLatencyDistribution.FIXED : request.getDistribution();
+        this.delayMs = delay(request.getDelayMs(), "delay_ms");
+        this.maxDelayMs = delay(request.getMaxDelayMs(), "max_delay_ms");
+        this.sigma = request.getSigma() == null ? 0.5 : request.getSigma();
+        this.errorRate = rate(request.getErrorRate(), "error_rate");
+        this.timeoutRate = rate(request.getTimeoutRate(), "timeout_rate");
+        this.timeoutMs = request.getTimeoutMs() == null ? 60_000L : delay(request.getTimeoutMs(), "timeout_ms");
+
+        if (errorRate > 0) {
+            errorCode = MockRspCode.of(request.getErrorCode() == null ? MockRspCode.SYSTEM_ERROR.getCode() : request.getErrorCode());
+            if (errorCode == null || errorCode == MockRspCode.SUCCESS) {
+                throw new MockApiException(MockRspCode.INVALID_PARAMETER, "지원하지 않는 error_code입니다: " + request.getErrorCode());
+            }
+        } else {
+            errorCode = null;
+        }
+        if (sigma < 0) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, "sigma는 0 이상이어야 합니다.");
+        }
+    }
+
+    public Injection decide(RandomGenerator random) {
+        if (timeoutRate > 0 && random.nextDouble() < timeoutRate) {
+            return new Injection(timeoutMs, MockRspCode.SYSTEM_ERROR, "모의 시나리오: 응답 시간 초과 (" + timeoutMs + "ms)");
+        }
+        long delay = Math.clamp(distribution.sample(delayMs, maxDelayMs, sigma, random), 0, MAX_DELAY_MS);
+        if (errorRate > 0 && random.nextDouble() < errorRate) {
+            return new Injection(delay, errorCode, "모의 시나리오: 오류 주입");
+        }
+        return new Injection(delay, null, null);
+    }
+
+    private static long delay(Long value, String name) {
+        if (value == null) {
+            return 0;
+        }
+        if (value < 0 || value > MAX_DELAY_MS) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, name + "는 0 ~ " + MAX_DELAY_MS + " 사이여야 합니다.");
+        }
+        return value;
+    }
+
+    private static double rate(Double value, String name) {
+        if (value == null) {
+            return 0;
+        }
+        if (value < 0 || value > 1) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, name + "는 0 ~ 1 사이여야 합니다.");
+        }
+        return value;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
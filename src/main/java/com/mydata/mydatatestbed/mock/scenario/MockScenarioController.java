@@ -0,0 +1,106 @@
+package com.mydata.mydatatestbed.mock.scenario;
+
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockApiResponder;
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 테스트베드 전용 (규격 외): 모의 시나리오 관리
+ *
+ * - GET    /admin/mock/scenarios                      : 등록된 시나리오 목록
+ * - PUT    /admin/mock/scenarios                      : 시나리오 등록 (같은 API/테넌트면 교체)
+ * - DELETE /admin/mock/scenarios?api_id=...&tenant=... : 시나리오 삭제 (생략하면 "*")
+ * - DELETE /admin/mock/scenarios/all                  : 전체 삭제
+ *
+ * 시나리오는 모든 테넌트의 모의 응답에 적용될 수 있으므로 관리자만 호출 (SecurityConfig.mockAdminFilterChain, HTTP Basic)
+ *
+ * 예) 은행-004 거래내역 조회에 중앙값 800ms 로그정규 지연 + 5% 50001 오류
+ *     {"api_id": "은행-004", "distribution": "LOGNORMAL", "delay_ms": 800, "sigma": 0.6,
+ *      "error_rate": 0.05, "error_code": "50001"}
+ */
+@RestController
+@RequestMapping("/admin/mock/scenarios")
+@RequiredArgsConstructor
+public class MockScenarioController {
+
+    private static final byte[] SCENARIO_CNT = MockJsonWriter.key("scenario_cnt");
+    private static final byte[] SCENARIO_LIST = MockJsonWriter.key("scenario_list");
+    private static final byte[] API_ID = MockJsonWriter.key("api_id");
+    private static final byte[] TENANT = MockJsonWriter.key("tenant");
+    private static final byte[] DISTRIBUTION = MockJsonWriter.key("distribution");
+    private static final byte[] DELAY_MS = MockJsonWriter.key("delay_ms");
+    private static final byte[] MAX_DELAY_MS = MockJsonWriter.key("max_delay_ms");
+    private static final byte[] SIGMA = MockJsonWriter.key("sigma");
+    private static final byte[] ERROR_RATE = MockJsonWriter.key("error_rate");
+    private static final byte[] ERROR_CODE = MockJsonWriter.key("error_code");
+    private static final byte[] TIMEOUT_RATE = MockJsonWriter.key("timeout_rate");
+    private static final byte[] TIMEOUT_MS = MockJsonWriter.key("timeout_ms");
+
+    private static final double DECIMAL_SCALE = 10_000.0;
+
+    private final MockScenarioRegistry scenarioRegistry;
+    private final MockApiResponder responder;
+
+    @GetMapping
+    public void list(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        List<MockScenario> scenarios = scenarioRegistry.list();
+        MockJsonWriter writer = responder.begin()
+                .field(SCENARIO_CNT).number(scenarios.size())
+                .field(SCENARIO_LIST).beginArray();
+        for (MockScenario scenario : scenarios) {
+            writer.beginObject()
+                    .field(API_ID).string(scenario.getApiId())
+                    .field(TENANT).string(scenario.getTenant())
+                    .field(DISTRIBUTION).string(scenario.getDistribution().name())
+                    .field(DELAY_MS).number(scenario.getDelayMs())
+                    .field(MAX_DELAY_MS).number(scenario.getMaxDelayMs())
+                    .field(SIGMA).decimal(Math.round(scenario.getSigma() * DECIMAL_SCALE), 4)
+                    .field(ERROR_RATE).decimal(Math.round(scenario.getErrorRate() * DECIMAL_SCALE), 4)
+                    .field(ERROR_CODE).string(scenario.getErrorCode() == null ? null : scenario.getErrorCode().getCode())
+                    .field(TIMEOUT_RATE).decimal(Math.round(scenario.getTimeoutRate() * DECIMAL_SCALE), 4)
+                    .field(TIMEOUT_MS).number(scenario.getTimeoutMs())
+                    .endObject();
+        }
+        writer.endArray();
+        responder.send(request, response, writer);
+    }
+
+    @PutMapping
+    public void put(@RequestBody MockScenarioRequest body,
+                    HttpServletRequest request,
+                    HttpServletResponse response) throws IOException {
+        scenarioRegistry.put(new MockScenario(body));
+        responder.send(request, response, responder.begin());
+    }
+
+    @DeleteMapping
+    public void delete(@RequestParam(value = "api_id", defaultValue = MockScenario.ANY) String apiId,
+                       @RequestParam(value = "tenant", defaultValue = MockScenario.ANY) String tenant,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        if (!scenarioRegistry.remove(apiId, tenant)) {
+            throw new MockApiException(MockRspCode.NOT_FOUND, "등록되지 않은 시나리오입니다: " + apiId + " / " + tenant);
+        }
+        responder.send(request, response, responder.begin());
+    }
+
+    @DeleteMapping("/all")
+    public void deleteAll(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        scenarioRegistry.clear();
+        responder.send(request, response, responder.begin());
+    }
+}
@@ -0,0 +1,120 @@
+package com.mydata.mydatatestbed.mock.scenario;
+
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockLatencyRegistry;
+import com.mydata.mydatatestbed.mock.common.MockTenantResolver;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모의 시나리오 적용 (@MockApi 핸들러 앞에서 지연/오류/타임아웃 주입)
+ *
+ * 지연은 요청 스레드를 재우지 않고 비동기로 처리
+ * 1. request.startAsync()로 응답을 열어 둔 채 요청 스레드를 반환 (핸들러는 실행하지 않음)
+ * 2. 예약 스레드 1개가 지연 시간 뒤 AsyncContext.dispatch() → 같은 요청을 다시 처리
+ * 3. 다시 들어온 요청은 추첨 결과(요청 속성)대로 오류를 던지거나 핸들러를 실행
+ * → 2초 지연을 동시 1만 건에 걸어도 Tomcat 작업 스레드는 점유하지 않음 (예약 큐 항목만 늘어남)
+ *
+ * 오류는 MockApiException으로 던져 MockApiExceptionHandler가 규격 형식으로 응답 (응답시간 기록에도 실패로 포함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MockScenarioInterceptor implements HandlerInterceptor {
+
+    private static final String INJECTION_ATTRIBUTE = MockScenarioInterceptor.class.getName() + ".injection";
+    private static final long ASYNC_TIMEOUT_MARGIN_MS = 30_000L;
+
+    private final MockScenarioRegistry scenarioRegistry;
+    private final MockLatencyRegistry latencyRegistry;
+    private final MockTenantResolver tenantResolver;
+
+    private ScheduledThreadPoolExecutor scheduler;
+
+    @PostConstruct
+    void startScheduler() {
+        scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "mock-scenario-delay");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stopScheduler() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기로 다시 들어온 요청 (지연 후 재처리, DeferredResult 결과 응답): 추첨은 최초 요청에서 한 번만
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            if (request.getAttribute(INJECTION_ATTRIBUTE) instanceof MockScenario.Injection injection) {
+                request.removeAttribute(INJECTION_ATTRIBUTE);
+                throwIfError(injection);
+            }
+            return true;
+        }
+        if (scenarioRegistry.isEmpty() || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        int endpointId = latencyRegistry.endpointId(handlerMethod);
+        if (endpointId < 0) {
+            return true;
+        }
+        MockScenario scenario = scenarioRegistry.find(latencyRegistry.apiId(endpointId), tenant(request));
+        if (scenario == null) {
+            return true;
+        }
+
+        MockScenario.Injection injection = scenario.decide(ThreadLocalRandom.current());
+        if (injection.delayMs() <= 0) {
+            throwIfError(injection);
+            return true;
+        }
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(injection.delayMs() + ASYNC_TIMEOUT_MARGIN_MS);
+        request.setAttribute(INJECTION_ATTRIBUTE, injection);
+        try {
+            scheduler.schedule(() -> asyncContext.dispatch(), injection.delayMs(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중: 지연 없이 바로 처리
+            asyncContext.dispatch();
+        }
+        return false;
+    }
+
+    /**
+     * 테넌트별 시나리오가 있을 때만 테넌트 확인 (접근토큰 오류는 핸들러가 응답하도록 여기서는 무시)
+     */
+    private String tenant(HttpServletRequest request) {
+        if (!scenarioRegistry.hasTenantScenarios()) {
+            return null;
+        }
+        try {
+            return tenantResolver.resolve(request);
+        } catch (MockApiException e) {
+            return null;
+        }
+    }
+
+    private static void throwIfError(MockScenario.Injection injection) {
+        if (injection.error() != null) {
+            throw new MockApiException(injection.error(), injection.detail());
+        }
+    }
+}
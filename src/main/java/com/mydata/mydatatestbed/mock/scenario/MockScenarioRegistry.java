@@ -0,0 +1,95 @@
+package com.mydata.mydatatestbed.mock.scenario;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.mydata.mydatatestbed.mock.scenario.MockScenario.ANY;
+
+/**
+ * 등록된 모의 시나리오 (API 구분 코드 → 테넌트 → 시나리오)
+ *
+ * 적용 우선순위: (API, 테넌트) > (API, *) > (*, 테넌트) > (*, *)
+ * - 조회는 잠금/할당 없이 해시 조회 최대 4번, 시나리오가 하나도 없으면 volatile 읽기 1번
+ * - 테넌트별 시나리오가 없으면 테넌트(접근토큰)를 확인하지 않도록 hasTenantScenarios() 제공
+ */
+@Component
+public class MockScenarioRegistry {
+
+    private final Map<String, Map<String, MockScenario>> scenarios = new ConcurrentHashMap<>();
+
+    private volatile int count;
+    private volatile int tenantCount;
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public boolean hasTenantScenarios() {
+        return tenantCount > 0;
+    }
+
+    /**
+     * 요청에 적용할 시나리오 (없으면 null)
+     *
+     * @param tenant 테넌트 키 (확인하지 않았으면 null)
+     */
+    public MockScenario find(String apiId, String tenant) {
+        MockScenario scenario = find(scenarios.get(apiId), tenant);
+        return scenario != null ? scenario : find(scenarios.get(ANY), tenant);
+    }
+
+    private static MockScenario find(Map<String, MockScenario> byTenant, String tenant) {
+        if (byTenant == null) {
+            return null;
+        }
+        MockScenario scenario = tenant == null ? null : byTenant.get(tenant);
+        return scenario != null ? scenario : byTenant.get(ANY);
+    }
+
+    public synchronized void put(MockScenario scenario) {
+        MockScenario previous = scenarios.computeIfAbsent(scenario.getApiId(), apiId -> new ConcurrentHashMap<>())
+                .put(scenario.getTenant(), scenario);
+        if (previous == null) {
+            count++;
+            if (!ANY.equals(scenario.getTenant())) {
+                tenantCount++;
+            }
+        }
+    }
+
+    /**
+     * 시나리오 삭제 (없으면 false)
+     */
+    public synchronized boolean remove(String apiId, String tenant) {
+        Map<String, MockScenario> byTenant = scenarios.get(apiId);
+        if (byTenant == null || byTenant.remove(tenant) == null) {
+            return false;
+        }
+        if (byTenant.isEmpty()) {
+            scenarios.remove(apiId);
+        }
+        count--;
+        if (!ANY.equals(tenant)) {
+            tenantCount--;
+        }
+        return true;
+    }
+
+    public synchronized void clear() {
+        scenarios.clear();
+        count = 0;
+        tenantCount = 0;
+    }
+
+    public List<MockScenario> list() {
+        List<MockScenario> list = new ArrayList<>(count);
+        for (Map<String, MockScenario> byTenant : scenarios.values()) {
+            list.addAll(byTenant.values());
+        }
+        return list;
+    }
+}
@@ -0,0 +1,40 @@
+package com.mydata.mydatatestbed.mock.scenario;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 테스트베드 전용 모의 시나리오 등록 요청 본문 (PUT /admin/mock/scenarios)
+ *
+ * api_id / tenant를 비우면 "*" (모든 API / 모든 테넌트)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class MockScenarioRequest {
+
+    /**
+     * @MockApi의 API 구분 코드 (예: 은행-001)
+     */
+    private String apiId;
+
+    /**
+     * 테넌트 키 (개별인증 시 x-user-ci, 등록되지 않은 토큰이면 토큰 값)
+     */
+    private String tenant;
+
+    private MockLatencyDistribution distribution;
+    private Long delayMs;
+    private Long maxDelayMs;
+    private Double sigma;
+
+    private Double errorRate;
+    private String errorCode;
+
+    private Double timeoutRate;
+    private Long timeoutMs;
+}
@@ -0,0 +1,114 @@
+package com.mydata.mydatatestbed.mock.schedule;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 마이데이터사업자 1곳의 정기적 전송 일정 + 수집 통계
+ *
+ * 정보주체마다 수집 시작 시각 + 고정 오프셋(0 ~ window)에 호출
+ * - 오프셋은 (사업자, 정보주체) 해시로 정해 매일 같은 정보주체가 같은 시각에 호출됨
+ * - 같은 시각에 수집하는 사업자가 많을수록 정보제공자에는 해당 시간대에 호출이 몰림 (실제 정기적 전송과 같은 형태)
+ */
+@Getter
+public final class MockScheduleBusiness {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final int id;
+    private final String name;
+    private final String target;
+    private final String orgCode;
+    private final int subjects;
+
+    /**
+     * 개별인증 서비스 정보 (null이면 임의 토큰, MockScheduleRequest)
+     */
+    private final MockScheduleCredential credential;
+
+    /**
+     * 수집 시작 시각 (자정 기준 초, 오름차순)
+     */
+    private final int[] collectTimes;
+    private final int windowSeconds;
+
+    /**
+     * 호출 대상별 동시 수집 상한 (같은 대상을 쓰는 사업자끼리 공유)
+     */
+    private final Semaphore limit;
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder deferred = new LongAdder();
+    private final LongAdder runMillis = new LongAdder();
+
+    private volatile boolean removed;
+
+    MockScheduleBusiness(int id, String name, String target, String orgCode, int subjects,
+                         MockScheduleCredential credential, int[] collectTimes, int windowSeconds, Semaphore limit) {
+        this.id = id;
+        this.name = name;
+        this.target = target;
+        this.orgCode = orgCode;
+        this.subjects = subjects;
+        this.credential = credential;
+        this.collectTimes = collectTimes;
+        this.windowSeconds = windowSeconds;
+        this.limit = limit;
+    }
+
+    /**
+     * 정보주체 식별값 (개별인증의 x-user-ci, 개별인증 서비스 정보가 없으면 그대로 접근토큰으로 사용)
+     */
+    public String subjectKey(int subject) {
+        return "SCHED" + id + "-" + subject;
+    }
+
+    /**
+     * now(epoch 초) 이후 정보주체의 다음 수집 시각 (epoch 초)
+     */
+    public long nextRun(int subject, long now, ZoneId zone) {
+        long offset = offset(subject);
+        LocalDate date = Instant.ofEpochSecond(now).atZone(zone).toLocalDate();
+        // 전날 마지막 시각 + 오프셋이 자정을 넘는 경우부터 확인
+        for (LocalDate day = date.minusDays(1); ; day = day.plusDays(1)) {
+            long dayStart = day.atStartOfDay(zone).toEpochSecond();
+            for (int time : collectTimes) {
+                long deadline = dayStart + time + offset;
+                if (deadline > now) {
+                    return deadline;
+                }
+            }
+        }
+    }
+
+    public long getAverageRunMillis() {
+        long count = runs.sum();
+        return count == 0 ? 0 : runMillis.sum() / count;
+    }
+
+    void remove() {
+        removed = true;
+    }
+
+    void recordRun(long millis) {
+        runs.increment();
+        runMillis.add(millis);
+    }
+
+    private long offset(int subject) {
+        if (windowSeconds == 0) {
+            return 0;
+        }
+        long z = id * GOLDEN_GAMMA + subject;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return Math.floorMod(z ^ (z >>> 31), windowSeconds);
+    }
+}
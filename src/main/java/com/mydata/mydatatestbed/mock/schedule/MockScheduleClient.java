@@ -0,0 +1,225 @@
+package com.mydata.mydatatestbed.mock.schedule;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.mydata.mydatatestbed.mock.common.MockApiResponder.TRAN_ID_HEADER;
+import static com.mydata.mydatatestbed.mock.common.MockLatencyInterceptor.API_TYPE_HEADER;
+import static com.mydata.mydatatestbed.mock.common.MockLatencyInterceptor.SCHEDULED;
+
+/**
+ * 정보주체 1명의 정기적 전송 수집 (은행 정보제공 API 규격 순서)
+ *
+ * 0. 개별인증 서비스 정보가 있으면 처음 수집할 때 개별인증-001/002로 접근토큰 발급 (작업에 보관)
+ * 1. 은행-001 계좌 목록
+ * 2. 수신계좌(account_type 1xxx)마다 은행-004 거래내역 (마지막 수집일 ~ 오늘, next_page를 따라 최대 max-pages쪽)
+ *
+ * 접근토큰이 거절되면(40101) 다시 발급받아 1번만 재시도
+ *
+ * 모든 요청에 x-api-type: scheduled (정보제공자의 정기적 전송 호출 한도/통계로 집계)
+ * 가상 스레드에서 동기 호출 (HttpClient 1개를 공유, 호출마다 플랫폼 스레드를 점유하지 않음)
+ */
+@Component
+public class MockScheduleClient {
+
+    private static final String SUCCESS_RSP_CODE = "00000";
+    private static final String INVALID_TOKEN_RSP_CODE = "40101";
+    private static final String APP_SCHEME = "mydata-schedule://callback";
+    private static final String TRAN_ID_PREFIX = "SCHEDULE00M";
+    private static final int LIMIT = 500;
+
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final AtomicLong tranSeq = new AtomicLong();
+
+    @Value("${mock.schedule.max-pages:10}")
+    private int maxPages;
+
+    public MockScheduleClient(ObjectMapper objectMapper,
+                              @Value("${mock.schedule.request-timeout-ms:10000}") long requestTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(requestTimeout)
+                .build();
+    }
+
+    /**
+     * @param fromDate 거래내역 시작일 (yyyyMMdd)
+     * @param toDate   거래내역 종료일 (yyyyMMdd)
+     * @throws IOException 연결 오류, HTTP 400 이상, rsp_code가 00000이 아닌 경우
+     */
+    void collect(MockScheduleJob job, int fromDate, int toDate) throws IOException, InterruptedException {
+        try {
+            collect(job, "Bearer " + accessToken(job), fromDate, toDate);
+        } catch (TokenRejectedException e) {
+            if (job.business.getCredential() == null) {
+                throw e;
+            }
+            job.accessToken = null;
+            collect(job, "Bearer " + accessToken(job), fromDate, toDate);
+        }
+    }
+
+    private void collect(MockScheduleJob job, String authorization, int fromDate, int toDate)
+            throws IOException, InterruptedException {
+        MockScheduleBusiness business = job.business;
+        String orgCode = URLEncoder.encode(business.getOrgCode(), StandardCharsets.UTF_8);
+        JsonNode accounts = call(business, HttpRequest.newBuilder(
+                        URI.create(business.getTarget() + "/v2/bank/accounts?org_code=" + orgCode + "&limit=" + LIMIT))
+                .header("Authorization", authorization)
+                .GET());
+
+        for (JsonNode account : accounts.path("account_list")) {
+            if (!account.path("account_type").asText().startsWith("1")) {
+                continue;
+            }
+            String nextPage = null;
+            int pages = 0;
+            do {
+                ObjectNode body = objectMapper.createObjectNode()
+                        .put("org_code", business.getOrgCode())
+                        .put("account_num", account.path("account_num").asText())
+                        .put("from_date", Integer.toString(fromDate))
+                        .put("to_date", Integer.toString(toDate))
+                        .put("limit", LIMIT);
+                if (nextPage != null) {
+                    body.put("next_page", nextPage);
+                }
+                JsonNode page = call(business, HttpRequest.newBuilder(
+                                URI.create(business.getTarget() + "/v2/bank/accounts/deposit/transactions"))
+                        .header("Authorization", authorization)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))));
+                nextPage = page.path("next_page").asText(null);
+            } while (nextPage != null && ++pages < maxPages);
+        }
+    }
+
+    private JsonNode call(MockScheduleBusiness business, HttpRequest.Builder builder)
+            throws IOException, InterruptedException {
+        HttpRequest request = builder
+                .header(TRAN_ID_HEADER, tranId())
+                .header(API_TYPE_HEADER, SCHEDULED)
+                .timeout(requestTimeout)
+                .build();
+        business.getCalls().increment();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        JsonNode body = response.body().length == 0 ? objectMapper.missingNode() : objectMapper.readTree(response.body());
+        String rspCode = body.path("rsp_code").asText();
+        if (response.statusCode() >= 400 || !SUCCESS_RSP_CODE.equals(rspCode)) {
+            if (INVALID_TOKEN_RSP_CODE.equals(rspCode)) {
+                throw new TokenRejectedException(request.method() + " " + request.uri().getPath() + " 접근토큰 거절");
+            }
+            throw new IOException(request.method() + " " + request.uri().getPath()
+                    + " 실패: HTTP " + response.statusCode() + ", rsp_code=" + rspCode);
+        }
+        return body;
+    }
+
+    // ==================== 개별인증 ====================
+
+    /**
+     * 작업의 접근토큰 (개별인증 서비스 정보가 없으면 정보주체 식별값을 그대로 사용)
+     */
+    private String accessToken(MockScheduleJob job) throws IOException, InterruptedException {
+        MockScheduleCredential credential = job.business.getCredential();
+        if (credential == null) {
+            return job.business.subjectKey(job.subject);
+        }
+        if (job.accessToken == null) {
+            job.accessToken = issueToken(job.business, credential, job.business.subjectKey(job.subject));
+        }
+        return job.accessToken;
+    }
+
+    /**
+     * 개별인증-001 인가코드 (리다이렉트의 code) → 개별인증-002 접근토큰
+     */
+    private String issueToken(MockScheduleBusiness business, MockScheduleCredential credential, String userCi)
+            throws IOException, InterruptedException {
+        String state = Long.toString(tranSeq.get());
+        HttpRequest authorize = HttpRequest.newBuilder(URI.create(business.getTarget() + "/v2/oauth/2.0/authorize?"
+                        + form("org_code", business.getOrgCode(), "response_type", "code",
+                        "client_id", credential.clientId(), "redirect_uri", credential.redirectUri(),
+                        "app_scheme", APP_SCHEME, "state", state)))
+                .header("x-user-ci", userCi)
+                .header(TRAN_ID_HEADER, tranId())
+                .timeout(requestTimeout)
+                .GET()
+                .build();
+        business.getCalls().increment();
+        HttpResponse<Void> redirect = httpClient.send(authorize, HttpResponse.BodyHandlers.discarding());
+        String code = redirect.headers().firstValue("Location")
+                .map(location -> UriComponentsBuilder.fromUriString(location).build().getQueryParams().getFirst("code"))
+                .orElse(null);
+        if (redirect.statusCode() / 100 != 3 || code == null) {
+            throw new IOException("GET /v2/oauth/2.0/authorize 실패: HTTP " + redirect.statusCode());
+        }
+
+        // 토큰 응답에는 rsp_code가 없음 (MockApiResponder.beginPlain) → HTTP 상태와 access_token으로 확인
+        HttpRequest tokenRequest = HttpRequest.newBuilder(URI.create(business.getTarget() + "/v2/oauth/2.0/token"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .header(TRAN_ID_HEADER, tranId())
+                .timeout(requestTimeout)
+                .POST(HttpRequest.BodyPublishers.ofString(form("org_code", business.getOrgCode(),
+                        "grant_type", "authorization_code", "code", code, "client_id", credential.clientId(),
+                        "client_secret", credential.clientSecret(), "redirect_uri", credential.redirectUri())))
+                .build();
+        business.getCalls().increment();
+        HttpResponse<byte[]> response = httpClient.send(tokenRequest, HttpResponse.BodyHandlers.ofByteArray());
+        String accessToken = response.statusCode() == 200 && response.body().length > 0
+                ? objectMapper.readTree(response.body()).path("access_token").asText(null) : null;
+        if (accessToken == null) {
+            throw new IOException("POST /v2/oauth/2.0/token 실패: HTTP " + response.statusCode());
+        }
+        return accessToken;
+    }
+
+    private static String form(String... pairs) {
+        StringBuilder form = new StringBuilder();
+        for (int i = 0; i < pairs.length; i += 2) {
+            if (i > 0) {
+                form.append('&');
+            }
+            form.append(pairs[i]).append('=').append(URLEncoder.encode(pairs[i + 1], StandardCharsets.UTF_8));
+        }
+        return form.toString();
+    }
+
+    /**
+     * 기관코드(10) + M + 14자리 일련번호
+     */
+    private String tranId() {
+        String sequence = Long.toString(tranSeq.incrementAndGet() % 100_000_000_000_000L);
+        return TRAN_ID_PREFIX + "0".repeat(14 - sequence.length()) + sequence;
+    }
+
+    /**
+     * 접근토큰 거절(40101) → 다시 발급받아 재시도
+     */
+    private static final class TokenRejectedException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        TokenRejectedException(String message) {
+            super(message);
+        }
+    }
+}
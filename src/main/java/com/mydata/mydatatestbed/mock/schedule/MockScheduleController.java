@@ -0,0 +1,105 @@
+package com.mydata.mydatatestbed.mock.schedule;
+
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockApiResponder;
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 테스트베드 전용 (규격 외): 정기적 전송 시뮬레이터 관리
+ *
+ * - GET    /admin/mock/schedules                  : 등록된 가상 사업자 + 수집 통계
+ * - PUT    /admin/mock/schedules                  : 가상 사업자 등록 (응답의 business_id로 삭제)
+ * - DELETE /admin/mock/schedules?business_id=...  : 가상 사업자 삭제
+ *
+ * 등록한 일정대로 대상 서버를 계속 호출하므로 관리자만 호출 (SecurityConfig.mockAdminFilterChain, HTTP Basic)
+ */
+@RestController
+@RequestMapping("/admin/mock/schedules")
+@RequiredArgsConstructor
+public class MockScheduleController {
+
+    private static final byte[] PENDING_JOBS = MockJsonWriter.key("pending_jobs");
+    private static final byte[] BUSINESS_CNT = MockJsonWriter.key("business_cnt");
+    private static final byte[] BUSINESS_LIST = MockJsonWriter.key("business_list");
+    private static final byte[] BUSINESS_ID = MockJsonWriter.key("business_id");
+    private static final byte[] BUSINESS_NAME = MockJsonWriter.key("business_name");
+    private static final byte[] TARGET = MockJsonWriter.key("target");
+    private static final byte[] ORG_CODE = MockJsonWriter.key("org_code");
+    private static final byte[] CLIENT_ID = MockJsonWriter.key("client_id");
+    private static final byte[] SUBJECTS = MockJsonWriter.key("subjects");
+    private static final byte[] COLLECT_TIMES = MockJsonWriter.key("collect_times");
+    private static final byte[] WINDOW_MINUTES = MockJsonWriter.key("window_minutes");
+    private static final byte[] RUNS = MockJsonWriter.key("runs");
+    private static final byte[] CALLS = MockJsonWriter.key("calls");
+    private static final byte[] FAILURES = MockJsonWriter.key("failures");
+    private static final byte[] DEFERRED = MockJsonWriter.key("deferred");
+    private static final byte[] AVG_RUN_MS = MockJsonWriter.key("avg_run_ms");
+
+    private final MockScheduleSimulator simulator;
+    private final MockApiResponder responder;
+
+    @GetMapping
+    public void list(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        List<MockScheduleBusiness> businesses = simulator.list();
+        MockJsonWriter writer = responder.begin()
+                .field(PENDING_JOBS).number(simulator.pendingJobs())
+                .field(BUSINESS_CNT).number(businesses.size())
+                .field(BUSINESS_LIST).beginArray();
+        for (MockScheduleBusiness business : businesses) {
+            writer.beginObject()
+                    .field(BUSINESS_ID).number(business.getId())
+                    .field(BUSINESS_NAME).string(business.getName())
+                    .field(TARGET).string(business.getTarget())
+                    .field(ORG_CODE).string(business.getOrgCode())
+                    .field(CLIENT_ID).string(business.getCredential() == null ? null : business.getCredential().clientId())
+                    .field(SUBJECTS).number(business.getSubjects())
+                    .field(COLLECT_TIMES).beginArray();
+            for (int time : business.getCollectTimes()) {
+                writer.string(String.format("%02d:%02d", time / 3_600, time / 60 % 60));
+            }
+            writer.endArray()
+                    .field(WINDOW_MINUTES).number(business.getWindowSeconds() / 60)
+                    .field(RUNS).number(business.getRuns().sum())
+                    .field(CALLS).number(business.getCalls().sum())
+                    .field(FAILURES).number(business.getFailures().sum())
+                    .field(DEFERRED).number(business.getDeferred().sum())
+                    .field(AVG_RUN_MS).number(business.getAverageRunMillis())
+                    .endObject();
+        }
+        writer.endArray();
+        responder.send(request, response, writer);
+    }
+
+    @PutMapping
+    public void put(@RequestBody MockScheduleRequest body,
+                    HttpServletRequest request,
+                    HttpServletResponse response) throws IOException {
+        MockScheduleBusiness business = simulator.register(body);
+        responder.send(request, response, responder.begin()
+                .field(BUSINESS_ID).number(business.getId()));
+    }
+
+    @DeleteMapping
+    public void delete(@RequestParam("business_id") int businessId,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        if (!simulator.remove(businessId)) {
+            throw new MockApiException(MockRspCode.NOT_FOUND, "등록되지 않은 가상 사업자입니다: " + businessId);
+        }
+        responder.send(request, response, responder.begin());
+    }
+}
@@ -0,0 +1,9 @@
+package com.mydata.mydatatestbed.mock.schedule;
+
+/**
+ * 가상 사업자가 개별인증(개별인증-001/002)에 쓰는 서비스 정보
+ *
+ * 목록 응답(GET /admin/mock/schedules)에는 client_id만 노출
+ */
+record MockScheduleCredential(String clientId, String clientSecret, String redirectUri) {
+}
@@ -0,0 +1,29 @@
+package com.mydata.mydatatestbed.mock.schedule;
+
+import com.mydata.mydatatestbed.mock.common.MockTimingWheel;
+
+/**
+ * 정보주체 1명의 정기적 전송 수집 작업 (타이밍 휠 노드)
+ *
+ * 수백만 개를 보관하므로 필드는 최소로 유지 (사업자 참조, 정보주체 번호, 마지막 수집일, 접근토큰)
+ */
+final class MockScheduleJob extends MockTimingWheel.Timer {
+
+    final MockScheduleBusiness business;
+    final int subject;
+
+    /**
+     * 마지막으로 수집을 마친 날짜 (yyyyMMdd, 아직 없으면 0) → 다음 수집의 from_date
+     */
+    int lastDate;
+
+    /**
+     * 개별인증으로 받은 접근토큰 (처음 수집할 때 발급, 거절되면 다시 발급, 임의 토큰을 쓰는 사업자는 null)
+     */
+    String accessToken;
+
+    MockScheduleJob(MockScheduleBusiness business, int subject) {
+        this.business = business;
+        this.subject = subject;
+    }
+}
@@ -0,0 +1,59 @@
+package com.mydata.mydatatestbed.mock.schedule;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 테스트베드 전용 가상 마이데이터사업자 등록 요청 본문 (PUT /admin/mock/schedules)
+ *
+ * 예) 정보주체 10만 명을 매일 02:00, 14:00부터 60분에 걸쳐 내장 모의 은행에서 수집
+ *     {"business_name": "가상사업자A", "org_code": "ORG0000001", "subjects": 100000,
+ *      "collect_times": ["02:00", "14:00"], "window_minutes": 60,
+ *      "client_id": "mock-client", "client_secret": "mock-client-secret", "redirect_uri": "http://localhost:8080/mock/callback"}
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class MockScheduleRequest {
+
+    private String businessName;
+
+    /**
+     * 호출 대상 주소 (예: http://provider.example.com, 생략하면 테스트베드 내장 모의 API)
+     */
+    private String target;
+
+    /**
+     * 정보제공자 기관코드 (요청의 org_code)
+     */
+    private String orgCode;
+
+    /**
+     * 개별인증에 쓰는 서비스 client_id/client_secret/redirect_uri (모의 종합포털 등록부에 등록된 값)
+     * 생략하면 정보주체마다 임의 토큰 사용 → 대상 서버가 mock.oauth.allow-unregistered-tokens를 켜야 함
+     */
+    private String clientId;
+    private String clientSecret;
+    private String redirectUri;
+
+    /**
+     * 정보주체 수 (정보주체마다 접근토큰 1개, 수집 작업 1개)
+     */
+    private Integer subjects;
+
+    /**
+     * 수집 시작 시각 (HH:mm, 하루 여러 번 가능)
+     */
+    private List<String> collectTimes;
+
+    /**
+     * 수집 시작 시각부터 정보주체들을 나눠 호출하는 구간 (0이면 모두 같은 초에 호출)
+     */
+    private Integer windowMinutes;
+}
@@ -0,0 +1,329 @@
+package com.mydata.mydatatestbed.mock.schedule;
+
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import com.mydata.mydatatestbed.mock.common.MockTimingWheel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 정기적 전송 시뮬레이터 (가상 마이데이터사업자의 일정에 따라 은행 정보제공 API 호출)
+ *
+ * - 정보주체 1명 = 수집 작업 1개 = 타이밍 휠 노드 1개 (MockTimingWheel, 등록 O(1), 만료 처리는 만료 건수에 비례)
+ *   → 작업 수백만 개를 예약 스레드/정렬 큐 없이 보관
+ * - tick마다 만료된 작업을 꺼내 가상 스레드로 실행 (MockScheduleClient, 작업마다 동기 HTTP 호출)
+ * - 호출 대상별 동시 수집 상한 (Semaphore): 상한에 걸린 작업은 1초 뒤로 미룸 (deferred)
+ *   → 정보제공자가 느려져도 가상 스레드/연결이 무한정 늘지 않음
+ * - 수집을 마친 작업은 다음 수집 시각으로 다시 등록, 삭제한 사업자의 작업은 꺼낼 때 버림 (취소 순회 없음)
+ *
+ * 휠은 스레드 안전하지 않으므로 등록/꺼내기는 잠금 안에서만 수행
+ * - 등록은 REGISTER_CHUNK개씩 잠금을 잡았다 놓음 → 수백만 명을 등록하는 동안에도 tick이 밀리지 않음
+ * - 정보주체 상한(max-subjects)은 휠에 있거나 실행 중인 작업 수 기준
+ *   삭제한 사업자의 작업은 휠에서 꺼내 버리거나 실행을 마칠 때 상한에서 뺌 (삭제 즉시 빼면 등록/삭제 반복으로 휠이 상한 없이 커짐)
+ *
+ * 호출 대상(target)은 default-target과 allowed-targets만 허용 (임의 주소로의 대량 호출 방지)
+ */
+@Slf4j
+@Component
+public class MockScheduleSimulator {
+
+    static final int REGISTER_CHUNK = 10_000;
+
+    private final MockScheduleClient client;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final MockTimingWheel<MockScheduleJob> wheel;
+    private final Map<Integer, MockScheduleBusiness> businesses = new ConcurrentHashMap<>();
+    private final Map<String, Semaphore> targets = new ConcurrentHashMap<>();
+    private final AtomicInteger businessSeq = new AtomicInteger();
+    /**
+     * 휠에 있거나 실행 중인 작업 수 (삭제한 사업자의 작업은 휠에서 나갈 때 뺌)
+     */
+    private final AtomicLong liveJobs = new AtomicLong();
+    private final ZoneId zone;
+
+    @Value("${mock.schedule.default-target:http://localhost:${server.port:8080}}")
+    private String defaultTarget;
+
+    @Value("${mock.schedule.allowed-targets:}")
+    private List<String> allowedTargets;
+
+    @Value("${mock.schedule.max-concurrency-per-target:64}")
+    private int maxConcurrencyPerTarget;
+
+    @Value("${mock.schedule.max-subjects:5000000}")
+    private long maxSubjects;
+
+    @Value("${mock.schedule.initial-days:7}")
+    private int initialDays;
+
+    public MockScheduleSimulator(MockScheduleClient client,
+                                 @Value("${mock.schedule.zone:Asia/Seoul}") String zone) {
+        this.client = client;
+        this.zone = ZoneId.of(zone);
+        this.wheel = new MockTimingWheel<>(now());
+    }
+
+    /**
+     * 가상 사업자 등록 + 정보주체별 첫 수집 예약
+     */
+    public MockScheduleBusiness register(MockScheduleRequest request) {
+        String name = require(request.getBusinessName(), "business_name");
+        String orgCode = require(request.getOrgCode(), "org_code");
+        String target = normalize(request.getTarget() == null || request.getTarget().isBlank()
+                ? defaultTarget : request.getTarget());
+        if (!isAllowedTarget(target)) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER,
+                    "허용되지 않은 target입니다 (mock.schedule.allowed-targets): " + target);
+        }
+
+        int subjects = request.getSubjects() == null ? 0 : request.getSubjects();
+        if (subjects < 1) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, "subjects는 1 이상이어야 합니다.");
+        }
+        int windowMinutes = request.getWindowMinutes() == null ? 0 : request.getWindowMinutes();
+        if (windowMinutes < 0 || windowMinutes > 24 * 60) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, "window_minutes는 0~1440 사이여야 합니다.");
+        }
+        int[] collectTimes = collectTimes(request.getCollectTimes());
+        MockScheduleCredential credential = credential(request);
+
+        if (liveJobs.addAndGet(subjects) > maxSubjects) {
+            liveJobs.addAndGet(-subjects);
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER,
+                    "정보주체는 전체 " + maxSubjects + "명까지 등록할 수 있습니다.");
+        }
+        Semaphore limit = targets.computeIfAbsent(target, key -> new Semaphore(maxConcurrencyPerTarget));
+        MockScheduleBusiness business = new MockScheduleBusiness(businessSeq.incrementAndGet(), name, target,
+                orgCode, subjects, credential, collectTimes, windowMinutes * 60, limit);
+        businesses.put(business.getId(), business);
+
+        // 작업 생성/수집 시각 계산은 잠금 밖에서, 휠 등록만 REGISTER_CHUNK개씩 잠금 안에서
+        long now = now();
+        MockScheduleJob[] jobs = new MockScheduleJob[Math.min(subjects, REGISTER_CHUNK)];
+        long[] deadlines = new long[jobs.length];
+        for (int start = 0; start < subjects; start += REGISTER_CHUNK) {
+            if (business.isRemoved()) {
+                // 등록 중에 삭제됨: 아직 휠에 넣지 않은 정보주체는 바로 상한에서 뺌
+                liveJobs.addAndGet(-(subjects - start));
+                break;
+            }
+            int count = Math.min(REGISTER_CHUNK, subjects - start);
+            for (int i = 0; i < count; i++) {
+                jobs[i] = new MockScheduleJob(business, start + i);
+                deadlines[i] = business.nextRun(start + i, now, zone);
+            }
+            lock.lock();
+            try {
+                for (int i = 0; i < count; i++) {
+                    wheel.schedule(jobs[i], deadlines[i]);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        log.info("가상 사업자 등록: id={}, name={}, target={}, subjects={}", business.getId(), name, target, subjects);
+        return business;
+    }
+
+    /**
+     * 사업자 삭제 (예약된 작업은 만료 시각에 버림, 실행 중인 수집은 끝까지 진행)
+     * 정보주체 상한은 작업이 휠에서 나갈 때 돌려받음
+     */
+    public boolean remove(int id) {
+        MockScheduleBusiness business = businesses.remove(id);
+        if (business == null) {
+            return false;
+        }
+        business.remove();
+        return true;
+    }
+
+    public List<MockScheduleBusiness> list() {
+        List<MockScheduleBusiness> list = new ArrayList<>(businesses.values());
+        list.sort(Comparator.comparingInt(MockScheduleBusiness::getId));
+        return list;
+    }
+
+    /**
+     * 정보주체 상한에 포함된 작업 수 (휠에 있거나 실행 중, 삭제한 사업자의 작업이 아직 꺼내지지 않았으면 포함)
+     */
+    public long liveJobs() {
+        return liveJobs.get();
+    }
+
+    /**
+     * 휠에 예약된 작업 수 (삭제한 사업자의 작업이 아직 꺼내지지 않았으면 포함)
+     */
+    public int pendingJobs() {
+        lock.lock();
+        try {
+            return wheel.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${mock.schedule.tick-ms:200}")
+    public void tick() {
+        long now = now();
+        List<MockScheduleJob> due = new ArrayList<>();
+        lock.lock();
+        try {
+            wheel.advance(now, due::add);
+        } finally {
+            lock.unlock();
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+
+        List<MockScheduleJob> deferred = new ArrayList<>();
+        int dropped = 0;
+        for (MockScheduleJob job : due) {
+            MockScheduleBusiness business = job.business;
+            if (business.isRemoved()) {
+                dropped++;
+                continue;
+            }
+            if (!business.getLimit().tryAcquire()) {
+                business.getDeferred().increment();
+                deferred.add(job);
+                continue;
+            }
+            executor.execute(() -> run(job));
+        }
+        if (dropped > 0) {
+            liveJobs.addAndGet(-dropped);
+        }
+        if (!deferred.isEmpty()) {
+            schedule(deferred, now + 1);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void run(MockScheduleJob job) {
+        MockScheduleBusiness business = job.business;
+        long start = System.nanoTime();
+        try {
+            int today = date(LocalDate.now(zone));
+            int fromDate = job.lastDate == 0 ? date(LocalDate.now(zone).minusDays(initialDays)) : job.lastDate;
+            client.collect(job, fromDate, today);
+            job.lastDate = today;
+        } catch (InterruptedException e) {
+            // 종료 중: 다시 예약하지 않음
+            Thread.currentThread().interrupt();
+            liveJobs.decrementAndGet();
+            return;
+        } catch (Exception e) {
+            business.getFailures().increment();
+            log.debug("정기적 전송 수집 실패: business={}, subject={}, {}", business.getId(), job.subject, e.getMessage());
+        } finally {
+            business.getLimit().release();
+        }
+        business.recordRun((System.nanoTime() - start) / 1_000_000L);
+        if (business.isRemoved()) {
+            liveJobs.decrementAndGet();
+        } else {
+            schedule(List.of(job), business.nextRun(job.subject, now(), zone));
+        }
+    }
+
+    private void schedule(List<MockScheduleJob> jobs, long deadline) {
+        lock.lock();
+        try {
+            for (MockScheduleJob job : jobs) {
+                wheel.schedule(job, deadline);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isAllowedTarget(String target) {
+        if (target.equals(normalize(defaultTarget))) {
+            return true;
+        }
+        if (allowedTargets != null) {
+            for (String allowed : allowedTargets) {
+                if (!allowed.isBlank() && target.equals(normalize(allowed))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String normalize(String target) {
+        String trimmed = target.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+
+    /**
+     * HH:mm 목록 → 자정 기준 초 (오름차순, 중복 제거)
+     */
+    private static int[] collectTimes(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, "collect_times는 필수입니다.");
+        }
+        try {
+            return values.stream()
+                    .mapToInt(value -> LocalTime.parse(value).toSecondOfDay())
+                    .sorted()
+                    .distinct()
+                    .toArray();
+        } catch (DateTimeParseException e) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, "collect_times는 HH:mm 형식이어야 합니다.");
+        }
+    }
+
+    /**
+     * client_id/client_secret/redirect_uri는 모두 지정하거나 모두 생략
+     */
+    private static MockScheduleCredential credential(MockScheduleRequest request) {
+        if (request.getClientId() == null && request.getClientSecret() == null && request.getRedirectUri() == null) {
+            return null;
+        }
+        return new MockScheduleCredential(require(request.getClientId(), "client_id"),
+                require(request.getClientSecret(), "client_secret"), require(request.getRedirectUri(), "redirect_uri"));
+    }
+
+    private static String require(String value, String name) {
+        if (value == null || value.isBlank()) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, name + "는 필수입니다.");
+        }
+        return value;
+    }
+
+    private static int date(LocalDate date) {
+        return date.getYear() * 10_000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    long now() {
+        return Instant.now().getEpochSecond();
+    }
+}
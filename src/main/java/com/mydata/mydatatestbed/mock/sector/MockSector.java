@@ -0,0 +1,30 @@
+package com.mydata.mydatatestbed.mock.sector;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 업권 모듈 (카드, 통신 등) - 스프링 빈으로 등록하면 MockSectorEngine이 API를 등록
+ *
+ * 모듈은 API 목록과 데이터 생성만 정의하고
+ * 토큰/전송요구 확인, 데이터셋 보관, 페이지 응답 작성은 엔진이 공통으로 처리 (MockBankController와 같은 방식)
+ */
+public interface MockSector {
+
+    /**
+     * 업권 코드 (주소 /v2/{code}/..., 시드에도 섞음)
+     */
+    String code();
+
+    /**
+     * 업권 이름 (오류 메시지/로그용)
+     */
+    String displayName();
+
+    List<MockSectorApi> apis();
+
+    /**
+     * 정보주체 1명의 자산/본문을 context에 추가 (같은 random 시퀀스 → 항상 같은 데이터)
+     */
+    void generate(MockSectorContext context, SplittableRandom random);
+}
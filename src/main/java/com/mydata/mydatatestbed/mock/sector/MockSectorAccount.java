@@ -0,0 +1,34 @@
+package com.mydata.mydatatestbed.mock.sector;
+
+import com.mydata.mydatatestbed.mock.record.MockListEntry;
+import com.mydata.mydatatestbed.mock.record.MockRecordSource;
+import lombok.Getter;
+
+/**
+ * 업권 모듈의 자산 1건 (카드, 회선 등)
+ *
+ * - listEntry: 목록 API 원소 JSON
+ * - basicBody: 기본정보 API 응답 본문 (없으면 null)
+ * - records: 기간 조회 API별 레코드 목록 (MockSectorApi.records 번호 순서)
+ */
+@Getter
+public final class MockSectorAccount implements MockListEntry {
+
+    private final String type;
+    private final String id;
+    private final byte[] listEntry;
+    private final byte[] basicBody;
+    private final MockRecordSource[] records;
+
+    public MockSectorAccount(String type, String id, byte[] listEntry, byte[] basicBody, MockRecordSource... records) {
+        this.type = type;
+        this.id = id;
+        this.listEntry = listEntry;
+        this.basicBody = basicBody;
+        this.records = records;
+    }
+
+    public MockRecordSource records(int index) {
+        return records[index];
+    }
+}
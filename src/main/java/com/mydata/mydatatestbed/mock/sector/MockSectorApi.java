@@ -0,0 +1,65 @@
+package com.mydata.mydatatestbed.mock.sector;
+
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+import com.mydata.mydatatestbed.mock.consent.MockConsentScope;
+
+/**
+ * 업권 모듈의 API 1개 정의
+ *
+ * @param apiId    규격 API ID (예: 카드-001)
+ * @param kind     응답 방식
+ * @param path     업권 주소 아래 경로 (예: /cards → /v2/card/cards)
+ * @param scope    필요한 전송요구 scope
+ * @param target   LIST/BASIC/RECORDS: 자산 유형, BODY: 미리 직렬화한 본문 이름
+ * @param idField  BASIC/RECORDS: 자산 식별 요청 필드 (예: card_id)
+ * @param records  RECORDS: 자산의 레코드 목록 번호 (MockSectorAccount.records)
+ * @param countKey LIST/RECORDS: 건수 필드
+ * @param listKey  LIST/RECORDS: 목록 필드
+ */
+public record MockSectorApi(String apiId, Kind kind, String path, MockConsentScope scope,
+                            String target, String idField, int records, byte[] countKey, byte[] listKey) {
+
+    public enum Kind {
+
+        /**
+         * GET 자산 목록 (search_timestamp + next_page/limit 페이지)
+         */
+        LIST,
+
+        /**
+         * GET 미리 직렬화한 데이터셋 본문 (예: 포인트 정보)
+         */
+        BODY,
+
+        /**
+         * POST 자산 기본정보 (미리 직렬화한 본문)
+         */
+        BASIC,
+
+        /**
+         * POST 자산의 기간 조회 (from_date ~ to_date + next_page/limit 페이지)
+         */
+        RECORDS
+    }
+
+    public static MockSectorApi list(String apiId, String path, MockConsentScope scope,
+                                     String type, String countKey, String listKey) {
+        return new MockSectorApi(apiId, Kind.LIST, path, scope, type, null, 0,
+                MockJsonWriter.key(countKey), MockJsonWriter.key(listKey));
+    }
+
+    public static MockSectorApi body(String apiId, String path, MockConsentScope scope, String name) {
+        return new MockSectorApi(apiId, Kind.BODY, path, scope, name, null, 0, null, null);
+    }
+
+    public static MockSectorApi basic(String apiId, String path, MockConsentScope scope,
+                                      String type, String idField) {
+        return new MockSectorApi(apiId, Kind.BASIC, path, scope, type, idField, 0, null, null);
+    }
+
+    public static MockSectorApi records(String apiId, String path, MockConsentScope scope, String type,
+                                        String idField, int records, String countKey, String listKey) {
+        return new MockSectorApi(apiId, Kind.RECORDS, path, scope, type, idField, records,
+                MockJsonWriter.key(countKey), MockJsonWriter.key(listKey));
+    }
+}
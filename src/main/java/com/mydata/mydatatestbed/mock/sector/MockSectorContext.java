@@ -0,0 +1,153 @@
+package com.mydata.mydatatestbed.mock.sector;
+
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+import static com.mydata.mydatatestbed.mock.common.MockApiResponder.RSP_CODE;
+import static com.mydata.mydatatestbed.mock.common.MockApiResponder.RSP_MSG;
+
+/**
+ * 업권 모듈이 데이터셋 1개를 생성하는 동안 공유하는 상태 + 공통 생성 도구
+ *
+ * - 기준시각/조회 기간, 기간 안의 임의 시각, 데이터셋 안에서 중복되지 않는 식별값
+ * - 응답 본문/목록 원소 직렬화 (작성기 1개를 재사용)
+ * - 생성한 자산/본문을 모아 MockSectorDataset으로 만듦 (MockSectorEngine)
+ *
+ * 금액/일시 형식은 은행 데이터셋(MockBankDatasetFactory)과 같음
+ */
+public final class MockSectorContext {
+
+    public static final byte[] SEARCH_TIMESTAMP = MockJsonWriter.key("search_timestamp");
+
+    @Getter
+    private final LocalDateTime now;
+
+    @Getter
+    private final LocalDateTime historyStart;
+
+    @Getter
+    private final long searchTimestamp;
+
+    /**
+     * 자산 1개당 생성할 기간 조회 레코드 수 (mock.sector.records-per-asset)
+     */
+    @Getter
+    private final int recordsPerAsset;
+
+    private final long historySeconds;
+    private final MockJsonWriter writer = new MockJsonWriter(1024);
+    private final Set<String> ids = new HashSet<>();
+    private final Map<String, List<MockSectorAccount>> lists = new LinkedHashMap<>();
+    private final Map<String, Map<String, MockSectorAccount>> index = new HashMap<>();
+    private final Map<String, byte[]> bodies = new HashMap<>();
+
+    public MockSectorContext(LocalDateTime now, int historyDays, int recordsPerAsset) {
+        this.now = now;
+        this.historyStart = now.minusDays(historyDays);
+        this.searchTimestamp = dtime(now);
+        this.recordsPerAsset = recordsPerAsset;
+        this.historySeconds = historyDays * 86_400L;
+    }
+
+    // ==================== 데이터셋 구성 ====================
+
+    public MockSectorContext add(MockSectorAccount account) {
+        lists.computeIfAbsent(account.getType(), type -> new ArrayList<>()).add(account);
+        index.computeIfAbsent(account.getType(), type -> new HashMap<>()).put(account.getId(), account);
+        return this;
+    }
+
+    public MockSectorContext putBody(String name, byte[] body) {
+        bodies.put(name, body);
+        return this;
+    }
+
+    MockSectorDataset build(long seed) {
+        lists.replaceAll((type, accounts) -> List.copyOf(accounts));
+        return new MockSectorDataset(seed, searchTimestamp, lists, index, bodies);
+    }
+
+    // ==================== 직렬화 ====================
+
+    /**
+     * 미리 직렬화한 성공 응답 본문 (rsp_code, rsp_msg, search_timestamp + 지정한 필드)
+     */
+    public byte[] body(Consumer<MockJsonWriter> fields) {
+        writer.reset()
+                .beginObject()
+                .field(RSP_CODE).raw(MockRspCode.SUCCESS.getEncodedCode())
+                .field(RSP_MSG).raw(MockRspCode.SUCCESS.getEncodedMessage())
+                .field(SEARCH_TIMESTAMP).number(searchTimestamp);
+        fields.accept(writer);
+        return writer.endObject().toByteArray();
+    }
+
+    /**
+     * 목록 원소 JSON 객체
+     */
+    public byte[] object(Consumer<MockJsonWriter> fields) {
+        writer.reset().beginObject();
+        fields.accept(writer);
+        return writer.endObject().toByteArray();
+    }
+
+    // ==================== 생성 도구 ====================
+
+    /**
+     * 조회 기간 안의 임의 시각 count개 (오름차순, yyyyMMddHHmmss)
+     */
+    public long[] randomTimes(SplittableRandom random, int count) {
+        long[] offsets = new long[count];
+        for (int i = 0; i < count; i++) {
+            offsets[i] = random.nextLong(historySeconds);
+        }
+        Arrays.sort(offsets);
+        long[] times = new long[count];
+        for (int i = 0; i < count; i++) {
+            times[i] = dtime(historyStart.plusSeconds(offsets[i]));
+        }
+        return times;
+    }
+
+    /**
+     * 데이터셋 안에서 중복되지 않는 식별값 (prefix + length자리 숫자)
+     */
+    public String uniqueId(SplittableRandom random, String prefix, int length) {
+        String id;
+        do {
+            id = prefix + digits(random, length);
+        } while (!ids.add(id));
+        return id;
+    }
+
+    public static String digits(SplittableRandom random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('0' + random.nextInt(10));
+        }
+        return new String(chars);
+    }
+
+    public static int date(LocalDate date) {
+        return date.getYear() * 10_000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    public static long dtime(LocalDateTime time) {
+        return date(time.toLocalDate()) * 1_000_000L
+                + time.getHour() * 10_000L + time.getMinute() * 100L + time.getSecond();
+    }
+}
@@ -0,0 +1,62 @@
+package com.mydata.mydatatestbed.mock.sector;
+
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 업권 모듈의 정보주체 1명 데이터셋 (생성 후 변경 없음 → 동시 조회에 잠금 불필요)
+ *
+ * MockSectorContext.build()로 생성
+ */
+public final class MockSectorDataset {
+
+    @Getter
+    private final long seed;
+
+    @Getter
+    private final long searchTimestamp;
+
+    private final Map<String, List<MockSectorAccount>> lists;
+    private final Map<String, Map<String, MockSectorAccount>> index;
+    private final Map<String, byte[]> bodies;
+
+    MockSectorDataset(long seed, long searchTimestamp, Map<String, List<MockSectorAccount>> lists,
+                      Map<String, Map<String, MockSectorAccount>> index, Map<String, byte[]> bodies) {
+        this.seed = seed;
+        this.searchTimestamp = searchTimestamp;
+        this.lists = lists;
+        this.index = index;
+        this.bodies = bodies;
+    }
+
+    /**
+     * 자산 유형의 목록 (생성 순서, 없으면 빈 목록)
+     */
+    public List<MockSectorAccount> list(String type) {
+        return lists.getOrDefault(type, List.of());
+    }
+
+    public MockSectorAccount find(String type, String id) {
+        Map<String, MockSectorAccount> accounts = index.get(type);
+        MockSectorAccount account = accounts == null || id == null ? null : accounts.get(id);
+        if (account == null) {
+            throw new MockApiException(MockRspCode.NOT_FOUND, type + " " + id + "을(를) 찾을 수 없습니다.");
+        }
+        return account;
+    }
+
+    /**
+     * 미리 직렬화한 응답 본문 (없으면 404)
+     */
+    public byte[] body(String name) {
+        byte[] body = bodies.get(name);
+        if (body == null) {
+            throw new MockApiException(MockRspCode.NOT_FOUND, name + " 정보가 없습니다.");
+        }
+        return body;
+    }
+}
@@ -0,0 +1,45 @@
+package com.mydata.mydatatestbed.mock.sector;
+
+import com.mydata.mydatatestbed.mock.common.MockApiEndpoint;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.io.IOException;
+
+/**
+ * 업권 모듈 API 1개의 핸들러 (MockSectorEngine이 API마다 1개씩 만들어 등록)
+ *
+ * GET은 쿼리 파라미터, POST는 요청 본문(MockSectorRequest)을 받아 엔진에 위임
+ */
+public final class MockSectorEndpoint implements MockApiEndpoint {
+
+    private final MockSectorEngine engine;
+
+    final MockSectorEngine.Registration registration;
+
+    @Getter
+    private final MockSectorApi api;
+
+    MockSectorEndpoint(MockSectorEngine engine, MockSectorEngine.Registration registration, MockSectorApi api) {
+        this.engine = engine;
+        this.registration = registration;
+        this.api = api;
+    }
+
+    @Override
+    public String apiId() {
+        return api.apiId();
+    }
+
+    public void get(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        engine.handle(this, null, request, response);
+    }
+
+    public void post(@RequestBody MockSectorRequest body,
+                     HttpServletRequest request,
+                     HttpServletResponse response) throws IOException {
+        engine.handle(this, body, request, response);
+    }
+}
@@ -0,0 +1,178 @@
+package com.mydata.mydatatestbed.mock.sector;
+
+import com.mydata.mydatatestbed.mock.bank.MockBankDatasetFactory;
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockApiResponder;
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import com.mydata.mydatatestbed.mock.common.MockTenant;
+import com.mydata.mydatatestbed.mock.common.MockTenantResolver;
+import com.mydata.mydatatestbed.mock.record.MockPaging;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/**
+ * 업권 모듈(MockSector) 실행기
+ *
+ * 기동 시 모듈마다 번호를 배정하고 API를 /v2/{업권 코드}{경로}로 등록 (API마다 MockSectorEndpoint 1개)
+ * - 호출 집계/규격 검증/시나리오/호출 한도는 @MockApi 컨트롤러와 같은 인터셉터로 처리 (MockApiEndpoint)
+ *
+ * 요청 처리는 은행 컨트롤러(MockBankController)와 같은 순서
+ * - 접근토큰 → 테넌트 + scope 확인 (MockTenantResolver)
+ * - 회원 샌드박스에서 정보주체의 모듈 데이터셋 조회, 없으면 생성 (MockSandbox.sectorDataset)
+ * - 미리 직렬화한 본문/목록 원소를 그대로 출력하거나 MockPaging으로 페이지 작성
+ *
+ * 데이터셋 시드 = (업권 코드 + 샌드박스 시드 키)의 해시 → 같은 정보주체라도 업권마다 다른 난수열
+ */
+@Slf4j
+@Component
+public class MockSectorEngine {
+
+    /**
+     * 등록 가능한 업권 모듈 수 (샌드박스의 모듈별 데이터셋 배열 크기)
+     */
+    public static final int MAX_SECTORS = 16;
+
+    private static final Method GET = ReflectionUtils.findMethod(MockSectorEndpoint.class, "get",
+            HttpServletRequest.class, HttpServletResponse.class);
+    private static final Method POST = ReflectionUtils.findMethod(MockSectorEndpoint.class, "post",
+            MockSectorRequest.class, HttpServletRequest.class, HttpServletResponse.class);
+
+    private final MockTenantResolver tenantResolver;
+    private final MockApiResponder responder;
+    private final RequestMappingHandlerMapping handlerMapping;
+    private final List<MockSector> sectors;
+
+    @Value("${mock.sector.history-days:365}")
+    private int historyDays;
+
+    @Value("${mock.sector.records-per-asset:120}")
+    private int recordsPerAsset;
+
+    public MockSectorEngine(MockTenantResolver tenantResolver,
+                            MockApiResponder responder,
+                            @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping,
+                            List<MockSector> sectors) {
+        this.tenantResolver = tenantResolver;
+        this.responder = responder;
+        this.handlerMapping = handlerMapping;
+        this.sectors = sectors;
+    }
+
+    @PostConstruct
+    void register() {
+        if (sectors.size() > MAX_SECTORS) {
+            throw new IllegalStateException("업권 모듈은 최대 " + MAX_SECTORS + "개까지 등록할 수 있습니다.");
+        }
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i < sectors.size(); i++) {
+            MockSector sector = sectors.get(i);
+            if (!codes.add(sector.code())) {
+                throw new IllegalStateException("업권 코드가 중복되었습니다: " + sector.code());
+            }
+            Registration registration = new Registration(i, sector);
+            for (MockSectorApi api : sector.apis()) {
+                boolean get = api.kind() == MockSectorApi.Kind.LIST || api.kind() == MockSectorApi.Kind.BODY;
+                RequestMappingInfo info = RequestMappingInfo.paths("/v2/" + sector.code() + api.path())
+                        .methods(get ? RequestMethod.GET : RequestMethod.POST)
+                        .options(handlerMapping.getBuilderConfiguration())
+                        .build();
+                handlerMapping.registerMapping(info, new MockSectorEndpoint(this, registration, api), get ? GET : POST);
+            }
+            log.info("모의 업권 모듈 등록: {}({}), API {}개", sector.displayName(), sector.code(), sector.apis().size());
+        }
+    }
+
+    void handle(MockSectorEndpoint endpoint, MockSectorRequest body,
+                HttpServletRequest request, HttpServletResponse response) throws IOException {
+        MockSectorApi api = endpoint.getApi();
+        MockTenant tenant = tenantResolver.resolveTenant(request, api.scope());
+        require(body == null ? request.getParameter("org_code") : body.getOrgCode(), "org_code");
+        MockSectorDataset dataset = tenant.sandbox()
+                .sectorDataset(endpoint.registration.index, tenant.key(), endpoint.registration);
+
+        switch (api.kind()) {
+            case LIST -> {
+                MockJsonWriter writer = responder.begin()
+                        .field(MockSectorContext.SEARCH_TIMESTAMP).number(dataset.getSearchTimestamp());
+                MockPaging.writeList(writer, dataset.list(api.target()), request.getParameter("next_page"),
+                        limit(request.getParameter("limit")), api.countKey(), api.listKey());
+                responder.send(request, response, writer);
+            }
+            case BODY -> responder.sendBody(request, response, dataset.body(api.target()));
+            case BASIC -> {
+                MockSectorAccount account = dataset.find(api.target(), require(body.id(api.idField()), api.idField()));
+                responder.sendBody(request, response, account.getBasicBody());
+            }
+            case RECORDS -> {
+                MockSectorAccount account = dataset.find(api.target(), require(body.id(api.idField()), api.idField()));
+                MockJsonWriter writer = responder.begin();
+                MockPaging.writeDateRange(writer, account.records(api.records()), body.getFromDate(), body.getToDate(),
+                        body.getNextPage(), body.getLimit(), api.countKey(), api.listKey());
+                responder.send(request, response, writer);
+            }
+        }
+    }
+
+    private static Integer limit(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, "limit은 숫자여야 합니다.");
+        }
+    }
+
+    private static String require(String value, String name) {
+        if (value == null || value.isBlank()) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, name + "는 필수입니다.");
+        }
+        return value;
+    }
+
+    /**
+     * 등록한 업권 모듈 (샌드박스의 데이터셋 생성기)
+     */
+    final class Registration implements Function<String, MockSectorDataset> {
+
+        final int index;
+        private final MockSector sector;
+
+        private Registration(int index, MockSector sector) {
+            this.index = index;
+            this.sector = sector;
+        }
+
+        @Override
+        public MockSectorDataset apply(String seedKey) {
+            long seed = MockBankDatasetFactory.seedOf(sector.code() + ":" + seedKey);
+            MockSectorContext context = new MockSectorContext(
+                    LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS), historyDays, recordsPerAsset);
+            sector.generate(context, new SplittableRandom(seed));
+            MockSectorDataset dataset = context.build(seed);
+            log.debug("모의 {} 데이터셋 생성: seed={}", sector.displayName(), dataset.getSeed());
+            return dataset;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.mydata.mydatatestbed.mock.sector;
+
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 업권 모듈 POST API 공통 요청 본문
+ *
+ * 공통 필드(org_code, search_timestamp, from_date, to_date, next_page, limit) 외의
+ * 자산 식별 필드(card_id, mgmt_id 등)는 업권마다 이름이 다르므로 이름 → 값으로 보관
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class MockSectorRequest {
+
+    private String orgCode;
+    private Long searchTimestamp;
+    private String fromDate;
+    private String toDate;
+    private String nextPage;
+    private Integer limit;
+
+    private final Map<String, String> ids = new HashMap<>();
+
+    @JsonAnySetter
+    public void setId(String name, Object value) {
+        if (value != null) {
+            ids.put(name, value.toString());
+        }
+    }
+
+    /**
+     * 자산 식별 필드 값 (없으면 null)
+     */
+    public String id(String field) {
+        return ids.get(field);
+    }
+}
@@ -0,0 +1,210 @@
+package com.mydata.mydatatestbed.mock.sector.card;
+
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+import com.mydata.mydatatestbed.mock.consent.MockConsentScope;
+import com.mydata.mydatatestbed.mock.record.MockTransactionStore;
+import com.mydata.mydatatestbed.mock.sector.MockSector;
+import com.mydata.mydatatestbed.mock.sector.MockSectorAccount;
+import com.mydata.mydatatestbed.mock.sector.MockSectorApi;
+import com.mydata.mydatatestbed.mock.sector.MockSectorContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static com.mydata.mydatatestbed.mock.sector.MockSectorContext.date;
+
+/**
+ * 모의 카드 업권 모듈 (/v2/card)
+ *
+ * - 카드-001 카드 목록, 카드-002 카드 기본정보, 카드-003 포인트 정보
+ * - 카드-008/009 국내/해외 승인내역 (컬럼 저장 MockTransactionStore, 승인일시 내림차순)
+ *
+ * 금액은 원 단위 정수 (해외 승인금액만 현지통화 × 1000, F(18,3))
+ */
+@Component
+public class MockCardSector implements MockSector {
+
+    private static final String CARD = "카드";
+    private static final String POINT = "포인트";
+    private static final int DOMESTIC = 0;
+    private static final int OVERSEAS = 1;
+
+    private static final List<MockSectorApi> APIS = List.of(
+            MockSectorApi.list("카드-001", "/cards", MockConsentScope.CARD_LIST, CARD, "card_cnt", "card_list"),
+            MockSectorApi.basic("카드-002", "/cards/basic", MockConsentScope.CARD_CARD, CARD, "card_id"),
+            MockSectorApi.body("카드-003", "/cards/point", MockConsentScope.CARD_POINT, POINT),
+            MockSectorApi.records("카드-008", "/cards/approval-domestic", MockConsentScope.CARD_CARD, CARD,
+                    "card_id", DOMESTIC, "approved_cnt", "approved_list"),
+            MockSectorApi.records("카드-009", "/cards/approval-overseas", MockConsentScope.CARD_CARD, CARD,
+                    "card_id", OVERSEAS, "approved_cnt", "approved_list"));
+
+    private static final byte[] CARD_ID = MockJsonWriter.key("card_id");
+    private static final byte[] CARD_NUM = MockJsonWriter.key("card_num");
+    private static final byte[] IS_CONSENT = MockJsonWriter.key("is_consent");
+    private static final byte[] CARD_NAME = MockJsonWriter.key("card_name");
+    private static final byte[] CARD_MEMBER = MockJsonWriter.key("card_member");
+    private static final byte[] CARD_TYPE = MockJsonWriter.key("card_type");
+    private static final byte[] IS_TRANS_PAYABLE = MockJsonWriter.key("is_trans_payable");
+    private static final byte[] IS_CASH_CARD = MockJsonWriter.key("is_cash_card");
+    private static final byte[] LINKED_BANK_CODE = MockJsonWriter.key("linked_bank_code");
+    private static final byte[] CARD_BRAND = MockJsonWriter.key("card_brand");
+    private static final byte[] ANNUAL_FEE = MockJsonWriter.key("annual_fee");
+    private static final byte[] ISSUE_DATE = MockJsonWriter.key("issue_date");
+    private static final byte[] POINT_CNT = MockJsonWriter.key("point_cnt");
+    private static final byte[] POINT_LIST = MockJsonWriter.key("point_list");
+    private static final byte[] POINT_NAME = MockJsonWriter.key("point_name");
+    private static final byte[] REMAIN_POINT_AMT = MockJsonWriter.key("remain_point_amt");
+    private static final byte[] EXPIRING_POINT_AMT = MockJsonWriter.key("expiring_point_amt");
+    private static final byte[] APPROVED_NUM = MockJsonWriter.key("approved_num");
+    private static final byte[] APPROVED_DTIME = MockJsonWriter.key("approved_dtime");
+    private static final byte[] STATUS = MockJsonWriter.key("status");
+    private static final byte[] PAY_TYPE = MockJsonWriter.key("pay_type");
+    private static final byte[] TRANS_DTIME = MockJsonWriter.key("trans_dtime");
+    private static final byte[] MERCHANT_NAME = MockJsonWriter.key("merchant_name");
+    private static final byte[] MERCHANT_REGNO = MockJsonWriter.key("merchant_regno");
+    private static final byte[] APPROVED_AMT = MockJsonWriter.key("approved_amt");
+    private static final byte[] TOTAL_INSTALL_CNT = MockJsonWriter.key("total_install_cnt");
+    private static final byte[] COUNTRY_CODE = MockJsonWriter.key("country_code");
+    private static final byte[] CURRENCY_CODE = MockJsonWriter.key("currency_code");
+
+    private static final String[] CARD_NAMES = {"MY 포인트 카드", "MY 캐시백 카드", "MY 체크카드", "MY 트래블 카드"};
+    private static final String[] BRANDS = {"VISA", "MASTER", "JCB", "LOCAL"};
+    private static final String[] MERCHANTS = {"편의점", "카페", "온라인쇼핑몰", "주유소", "대형마트", "음식점"};
+    private static final String[][] OVERSEAS_MERCHANTS = {
+            {"US", "USD", "AMAZON"}, {"JP", "JPY", "TOKYO STATION"}, {"GB", "GBP", "LONDON CAFE"}};
+
+    @Value("${mock.sector.card.cards:2}")
+    private int cards;
+
+    @Override
+    public String code() {
+        return "card";
+    }
+
+    @Override
+    public String displayName() {
+        return "카드";
+    }
+
+    @Override
+    public List<MockSectorApi> apis() {
+        return APIS;
+    }
+
+    @Override
+    public void generate(MockSectorContext context, SplittableRandom random) {
+        for (int i = 0; i < cards; i++) {
+            context.add(card(random.split(), context, i));
+        }
+        int points = 1 + random.nextInt(2);
+        context.putBody(POINT, context.body(w -> {
+            w.field(POINT_CNT).number(points)
+                    .field(POINT_LIST).beginArray();
+            for (int i = 0; i < points; i++) {
+                long remain = random.nextInt(100_000);
+                w.beginObject()
+                        .field(POINT_NAME).string(i == 0 ? "MY 포인트" : "제휴 마일리지")
+                        .field(REMAIN_POINT_AMT).number(remain)
+                        .field(EXPIRING_POINT_AMT).number(remain / 10)
+                        .endObject();
+            }
+            w.endArray();
+        }));
+    }
+
+    private MockSectorAccount card(SplittableRandom random, MockSectorContext context, int index) {
+        String cardId = context.uniqueId(random, "C", 15);
+        String cardNum = MockSectorContext.digits(random, 4) + "-****-****-" + MockSectorContext.digits(random, 4);
+        String cardType = index % 2 == 0 ? "01" : "02";   // 01: 신용, 02: 체크
+        String cardName = CARD_NAMES[random.nextInt(CARD_NAMES.length)];
+        String brand = BRANDS[random.nextInt(BRANDS.length)];
+        int issueDate = date(context.getHistoryStart().toLocalDate().minusDays(random.nextInt(365 * 3)));
+
+        MockTransactionStore.Builder domestic = MockTransactionStore.builder(DOMESTIC_FORMAT, 4, 2);
+        MockTransactionStore.Builder overseas = MockTransactionStore.builder(OVERSEAS_FORMAT, 2, 3);
+        for (long time : context.randomTimes(random, context.getRecordsPerAsset())) {
+            if (random.nextInt(10) != 0) {
+                int install = cardType.equals("01") && random.nextInt(5) == 0 ? 2 + random.nextInt(11) : 0;
+                domestic.row(time)
+                        .value(DOMESTIC_AMT, (1 + random.nextInt(2_000)) * 100L)
+                        .value(DOMESTIC_NUM, random.nextLong(100_000_000L))
+                        .value(DOMESTIC_REGNO, random.nextLong(10_000_000_000L))
+                        .value(DOMESTIC_INSTALL, install)
+                        .code(DOMESTIC_STATUS, random.nextInt(30) == 0 ? "02" : "01")
+                        .code(DOMESTIC_MERCHANT, MERCHANTS[random.nextInt(MERCHANTS.length)]);
+            } else {
+                String[] merchant = OVERSEAS_MERCHANTS[random.nextInt(OVERSEAS_MERCHANTS.length)];
+                overseas.row(time)
+                        .value(OVERSEAS_AMT, (1 + random.nextInt(50_000)) * 10L)
+                        .value(OVERSEAS_NUM, random.nextLong(100_000_000L))
+                        .code(OVERSEAS_COUNTRY, merchant[0])
+                        .code(OVERSEAS_CURRENCY, merchant[1])
+                        .code(OVERSEAS_MERCHANT, merchant[2]);
+            }
+        }
+
+        byte[] listEntry = context.object(w -> w
+                .field(CARD_ID).string(cardId)
+                .field(CARD_NUM).string(cardNum)
+                .field(IS_CONSENT).bool(true)
+                .field(CARD_NAME).string(cardName)
+                .field(CARD_MEMBER).string("1")
+                .field(CARD_TYPE).string(cardType));
+        byte[] basicBody = context.body(w -> w
+                .field(CARD_TYPE).string(cardType)
+                .field(IS_TRANS_PAYABLE).bool(!brand.equals("LOCAL"))
+                .field(IS_CASH_CARD).bool(cardType.equals("02"))
+                .field(LINKED_BANK_CODE).string("004")
+                .field(CARD_BRAND).string(brand)
+                .field(ANNUAL_FEE).number(cardType.equals("01") ? 10_000 + random.nextInt(5) * 5_000 : 0)
+                .field(ISSUE_DATE).digits(issueDate, 8));
+        return new MockSectorAccount(CARD, cardId, listEntry, basicBody, domestic.build(), overseas.build());
+    }
+
+    private static final int DOMESTIC_AMT = 0;
+    private static final int DOMESTIC_NUM = 1;
+    private static final int DOMESTIC_REGNO = 2;
+    private static final int DOMESTIC_INSTALL = 3;
+    private static final int DOMESTIC_STATUS = 0;
+    private static final int DOMESTIC_MERCHANT = 1;
+
+    /**
+     * pay_type: 01 일시불, 02 할부 (할부 개월 수는 할부일 때만 작성)
+     */
+    private static final MockTransactionStore.RowFormat DOMESTIC_FORMAT = (w, store, row) -> {
+        long install = store.value(DOMESTIC_INSTALL, row);
+        w.beginObject()
+                .field(APPROVED_NUM).digits(store.value(DOMESTIC_NUM, row), 8)
+                .field(APPROVED_DTIME).digits(store.key(row), 14)
+                .field(STATUS).raw(store.code(DOMESTIC_STATUS, row))
+                .field(PAY_TYPE).string(install > 0 ? "02" : "01")
+                .field(TRANS_DTIME).digits(store.key(row), 14)
+                .field(MERCHANT_NAME).raw(store.code(DOMESTIC_MERCHANT, row))
+                .field(MERCHANT_REGNO).digits(store.value(DOMESTIC_REGNO, row), 10)
+                .field(APPROVED_AMT).number(store.value(DOMESTIC_AMT, row));
+        if (install > 0) {
+            w.field(TOTAL_INSTALL_CNT).number(install);
+        }
+        w.endObject();
+    };
+
+    private static final int OVERSEAS_AMT = 0;
+    private static final int OVERSEAS_NUM = 1;
+    private static final int OVERSEAS_COUNTRY = 0;
+    private static final int OVERSEAS_CURRENCY = 1;
+    private static final int OVERSEAS_MERCHANT = 2;
+
+    private static final MockTransactionStore.RowFormat OVERSEAS_FORMAT = (w, store, row) -> w.beginObject()
+            .field(APPROVED_NUM).digits(store.value(OVERSEAS_NUM, row), 8)
+            .field(APPROVED_DTIME).digits(store.key(row), 14)
+            .field(STATUS).string("01")
+            .field(PAY_TYPE).string("01")
+            .field(TRANS_DTIME).digits(store.key(row), 14)
+            .field(MERCHANT_NAME).raw(store.code(OVERSEAS_MERCHANT, row))
+            .field(APPROVED_AMT).decimal(store.value(OVERSEAS_AMT, row), 3)
+            .field(COUNTRY_CODE).raw(store.code(OVERSEAS_COUNTRY, row))
+            .field(CURRENCY_CODE).raw(store.code(OVERSEAS_CURRENCY, row))
+            .endObject();
+}
@@ -0,0 +1,129 @@
+package com.mydata.mydatatestbed.mock.sector.telecom;
+
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+import com.mydata.mydatatestbed.mock.consent.MockConsentScope;
+import com.mydata.mydatatestbed.mock.record.MockTransactionStore;
+import com.mydata.mydatatestbed.mock.sector.MockSector;
+import com.mydata.mydatatestbed.mock.sector.MockSectorAccount;
+import com.mydata.mydatatestbed.mock.sector.MockSectorApi;
+import com.mydata.mydatatestbed.mock.sector.MockSectorContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static com.mydata.mydatatestbed.mock.sector.MockSectorContext.date;
+
+/**
+ * 모의 통신 업권 모듈 (/v2/telecom)
+ *
+ * - 통신-001 회선 목록
+ * - 통신-003 통신 거래내역 (월별 납부, 레코드 키 = 납부일 yyyyMMdd + 000000)
+ * - 통신-004 소액결제 이용내역 (결제일시)
+ */
+@Component
+public class MockTelecomSector implements MockSector {
+
+    private static final String LINE = "회선";
+    private static final int TRANSACTIONS = 0;
+    private static final int PAID = 1;
+
+    private static final List<MockSectorApi> APIS = List.of(
+            MockSectorApi.list("통신-001", "/telecoms", MockConsentScope.TELECOM_LIST, LINE,
+                    "telecom_cnt", "telecom_list"),
+            MockSectorApi.records("통신-003", "/telecoms/transactions", MockConsentScope.TELECOM_TRANSACTION, LINE,
+                    "mgmt_id", TRANSACTIONS, "trans_cnt", "trans_list"),
+            MockSectorApi.records("통신-004", "/telecoms/paid-transactions", MockConsentScope.TELECOM_TRANSACTION, LINE,
+                    "mgmt_id", PAID, "trans_cnt", "trans_list"));
+
+    private static final byte[] MGMT_ID = MockJsonWriter.key("mgmt_id");
+    private static final byte[] TELECOM_NUM = MockJsonWriter.key("telecom_num");
+    private static final byte[] IS_CONSENT = MockJsonWriter.key("is_consent");
+    private static final byte[] TYPE = MockJsonWriter.key("type");
+    private static final byte[] STATUS = MockJsonWriter.key("status");
+    private static final byte[] TRANS_DATE = MockJsonWriter.key("trans_date");
+    private static final byte[] TRANS_DTIME = MockJsonWriter.key("trans_dtime");
+    private static final byte[] TRANS_AMT = MockJsonWriter.key("trans_amt");
+    private static final byte[] PAY_METHOD = MockJsonWriter.key("pay_method");
+    private static final byte[] MERCHANT_NAME = MockJsonWriter.key("merchant_name");
+
+    private static final String[] PAY_METHODS = {"01", "02", "03"};   // 01: 계좌이체, 02: 카드, 03: 기타
+    private static final String[] MERCHANTS = {"앱마켓", "음원 스트리밍", "모바일 게임", "온라인쇼핑몰"};
+
+    @Value("${mock.sector.telecom.lines:1}")
+    private int lines;
+
+    @Override
+    public String code() {
+        return "telecom";
+    }
+
+    @Override
+    public String displayName() {
+        return "통신";
+    }
+
+    @Override
+    public List<MockSectorApi> apis() {
+        return APIS;
+    }
+
+    @Override
+    public void generate(MockSectorContext context, SplittableRandom random) {
+        for (int i = 0; i < lines; i++) {
+            context.add(line(random.split(), context, i));
+        }
+    }
+
+    private MockSectorAccount line(SplittableRandom random, MockSectorContext context, int index) {
+        String mgmtId = context.uniqueId(random, "T", 15);
+        String telecomNum = "010-****-" + MockSectorContext.digits(random, 4);
+        String type = index == 0 ? "01" : "02";   // 01: 이동전화, 02: 인터넷
+
+        // 월 요금: 매월 같은 날 납부, 기본 요금 ± 변동
+        MockTransactionStore.Builder bills = MockTransactionStore.builder(TRANSACTION_FORMAT, 1, 1);
+        long base = (30 + random.nextInt(70)) * 1_000L;
+        String payMethod = PAY_METHODS[random.nextInt(PAY_METHODS.length)];
+        LocalDate payDate = context.getHistoryStart().toLocalDate().plusDays(random.nextInt(28));
+        for (; !payDate.isAfter(context.getNow().toLocalDate()); payDate = payDate.plusMonths(1)) {
+            bills.row(date(payDate) * 1_000_000L)
+                    .value(TRANSACTION_AMT, base + random.nextInt(-50, 51) * 100L)
+                    .code(TRANSACTION_PAY_METHOD, payMethod);
+        }
+
+        MockTransactionStore.Builder paid = MockTransactionStore.builder(PAID_FORMAT, 1, 1);
+        for (long time : context.randomTimes(random, context.getRecordsPerAsset() / 4)) {
+            paid.row(time)
+                    .value(PAID_AMT, (1 + random.nextInt(300)) * 100L)
+                    .code(PAID_MERCHANT, MERCHANTS[random.nextInt(MERCHANTS.length)]);
+        }
+
+        byte[] listEntry = context.object(w -> w
+                .field(MGMT_ID).string(mgmtId)
+                .field(TELECOM_NUM).string(telecomNum)
+                .field(IS_CONSENT).bool(true)
+                .field(TYPE).string(type)
+                .field(STATUS).string("01"));
+        return new MockSectorAccount(LINE, mgmtId, listEntry, null, bills.build(), paid.build());
+    }
+
+    private static final int TRANSACTION_AMT = 0;
+    private static final int TRANSACTION_PAY_METHOD = 0;
+
+    private static final MockTransactionStore.RowFormat TRANSACTION_FORMAT = (w, store, row) -> w.beginObject()
+            .field(TRANS_DATE).digits(store.key(row) / 1_000_000L, 8)
+            .field(TRANS_AMT).number(store.value(TRANSACTION_AMT, row))
+            .field(PAY_METHOD).raw(store.code(TRANSACTION_PAY_METHOD, row))
+            .endObject();
+
+    private static final int PAID_AMT = 0;
+    private static final int PAID_MERCHANT = 0;
+
+    private static final MockTransactionStore.RowFormat PAID_FORMAT = (w, store, row) -> w.beginObject()
+            .field(TRANS_DTIME).digits(store.key(row), 14)
+            .field(MERCHANT_NAME).raw(store.code(PAID_MERCHANT, row))
+            .field(TRANS_AMT).number(store.value(PAID_AMT, row))
+            .endObject();
+}
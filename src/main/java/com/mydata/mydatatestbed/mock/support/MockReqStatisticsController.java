@@ -0,0 +1,162 @@
+package com.mydata.mydatatestbed.mock.support;
+
+import com.mydata.mydatatestbed.mock.common.MockApi;
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockApiResponder;
+import com.mydata.mydatatestbed.mock.common.MockLatencyRegistry;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import com.mydata.mydatatestbed.mock.common.MockTenantResolver;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.mydata.mydatatestbed.mock.support.MockStatisticsTable.SLOTS;
+
+/**
+ * 모의 정보제공자 지원 API - 통계자료 재전송 요청 (support-api/provider-api.html 규격, v1)
+ *
+ * - 지원-104 GET /v1/mgmts/req-statistics : 종합포털 → 정보제공자 통계자료 재전송 요청
+ *
+ * 정보제공자는 본 API를 받으면 지원-005로 통계자료를 다시 보내야 하므로,
+ * 모의 정보제공 API에서 실제로 기록한 시간대별 호출 건수/응답시간(MockLatencyRegistry)으로
+ * 지원-005 본문을 만들어 모의 종합포털 집계(MockStatisticsAggregator)에 바로 반영
+ * - 같은 기관/구분/기준일자로 여러 번 요청해도 마지막 재전송분만 반영 (집계기의 재전송 처리)
+ * - 모의 서버는 호출한 마이데이터사업자를 구분하지 않으므로 상대 기관 코드는 설정값 하나로 보냄
+ */
+@RestController
+@RequestMapping("/v1/mgmts")
+@RequiredArgsConstructor
+public class MockReqStatisticsController {
+
+    private static final String ORG_TYPE_PROVIDER = "03";
+    private static final String TYPE_ALL = "0";
+    private static final String TYPE_SCHEDULED = "1";
+    private static final String TYPE_ON_DEMAND = "2";
+    private static final String TYPE_LIST = "3";
+    private static final int STAT_DATE_CNT = 7;
+    private static final long SECONDS_PER_HOUR = 3_600L;
+
+    private final MockLatencyRegistry latencyRegistry;
+    private final MockStatisticsAggregator aggregator;
+    private final MockTenantResolver tenantResolver;
+    private final MockApiResponder responder;
+
+    @Value("${mock.statistics.client-org-code:MOCKMYDATA}")
+    private String clientOrgCode;
+
+    @MockApi("지원-104")
+    @GetMapping("/req-statistics")
+    public void reqStatistics(@RequestParam("org_code") String orgCode,
+                              @RequestParam("org_type") String orgType,
+                              @RequestParam("inquiry_date") String inquiryDateValue,
+                              @RequestParam("type") String type,
+                              HttpServletRequest request,
+                              HttpServletResponse response) throws IOException {
+        tenantResolver.resolve(request);
+        if (orgCode == null || orgCode.isBlank()) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, "org_code는 필수입니다.");
+        }
+        if (!ORG_TYPE_PROVIDER.equals(orgType)) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, "모의 정보제공자의 org_type은 03이어야 합니다.");
+        }
+        LocalDate inquiryDate = MockStatisticsAggregator.parseDate(inquiryDateValue, "inquiry_date");
+        if (inquiryDate.getDayOfWeek() != DayOfWeek.SUNDAY) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, "inquiry_date는 일요일이어야 합니다.");
+        }
+
+        switch (type) {
+            case TYPE_ALL -> {
+                resend(orgCode, TYPE_SCHEDULED, inquiryDate);
+                resend(orgCode, TYPE_ON_DEMAND, inquiryDate);
+            }
+            case TYPE_SCHEDULED, TYPE_ON_DEMAND -> resend(orgCode, type, inquiryDate);
+            // 목록 전송 통계는 기록하지 않으므로 재전송할 내용 없음
+            case TYPE_LIST -> { }
+            default -> throw new MockApiException(MockRspCode.INVALID_PARAMETER, "type은 0, 1, 2, 3 중 하나여야 합니다.");
+        }
+        responder.send(request, response, responder.begin());
+    }
+
+    /**
+     * 기준일자 직전 7일의 시간대별 기록으로 지원-005 통계자료를 만들어 반영
+     */
+    private void resend(String orgCode, String type, LocalDate inquiryDate) {
+        boolean scheduled = TYPE_SCHEDULED.equals(type);
+        ZoneId zone = ZoneId.systemDefault();
+        double[][] hours = new double[SLOTS][4];
+
+        List<LocalDate> statDates = new ArrayList<>(STAT_DATE_CNT);
+        List<List<MockStatisticsRequest.Org>> orgLists = new ArrayList<>(STAT_DATE_CNT);
+        for (int i = STAT_DATE_CNT; i > 0; i--) {
+            LocalDate statDate = inquiryDate.minusDays(i);
+            long fromHour = statDate.atStartOfDay(zone).toEpochSecond() / SECONDS_PER_HOUR;
+
+            List<MockStatisticsRequest.ApiType> apiTypes = new ArrayList<>();
+            for (int id = 0; id < latencyRegistry.endpointCount(); id++) {
+                String apiId = latencyRegistry.apiId(id);
+                // 통계자료 대상은 정보제공 API (지원 API 자신은 제외)
+                if (apiId.startsWith("지원-")) {
+                    continue;
+                }
+                latencyRegistry.hourly(id, scheduled, fromHour, hours);
+                List<MockStatisticsRequest.TmSlot> slots = tmSlots(hours);
+                if (!slots.isEmpty()) {
+                    MockStatisticsRequest.ApiType apiType = new MockStatisticsRequest.ApiType();
+                    apiType.setApiType(apiId);
+                    apiType.setTmSlotList(slots);
+                    apiTypes.add(apiType);
+                }
+            }
+
+            List<MockStatisticsRequest.Org> orgs = new ArrayList<>(1);
+            if (!apiTypes.isEmpty()) {
+                MockStatisticsRequest.Org org = new MockStatisticsRequest.Org();
+                org.setOrgCode(clientOrgCode);
+                org.setApiTypeList(apiTypes);
+                orgs.add(org);
+            }
+            statDates.add(statDate);
+            orgLists.add(orgs);
+        }
+        aggregator.ingest(MockStatisticsSource.PROVIDER, orgCode, type, inquiryDate, statDates, orgLists);
+    }
+
+    /**
+     * 시간대별 [성공, 실패, 응답시간 합(µs), 제곱합(ms²)] → tm_slot_list (호출이 없는 시간대는 생략)
+     */
+    private List<MockStatisticsRequest.TmSlot> tmSlots(double[][] hours) {
+        List<MockStatisticsRequest.TmSlot> slots = new ArrayList<>();
+        for (int slot = 0; slot < SLOTS; slot++) {
+            double[] hour = hours[slot];
+            long success = (long) hour[0];
+            long fail = (long) hour[1];
+            long count = success + fail;
+            if (count == 0) {
+                continue;
+            }
+            double total = hour[2] / 1000.0;
+            double avg = total / count;
+            MockStatisticsRequest.TmSlot tmSlot = new MockStatisticsRequest.TmSlot();
+            tmSlot.setTmSlot(String.format("%02d", slot));
+            tmSlot.setRspAvg(avg);
+            tmSlot.setRspTotal(total);
+            tmSlot.setRspStdev(Math.sqrt(Math.max(0, hour[3] / count - avg * avg)));
+            tmSlot.setSuccessApiCnt(success);
+            tmSlot.setFailApiCnt(fail);
+            slots.add(tmSlot);
+        }
+        return slots;
+    }
+}
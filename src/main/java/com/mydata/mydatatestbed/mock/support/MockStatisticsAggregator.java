@@ -0,0 +1,299 @@
+package com.mydata.mydatatestbed.mock.support;
+
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.mydata.mydatatestbed.mock.support.MockStatisticsTable.SLOTS;
+
+/**
+ * 지원-004/005 통계자료 집계 (메모리)
+ *
+ * 제출된 통계를 기관 × API 구분 × 통계일자 × 시간대 버킷에 합산 (MockStatisticsTable)
+ *
+ * 재전송 처리:
+ * - 같은 제출 주체가 같은 구분(type)/기준일자로 다시 보내면 이전 제출분을 빼고 새 값을 더함
+ *   → 몇 번을 다시 보내도 마지막 제출분만 반영 (중복 합산 없음)
+ * - 제출분마다 반영한 버킷 위치와 값을 기본형 배열로 보관해 두었다가 재전송 시 그대로 차감
+ *
+ * 잠금: 제출(쓰기)은 주 1회 수준이므로 하나의 읽기/쓰기 잠금으로 충분
+ */
+@Slf4j
+@Component
+public class MockStatisticsAggregator {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int MIN_RETENTION_DAYS = 14;
+
+    @Value("${mock.statistics.retention-days:56}")
+    private int retentionDays;
+
+    private final Map<MockStatisticsSource, MockStatisticsTable> tables = new EnumMap<>(MockStatisticsSource.class);
+    private final Map<String, Submission> submissions = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @PostConstruct
+    void createTables() {
+        retentionDays = Math.max(retentionDays, MIN_RETENTION_DAYS);
+        for (MockStatisticsSource source : MockStatisticsSource.values()) {
+            tables.put(source, new MockStatisticsTable(retentionDays));
+        }
+    }
+
+    /**
+     * 통계자료 반영 (같은 submitter/type/inquiry_date의 이전 제출분은 대체)
+     *
+     * @param submitter 제출 주체 (지원-004: client_id, 지원-005: 정보제공자 기관코드)
+     * @param orgLists  통계일자별 상대 기관 목록 (statDates와 같은 순서)
+     * @return 반영한 시간대 버킷 수
+     */
+    public int ingest(MockStatisticsSource source, String submitter, String type, LocalDate inquiryDate,
+                      List<LocalDate> statDates, List<List<MockStatisticsRequest.Org>> orgLists) {
+        LocalDate today = LocalDate.now();
+        if (inquiryDate.isAfter(today)) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, "inquiry_date가 미래 일자입니다.");
+        }
+        if (inquiryDate.isBefore(today.minusDays(retentionDays))) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER,
+                    "보관 기간(" + retentionDays + "일)이 지난 통계자료입니다.");
+        }
+
+        Submission submission = new Submission(inquiryDate.toEpochDay());
+        for (int i = 0; i < statDates.size(); i++) {
+            collect(submission, statDates.get(i).toEpochDay(), orgLists.get(i));
+        }
+
+        MockStatisticsTable table = tables.get(source);
+        String key = source + ":" + submitter + ":" + type + ":" + inquiryDate;
+        lock.writeLock().lock();
+        try {
+            submission.apply(table);
+            Submission previous = submissions.put(key, submission);
+            if (previous != null) {
+                previous.revert(table);
+            }
+            long oldest = today.minusDays(retentionDays).toEpochDay();
+            submissions.values().removeIf(s -> s.inquiryDay < oldest);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("통계자료 반영: source={}, submitter={}, inquiryDate={}, buckets={}",
+                    source, submitter, inquiryDate, submission.size);
+        }
+        return submission.size;
+    }
+
+    /**
+     * 기관/API 구분/통계일자의 시간대별 집계 (없으면 null)
+     */
+    public DailyReport report(MockStatisticsSource source, String orgCode, String apiType, LocalDate statDate) {
+        MockStatisticsTable table = tables.get(source);
+        lock.readLock().lock();
+        try {
+            int first = table.find(orgCode, apiType, statDate.toEpochDay());
+            if (first < 0) {
+                return null;
+            }
+            DailyReport report = new DailyReport();
+            for (int slot = 0; slot < SLOTS; slot++) {
+                int cell = first + slot;
+                report.successCounts[slot] = table.successCount(cell);
+                report.failCounts[slot] = table.failCount(cell);
+                report.rspTotals[slot] = table.rspTotal(cell);
+                report.rspSquareSums[slot] = table.rspSquareSum(cell);
+            }
+            return report;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collect(Submission submission, long statDay, List<MockStatisticsRequest.Org> orgs) {
+        if (orgs == null) {
+            return;
+        }
+        for (MockStatisticsRequest.Org org : orgs) {
+            if (org == null || org.getOrgCode() == null || org.getApiTypeList() == null) {
+                throw new MockApiException(MockRspCode.INVALID_PARAMETER, "org_code와 api_type_list는 필수입니다.");
+            }
+            for (MockStatisticsRequest.ApiType api : org.getApiTypeList()) {
+                if (api == null || api.getApiType() == null || api.getTmSlotList() == null) {
+                    throw new MockApiException(MockRspCode.INVALID_PARAMETER, "api_type과 tm_slot_list는 필수입니다.");
+                }
+                for (MockStatisticsRequest.TmSlot slot : api.getTmSlotList()) {
+                    submission.add(org.getOrgCode(), api.getApiType(), statDay, slot);
+                }
+            }
+        }
+    }
+
+    /**
+     * yyyyMMdd → LocalDate (형식 오류는 40001)
+     */
+    public static LocalDate parseDate(String value, String name) {
+        try {
+            return LocalDate.parse(value, DATE);
+        } catch (DateTimeException | NullPointerException e) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, name + "는 yyyyMMdd 형식이어야 합니다.");
+        }
+    }
+
+    private static int parseSlot(String value) {
+        try {
+            int slot = Integer.parseInt(value);
+            if (slot >= 0 && slot < SLOTS) {
+                return slot;
+            }
+        } catch (NumberFormatException e) {
+            // 아래에서 처리
+        }
+        throw new MockApiException(MockRspCode.INVALID_PARAMETER, "tm_slot은 00 ~ 23이어야 합니다.");
+    }
+
+    /**
+     * 제출 1건이 반영한 값 (재전송 시 차감용)
+     * - 파싱 단계에서는 기관/API 구분/일자/시간대를, 반영 후에는 cell 번호를 보관
+     */
+    private static final class Submission {
+
+        private final long inquiryDay;
+        private String[] orgCodes = new String[64];
+        private String[] apiTypes = new String[64];
+        private long[] days = new long[64];
+        private int[] slots = new int[64];
+        private int[] cells;
+        private long[] successCounts = new long[64];
+        private long[] failCounts = new long[64];
+        private double[] rspTotals = new double[64];
+        private double[] rspSquareSums = new double[64];
+        private int size;
+
+        private Submission(long inquiryDay) {
+            this.inquiryDay = inquiryDay;
+        }
+
+        private void add(String orgCode, String apiType, long day, MockStatisticsRequest.TmSlot tmSlot) {
+            if (tmSlot == null) {
+                throw new MockApiException(MockRspCode.INVALID_PARAMETER, "tm_slot_list에 빈 항목이 있습니다.");
+            }
+            long success = tmSlot.getSuccessApiCnt() == null ? 0 : tmSlot.getSuccessApiCnt();
+            long fail = tmSlot.getFailApiCnt() == null ? 0 : tmSlot.getFailApiCnt();
+            if (success < 0 || fail < 0) {
+                throw new MockApiException(MockRspCode.INVALID_PARAMETER, "API 호출 횟수는 0 이상이어야 합니다.");
+            }
+            long count = success + fail;
+            double avg = tmSlot.getRspAvg() != null ? tmSlot.getRspAvg()
+                    : tmSlot.getRspTotal() != null && count > 0 ? tmSlot.getRspTotal() / count : 0;
+            double total = tmSlot.getRspTotal() != null ? tmSlot.getRspTotal() : avg * count;
+            double stdev = tmSlot.getRspStdev() == null ? 0 : tmSlot.getRspStdev();
+
+            if (size == orgCodes.length) {
+                grow();
+            }
+            orgCodes[size] = orgCode;
+            apiTypes[size] = apiType;
+            days[size] = day;
+            slots[size] = parseSlot(tmSlot.getTmSlot());
+            successCounts[size] = success;
+            failCounts[size] = fail;
+            rspTotals[size] = total;
+            // 제곱합 = n × (분산 + 평균²) → 여러 제출분을 합친 뒤 표준편차를 다시 계산할 수 있음
+            rspSquareSums[size] = count * (stdev * stdev + avg * avg);
+            size++;
+        }
+
+        /**
+         * 버킷에 더하고 cell 번호를 기록 (보관할 수 없는 일자는 -1)
+         */
+        private void apply(MockStatisticsTable table) {
+            cells = new int[size];
+            for (int i = 0; i < size; i++) {
+                int cell = table.cell(orgCodes[i], apiTypes[i], days[i], slots[i]);
+                cells[i] = cell;
+                if (cell >= 0) {
+                    table.add(cell, successCounts[i], failCounts[i], rspTotals[i], rspSquareSums[i]);
+                }
+            }
+            // 차감할 때는 cell 번호만 사용
+            orgCodes = null;
+            apiTypes = null;
+            slots = null;
+        }
+
+        private void revert(MockStatisticsTable table) {
+            for (int i = 0; i < size; i++) {
+                int cell = cells[i];
+                if (cell >= 0 && table.holds(cell, days[i])) {
+                    table.add(cell, -successCounts[i], -failCounts[i], -rspTotals[i], -rspSquareSums[i]);
+                }
+            }
+        }
+
+        private void grow() {
+            int capacity = size * 2;
+            orgCodes = Arrays.copyOf(orgCodes, capacity);
+            apiTypes = Arrays.copyOf(apiTypes, capacity);
+            days = Arrays.copyOf(days, capacity);
+            slots = Arrays.copyOf(slots, capacity);
+            successCounts = Arrays.copyOf(successCounts, capacity);
+            failCounts = Arrays.copyOf(failCounts, capacity);
+            rspTotals = Arrays.copyOf(rspTotals, capacity);
+            rspSquareSums = Arrays.copyOf(rspSquareSums, capacity);
+        }
+    }
+
+    /**
+     * 하루치 시간대별 집계 (조회 시점 복사본)
+     */
+    public static final class DailyReport {
+
+        private final long[] successCounts = new long[SLOTS];
+        private final long[] failCounts = new long[SLOTS];
+        private final double[] rspTotals = new double[SLOTS];
+        private final double[] rspSquareSums = new double[SLOTS];
+
+        public boolean isEmpty(int slot) {
+            return successCounts[slot] == 0 && failCounts[slot] == 0;
+        }
+
+        public long successCount(int slot) {
+            return successCounts[slot];
+        }
+
+        public long failCount(int slot) {
+            return failCounts[slot];
+        }
+
+        public double rspTotal(int slot) {
+            return rspTotals[slot];
+        }
+
+        public double rspAvg(int slot) {
+            long count = successCounts[slot] + failCounts[slot];
+            return count == 0 ? 0 : rspTotals[slot] / count;
+        }
+
+        public double rspStdev(int slot) {
+            long count = successCounts[slot] + failCounts[slot];
+            if (count == 0) {
+                return 0;
+            }
+            double avg = rspTotals[slot] / count;
+            return Math.sqrt(Math.max(0, rspSquareSums[slot] / count - avg * avg));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.mydata.mydatatestbed.mock.support;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 지원-004 마이데이터사업자 / 지원-005 정보제공자 통계자료 전송 본문
+ *
+ * 두 API는 기관 목록 이름(org_list / mydata_svc_list)만 다르고 하위 구조가 같으므로 하나의 DTO로 받음
+ * 에러코드별 호출 횟수 등 집계에 쓰지 않는 항목은 받지 않음
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class MockStatisticsRequest {
+
+    private String type;
+    private String clientId;
+    private String orgCode;
+    private String inquiryDate;
+    private Integer statDateCnt;
+    private List<StatDate> statDateList;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static class StatDate {
+
+        private String statDate;
+        private List<Org> orgList;
+        private List<Org> mydataSvcList;
+    }
+
+    /**
+     * 상대 기관 (지원-004: 정보제공자, 지원-005: 마이데이터 서비스/정보수신자)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static class Org {
+
+        private String orgCode;
+        private String clientId;
+        private List<ApiType> apiTypeList;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static class ApiType {
+
+        private String apiType;
+        private List<TmSlot> tmSlotList;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static class TmSlot {
+
+        private String tmSlot;
+        private Double rspAvg;
+        private Double rspTotal;
+        private Double rspStdev;
+        private Long successApiCnt;
+        private Long failApiCnt;
+    }
+}
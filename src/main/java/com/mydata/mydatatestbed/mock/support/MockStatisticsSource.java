@@ -0,0 +1,17 @@
+package com.mydata.mydatatestbed.mock.support;
+
+/**
+ * 통계자료 제출 주체 (제출 주체마다 별도로 집계, 같은 호출이 양쪽에서 보고되므로 합산하지 않음)
+ */
+public enum MockStatisticsSource {
+
+    /**
+     * 지원-004: 마이데이터사업자/정보수신자가 정보제공자별로 보고
+     */
+    MYDATA,
+
+    /**
+     * 지원-005: 정보제공자가 마이데이터 서비스별로 보고
+     */
+    PROVIDER
+}
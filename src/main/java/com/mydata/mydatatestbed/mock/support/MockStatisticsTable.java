@@ -0,0 +1,157 @@
+package com.mydata.mydatatestbed.mock.support;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 통계 버킷 저장소 (기관 × API 구분 × 통계일자 × 시간대)
+ *
+ * 버킷마다 객체를 만들지 않고 컬럼별 기본형 배열의 한 칸(cell)으로 보관
+ * - 계열(series): 기관 코드 + API 구분 조합마다 번호를 부여
+ * - 계열마다 보관 일수(days) × 시간대 24칸을 연속으로 배치 → cell = (계열 × days + 일자 위치) × 24 + 시간대
+ * - 일자 위치는 epoch 일수 % days (링 버퍼): 보관 기간이 지난 일자는 새 일자가 들어올 때 덮어씀
+ * - 응답시간은 합계와 제곱합으로 보관 → 여러 제출분을 합쳐도 평균/표준편차를 다시 계산할 수 있음
+ *
+ * 조회는 해시 조회 3번 + 배열 접근으로 버킷 수와 무관하게 일정한 시간
+ * 스레드 안전하지 않음 → MockStatisticsAggregator가 잠금
+ */
+final class MockStatisticsTable {
+
+    static final int SLOTS = 24;
+
+    private static final int INITIAL_SERIES = 16;
+    private static final long EMPTY_DAY = Long.MIN_VALUE;
+
+    private final int days;
+
+    private final Map<String, Integer> orgs = new HashMap<>();
+    private final Map<String, Integer> apiTypes = new HashMap<>();
+    private final Map<Long, Integer> series = new HashMap<>();
+    private int seriesCount;
+
+    /**
+     * 일자 위치별로 현재 들어 있는 epoch 일수 (계열 × days)
+     */
+    private long[] rowDays;
+
+    private long[] successCounts;
+    private long[] failCounts;
+    private double[] rspTotals;
+    private double[] rspSquareSums;
+
+    MockStatisticsTable(int days) {
+        this.days = days;
+        allocate(INITIAL_SERIES);
+    }
+
+    /**
+     * 버킷 위치 (계열/일자가 없으면 생성)
+     *
+     * @return cell 번호, 링에 더 최근 일자가 들어 있어 보관할 수 없으면 -1
+     */
+    int cell(String orgCode, String apiType, long epochDay, int slot) {
+        int row = row(seriesOf(orgCode, apiType, true), epochDay);
+        long stored = rowDays[row];
+        if (stored != epochDay) {
+            if (stored != EMPTY_DAY && stored > epochDay) {
+                return -1;
+            }
+            rowDays[row] = epochDay;
+            int from = row * SLOTS;
+            Arrays.fill(successCounts, from, from + SLOTS, 0);
+            Arrays.fill(failCounts, from, from + SLOTS, 0);
+            Arrays.fill(rspTotals, from, from + SLOTS, 0);
+            Arrays.fill(rspSquareSums, from, from + SLOTS, 0);
+        }
+        return row * SLOTS + slot;
+    }
+
+    /**
+     * 일자의 첫 번째(0시) 버킷 위치 (없으면 -1, 시간대 버킷은 반환값 + 시간대)
+     */
+    int find(String orgCode, String apiType, long epochDay) {
+        int seriesIndex = seriesOf(orgCode, apiType, false);
+        if (seriesIndex < 0) {
+            return -1;
+        }
+        int row = row(seriesIndex, epochDay);
+        return rowDays[row] == epochDay ? row * SLOTS : -1;
+    }
+
+    /**
+     * cell이 아직 epochDay의 버킷인지 (링에서 덮어써지지 않았는지)
+     */
+    boolean holds(int cell, long epochDay) {
+        return rowDays[cell / SLOTS] == epochDay;
+    }
+
+    void add(int cell, long success, long fail, double rspTotal, double rspSquareSum) {
+        successCounts[cell] += success;
+        failCounts[cell] += fail;
+        rspTotals[cell] += rspTotal;
+        rspSquareSums[cell] += rspSquareSum;
+    }
+
+    long successCount(int cell) {
+        return successCounts[cell];
+    }
+
+    long failCount(int cell) {
+        return failCounts[cell];
+    }
+
+    double rspTotal(int cell) {
+        return rspTotals[cell];
+    }
+
+    double rspSquareSum(int cell) {
+        return rspSquareSums[cell];
+    }
+
+    private int row(int seriesIndex, long epochDay) {
+        return seriesIndex * days + (int) Math.floorMod(epochDay, (long) days);
+    }
+
+    private int seriesOf(String orgCode, String apiType, boolean create) {
+        Integer org = orgs.get(orgCode);
+        Integer api = apiTypes.get(apiType);
+        if (!create && (org == null || api == null)) {
+            return -1;
+        }
+        if (org == null) {
+            org = orgs.size();
+            orgs.put(orgCode, org);
+        }
+        if (api == null) {
+            api = apiTypes.size();
+            apiTypes.put(apiType, api);
+        }
+
+        long key = ((long) org << 32) | api;
+        Integer index = series.get(key);
+        if (index == null) {
+            if (!create) {
+                return -1;
+            }
+            if (seriesCount * days == rowDays.length) {
+                allocate(seriesCount * 2);
+            }
+            index = seriesCount++;
+            series.put(key, index);
+        }
+        return index;
+    }
+
+    private void allocate(int seriesCapacity) {
+        int rows = seriesCapacity * days;
+        int cells = rows * SLOTS;
+        int oldRows = rowDays == null ? 0 : rowDays.length;
+        rowDays = rowDays == null ? new long[rows] : Arrays.copyOf(rowDays, rows);
+        Arrays.fill(rowDays, oldRows, rows, EMPTY_DAY);
+        successCounts = successCounts == null ? new long[cells] : Arrays.copyOf(successCounts, cells);
+        failCounts = failCounts == null ? new long[cells] : Arrays.copyOf(failCounts, cells);
+        rspTotals = rspTotals == null ? new double[cells] : Arrays.copyOf(rspTotals, cells);
+        rspSquareSums = rspSquareSums == null ? new double[cells] : Arrays.copyOf(rspSquareSums, cells);
+    }
+}
@@ -0,0 +1,184 @@
+package com.mydata.mydatatestbed.mock.support;
+
+import com.mydata.mydatatestbed.mock.common.MockApi;
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockApiResponder;
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import com.mydata.mydatatestbed.mock.common.MockTenantResolver;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static com.mydata.mydatatestbed.mock.support.MockStatisticsTable.SLOTS;
+
+/**
+ * 모의 종합포털 지원 API - 통계자료 수집 (support-api/portal-api.html 규격, v2)
+ *
+ * - 지원-004 POST /v2/mgmts/statistics/mydata   : 마이데이터사업자/정보수신자 통계자료 전송
+ * - 지원-005 POST /v2/mgmts/statistics/provider : 정보제공자 통계자료 전송
+ * - GET /v2/mgmts/statistics/report              : 집계 결과 조회 (테스트베드 전용, 규격 외)
+ *
+ * 제출된 통계는 MockStatisticsAggregator가 기관 × API 구분 × 통계일자 × 시간대 버킷에 합산
+ */
+@RestController
+@RequestMapping("/v2/mgmts/statistics")
+@RequiredArgsConstructor
+public class MockSupportController {
+
+    private static final Set<String> TYPES = Set.of("1", "2", "3");
+    private static final int STAT_DATE_CNT = 7;
+
+    private static final byte[] ORG_CODE = MockJsonWriter.key("org_code");
+    private static final byte[] API_TYPE = MockJsonWriter.key("api_type");
+    private static final byte[] STAT_DATE = MockJsonWriter.key("stat_date");
+    private static final byte[] TM_SLOT_CNT = MockJsonWriter.key("tm_slot_cnt");
+    private static final byte[] TM_SLOT_LIST = MockJsonWriter.key("tm_slot_list");
+    private static final byte[] TM_SLOT = MockJsonWriter.key("tm_slot");
+    private static final byte[] RSP_AVG = MockJsonWriter.key("rsp_avg");
+    private static final byte[] RSP_TOTAL = MockJsonWriter.key("rsp_total");
+    private static final byte[] RSP_STDEV = MockJsonWriter.key("rsp_stdev");
+    private static final byte[] SUCCESS_API_CNT = MockJsonWriter.key("success_api_cnt");
+    private static final byte[] FAIL_API_CNT = MockJsonWriter.key("fail_api_cnt");
+
+    private final MockStatisticsAggregator aggregator;
+    private final MockTenantResolver tenantResolver;
+    private final MockApiResponder responder;
+
+    // ==================== 지원-004 마이데이터사업자 통계자료 전송 ====================
+
+    @MockApi("지원-004")
+    @PostMapping("/mydata")
+    public void mydata(@RequestBody MockStatisticsRequest body,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        tenantResolver.resolve(request);
+        String clientId = body.getClientId();
+        if (clientId == null || clientId.isBlank()) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, "client_id는 필수입니다.");
+        }
+        ingest(MockStatisticsSource.MYDATA, clientId, body, MockStatisticsRequest.StatDate::getOrgList);
+        responder.send(request, response, responder.begin());
+    }
+
+    // ==================== 지원-005 정보제공자 통계자료 전송 ====================
+
+    /**
+     * org_code는 중계기관이 보내는 경우에만 있으므로, 없으면 접근토큰의 테넌트를 제출 주체로 사용
+     */
+    @MockApi("지원-005")
+    @PostMapping("/provider")
+    public void provider(@RequestBody MockStatisticsRequest body,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        String tenantKey = tenantResolver.resolve(request);
+        String submitter = body.getOrgCode() == null || body.getOrgCode().isBlank() ? tenantKey : body.getOrgCode();
+        ingest(MockStatisticsSource.PROVIDER, submitter, body, MockStatisticsRequest.StatDate::getMydataSvcList);
+        responder.send(request, response, responder.begin());
+    }
+
+    // ==================== 집계 결과 조회 ====================
+
+    /**
+     * @param source mydata(지원-004 제출분) / provider(지원-005 제출분)
+     */
+    @GetMapping("/report")
+    public void report(@RequestParam("source") String source,
+                       @RequestParam("org_code") String orgCode,
+                       @RequestParam("api_type") String apiType,
+                       @RequestParam("stat_date") String statDate,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        tenantResolver.resolve(request);
+        LocalDate date = MockStatisticsAggregator.parseDate(statDate, "stat_date");
+        MockStatisticsAggregator.DailyReport report = aggregator.report(source(source), orgCode, apiType, date);
+        if (report == null) {
+            throw new MockApiException(MockRspCode.NOT_FOUND, "집계된 통계자료가 없습니다.");
+        }
+
+        int count = 0;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            if (!report.isEmpty(slot)) {
+                count++;
+            }
+        }
+        MockJsonWriter writer = responder.begin()
+                .field(ORG_CODE).string(orgCode)
+                .field(API_TYPE).string(apiType)
+                .field(STAT_DATE).string(statDate)
+                .field(TM_SLOT_CNT).number(count)
+                .field(TM_SLOT_LIST).beginArray();
+        for (int slot = 0; slot < SLOTS; slot++) {
+            if (report.isEmpty(slot)) {
+                continue;
+            }
+            writer.beginObject()
+                    .field(TM_SLOT).digits(slot, 2)
+                    .field(RSP_AVG).decimal(Math.round(report.rspAvg(slot) * 1000), 3)
+                    .field(RSP_TOTAL).decimal(Math.round(report.rspTotal(slot) * 1000), 3)
+                    .field(RSP_STDEV).decimal(Math.round(report.rspStdev(slot) * 1000), 3)
+                    .field(SUCCESS_API_CNT).number(report.successCount(slot))
+                    .field(FAIL_API_CNT).number(report.failCount(slot))
+                    .endObject();
+        }
+        writer.endArray();
+        responder.send(request, response, writer);
+    }
+
+    // ==================== 검증 ====================
+
+    private void ingest(MockStatisticsSource source, String submitter, MockStatisticsRequest body,
+                        Function<MockStatisticsRequest.StatDate, List<MockStatisticsRequest.Org>> orgList) {
+        if (body.getType() == null || !TYPES.contains(body.getType())) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, "type은 1, 2, 3 중 하나여야 합니다.");
+        }
+        LocalDate inquiryDate = MockStatisticsAggregator.parseDate(body.getInquiryDate(), "inquiry_date");
+        if (inquiryDate.getDayOfWeek() != DayOfWeek.SUNDAY) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, "inquiry_date는 일요일이어야 합니다.");
+        }
+
+        List<MockStatisticsRequest.StatDate> statDateList = body.getStatDateList();
+        if (statDateList == null || statDateList.size() != STAT_DATE_CNT
+                || body.getStatDateCnt() == null || body.getStatDateCnt() != STAT_DATE_CNT) {
+            throw new MockApiException(MockRspCode.INVALID_PARAMETER, "stat_date_cnt와 stat_date_list는 7일이어야 합니다.");
+        }
+
+        List<LocalDate> statDates = new ArrayList<>(STAT_DATE_CNT);
+        List<List<MockStatisticsRequest.Org>> orgLists = new ArrayList<>(STAT_DATE_CNT);
+        for (MockStatisticsRequest.StatDate statDate : statDateList) {
+            if (statDate == null) {
+                throw new MockApiException(MockRspCode.INVALID_PARAMETER, "stat_date_list에 빈 항목이 있습니다.");
+            }
+            LocalDate date = MockStatisticsAggregator.parseDate(statDate.getStatDate(), "stat_date");
+            // 기준일자(일요일) 직전 7일: 전주 일요일 ~ 토요일
+            if (!date.isBefore(inquiryDate) || date.isBefore(inquiryDate.minusDays(STAT_DATE_CNT))) {
+                throw new MockApiException(MockRspCode.INVALID_PARAMETER, "stat_date는 inquiry_date 직전 7일이어야 합니다.");
+            }
+            statDates.add(date);
+            orgLists.add(orgList.apply(statDate));
+        }
+        aggregator.ingest(source, submitter, body.getType(), inquiryDate, statDates, orgLists);
+    }
+
+    private MockStatisticsSource source(String value) {
+        return switch (value) {
+            case "mydata" -> MockStatisticsSource.MYDATA;
+            case "provider" -> MockStatisticsSource.PROVIDER;
+            default -> throw new MockApiException(MockRspCode.INVALID_PARAMETER, "source는 mydata 또는 provider여야 합니다.");
+        };
+    }
+}
@@ -1,20 +1,39 @@
 package com.mydata.mydatatestbed.repository;
 
+import com.mydata.mydatatestbed.dto.board.BoardListResponseDto;
 import com.mydata.mydatatestbed.entity.Board;
+import com.mydata.mydatatestbed.search.SearchDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface BoardRepository extends JpaRepository<Board, Long> {
 
+    /**
+     * 목록 화면용 프로젝션 (JPQL 생성자 표현식)
+     * - 엔티티를 만들지 않고 목록에 필요한 컬럼만 조회 → content(TEXT) 미조회
+     * - 작성자 이름은 JOIN으로 함께 가져오므로 행마다 지연 로딩이 발생하지 않음
+     * - 인자 순서는 BoardListResponseDto 필드 순서와 같아야 함
+     */
+    String LIST_SELECT = "SELECT new com.mydata.mydatatestbed.dto.board.BoardListResponseDto(" +
+            "b.id, b.title, m.name, b.viewCount, " +
+            "CASE WHEN b.attachmentPath IS NOT NULL THEN true ELSE false END, b.createdAt) " +
+            "FROM Board b JOIN b.member m ";
+
     @Query("SELECT b FROM Board b WHERE b.title LIKE %:keyword% OR b.content LIKE %:keyword% ORDER BY b.createdAt DESC")
     Page<Board> findByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
-    Page<Board> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    // 전체 목록 (번호 페이징)
+    @Query(value = LIST_SELECT + "ORDER BY b.createdAt DESC, b.id DESC",
+            countQuery = "SELECT COUNT(b) FROM Board b")
+    Page<BoardListResponseDto> findListOrderByCreatedAtDesc(Pageable pageable);
 
     @Query("SELECT b FROM Board b JOIN FETCH b.member WHERE b.id = :id")
     Optional<Board> findByIdWithMember(@Param("id") Long id);
@@ -23,4 +42,28 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
 
     @Query("SELECT b FROM Board b JOIN b.member m WHERE m.name LIKE %:name% ORDER BY b.createdAt DESC")
     Page<Board> findByMemberNameContaining(@Param("name") String name, Pageable pageable);
+
+    // 검색 색인 결과로 받은 ID 목록의 게시글 조회 (목록 DTO로 바로 조회)
+    @Query(LIST_SELECT + "WHERE b.id IN :ids")
+    List<BoardListResponseDto> findListByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 검색 색인 구축용 (엔티티 대신 필요한 컬럼만 조회)
+    @Query("SELECT new com.mydata.mydatatestbed.search.SearchDocument(b.id, b.title, b.content, false, b.createdAt) FROM Board b")
+    List<SearchDocument> findAllSearchDocuments();
+
+    // 키셋 페이지네이션: 첫 페이지 (createdAt, id 내림차순)
+    @Query(LIST_SELECT + "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BoardListResponseDto> findLatestForCursor(Pageable pageable);
+
+    // 키셋 페이지네이션: 커서 행 다음부터 (내림차순)
+    @Query(LIST_SELECT +
+            "WHERE b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BoardListResponseDto> findAfterCursor(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 키셋 페이지네이션: 커서 행 이전까지 (오름차순으로 조회 후 서비스에서 뒤집음)
+    @Query(LIST_SELECT +
+            "WHERE b.createdAt > :createdAt OR (b.createdAt = :createdAt AND b.id > :id) " +
+            "ORDER BY b.createdAt ASC, b.id ASC")
+    List<BoardListResponseDto> findBeforeCursor(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
\ No newline at end of file
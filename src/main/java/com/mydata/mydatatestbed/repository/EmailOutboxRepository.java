@@ -0,0 +1,94 @@
+package com.mydata.mydatatestbed.repository;
+
+import com.mydata.mydatatestbed.entity.EmailOutbox;
+import com.mydata.mydatatestbed.entity.Enum.EmailOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 메일 발송 대기열 Repository
+ *
+ * 상태 변경은 모두 조건부 UPDATE 한 문장으로 처리
+ * - 엔티티를 읽고 수정하는 사이에 다른 워커가 끼어들 틈이 없음
+ */
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * 발송 시각이 된 대기 메일 ID 조회 (오래된 순)
+     */
+    @Query("SELECT e.id FROM EmailOutbox e " +
+            "WHERE e.status = com.mydata.mydatatestbed.entity.Enum.EmailOutboxStatus.PENDING " +
+            "AND e.nextAttemptAt <= :now " +
+            "ORDER BY e.nextAttemptAt ASC")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 발송 권한 획득 (PENDING → SENDING)
+     *
+     * @return 1이면 이 워커가 발송 담당, 0이면 이미 다른 워커가 가져갔거나 취소됨
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = com.mydata.mydatatestbed.entity.Enum.EmailOutboxStatus.SENDING " +
+            "WHERE e.id = :id AND e.status = com.mydata.mydatatestbed.entity.Enum.EmailOutboxStatus.PENDING")
+    int claim(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = com.mydata.mydatatestbed.entity.Enum.EmailOutboxStatus.SENT, " +
+            "e.attempts = e.attempts + 1, e.sentAt = :sentAt, e.lastError = NULL " +
+            "WHERE e.id = :id")
+    int markSent(@Param("id") Long id, @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * 발송 실패 기록
+     * - status에 PENDING을 주면 nextAttemptAt에 재시도, DEAD를 주면 더 이상 시도하지 않음
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = :status, e.attempts = :attempts, " +
+            "e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError " +
+            "WHERE e.id = :id")
+    int markFailed(@Param("id") Long id,
+                   @Param("status") EmailOutboxStatus status,
+                   @Param("attempts") int attempts,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("lastError") String lastError);
+
+    /**
+     * 같은 수신자에게 아직 나가지 않은 메일 취소 (인증 메일 재발송 시 이전 링크 메일 방지)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = com.mydata.mydatatestbed.entity.Enum.EmailOutboxStatus.CANCELLED " +
+            "WHERE e.recipient = :recipient " +
+            "AND e.status = com.mydata.mydatatestbed.entity.Enum.EmailOutboxStatus.PENDING")
+    int cancelPending(@Param("recipient") String recipient);
+
+    /**
+     * 발송 중(SENDING) 상태로 남은 메일을 대기 상태로 되돌림
+     * - 발송 도중 서버가 종료된 경우 (시작 시 1회 실행)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = com.mydata.mydatatestbed.entity.Enum.EmailOutboxStatus.PENDING " +
+            "WHERE e.status = com.mydata.mydatatestbed.entity.Enum.EmailOutboxStatus.SENDING")
+    int resetSending();
+
+    /**
+     * 보관 기간이 지난 발송 완료 메일 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM EmailOutbox e " +
+            "WHERE e.status = com.mydata.mydatatestbed.entity.Enum.EmailOutboxStatus.SENT " +
+            "AND e.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
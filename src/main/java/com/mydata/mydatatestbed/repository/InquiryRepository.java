@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface InquiryRepository extends JpaRepository<Inquiry, Long> {
@@ -25,4 +27,26 @@ public interface InquiryRepository extends JpaRepository<Inquiry, Long> {
 
     // 특정 회원의 문의 개수
     long countByMember(Member member);
+
+    // 키셋 페이지네이션: 특정 회원의 첫 페이지 (createdAt, id 내림차순)
+    @Query("SELECT i FROM Inquiry i WHERE i.member = :member ORDER BY i.createdAt DESC, i.id DESC")
+    List<Inquiry> findLatestForCursor(@Param("member") Member member, Pageable pageable);
+
+    // 키셋 페이지네이션: 커서 행 다음부터 (내림차순)
+    @Query("SELECT i FROM Inquiry i WHERE i.member = :member " +
+            "AND (i.createdAt < :createdAt OR (i.createdAt = :createdAt AND i.id < :id)) " +
+            "ORDER BY i.createdAt DESC, i.id DESC")
+    List<Inquiry> findAfterCursor(@Param("member") Member member,
+                                  @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("id") Long id,
+                                  Pageable pageable);
+
+    // 키셋 페이지네이션: 커서 행 이전까지 (오름차순)
+    @Query("SELECT i FROM Inquiry i WHERE i.member = :member " +
+            "AND (i.createdAt > :createdAt OR (i.createdAt = :createdAt AND i.id > :id)) " +
+            "ORDER BY i.createdAt ASC, i.id ASC")
+    List<Inquiry> findBeforeCursor(@Param("member") Member member,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   Pageable pageable);
 }
\ No newline at end of file
@@ -1,22 +1,39 @@
 package com.mydata.mydatatestbed.repository;
 
+import com.mydata.mydatatestbed.dto.notice.NoticeListResponseDto;
 import com.mydata.mydatatestbed.entity.Notice;
+import com.mydata.mydatatestbed.search.SearchDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface NoticeRepository extends JpaRepository<Notice, Long> {
 
+    /**
+     * 목록 화면용 프로젝션 (JPQL 생성자 표현식)
+     * - 엔티티를 만들지 않고 목록에 필요한 컬럼만 조회 → content(TEXT) 미조회
+     * - 작성자는 LEFT JOIN (작성자 없는 공지도 포함), 행마다 지연 로딩 없음
+     * - 인자 순서는 NoticeListResponseDto 필드 순서와 같아야 함
+     */
+    String LIST_SELECT = "SELECT new com.mydata.mydatatestbed.dto.notice.NoticeListResponseDto(" +
+            "n.id, n.title, n.pinned, n.viewCount, " +
+            "CASE WHEN n.attachmentPath IS NOT NULL AND TRIM(n.attachmentPath) <> '' THEN true ELSE false END, " +
+            "a.name, n.createdAt) " +
+            "FROM Notice n LEFT JOIN n.author a ";
+
     /**
      * 공지사항 목록 조회 (중요 공지 먼저, 그 다음 최신순)
      */
-    @Query("SELECT n FROM Notice n ORDER BY n.pinned DESC, n.createdAt DESC")
-    Page<Notice> findAllOrderByPinnedAndCreatedAt(Pageable pageable);
+    @Query(value = LIST_SELECT + "ORDER BY n.pinned DESC, n.createdAt DESC, n.id DESC",
+            countQuery = "SELECT COUNT(n) FROM Notice n")
+    Page<NoticeListResponseDto> findListOrderByPinnedAndCreatedAt(Pageable pageable);
 
     /**
      * 키워드로 검색 (제목 또는 내용에 포함)
@@ -29,8 +46,8 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
     /**
      * 최신 공지사항 N개 조회 (메인 페이지용)
      */
-    @Query("SELECT n FROM Notice n ORDER BY n.pinned DESC, n.createdAt DESC")
-    List<Notice> findTopN(Pageable pageable);
+    @Query(LIST_SELECT + "ORDER BY n.pinned DESC, n.createdAt DESC, n.id DESC")
+    List<NoticeListResponseDto> findTopN(Pageable pageable);
 
     /**
      * 중요 공지사항만 조회
@@ -42,4 +59,49 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
      */
     @Query("SELECT n FROM Notice n LEFT JOIN FETCH n.author WHERE n.id = :id")
     Optional<Notice> findByIdWithAuthor(@Param("id") Long id);
+
+    /**
+     * 검색 색인 결과로 받은 ID 목록의 공지사항 조회 (목록 DTO로 바로 조회)
+     */
+    @Query(LIST_SELECT + "WHERE n.id IN :ids")
+    List<NoticeListResponseDto> findListByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 검색 색인 구축용 (엔티티 대신 필요한 컬럼만 조회)
+     */
+    @Query("SELECT new com.mydata.mydatatestbed.search.SearchDocument(n.id, n.title, n.content, n.pinned, n.createdAt) FROM Notice n")
+    List<SearchDocument> findAllSearchDocuments();
+
+    /**
+     * 키셋 페이지네이션: 첫 페이지 (pinned, createdAt, id 내림차순)
+     */
+    @Query(LIST_SELECT + "ORDER BY n.pinned DESC, n.createdAt DESC, n.id DESC")
+    List<NoticeListResponseDto> findLatestForCursor(Pageable pageable);
+
+    /**
+     * 키셋 페이지네이션: 커서 행 다음부터 (내림차순)
+     * - 같은 pinned 그룹 안에서 (createdAt, id)가 더 작은 행
+     * - 커서가 중요 공지였다면 일반 공지 전체가 뒤에 이어짐
+     */
+    @Query(LIST_SELECT +
+            "WHERE (n.pinned = :pinned AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))) " +
+            "OR (:pinned = true AND n.pinned = false) " +
+            "ORDER BY n.pinned DESC, n.createdAt DESC, n.id DESC")
+    List<NoticeListResponseDto> findAfterCursor(@Param("pinned") boolean pinned,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    /**
+     * 키셋 페이지네이션: 커서 행 이전까지 (오름차순)
+     * - 커서가 일반 공지였다면 중요 공지 전체가 앞에 있음
+     */
+    @Query(LIST_SELECT +
+            "WHERE (n.pinned = :pinned AND (n.createdAt > :createdAt OR (n.createdAt = :createdAt AND n.id > :id))) " +
+            "OR (:pinned = false AND n.pinned = true) " +
+            "ORDER BY n.pinned ASC, n.createdAt ASC, n.id ASC")
+    List<NoticeListResponseDto> findBeforeCursor(@Param("pinned") boolean pinned,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
 }
\ No newline at end of file
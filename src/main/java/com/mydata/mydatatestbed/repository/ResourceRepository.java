@@ -1,23 +1,37 @@
 package com.mydata.mydatatestbed.repository;
 
+import com.mydata.mydatatestbed.dto.resource.ResourceListResponseDto;
 import com.mydata.mydatatestbed.entity.Resource;
+import com.mydata.mydatatestbed.search.SearchDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ResourceRepository extends JpaRepository<Resource, Long> {
 
+    /**
+     * 목록 화면용 프로젝션 (JPQL 생성자 표현식)
+     * - 엔티티를 만들지 않고 목록에 필요한 컬럼만 조회 → description(TEXT) 미조회
+     * - 작성자 이름은 LEFT JOIN으로 함께 조회
+     * - ResourceListResponseDto의 프로젝션 전용 생성자 인자 순서와 같아야 함
+     */
+    String LIST_SELECT = "SELECT new com.mydata.mydatatestbed.dto.resource.ResourceListResponseDto(" +
+            "r.id, r.title, r.fileName, r.fileSize, r.downloadCount, a.name, r.createdAt) " +
+            "FROM Resource r LEFT JOIN r.author a ";
+
     /**
      * 전체 자료 목록 조회 (최신순)
      */
-    @Query("SELECT r FROM Resource r " +
-            "LEFT JOIN FETCH r.author " +
-            "ORDER BY r.createdAt DESC")
-    Page<Resource> findAllWithAuthor(Pageable pageable);
+    @Query(value = LIST_SELECT + "ORDER BY r.createdAt DESC, r.id DESC",
+            countQuery = "SELECT COUNT(r) FROM Resource r")
+    Page<ResourceListResponseDto> findListOrderByCreatedAtDesc(Pageable pageable);
 
     /**
      * 제목 또는 설명으로 검색
@@ -51,4 +65,38 @@ public interface ResourceRepository extends JpaRepository<Resource, Long> {
             "(SELECT r2.createdAt FROM Resource r2 WHERE r2.id = :currentId) " +
             "ORDER BY r.createdAt DESC LIMIT 1")
     Optional<Resource> findPrevResource(@Param("currentId") Long currentId);
+
+    /**
+     * 검색 색인 결과로 받은 ID 목록의 자료 조회 (목록 DTO로 바로 조회)
+     */
+    @Query(LIST_SELECT + "WHERE r.id IN :ids")
+    List<ResourceListResponseDto> findListByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 검색 색인 구축용 (엔티티 대신 필요한 컬럼만 조회)
+     */
+    @Query("SELECT new com.mydata.mydatatestbed.search.SearchDocument(r.id, r.title, r.description, false, r.createdAt) FROM Resource r")
+    List<SearchDocument> findAllSearchDocuments();
+
+    /**
+     * 키셋 페이지네이션: 첫 페이지 (createdAt, id 내림차순)
+     */
+    @Query(LIST_SELECT + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ResourceListResponseDto> findLatestForCursor(Pageable pageable);
+
+    /**
+     * 키셋 페이지네이션: 커서 행 다음부터 (내림차순)
+     */
+    @Query(LIST_SELECT +
+            "WHERE r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ResourceListResponseDto> findAfterCursor(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 키셋 페이지네이션: 커서 행 이전까지 (오름차순)
+     */
+    @Query(LIST_SELECT +
+            "WHERE r.createdAt > :createdAt OR (r.createdAt = :createdAt AND r.id > :id) " +
+            "ORDER BY r.createdAt ASC, r.id ASC")
+    List<ResourceListResponseDto> findBeforeCursor(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,226 @@
+package com.mydata.mydatatestbed.search;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 기반 n-gram 역색인
+ *
+ * 구조:
+ * - postings: gram 키 → 해당 gram을 포함하는 문서 ID 목록 (오름차순 int 배열)
+ * - documents: 문서 ID → 정규화 텍스트, 정렬 키, gram 목록
+ *
+ * 검색 흐름:
+ * 1. 검색어를 정규화하고 gram 추출
+ * 2. posting 목록을 짧은 순서로 교집합 → 후보 문서
+ * 3. 후보 문서의 정규화 텍스트로 부분 문자열 일치 확인 (n-gram 교집합은 오탐이 있을 수 있음)
+ * 4. 정렬 키 내림차순, ID 내림차순으로 정렬하여 반환
+ *
+ * gram을 만들 수 없는 짧은 검색어(한글 1글자, 영문 2글자 이하)는
+ * 전체 문서의 정규화 텍스트를 순회 (DB LIKE 스캔보다 훨씬 저렴)
+ *
+ * 동시성: 읽기/쓰기 락 (검색은 동시 수행, 색인 변경은 배타적)
+ */
+public class NgramIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private static final Comparator<Document> RESULT_ORDER =
+            Comparator.comparingLong((Document d) -> d.sortKey).reversed()
+                    .thenComparing(Comparator.comparingInt((Document d) -> d.id).reversed());
+
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<Integer, Document> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 문서 색인 (같은 ID가 있으면 교체)
+     *
+     * @param id      문서 ID
+     * @param text    색인할 원문 (여러 필드는 줄바꿈으로 이어서 전달)
+     * @param sortKey 검색 결과 정렬 키 (클수록 앞에 표시)
+     */
+    public void put(int id, String text, long sortKey) {
+        String normalized = NgramTokenizer.normalize(text);
+        long[] grams = NgramTokenizer.grams(normalized);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            documents.put(id, new Document(id, normalized, sortKey, grams));
+            for (long gram : grams) {
+                postings.computeIfAbsent(gram, key -> new Postings()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 부분 문자열 검색
+     *
+     * @param keyword 검색어 (정규화 전 원문)
+     * @return 일치하는 문서 ID (정렬 키 내림차순, ID 내림차순)
+     */
+    public int[] search(String keyword) {
+        String query = NgramTokenizer.normalize(keyword).trim();
+        if (query.isEmpty()) {
+            return EMPTY;
+        }
+        long[] grams = NgramTokenizer.grams(query);
+
+        lock.readLock().lock();
+        try {
+            Document[] matches = grams.length == 0 ? scan(query) : lookup(query, grams);
+            Arrays.sort(matches, RESULT_ORDER);
+
+            int[] ids = new int[matches.length];
+            for (int i = 0; i < matches.length; i++) {
+                ids[i] = matches[i].id;
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Document[] lookup(String query, long[] grams) {
+        Postings[] lists = new Postings[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            Postings list = postings.get(grams[i]);
+            if (list == null) {
+                return new Document[0];
+            }
+            lists[i] = list;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+        // 가장 짧은 posting을 기준으로 나머지와 교집합
+        int[] candidates = Arrays.copyOf(lists[0].ids, lists[0].size);
+        int count = candidates.length;
+        for (int i = 1; i < lists.length && count > 0; i++) {
+            count = retainAll(candidates, count, lists[i]);
+        }
+
+        Document[] matches = new Document[count];
+        int found = 0;
+        for (int i = 0; i < count; i++) {
+            Document document = documents.get(candidates[i]);
+            if (document.text.contains(query)) {
+                matches[found++] = document;
+            }
+        }
+        return found == count ? matches : Arrays.copyOf(matches, found);
+    }
+
+    private Document[] scan(String query) {
+        return documents.values().stream()
+                .filter(document -> document.text.contains(query))
+                .toArray(Document[]::new);
+    }
+
+    private static int retainAll(int[] candidates, int count, Postings list) {
+        int kept = 0;
+        int from = 0;
+        for (int i = 0; i < count; i++) {
+            int position = Arrays.binarySearch(list.ids, from, list.size, candidates[i]);
+            if (position >= 0) {
+                candidates[kept++] = candidates[i];
+                from = position + 1;
+            } else {
+                from = -position - 1;
+            }
+        }
+        return kept;
+    }
+
+    private void removeInternal(int id) {
+        Document previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (long gram : previous.grams) {
+            Postings list = postings.get(gram);
+            if (list != null && list.remove(id) && list.size == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private record Document(int id, String text, long sortKey, long[] grams) {
+    }
+
+    /**
+     * 문서 ID 목록 (오름차순 정렬된 int 배열)
+     * - 새 글은 대부분 ID가 가장 크므로 append가 일반적인 경로
+     */
+    private static final class Postings {
+
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size == 0 || ids[size - 1] < id) {
+                ensureCapacity();
+                ids[size++] = id;
+                return;
+            }
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            int insertAt = -position - 1;
+            ensureCapacity();
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(int id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.mydata.mydatatestbed.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 한국어 인식 n-gram 토크나이저
+ *
+ * 문자 종류(스크립트)별로 n-gram 길이를 다르게 적용:
+ * - 한글/한자/가나: 2-gram (한국어 단어는 짧고 조사가 붙으므로 bigram이 검색 품질이 좋음)
+ * - 영문/숫자 등 그 외 문자: 3-gram
+ * - 공백, 구두점은 구분자로 취급 (구분자를 넘어가는 gram은 만들지 않음)
+ *
+ * gram 키 인코딩 (long):
+ * - bigram : c1 << 16 | c2              (상위 32비트 = 0)
+ * - trigram: 1 << 48 | c1 << 32 | c2 << 16 | c3
+ * → 두 종류가 같은 키를 가질 수 없음
+ *
+ * 텍스트와 검색어에 동일한 규칙을 적용하므로,
+ * 검색어가 텍스트의 부분 문자열이면 검색어의 모든 gram은 텍스트의 gram 집합에 포함됨
+ */
+public final class NgramTokenizer {
+
+    static final int BIGRAM = 2;
+    static final int TRIGRAM = 3;
+
+    private static final int SEPARATOR = 0;
+    private static final int CJK = 1;
+    private static final int ALNUM = 2;
+
+    private static final long TRIGRAM_TAG = 1L << 48;
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 검색 비교용 정규화 (NFKC + 소문자)
+     * - 전각 영문/숫자, 호환 자모 등을 표준 형태로 통일
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정규화된 텍스트에서 gram 키 추출
+     *
+     * @param normalized normalize()를 거친 문자열
+     * @return 정렬 + 중복 제거된 gram 키 배열
+     */
+    public static long[] grams(String normalized) {
+        long[] buffer = new long[Math.max(16, normalized.length())];
+        int count = 0;
+
+        int length = normalized.length();
+        int runStart = 0;
+        while (runStart < length) {
+            int type = charType(normalized.charAt(runStart));
+            int runEnd = runStart + 1;
+            while (runEnd < length && charType(normalized.charAt(runEnd)) == type) {
+                runEnd++;
+            }
+
+            if (type != SEPARATOR) {
+                int n = type == CJK ? BIGRAM : TRIGRAM;
+                for (int i = runStart; i + n <= runEnd; i++) {
+                    if (count == buffer.length) {
+                        buffer = Arrays.copyOf(buffer, count * 2);
+                    }
+                    buffer[count++] = encode(normalized, i, n);
+                }
+            }
+            runStart = runEnd;
+        }
+
+        Arrays.sort(buffer, 0, count);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || buffer[unique - 1] != buffer[i]) {
+                buffer[unique++] = buffer[i];
+            }
+        }
+        return Arrays.copyOf(buffer, unique);
+    }
+
+    private static long encode(String text, int offset, int n) {
+        if (n == BIGRAM) {
+            return ((long) text.charAt(offset) << 16) | text.charAt(offset + 1);
+        }
+        return TRIGRAM_TAG
+                | ((long) text.charAt(offset) << 32)
+                | ((long) text.charAt(offset + 1) << 16)
+                | text.charAt(offset + 2);
+    }
+
+    private static int charType(char c) {
+        if (!Character.isLetterOrDigit(c)) {
+            return SEPARATOR;
+        }
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return switch (script) {
+            case HANGUL, HAN, HIRAGANA, KATAKANA -> CJK;
+            default -> ALNUM;
+        };
+    }
+}
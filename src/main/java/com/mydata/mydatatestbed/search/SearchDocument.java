@@ -0,0 +1,17 @@
+package com.mydata.mydatatestbed.search;
+
+import java.time.LocalDateTime;
+
+/**
+ * 색인 대상 문서 (Repository의 생성자 표현식 조회 결과)
+ *
+ * 엔티티를 통째로 로딩하지 않고 색인에 필요한 컬럼만 가져오기 위한 용도
+ *
+ * @param id        문서 ID
+ * @param title     제목
+ * @param body      본문 (게시글 content, 공지 content, 자료 description)
+ * @param pinned    상단 고정 여부 (공지사항만 사용)
+ * @param createdAt 작성일시 (정렬 키)
+ */
+public record SearchDocument(Long id, String title, String body, boolean pinned, LocalDateTime createdAt) {
+}
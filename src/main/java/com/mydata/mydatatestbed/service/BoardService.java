@@ -1,6 +1,7 @@
 package com.mydata.mydatatestbed.service;
 
 import com.mydata.mydatatestbed.entity.Member;
+import com.mydata.mydatatestbed.dto.common.CursorPageResponseDto;
 import com.mydata.mydatatestbed.dto.board.BoardDetailResponseDto;
 import com.mydata.mydatatestbed.dto.board.BoardListResponseDto;
 import com.mydata.mydatatestbed.dto.board.BoardRequestDto;
@@ -11,6 +12,8 @@ public interface BoardService {
 
     Page<BoardListResponseDto> getBoardList(int page, String keyword, String searchType);
 
+    CursorPageResponseDto<BoardListResponseDto> getBoardListByCursor(String cursor);
+
     BoardDetailResponseDto getBoardDetail(Long id);
 
     BoardDetailResponseDto getBoardDetailWithoutViewCount(Long id);
@@ -0,0 +1,34 @@
+package com.mydata.mydatatestbed.service;
+
+import com.mydata.mydatatestbed.entity.Enum.CounterType;
+
+/**
+ * 조회수/다운로드 수 누적 Service 인터페이스
+ *
+ * 상세 조회마다 UPDATE를 실행하지 않고 메모리에 증가분만 모아 두었다가
+ * 주기적으로 한 번에 DB에 반영 (write-behind)
+ */
+public interface CounterService {
+
+    /**
+     * 카운터 1 증가
+     *
+     * @param type 카운터 종류
+     * @param id   대상 엔티티 ID
+     * @return 아직 DB에 반영되지 않은 증가분 (이번 증가 포함)
+     */
+    long increment(CounterType type, Long id);
+
+    /**
+     * 아직 DB에 반영되지 않은 증가분 조회
+     * - 화면에 표시할 때 DB 값 + 증가분으로 사용
+     */
+    long pending(CounterType type, Long id);
+
+    /**
+     * 모아 둔 증가분을 DB에 반영
+     *
+     * @return 반영한 행 수
+     */
+    int flush();
+}
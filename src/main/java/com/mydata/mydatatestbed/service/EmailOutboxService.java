@@ -0,0 +1,36 @@
+package com.mydata.mydatatestbed.service;
+
+/**
+ * 메일 발송 대기열(outbox) Service 인터페이스
+ *
+ * 메일은 호출한 트랜잭션 안에서 대기열에 저장만 하고,
+ * 실제 SMTP 발송은 커밋 이후 백그라운드 워커가 담당
+ */
+public interface EmailOutboxService {
+
+    /**
+     * 메일을 발송 대기열에 저장
+     * - 호출한 쪽의 트랜잭션에 참여 (롤백되면 메일도 발송되지 않음)
+     * - 커밋 직후 워커에 바로 전달되므로 평소에는 폴링 주기를 기다리지 않음
+     *
+     * @param recipient 수신자 이메일
+     * @param subject   제목
+     * @param htmlBody  HTML 본문
+     */
+    void enqueue(String recipient, String subject, String htmlBody);
+
+    /**
+     * 수신자에게 아직 발송되지 않은 메일 취소
+     *
+     * @param recipient 수신자 이메일
+     * @return 취소된 메일 수
+     */
+    int cancelPending(String recipient);
+
+    /**
+     * 발송 시각이 된 대기 메일을 워커에 전달
+     *
+     * @return 워커에 전달한 메일 수
+     */
+    int dispatchDue();
+}
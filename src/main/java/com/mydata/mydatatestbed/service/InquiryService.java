@@ -1,5 +1,6 @@
 package com.mydata.mydatatestbed.service;
 
+import com.mydata.mydatatestbed.dto.common.CursorPageResponseDto;
 import com.mydata.mydatatestbed.dto.inquiry.InquiryListResponseDto;
 import com.mydata.mydatatestbed.dto.inquiry.InquiryRequestDto;
 import com.mydata.mydatatestbed.dto.inquiry.InquiryResponseDto;
@@ -15,6 +16,9 @@ public interface InquiryService {
     // 내 문의 목록 조회
     Page<InquiryListResponseDto> getMyInquiries(Member member, Pageable pageable);
 
+    // 내 문의 목록 조회 (커서 기반)
+    CursorPageResponseDto<InquiryListResponseDto> getMyInquiriesByCursor(Member member, String cursor, int size);
+
     // 문의 상세 조회
     InquiryResponseDto getInquiryDetail(Long id, Member member);
 
@@ -0,0 +1,26 @@
+package com.mydata.mydatatestbed.service;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 부하 생성기(loadgen 모듈) 보고서 조회
+ */
+public interface LoadReportService {
+
+    /**
+     * 보고서 목록 (최근 실행 순)
+     */
+    List<LoadReportInfo> getReports();
+
+    /**
+     * 보고서 파일 경로 (이름이 올바르지 않거나 없으면 IllegalArgumentException)
+     */
+    Path getReportFile(String fileName);
+
+    /**
+     * @param baseName 확장자를 뺀 파일 이름 (.json / .html 공통)
+     */
+    record LoadReportInfo(String baseName, String scenario, LocalDateTime createdAt, boolean hasHtml) {}
+}
@@ -1,5 +1,6 @@
 package com.mydata.mydatatestbed.service;
 
+import com.mydata.mydatatestbed.dto.common.CursorPageResponseDto;
 import com.mydata.mydatatestbed.dto.notice.NoticeDetailResponseDto;
 import com.mydata.mydatatestbed.dto.notice.NoticeListResponseDto;
 import org.springframework.data.domain.Page;
@@ -22,6 +23,15 @@ public interface NoticeService {
      */
     Page<NoticeListResponseDto> getNoticeList(Pageable pageable);
 
+    /**
+     * 공지사항 목록 조회 (커서 기반, COUNT 쿼리 없음)
+     *
+     * @param cursor 이전 응답의 nextCursor/prevCursor (비어 있으면 첫 페이지)
+     * @param size   페이지 크기
+     * @return 공지사항 목록 (CursorPageResponseDto)
+     */
+    CursorPageResponseDto<NoticeListResponseDto> getNoticeListByCursor(String cursor, int size);
+
     /**
      * 공지사항 검색 (페이징)
      *
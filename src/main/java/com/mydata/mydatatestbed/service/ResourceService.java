@@ -1,5 +1,6 @@
 package com.mydata.mydatatestbed.service;
 
+import com.mydata.mydatatestbed.dto.common.CursorPageResponseDto;
 import com.mydata.mydatatestbed.dto.resource.ResourceDetailResponseDto;
 import com.mydata.mydatatestbed.dto.resource.ResourceListResponseDto;
 import com.mydata.mydatatestbed.dto.resource.ResourceNavDto;
@@ -14,6 +15,11 @@ public interface ResourceService {
      */
     Page<ResourceListResponseDto> getResourceList(Pageable pageable);
 
+    /**
+     * 자료 목록 조회 (커서 기반, COUNT 쿼리 없음)
+     */
+    CursorPageResponseDto<ResourceListResponseDto> getResourceListByCursor(String cursor, int size);
+
     /**
      * 자료 검색
      */
@@ -35,7 +41,13 @@ public interface ResourceService {
     ResourceNavDto getPrevResource(Long currentId);
 
     /**
-     * 다운로드를 위한 자료 조회 (다운로드 카운트 증가 포함)
+     * 다운로드를 위한 자료 조회
      */
     Resource getResourceForDownload(Long id);
+
+    /**
+     * 다운로드 수 증가
+     * - 이어받기(Range) 요청마다 집계되지 않도록 파일 처음부터 전송한 경우에만 호출
+     */
+    void increaseDownloadCount(Long id);
 }
\ No newline at end of file
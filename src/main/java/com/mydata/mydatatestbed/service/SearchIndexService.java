@@ -0,0 +1,51 @@
+package com.mydata.mydatatestbed.service;
+
+import com.mydata.mydatatestbed.entity.Board;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 키워드 검색 색인 Service 인터페이스
+ *
+ * 게시글/공지사항/자료실의 제목·본문을 메모리 n-gram 색인으로 관리하고,
+ * 검색 시 일치하는 ID 한 페이지만 돌려줌
+ * → 호출 측은 해당 ID만 PK로 조회 (LIKE '%keyword%' 전체 스캔 제거)
+ */
+public interface SearchIndexService {
+
+    /**
+     * 색인 구축 완료 여부
+     * - 애플리케이션 기동 직후 색인 구축 전에는 false (호출 측은 DB 검색으로 대체)
+     */
+    boolean isReady();
+
+    /**
+     * 게시글 검색
+     *
+     * @param keyword   검색 키워드
+     * @param titleOnly true면 제목만, false면 제목+내용 검색
+     * @param pageable  페이징 정보
+     * @return 일치하는 게시글 ID (최신순)
+     */
+    Page<Long> searchBoardIds(String keyword, boolean titleOnly, Pageable pageable);
+
+    /**
+     * 공지사항 검색 (중요 공지 먼저, 그 다음 최신순)
+     */
+    Page<Long> searchNoticeIds(String keyword, Pageable pageable);
+
+    /**
+     * 자료실 검색 (최신순)
+     */
+    Page<Long> searchResourceIds(String keyword, Pageable pageable);
+
+    /**
+     * 게시글 색인 추가/갱신 (트랜잭션 커밋 후 반영)
+     */
+    void indexBoard(Board board);
+
+    /**
+     * 게시글 색인 제거 (트랜잭션 커밋 후 반영)
+     */
+    void removeBoard(Long boardId);
+}
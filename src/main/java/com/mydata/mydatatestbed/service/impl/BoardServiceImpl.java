@@ -1,23 +1,36 @@
 package com.mydata.mydatatestbed.service.impl;
 
 import com.mydata.mydatatestbed.entity.Board;
+import com.mydata.mydatatestbed.entity.Enum.CounterType;
 import com.mydata.mydatatestbed.entity.Member;
+import com.mydata.mydatatestbed.dto.common.CursorPageResponseDto;
+import com.mydata.mydatatestbed.dto.common.PageCursor;
 import com.mydata.mydatatestbed.dto.board.BoardDetailResponseDto;
 import com.mydata.mydatatestbed.dto.board.BoardListResponseDto;
 import com.mydata.mydatatestbed.dto.board.BoardRequestDto;
 import com.mydata.mydatatestbed.mapper.BoardMapper;
+import com.mydata.mydatatestbed.mapper.CursorPageMapper;
 import com.mydata.mydatatestbed.repository.BoardRepository;
 import com.mydata.mydatatestbed.service.BoardService;
+import com.mydata.mydatatestbed.service.CounterService;
 import com.mydata.mydatatestbed.service.FileService;
 import com.mydata.mydatatestbed.service.FileService.FileInfo;
+import com.mydata.mydatatestbed.service.SearchIndexService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -26,41 +39,86 @@ public class BoardServiceImpl implements BoardService {
     private final BoardRepository boardRepository;
     private final BoardMapper boardMapper;
     private final FileService fileService;
+    private final SearchIndexService searchIndexService;
+    private final CursorPageMapper cursorPageMapper;
+    private final CounterService counterService;
 
     private static final int PAGE_SIZE = 10;
     private static final String FILE_SUB_DIR = "board";
 
+    /**
+     * 게시글 목록 조회 흐름:
+     * 1. 키워드 없음 → 최신순 전체 목록 (목록 DTO 프로젝션)
+     * 2. 작성자 검색 → DB 조회 (회원명 JOIN)
+     * 3. 제목/전체 검색 → 검색 색인에서 한 페이지 분량의 ID만 받아 PK로 조회
+     *    (색인 구축 전이면 기존 LIKE 쿼리로 대체)
+     */
     @Override
     public Page<BoardListResponseDto> getBoardList(int page, String keyword, String searchType) {
         Pageable pageable = PageRequest.of(page, PAGE_SIZE);
-        Page<Board> boards;
 
         if (keyword == null || keyword.trim().isEmpty()) {
-            boards = boardRepository.findAllByOrderByCreatedAtDesc(pageable);
+            return boardRepository.findListOrderByCreatedAtDesc(pageable);
+        }
+        if (searchIndexService.isReady() && !"author".equals(searchType)) {
+            boolean titleOnly = "title".equals(searchType);
+            return findBoardsByIds(searchIndexService.searchBoardIds(keyword, titleOnly, pageable));
+        }
+
+        Page<Board> boards;
+        if ("author".equals(searchType)) {
+            boards = boardRepository.findByMemberNameContaining(keyword, pageable);
         } else {
-            boards = switch (searchType) {
-                case "title" -> boardRepository.findByTitleContainingOrderByCreatedAtDesc(keyword, pageable);
-                case "author" -> boardRepository.findByMemberNameContaining(keyword, pageable);
-                default -> boardRepository.findByKeyword(keyword, pageable);
-            };
+            boards = "title".equals(searchType)
+                    ? boardRepository.findByTitleContainingOrderByCreatedAtDesc(keyword, pageable)
+                    : boardRepository.findByKeyword(keyword, pageable);
         }
         return boards.map(boardMapper::toListResponseDto);
     }
 
+    /**
+     * 게시글 목록 조회 (키셋 페이지네이션)
+     * - (createdAt, id) 인덱스를 따라 커서 위치부터 PAGE_SIZE + 1건만 읽음
+     * - 검색이 없는 전체 목록 전용 (검색 결과는 색인에서 페이지 단위로 잘라 반환)
+     */
+    @Override
+    public CursorPageResponseDto<BoardListResponseDto> getBoardListByCursor(String cursor) {
+        PageCursor pageCursor = cursorPageMapper.decode(cursor);
+        Pageable limit = PageRequest.of(0, PAGE_SIZE + 1);
+
+        List<BoardListResponseDto> boards;
+        if (pageCursor == null) {
+            boards = boardRepository.findLatestForCursor(limit);
+        } else if (pageCursor.backward()) {
+            boards = boardRepository.findBeforeCursor(pageCursor.createdAt(), pageCursor.id(), limit);
+        } else {
+            boards = boardRepository.findAfterCursor(pageCursor.createdAt(), pageCursor.id(), limit);
+        }
+
+        return cursorPageMapper.toCursorPage(boards, pageCursor, PAGE_SIZE,
+                board -> new PageCursor(false, false, board.getCreatedAt(), board.getId()),
+                Function.identity());
+    }
+
+    /**
+     * 게시글 상세 조회 + 조회수 증가
+     * - 조회수는 CounterService에 증가분만 기록하므로 읽기 전용 트랜잭션으로 동작
+     * - 화면에는 DB 값 + 아직 반영되지 않은 증가분을 표시
+     */
     @Override
-    @Transactional
     public BoardDetailResponseDto getBoardDetail(Long id) {
         Board board = boardRepository.findByIdWithMember(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다."));
-        board.incrementViewCount();
-        return boardMapper.toDetailResponseDto(board);
+        long pendingViews = counterService.increment(CounterType.BOARD_VIEW, id);
+        return boardMapper.toDetailResponseDto(board, board.getViewCount() + (int) pendingViews);
     }
 
     @Override
     public BoardDetailResponseDto getBoardDetailWithoutViewCount(Long id) {
         Board board = boardRepository.findByIdWithMember(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다."));
-        return boardMapper.toDetailResponseDto(board);
+        long pendingViews = counterService.pending(CounterType.BOARD_VIEW, id);
+        return boardMapper.toDetailResponseDto(board, board.getViewCount() + (int) pendingViews);
     }
 
     /**
@@ -88,7 +146,9 @@ public class BoardServiceImpl implements BoardService {
         }
 
         // 3. DB 저장 후 4. ID 반환
-        return boardRepository.save(board).getId();
+        Board savedBoard = boardRepository.save(board);
+        searchIndexService.indexBoard(savedBoard);
+        return savedBoard.getId();
     }
 
     /**
@@ -100,6 +160,7 @@ public class BoardServiceImpl implements BoardService {
      * 4. 새 첨부파일 업로드 처리
      *    4-A. 새 파일 있음 → 기존 파일 삭제 → 새 파일 저장 → 엔티티 업데이트 (제목, 내용, 파일 정보)
      *    4-B. 새 파일 없음 → 엔티티 업데이트 (제목, 내용만)
+     * 5. 검색 색인 갱신 (커밋 후 반영)
      */
     @Override
     @Transactional
@@ -136,6 +197,9 @@ public class BoardServiceImpl implements BoardService {
             // 4-B. 새 파일 없음 → 제목, 내용만 업데이트
             board.update(requestDto.getTitle(), requestDto.getContent(), null, null, null);
         }
+
+        // 5. 검색 색인 갱신
+        searchIndexService.indexBoard(board);
     }
 
     /**
@@ -164,6 +228,26 @@ public class BoardServiceImpl implements BoardService {
 
         // 4. DB에서 게시글 삭제
         boardRepository.delete(board);
+        searchIndexService.removeBoard(id);
+    }
+
+    /**
+     * 검색 색인이 돌려준 ID 순서대로 게시글 조회
+     * - IN 조회 결과는 순서가 보장되지 않으므로 ID 순서로 재정렬
+     */
+    private Page<BoardListResponseDto> findBoardsByIds(Page<Long> idPage) {
+        if (idPage.getContent().isEmpty()) {
+            return new PageImpl<>(List.of(), idPage.getPageable(), idPage.getTotalElements());
+        }
+
+        Map<Long, BoardListResponseDto> boardsById = boardRepository.findListByIdIn(idPage.getContent()).stream()
+                .collect(Collectors.toMap(BoardListResponseDto::getId, Function.identity()));
+
+        List<BoardListResponseDto> boards = idPage.getContent().stream()
+                .map(boardsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(boards, idPage.getPageable(), idPage.getTotalElements());
     }
 
     /**
@@ -0,0 +1,139 @@
+package com.mydata.mydatatestbed.service.impl;
+
+import com.mydata.mydatatestbed.entity.Enum.CounterType;
+import com.mydata.mydatatestbed.service.CounterService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * CounterService 구현체
+ *
+ * 구조:
+ * - 카운터 종류별 ConcurrentHashMap<엔티티 ID, LongAdder>
+ * - LongAdder는 내부적으로 셀을 나눠(striped) 경합을 분산하므로
+ *   같은 글에 요청이 몰려도 CAS 재시도가 거의 없음
+ *
+ * 반영 흐름 (flush):
+ * 1. 각 LongAdder의 값을 sumThenReset()으로 꺼냄 (셀 단위 원자적 교환 → 증가분 유실 없음)
+ * 2. 종류별로 "UPDATE 테이블 SET 컬럼 = 컬럼 + ? WHERE id = ?" 한 문장을 배치 실행
+ * 3. 실패하면 꺼낸 증가분을 다시 더해 두고 다음 주기에 재시도
+ * 4. 직전 주기에도 증가분이 없던 항목은 맵에서 제거 (메모리 회수)
+ *    - 제거는 compute 안에서 합이 0일 때만 → 제거 직전에 들어온 증가분은 그대로 남음
+ *    - 제거 전에 LongAdder를 받아 간 요청이 제거 후 증가시키면, 증가시킨 쪽이 맵의 새 항목으로 옮김
+ *
+ * 애플리케이션 종료 시(@PreDestroy) 남은 증가분을 마지막으로 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CounterServiceImpl implements CounterService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<CounterType, ConcurrentHashMap<Long, LongAdder>> counters = createCounters();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @Override
+    public long increment(CounterType type, Long id) {
+        ConcurrentHashMap<Long, LongAdder> adders = counters.get(type);
+        LongAdder adder = adders.computeIfAbsent(id, key -> new LongAdder());
+        adder.increment();
+        if (adders.get(id) == adder) {
+            return adder.sum();
+        }
+        // 증가시키는 사이 flush가 항목을 제거함 → 제거된 LongAdder에 남은 증가분을 새 항목으로 옮김
+        LongAdder current = adders.computeIfAbsent(id, key -> new LongAdder());
+        current.add(adder.sumThenReset());
+        return current.sum();
+    }
+
+    @Override
+    public long pending(CounterType type, Long id) {
+        LongAdder adder = counters.get(type).get(id);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${counter.flush-interval-ms:5000}")
+    public int flush() {
+        flushLock.lock();
+        try {
+            int updated = 0;
+            for (CounterType type : CounterType.values()) {
+                updated += flush(type);
+            }
+            return updated;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int updated = flush();
+        log.info("종료 전 카운터 반영 완료: {}건", updated);
+    }
+
+    private int flush(CounterType type) {
+        ConcurrentHashMap<Long, LongAdder> adders = counters.get(type);
+        List<Object[]> batchArgs = new ArrayList<>();
+
+        for (Map.Entry<Long, LongAdder> entry : adders.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta != 0) {
+                batchArgs.add(new Object[]{delta, entry.getKey()});
+            } else {
+                evictIdle(adders, entry.getKey(), entry.getValue());
+            }
+        }
+        if (batchArgs.isEmpty()) {
+            return 0;
+        }
+
+        String sql = "UPDATE " + type.getTableName()
+                + " SET " + type.getColumnName() + " = " + type.getColumnName() + " + ?"
+                + " WHERE id = ?";
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, batchArgs));
+            return batchArgs.size();
+        } catch (RuntimeException e) {
+            // 트랜잭션이 롤백되었으므로 꺼낸 증가분을 되돌려 다음 주기에 다시 반영
+            for (Object[] args : batchArgs) {
+                adders.computeIfAbsent((Long) args[1], key -> new LongAdder()).add((Long) args[0]);
+            }
+            log.warn("카운터 반영 실패 ({}), 다음 주기에 재시도: {}", type, e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 한 주기 동안 증가분이 없던 항목 제거
+     * - 같은 항목의 compute와 직렬화된 상태에서 합이 0인지 다시 확인 (sumThenReset 이후 들어온 증가분이 있으면 유지)
+     * - 이미 LongAdder를 받아 간 요청의 늦은 증가분은 increment가 새 항목으로 옮김
+     */
+    private void evictIdle(ConcurrentHashMap<Long, LongAdder> adders, Long id, LongAdder adder) {
+        adders.compute(id, (key, current) -> current == adder && current.sum() == 0 ? null : current);
+    }
+
+    private static Map<CounterType, ConcurrentHashMap<Long, LongAdder>> createCounters() {
+        Map<CounterType, ConcurrentHashMap<Long, LongAdder>> map = new EnumMap<>(CounterType.class);
+        for (CounterType type : CounterType.values()) {
+            map.put(type, new ConcurrentHashMap<>());
+        }
+        return map;
+    }
+}
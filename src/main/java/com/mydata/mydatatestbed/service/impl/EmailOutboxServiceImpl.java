@@ -0,0 +1,274 @@
+package com.mydata.mydatatestbed.service.impl;
+
+import com.mydata.mydatatestbed.entity.EmailOutbox;
+import com.mydata.mydatatestbed.entity.Enum.EmailOutboxStatus;
+import com.mydata.mydatatestbed.mail.SmtpTransportPool;
+import com.mydata.mydatatestbed.repository.EmailOutboxRepository;
+import com.mydata.mydatatestbed.service.EmailOutboxService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메일 발송 대기열 Service 구현체
+ *
+ * 구성:
+ * - 워커 풀: 고정 크기 ThreadPoolExecutor + 크기 제한 큐 (SMTP 서버가 느려도 스레드/메모리가 무한히 늘지 않음)
+ * - 폴러: 주기적으로 발송 시각이 된 메일 ID를 조회해 워커에 전달 (재시도, 재시작 후 복구 담당)
+ * - 즉시 전달: enqueue한 트랜잭션이 커밋되면 폴링을 기다리지 않고 바로 워커에 전달
+ *
+ * 발송 흐름 (워커):
+ * 1. claim: PENDING → SENDING 조건부 UPDATE (성공한 워커만 발송 → 중복 발송 방지)
+ * 2. SmtpTransportPool로 발송 (연결 재사용)
+ * 3-A. 성공 → SENT
+ * 3-B. 실패 → 시도 횟수 증가, 지수 백오프(+지터) 후 PENDING으로 재시도
+ *            최대 시도 횟수를 넘으면 DEAD (더 이상 시도하지 않고 원인 보관)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EmailOutboxServiceImpl implements EmailOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final Duration SENT_RETENTION = Duration.ofDays(7);
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final SmtpTransportPool smtpTransportPool;
+
+    @Value("${email.outbox.workers:4}")
+    private int workers;
+
+    @Value("${email.outbox.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${email.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${email.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${email.outbox.initial-backoff-ms:5000}")
+    private long initialBackoffMs;
+
+    @Value("${email.outbox.max-backoff-ms:600000}")
+    private long maxBackoffMs;
+
+    /**
+     * 워커 큐에 들어가 있거나 발송 중인 메일 ID
+     * - 폴러와 즉시 전달이 같은 메일을 중복으로 큐에 넣지 않도록 함
+     */
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void startWorkers() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "email-outbox-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void stopWorkers() throws InterruptedException {
+        // 큐에 남은 메일은 PENDING 상태 그대로이므로 다음 기동 시 다시 발송됨
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 기동 시 SENDING 상태로 남은 메일 복구 (발송 도중 종료된 경우)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void recoverInterrupted() {
+        int recovered = emailOutboxRepository.resetSending();
+        if (recovered > 0) {
+            log.info("발송 중 상태로 남은 메일 {}건을 대기 상태로 복구", recovered);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void enqueue(String recipient, String subject, String htmlBody) {
+        EmailOutbox outbox = emailOutboxRepository.save(EmailOutbox.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(htmlBody)
+                .build());
+
+        Long id = outbox.getId();
+        afterCommit(() -> submit(id));
+    }
+
+    @Override
+    @Transactional
+    public int cancelPending(String recipient) {
+        return emailOutboxRepository.cancelPending(recipient);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:1000}")
+    public int dispatchDue() {
+        int capacity = Math.min(batchSize, executor.getQueue().remainingCapacity());
+        if (capacity == 0) {
+            return 0;
+        }
+
+        List<Long> dueIds = emailOutboxRepository.findDueIds(LocalDateTime.now(), PageRequest.of(0, capacity));
+        int submitted = 0;
+        for (Long id : dueIds) {
+            if (submit(id)) {
+                submitted++;
+            }
+        }
+        return submitted;
+    }
+
+    @Scheduled(cron = "${email.outbox.purge-cron:0 0 4 * * *}")
+    @Transactional
+    public void purgeSent() {
+        int deleted = emailOutboxRepository.deleteSentBefore(LocalDateTime.now().minus(SENT_RETENTION));
+        if (deleted > 0) {
+            log.info("보관 기간이 지난 발송 완료 메일 {}건 삭제", deleted);
+        }
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    /**
+     * 워커 큐에 메일 전달
+     * - 큐가 가득 차면 버리지 않고 PENDING 상태로 두어 다음 폴링에서 다시 시도
+     */
+    private boolean submit(Long id) {
+        if (!inFlight.add(id)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    deliver(id);
+                } finally {
+                    inFlight.remove(id);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(id);
+            log.debug("메일 워커 큐가 가득 참, 다음 폴링에서 재시도: id={}", id);
+            return false;
+        }
+    }
+
+    private void deliver(Long id) {
+        if (emailOutboxRepository.claim(id) == 0) {
+            return;  // 다른 워커가 가져갔거나 취소됨
+        }
+        EmailOutbox outbox = emailOutboxRepository.findById(id).orElse(null);
+        if (outbox == null) {
+            return;
+        }
+
+        try {
+            smtpTransportPool.send(toMimeMessage(outbox));
+        } catch (MessagingException | RuntimeException e) {
+            handleFailure(outbox, e);
+            return;
+        }
+
+        // 여기서 실패하면 SENDING으로 남아 다음 기동 시 재발송됨 (최소 1회 발송 보장)
+        emailOutboxRepository.markSent(id, LocalDateTime.now());
+        log.info("메일 발송 완료: id={}, to={}", id, outbox.getRecipient());
+    }
+
+    private void handleFailure(EmailOutbox outbox, Exception e) {
+        int attempts = outbox.getAttempts() + 1;
+        String error = truncate(e.getClass().getSimpleName() + ": " + e.getMessage());
+
+        if (attempts >= maxAttempts) {
+            emailOutboxRepository.markFailed(outbox.getId(), EmailOutboxStatus.DEAD,
+                    attempts, LocalDateTime.now(), error);
+            log.error("메일 발송 최종 실패 (DEAD): id={}, to={}, attempts={}, error={}",
+                    outbox.getId(), outbox.getRecipient(), attempts, error);
+            return;
+        }
+
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(attempts));
+        emailOutboxRepository.markFailed(outbox.getId(), EmailOutboxStatus.PENDING,
+                attempts, nextAttemptAt, error);
+        log.warn("메일 발송 실패, {} 재시도: id={}, attempts={}, error={}",
+                nextAttemptAt, outbox.getId(), attempts, error);
+    }
+
+    /**
+     * 지수 백오프: initial × 2^(attempts-1), 최대 maxBackoff
+     * - ±20% 지터로 여러 메일이 같은 순간에 몰려서 재시도하지 않도록 분산
+     */
+    private Duration backoff(int attempts) {
+        long exponential = initialBackoffMs << Math.min(attempts - 1, 20);
+        long capped = Math.min(exponential, maxBackoffMs);
+        double jitter = ThreadLocalRandom.current().nextDouble(0.8, 1.2);
+        return Duration.ofMillis((long) (capped * jitter));
+    }
+
+    private MimeMessage toMimeMessage(EmailOutbox outbox) throws MessagingException {
+        MimeMessage message = smtpTransportPool.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setTo(outbox.getRecipient());
+        helper.setSubject(outbox.getSubject());
+        helper.setText(outbox.getBody(), true);
+        return message;
+    }
+
+    private String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    /**
+     * 트랜잭션 커밋 후 실행 (트랜잭션 밖이면 즉시 실행)
+     * - 커밋 전에 워커가 조회하면 아직 보이지 않는 행이므로 반드시 커밋 후 전달
+     */
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
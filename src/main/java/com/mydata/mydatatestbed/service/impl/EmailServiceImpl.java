@@ -2,16 +2,13 @@ package com.mydata.mydatatestbed.service.impl;
 
 import com.mydata.mydatatestbed.entity.EmailVerificationToken;
 import com.mydata.mydatatestbed.repository.EmailVerificationTokenRepository;
+import com.mydata.mydatatestbed.service.EmailOutboxService;
 import com.mydata.mydatatestbed.service.EmailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import java.time.LocalDateTime;
 
 @Slf4j
@@ -20,16 +17,25 @@ import java.time.LocalDateTime;
 @Transactional
 public class EmailServiceImpl implements EmailService {
 
-    private final JavaMailSender mailSender;
+    private final EmailOutboxService emailOutboxService;
     private final EmailVerificationTokenRepository tokenRepository;
 
     private static final int TOKEN_EXPIRATION_HOURS = 24;
     private static final String BASE_URL = "http://localhost:8080";
-
+    private static final String VERIFICATION_SUBJECT = "[마이데이터 테스트베드] 이메일 인증을 완료해주세요";
+
+    /**
+     * 인증 메일 발송 흐름:
+     * 1. 기존 토큰 삭제 + 아직 발송되지 않은 이전 인증 메일 취소 (재발송 시)
+     * 2. 새 토큰 저장
+     * 3. 메일을 발송 대기열(outbox)에 저장 → 같은 트랜잭션으로 커밋
+     * 4. 실제 SMTP 발송은 커밋 후 백그라운드 워커가 처리 (요청 스레드는 기다리지 않음)
+     */
     @Override
     public LocalDateTime sendVerificationEmail(String email) {
         // 기존 토큰 삭제 (재발송 시)
         tokenRepository.deleteByEmail(email);
+        emailOutboxService.cancelPending(email);
 
         // 새 토큰 생성
         EmailVerificationToken token = EmailVerificationToken.builder()
@@ -38,8 +44,8 @@ public class EmailServiceImpl implements EmailService {
                 .build();
         tokenRepository.save(token);
 
-        // 이메일 발송
-        sendEmail(email, token.getToken());
+        // 이메일 발송 대기열에 저장
+        emailOutboxService.enqueue(email, VERIFICATION_SUBJECT, buildEmailContent(token.getToken()));
 
         return token.getExpiresAt();
     }
@@ -62,24 +68,6 @@ public class EmailServiceImpl implements EmailService {
         return sendVerificationEmail(email);
     }
 
-    private void sendEmail(String to, String token) {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setTo(to);
-            helper.setSubject("[마이데이터 테스트베드] 이메일 인증을 완료해주세요");
-            helper.setText(buildEmailContent(token), true);
-
-            mailSender.send(message);
-            log.info("인증 이메일 발송 완료: {}", to);
-
-        } catch (MessagingException e) {
-            log.error("이메일 발송 실패: {}", e.getMessage());
-            throw new RuntimeException("이메일 발송에 실패했습니다. 잠시 후 다시 시도해주세요.");
-        }
-    }
-
     private String buildEmailContent(String token) {
         String verifyUrl = BASE_URL + "/member/verify-email?token=" + token;
 
@@ -1,19 +1,25 @@
 package com.mydata.mydatatestbed.service.impl;
 
+import com.mydata.mydatatestbed.dto.common.CursorPageResponseDto;
+import com.mydata.mydatatestbed.dto.common.PageCursor;
 import com.mydata.mydatatestbed.dto.inquiry.InquiryListResponseDto;
 import com.mydata.mydatatestbed.dto.inquiry.InquiryRequestDto;
 import com.mydata.mydatatestbed.dto.inquiry.InquiryResponseDto;
 import com.mydata.mydatatestbed.entity.Inquiry;
 import com.mydata.mydatatestbed.entity.Member;
+import com.mydata.mydatatestbed.mapper.CursorPageMapper;
 import com.mydata.mydatatestbed.mapper.InquiryMapper;
 import com.mydata.mydatatestbed.repository.InquiryRepository;
 import com.mydata.mydatatestbed.service.InquiryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -21,6 +27,7 @@ public class InquiryServiceImpl implements InquiryService {
 
     private final InquiryRepository inquiryRepository;
     private final InquiryMapper inquiryMapper;
+    private final CursorPageMapper cursorPageMapper;
 
     @Override
     @Transactional
@@ -36,6 +43,26 @@ public class InquiryServiceImpl implements InquiryService {
                 .map(inquiryMapper::toListResponseDto);
     }
 
+    // 키셋 페이지네이션: (member, createdAt, id) 인덱스를 따라 size + 1건만 조회
+    @Override
+    public CursorPageResponseDto<InquiryListResponseDto> getMyInquiriesByCursor(Member member, String cursor, int size) {
+        PageCursor pageCursor = cursorPageMapper.decode(cursor);
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<Inquiry> inquiries;
+        if (pageCursor == null) {
+            inquiries = inquiryRepository.findLatestForCursor(member, limit);
+        } else if (pageCursor.backward()) {
+            inquiries = inquiryRepository.findBeforeCursor(member, pageCursor.createdAt(), pageCursor.id(), limit);
+        } else {
+            inquiries = inquiryRepository.findAfterCursor(member, pageCursor.createdAt(), pageCursor.id(), limit);
+        }
+
+        return cursorPageMapper.toCursorPage(inquiries, pageCursor, size,
+                inquiry -> new PageCursor(false, false, inquiry.getCreatedAt(), inquiry.getId()),
+                inquiryMapper::toListResponseDto);
+    }
+
     @Override
     public InquiryResponseDto getInquiryDetail(Long id, Member member) {
         Inquiry inquiry = inquiryRepository.findByIdWithMemberAndAnswerer(id)
@@ -0,0 +1,86 @@
+package com.mydata.mydatatestbed.service.impl;
+
+import com.mydata.mydatatestbed.service.LoadReportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 생성기 보고서 조회
+ *
+ * loadgen 모듈이 report-dir에 {시나리오}-{yyyyMMdd-HHmmss}.json / .html로 저장한 파일을 읽음
+ * - 파일 이름은 정해진 형식만 허용 (경로 조작 방지)
+ */
+@Slf4j
+@Service
+public class LoadReportServiceImpl implements LoadReportService {
+
+    private static final Pattern REPORT_NAME = Pattern.compile("([A-Za-z0-9_-]+)-(\\d{8}-\\d{6})\\.(json|html)");
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    @Value("${loadgen.report-dir:./loadgen-reports}")
+    private String reportDir;
+
+    @Override
+    public List<LoadReportInfo> getReports() {
+        Path directory = directory();
+        List<LoadReportInfo> reports = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return reports;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.json")) {
+            for (Path file : files) {
+                Matcher matcher = REPORT_NAME.matcher(file.getFileName().toString());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                String baseName = matcher.group(1) + "-" + matcher.group(2);
+                reports.add(new LoadReportInfo(baseName, matcher.group(1), parseTime(matcher.group(2)),
+                        Files.isRegularFile(directory.resolve(baseName + ".html"))));
+            }
+        } catch (IOException e) {
+            log.warn("부하 테스트 보고서 목록 조회 실패: {}", directory, e);
+        }
+        reports.sort(Comparator.comparing(LoadReportInfo::createdAt,
+                Comparator.nullsLast(Comparator.reverseOrder())));
+        return reports;
+    }
+
+    @Override
+    public Path getReportFile(String fileName) {
+        if (fileName == null || !REPORT_NAME.matcher(fileName).matches()) {
+            throw new IllegalArgumentException("보고서 파일 이름이 올바르지 않습니다.");
+        }
+        Path file = directory().resolve(fileName);
+        if (!Files.isRegularFile(file) || !Files.isReadable(file)) {
+            throw new IllegalArgumentException("보고서 파일이 없습니다: " + fileName);
+        }
+        return file;
+    }
+
+    private Path directory() {
+        return Paths.get(reportDir).toAbsolutePath().normalize();
+    }
+
+    private static LocalDateTime parseTime(String value) {
+        try {
+            return LocalDateTime.parse(value, FILE_TIME);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -1,19 +1,30 @@
 package com.mydata.mydatatestbed.service.impl;
 
+import com.mydata.mydatatestbed.dto.common.CursorPageResponseDto;
+import com.mydata.mydatatestbed.dto.common.PageCursor;
 import com.mydata.mydatatestbed.dto.notice.NoticeDetailResponseDto;
 import com.mydata.mydatatestbed.dto.notice.NoticeListResponseDto;
+import com.mydata.mydatatestbed.entity.Enum.CounterType;
 import com.mydata.mydatatestbed.entity.Notice;
+import com.mydata.mydatatestbed.mapper.CursorPageMapper;
 import com.mydata.mydatatestbed.mapper.NoticeMapper;
 import com.mydata.mydatatestbed.repository.NoticeRepository;
+import com.mydata.mydatatestbed.service.CounterService;
 import com.mydata.mydatatestbed.service.NoticeService;
+import com.mydata.mydatatestbed.service.SearchIndexService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Notice Service 구현체
@@ -25,28 +36,73 @@ public class NoticeServiceImpl implements NoticeService {
 
     private final NoticeRepository noticeRepository;
     private final NoticeMapper noticeMapper;
+    private final SearchIndexService searchIndexService;
+    private final CursorPageMapper cursorPageMapper;
+    private final CounterService counterService;
 
     @Override
     public Page<NoticeListResponseDto> getNoticeList(Pageable pageable) {
-        return noticeRepository.findAllOrderByPinnedAndCreatedAt(pageable)
-                .map(noticeMapper::toListResponseDto);
+        return noticeRepository.findListOrderByPinnedAndCreatedAt(pageable);
     }
 
+    /**
+     * 공지사항 목록 조회 (키셋 페이지네이션)
+     * - (pinned, createdAt, id) 인덱스를 따라 커서 위치부터 size + 1건만 읽음
+     * - OFFSET/COUNT가 없으므로 깊은 페이지도 첫 페이지와 비용이 같음
+     */
+    @Override
+    public CursorPageResponseDto<NoticeListResponseDto> getNoticeListByCursor(String cursor, int size) {
+        PageCursor pageCursor = cursorPageMapper.decode(cursor);
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<NoticeListResponseDto> notices;
+        if (pageCursor == null) {
+            notices = noticeRepository.findLatestForCursor(limit);
+        } else if (pageCursor.backward()) {
+            notices = noticeRepository.findBeforeCursor(
+                    pageCursor.pinned(), pageCursor.createdAt(), pageCursor.id(), limit);
+        } else {
+            notices = noticeRepository.findAfterCursor(
+                    pageCursor.pinned(), pageCursor.createdAt(), pageCursor.id(), limit);
+        }
+
+        return cursorPageMapper.toCursorPage(notices, pageCursor, size,
+                notice -> new PageCursor(false, notice.isPinned(), notice.getCreatedAt(), notice.getId()),
+                Function.identity());
+    }
+
+    /**
+     * 공지사항 검색
+     * - 검색 색인에서 한 페이지 분량의 ID만 받아 PK로 조회
+     * - 색인 구축 전이면 기존 LIKE 쿼리로 대체
+     */
     @Override
     public Page<NoticeListResponseDto> searchNotices(String keyword, Pageable pageable) {
         if (keyword == null || keyword.isBlank()) {
             return getNoticeList(pageable);
         }
-        return noticeRepository.findByKeyword(keyword.trim(), pageable)
-                .map(noticeMapper::toListResponseDto);
+        if (!searchIndexService.isReady()) {
+            return noticeRepository.findByKeyword(keyword.trim(), pageable)
+                    .map(noticeMapper::toListResponseDto);
+        }
+
+        Page<Long> idPage = searchIndexService.searchNoticeIds(keyword, pageable);
+        Map<Long, NoticeListResponseDto> noticesById = idPage.getContent().isEmpty()
+                ? Map.of()
+                : noticeRepository.findListByIdIn(idPage.getContent()).stream()
+                        .collect(Collectors.toMap(NoticeListResponseDto::getId, Function.identity()));
+
+        // IN 조회 결과는 순서가 보장되지 않으므로 색인이 돌려준 순서로 재정렬
+        List<NoticeListResponseDto> notices = idPage.getContent().stream()
+                .map(noticesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(notices, pageable, idPage.getTotalElements());
     }
 
     @Override
     public List<NoticeListResponseDto> getRecentNotices(int count) {
-        return noticeRepository.findTopN(PageRequest.of(0, count))
-                .stream()
-                .map(noticeMapper::toListResponseDto)
-                .toList();
+        return noticeRepository.findTopN(PageRequest.of(0, count));
     }
 
     @Override
@@ -54,19 +110,22 @@ public class NoticeServiceImpl implements NoticeService {
         Notice notice = noticeRepository.findByIdWithAuthor(id)
                 .orElseThrow(() -> new IllegalArgumentException("공지사항을 찾을 수 없습니다. ID: " + id));
 
-        return noticeMapper.toDetailResponseDto(notice);
+        long pendingViews = counterService.pending(CounterType.NOTICE_VIEW, id);
+        return noticeMapper.toDetailResponseDto(notice, notice.getViewCount() + (int) pendingViews);
     }
 
+    /**
+     * 공지사항 상세 조회 + 조회수 증가
+     * - 조회수는 CounterService에 증가분만 기록 (UPDATE는 주기적으로 일괄 실행)
+     * - 따라서 읽기 전용 트랜잭션으로 동작
+     */
     @Override
-    @Transactional
     public NoticeDetailResponseDto getNoticeDetailWithViewCount(Long id) {
         Notice notice = noticeRepository.findByIdWithAuthor(id)
                 .orElseThrow(() -> new IllegalArgumentException("공지사항을 찾을 수 없습니다. ID: " + id));
 
-        // 조회수 증가 (Dirty Checking으로 자동 UPDATE)
-        // incrementViewCount() 호출만으로 UPDATE 쿼리 자동 실행
-        notice.incrementViewCount();
+        long pendingViews = counterService.increment(CounterType.NOTICE_VIEW, id);
 
-        return noticeMapper.toDetailResponseDto(notice);
+        return noticeMapper.toDetailResponseDto(notice, notice.getViewCount() + (int) pendingViews);
     }
 }
\ No newline at end of file
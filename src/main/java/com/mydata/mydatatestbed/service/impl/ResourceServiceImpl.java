@@ -1,18 +1,32 @@
 package com.mydata.mydatatestbed.service.impl;
 
+import com.mydata.mydatatestbed.dto.common.CursorPageResponseDto;
+import com.mydata.mydatatestbed.dto.common.PageCursor;
 import com.mydata.mydatatestbed.dto.resource.ResourceDetailResponseDto;
 import com.mydata.mydatatestbed.dto.resource.ResourceListResponseDto;
 import com.mydata.mydatatestbed.dto.resource.ResourceNavDto;
+import com.mydata.mydatatestbed.entity.Enum.CounterType;
 import com.mydata.mydatatestbed.entity.Resource;
+import com.mydata.mydatatestbed.mapper.CursorPageMapper;
 import com.mydata.mydatatestbed.mapper.ResourceMapper;
 import com.mydata.mydatatestbed.repository.ResourceRepository;
+import com.mydata.mydatatestbed.service.CounterService;
 import com.mydata.mydatatestbed.service.ResourceService;
+import com.mydata.mydatatestbed.service.SearchIndexService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -20,28 +34,79 @@ public class ResourceServiceImpl implements ResourceService {
 
     private final ResourceRepository resourceRepository;
     private final ResourceMapper resourceMapper;
+    private final SearchIndexService searchIndexService;
+    private final CursorPageMapper cursorPageMapper;
+    private final CounterService counterService;
 
     @Override
     public Page<ResourceListResponseDto> getResourceList(Pageable pageable) {
-        return resourceRepository.findAllWithAuthor(pageable)
-                .map(resourceMapper::toListResponseDto);
+        return resourceRepository.findListOrderByCreatedAtDesc(pageable);
+    }
+
+    /**
+     * 자료 목록 조회 (키셋 페이지네이션)
+     * - (createdAt, id) 인덱스를 따라 커서 위치부터 size + 1건만 읽음
+     */
+    @Override
+    public CursorPageResponseDto<ResourceListResponseDto> getResourceListByCursor(String cursor, int size) {
+        PageCursor pageCursor = cursorPageMapper.decode(cursor);
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<ResourceListResponseDto> resources;
+        if (pageCursor == null) {
+            resources = resourceRepository.findLatestForCursor(limit);
+        } else if (pageCursor.backward()) {
+            resources = resourceRepository.findBeforeCursor(pageCursor.createdAt(), pageCursor.id(), limit);
+        } else {
+            resources = resourceRepository.findAfterCursor(pageCursor.createdAt(), pageCursor.id(), limit);
+        }
+
+        return cursorPageMapper.toCursorPage(resources, pageCursor, size,
+                resource -> new PageCursor(false, false, resource.getCreatedAt(), resource.getId()),
+                Function.identity());
     }
 
+    /**
+     * 자료 검색
+     * - 검색 색인에서 한 페이지 분량의 ID만 받아 PK로 조회
+     * - 색인 구축 전이면 기존 LIKE 쿼리로 대체
+     */
     @Override
     public Page<ResourceListResponseDto> searchResources(String keyword, Pageable pageable) {
-        return resourceRepository.searchByKeyword(keyword, pageable)
-                .map(resourceMapper::toListResponseDto);
+        if (!searchIndexService.isReady()) {
+            return resourceRepository.searchByKeyword(keyword, pageable)
+                    .map(resourceMapper::toListResponseDto);
+        }
+
+        Page<Long> idPage = searchIndexService.searchResourceIds(keyword, pageable);
+        Map<Long, ResourceListResponseDto> resourcesById = idPage.getContent().isEmpty()
+                ? Map.of()
+                : resourceRepository.findListByIdIn(idPage.getContent()).stream()
+                        .collect(Collectors.toMap(ResourceListResponseDto::getId, Function.identity()));
+
+        // IN 조회 결과는 순서가 보장되지 않으므로 색인이 돌려준 순서로 재정렬
+        List<ResourceListResponseDto> resources = idPage.getContent().stream()
+                .map(resourcesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(resources, pageable, idPage.getTotalElements());
     }
 
+    /**
+     * 자료 상세 조회 (조회수 증가 포함)
+     * - 조회수는 CounterService에 증가분만 기록하므로 읽기 전용 트랜잭션으로 동작
+     */
     @Override
-    @Transactional
     public ResourceDetailResponseDto getResourceDetail(Long id) {
         Resource resource = resourceRepository.findByIdWithAuthor(id)
                 .orElseThrow(() -> new IllegalArgumentException("자료를 찾을 수 없습니다: " + id));
 
-        resource.incrementViewCount();
+        long pendingViews = counterService.increment(CounterType.RESOURCE_VIEW, id);
+        long pendingDownloads = counterService.pending(CounterType.RESOURCE_DOWNLOAD, id);
 
-        return resourceMapper.toDetailResponseDto(resource);
+        return resourceMapper.toDetailResponseDto(resource,
+                resource.getViewCount() + (int) pendingViews,
+                resource.getDownloadCount() + (int) pendingDownloads);
     }
 
     @Override
@@ -59,13 +124,13 @@ public class ResourceServiceImpl implements ResourceService {
     }
 
     @Override
-    @Transactional
     public Resource getResourceForDownload(Long id) {
-        Resource resource = resourceRepository.findByIdWithAuthor(id)
+        return resourceRepository.findByIdWithAuthor(id)
                 .orElseThrow(() -> new IllegalArgumentException("자료를 찾을 수 없습니다: " + id));
+    }
 
-        resource.incrementDownloadCount();
-
-        return resource;
+    @Override
+    public void increaseDownloadCount(Long id) {
+        counterService.increment(CounterType.RESOURCE_DOWNLOAD, id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,187 @@
+package com.mydata.mydatatestbed.service.impl;
+
+import com.mydata.mydatatestbed.entity.Board;
+import com.mydata.mydatatestbed.repository.BoardRepository;
+import com.mydata.mydatatestbed.repository.NoticeRepository;
+import com.mydata.mydatatestbed.repository.ResourceRepository;
+import com.mydata.mydatatestbed.search.NgramIndex;
+import com.mydata.mydatatestbed.search.SearchDocument;
+import com.mydata.mydatatestbed.service.SearchIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 키워드 검색 색인 Service 구현체
+ *
+ * 색인 구성:
+ * - boardIndex      : 게시글 제목 + 내용 (searchType=all)
+ * - boardTitleIndex : 게시글 제목 (searchType=title)
+ * - noticeIndex     : 공지사항 제목 + 내용 (정렬 키에 중요 공지 여부 반영)
+ * - resourceIndex   : 자료실 제목 + 설명
+ *
+ * 색인 구축 시점:
+ * - ApplicationReadyEvent (data.sql 실행 이후)
+ * - 게시글 작성/수정/삭제는 트랜잭션 커밋 후 즉시 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchIndexServiceImpl implements SearchIndexService {
+
+    /**
+     * 중요 공지 정렬 가중치 (작성일시 epoch millis보다 항상 큰 값)
+     */
+    private static final long PINNED_WEIGHT = 1L << 62;
+
+    private final BoardRepository boardRepository;
+    private final NoticeRepository noticeRepository;
+    private final ResourceRepository resourceRepository;
+
+    private final NgramIndex boardIndex = new NgramIndex();
+    private final NgramIndex boardTitleIndex = new NgramIndex();
+    private final NgramIndex noticeIndex = new NgramIndex();
+    private final NgramIndex resourceIndex = new NgramIndex();
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+
+        boardIndex.clear();
+        boardTitleIndex.clear();
+        for (SearchDocument document : boardRepository.findAllSearchDocuments()) {
+            putBoard(document.id(), document.title(), document.body(), document.createdAt());
+        }
+
+        noticeIndex.clear();
+        for (SearchDocument document : noticeRepository.findAllSearchDocuments()) {
+            long sortKey = toSortKey(document.createdAt()) + (document.pinned() ? PINNED_WEIGHT : 0);
+            noticeIndex.put(toDocId(document.id()), joinFields(document), sortKey);
+        }
+
+        resourceIndex.clear();
+        for (SearchDocument document : resourceRepository.findAllSearchDocuments()) {
+            resourceIndex.put(toDocId(document.id()), joinFields(document), toSortKey(document.createdAt()));
+        }
+
+        ready = true;
+        log.info("검색 색인 구축 완료: 게시글 {}건, 공지사항 {}건, 자료 {}건 ({}ms)",
+                boardIndex.size(), noticeIndex.size(), resourceIndex.size(),
+                System.currentTimeMillis() - startedAt);
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public Page<Long> searchBoardIds(String keyword, boolean titleOnly, Pageable pageable) {
+        NgramIndex index = titleOnly ? boardTitleIndex : boardIndex;
+        return toPage(index.search(keyword), pageable);
+    }
+
+    @Override
+    public Page<Long> searchNoticeIds(String keyword, Pageable pageable) {
+        return toPage(noticeIndex.search(keyword), pageable);
+    }
+
+    @Override
+    public Page<Long> searchResourceIds(String keyword, Pageable pageable) {
+        return toPage(resourceIndex.search(keyword), pageable);
+    }
+
+    @Override
+    public void indexBoard(Board board) {
+        Long id = board.getId();
+        String title = board.getTitle();
+        String content = board.getContent();
+        LocalDateTime createdAt = board.getCreatedAt();
+        afterCommit(() -> putBoard(id, title, content, createdAt));
+    }
+
+    @Override
+    public void removeBoard(Long boardId) {
+        afterCommit(() -> {
+            boardIndex.remove(toDocId(boardId));
+            boardTitleIndex.remove(toDocId(boardId));
+        });
+    }
+
+    // ==================== 내부 메서드 ====================
+
+    private void putBoard(Long id, String title, String content, LocalDateTime createdAt) {
+        long sortKey = toSortKey(createdAt);
+        boardIndex.put(toDocId(id), joinFields(title, content), sortKey);
+        boardTitleIndex.put(toDocId(id), title, sortKey);
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 후 실행, 아니면 즉시 실행
+     * - 롤백된 변경이 색인에 남지 않도록 함
+     */
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * 검색 결과 ID 배열에서 요청한 페이지만 잘라 Page로 변환
+     */
+    private Page<Long> toPage(int[] ids, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), ids.length);
+        int to = Math.min(from + pageable.getPageSize(), ids.length);
+
+        List<Long> content = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            content.add((long) ids[i]);
+        }
+        return new PageImpl<>(content, pageable, ids.length);
+    }
+
+    private String joinFields(SearchDocument document) {
+        return joinFields(document.title(), document.body());
+    }
+
+    /**
+     * 제목 + 본문 (null인 필드는 빈 문자열 → "null"이 검색어로 일치하지 않도록)
+     */
+    private String joinFields(String title, String body) {
+        return (title != null ? title : "") + "\n" + (body != null ? body : "");
+    }
+
+    private int toDocId(Long id) {
+        return Math.toIntExact(id);
+    }
+
+    private long toSortKey(LocalDateTime createdAt) {
+        if (createdAt == null) {
+            return 0;
+        }
+        return createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
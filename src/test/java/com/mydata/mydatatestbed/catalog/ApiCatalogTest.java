@@ -0,0 +1,89 @@
+package com.mydata.mydatatestbed.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mydata.mydatatestbed.mock.bank.MockBankController;
+import com.mydata.mydatatestbed.mock.ca.MockCaController;
+import com.mydata.mydatatestbed.mock.common.MockApi;
+import com.mydata.mydatatestbed.mock.consent.MockConsentController;
+import com.mydata.mydatatestbed.mock.oauth.MockOAuthController;
+import com.mydata.mydatatestbed.mock.registry.MockRegistryController;
+import com.mydata.mydatatestbed.mock.support.MockReqStatisticsController;
+import com.mydata.mydatatestbed.mock.support.MockSupportController;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * API 카탈로그 로드/색인/항목 트리 검증
+ */
+class ApiCatalogTest {
+
+    private static ApiCatalog catalog;
+
+    @BeforeAll
+    static void load() throws IOException {
+        catalog = new ApiCatalog(new ObjectMapper());
+    }
+
+    @Test
+    void loadsEveryCatalogPageInTableOfContentsOrder() {
+        assertThat(catalog.page("info-api/bank").apis()).hasSize(31);
+        assertThat(catalog.page("cert-api/individual").apis()).hasSize(8);
+        assertThat(catalog.page("cert-api/integrated").apis()).hasSize(9);
+        assertThat(catalog.page("support-api/portal").apis()).hasSize(14);
+        assertThat(catalog.page("support-api/provider").apis()).hasSize(4);
+        assertThat(catalog.page("info-api/bank").apis().get(0).anchor()).isEqualTo("db-001-은행-v2");
+        assertThatThrownBy(() -> catalog.page("info-api/card")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void findsApisBySectorFreeCodeAndByRoute() {
+        ApiSpec irp = catalog.find("IRP-001", "v2").orElseThrow();
+        assertThat(irp.apiId()).isEqualTo("IRP-001 (은행)");
+        assertThat(irp.uri()).isEqualTo("/v2/bank/irps");
+        assertThat(catalog.find("선불-001", "v2").orElseThrow().apiId()).isEqualTo("선불-001_1");
+        assertThat(catalog.versions("개별인증-001")).extracting(ApiSpec::version).containsExactly("v0", "v2");
+
+        // 개별인증-002(발급)와 003(갱신)은 같은 주소
+        assertThat(catalog.route("POST", "/v2/oauth/2.0/token")).extracting(ApiSpec::apiId)
+                .containsExactly("개별인증-002", "개별인증-003");
+        assertThat(catalog.route("GET", "/v2/bank/unknown")).isEmpty();
+    }
+
+    @Test
+    void buildsFieldTreeAndParsesTypes() {
+        ApiSpec dc = catalog.find("DC-001", "v2").orElseThrow();
+        List<ApiField> body = dc.responseFields(ApiFieldLocation.BODY);
+        ApiField list = body.stream().filter(field -> field.name().equals("dc_list")).findFirst().orElseThrow();
+        assertThat(list.dataType().isObject()).isTrue();
+        assertThat(list.children()).extracting(ApiField::name).containsExactly("dc_num", "dc_name", "is_consent");
+        assertThat(list.children().get(0).displayName()).isEqualTo("--dc_num");
+
+        ApiField limit = dc.requestFields(ApiFieldLocation.PARAMETER).stream()
+                .filter(field -> field.name().equals("limit")).findFirst().orElseThrow();
+        assertThat(limit.required()).isTrue();
+        assertThat(limit.dataType()).isEqualTo(new ApiFieldType("N", 3, 0));
+        assertThat(ApiFieldType.parse("F(18,3)")).isEqualTo(new ApiFieldType("F", 18, 3));
+        assertThat(ApiFieldType.parse("DATE")).isEqualTo(new ApiFieldType("DATE", 0, 0));
+    }
+
+    @Test
+    void everyMockApiHasCatalogEntry() {
+        for (Class<?> controller : List.of(MockBankController.class, MockOAuthController.class, MockCaController.class,
+                MockRegistryController.class, MockSupportController.class, MockReqStatisticsController.class,
+                MockConsentController.class)) {
+            for (Method method : controller.getDeclaredMethods()) {
+                MockApi api = method.getAnnotation(MockApi.class);
+                if (api != null) {
+                    assertThat(catalog.versions(api.value())).as(api.value()).isNotEmpty();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.mydata.mydatatestbed.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mydata.mydatatestbed.catalog.ApiViolation.Reason;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검증 트리 컴파일 + 헤더/파라미터/JSON 본문 스트리밍 검증
+ */
+class ApiSchemaValidatorTest {
+
+    private static ApiSchemaValidator validator;
+
+    @BeforeAll
+    static void compile() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        validator = new ApiSchemaValidator(new ApiCatalog(objectMapper), objectMapper);
+    }
+
+    @Test
+    void compilesSchemaPerApiAndVersion() {
+        ApiSchema deposit = validator.schema("은행-004", "v2");
+        assertThat(deposit.requestHeaders()).extracting(ApiSchemaNode::getName)
+                .containsExactly("x-api-tran-id", "x-api-type");
+        assertThat(deposit.requestBody()).isNotNull();
+        // form 본문, 본문 없는 GET은 JSON 본문 검증 트리 없음
+        assertThat(validator.schema("개별인증-002", "v2").requestBody()).isNull();
+        assertThat(validator.schema("은행-001", "v2").requestBody()).isNull();
+        assertThat(validator.schema("은행-001", "v1")).isNull();
+    }
+
+    @Test
+    void acceptsSpecCompliantMessages() {
+        ApiSchema deposit = validator.schema("은행-004", "v2");
+        assertThat(validator.validateBody(deposit.requestBody(), bytes("""
+                {"org_code":"MOCKBANK01","account_num":"1234567890","from_date":"20240101",
+                 "to_date":"20241231","next_page":null,"limit":100}"""))).isEmpty();
+        assertThat(validator.validateBody(deposit.responseBody(), bytes("""
+                {"rsp_code":"00000","rsp_msg":"성공","trans_cnt":1,"trans_list":[
+                 {"trans_dtime":"20240102093000","trans_type":"01","trans_class":"입금",
+                  "trans_amt":15000.5,"balance_amt":"2015000.500","trans_memo":"급여"}]}"""))).isEmpty();
+    }
+
+    @Test
+    void reportsEveryViolationWithItsPath() {
+        ApiSchema deposit = validator.schema("은행-004", "v2");
+        List<ApiViolation> violations = validator.validateBody(deposit.requestBody(), bytes("""
+                {"org_code":"MOCKBANK0001","account_num":"1234567890","from_date":"2024-01-01",
+                 "limit":1.5,"debug":{"a":[1,2]}}"""));
+
+        assertThat(violations).containsExactlyInAnyOrder(
+                new ApiViolation("org_code", Reason.LENGTH),
+                new ApiViolation("from_date", Reason.FORMAT),
+                new ApiViolation("limit", Reason.TYPE),
+                new ApiViolation("debug", Reason.UNKNOWN),
+                new ApiViolation("to_date", Reason.MISSING));
+    }
+
+    @Test
+    void tracksArrayIndexesInNestedPaths() {
+        ApiSchema dc = validator.schema("DC-001", "v2");
+        List<ApiViolation> violations = validator.validateBody(dc.responseBody(), bytes("""
+                {"rsp_code":"00000","rsp_msg":"성공","dc_cnt":2,"dc_list":[
+                 {"dc_num":"DC0001","dc_name":"확정기여형","is_consent":true},
+                 {"dc_num":"DC00000000000002","dc_name":"확정기여형","is_consent":"true"}]}"""));
+
+        assertThat(violations).extracting(ApiViolation::toHeaderValue)
+                .containsExactly("dc_list[1].dc_num:length", "dc_list[1].is_consent:type");
+        assertThat(validator.validateBody(dc.responseBody(), bytes("{\"rsp_code\":"))).extracting(ApiViolation::reason)
+                .containsExactly(Reason.FORMAT);
+    }
+
+    @Test
+    void validatesHeadersAndParametersByName() {
+        ApiSchema accounts = validator.schema("은행-001", "v2");
+        Map<String, String> headers = Map.of("x-api-type", "user-search");
+        Map<String, String> parameters = Map.of("org_code", "MOCKBANK01", "limit", "1000", "search_timestamp", "0");
+
+        assertThat(validator.validateValues(accounts.requestHeaders(), headers::get))
+                .containsExactly(new ApiViolation("x-api-tran-id", Reason.MISSING));
+        assertThat(validator.validateValues(accounts.parameters(), parameters::get))
+                .containsExactly(new ApiViolation("limit", Reason.LENGTH));
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
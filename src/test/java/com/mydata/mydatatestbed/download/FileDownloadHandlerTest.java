@@ -0,0 +1,172 @@
+package com.mydata.mydatatestbed.download;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 다운로드 Range / 조건부 요청 처리 검증
+ */
+class FileDownloadHandlerTest {
+
+    private static final String CONTENT = "0123456789abcdefghij";
+
+    private final FileDownloadHandler handler = new FileDownloadHandler();
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = Files.writeString(tempDir.resolve("guide.pdf"), CONTENT, StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    void fullDownloadSendsValidators() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean counted = handler.handle(get(), response, file, "가이드 문서.pdf");
+
+        assertThat(counted).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("\"").endsWith("\"");
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION))
+                .isEqualTo("attachment; filename*=UTF-8''%EA%B0%80%EC%9D%B4%EB%93%9C%20%EB%AC%B8%EC%84%9C.pdf");
+    }
+
+    @Test
+    void singleRangeReturnsPartialContent() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean counted = handler.handle(request, response, file, "guide.pdf");
+
+        // 마지막 바이트까지 받는 이어받기 → 다운로드 1회로 집계
+        assertThat(counted).isTrue();
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 10-19/20");
+        assertThat(response.getContentAsString()).isEqualTo("abcdefghij");
+    }
+
+    @Test
+    void multipleRangesReturnByteranges() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-1, -3");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean counted = handler.handle(request, response, file, "guide.pdf");
+
+        String body = response.getContentAsString();
+        assertThat(counted).isFalse();
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentType()).startsWith("multipart/byteranges; boundary=");
+        assertThat(response.getContentLengthLong()).isEqualTo(response.getContentAsByteArray().length);
+        assertThat(body).contains("Content-Range: bytes 0-1/20\r\n\r\n01\r\n");
+        assertThat(body).contains("Content-Range: bytes 17-19/20\r\n\r\nhij\r\n");
+    }
+
+    @Test
+    void unsatisfiableRangeReturns416() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-200");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        handler.handle(request, response, file, "guide.pdf");
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */20");
+    }
+
+    @Test
+    void staleIfRangeFallsBackToFullContent() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"stale\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        handler.handle(request, response, file, "guide.pdf");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void headRequestSendsHeadersWithoutCountingDownload() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean counted = handler.handle(
+                new MockHttpServletRequest("HEAD", "/support/resource/1/download"), response, file, "guide.pdf");
+
+        assertThat(counted).isFalse();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentLengthLong()).isEqualTo(CONTENT.length());
+        assertThat(response.getContentAsByteArray()).isEmpty();
+
+        MockHttpServletRequest rangeRequest = new MockHttpServletRequest("HEAD", "/support/resource/1/download");
+        rangeRequest.addHeader(HttpHeaders.RANGE, "bytes=0-4");
+        assertThat(handler.handle(rangeRequest, new MockHttpServletResponse(), file, "guide.pdf")).isFalse();
+    }
+
+    @Test
+    void probeRangeIsNotCountedButRangeToLastByteIs() throws Exception {
+        // 다운로드 관리자/플레이어가 본 요청 전에 보내는 1바이트 확인 요청
+        MockHttpServletRequest probe = get();
+        probe.addHeader(HttpHeaders.RANGE, "bytes=0-0");
+        MockHttpServletResponse probeResponse = new MockHttpServletResponse();
+
+        assertThat(handler.handle(probe, probeResponse, file, "guide.pdf")).isFalse();
+        assertThat(probeResponse.getStatus()).isEqualTo(206);
+        assertThat(probeResponse.getContentAsString()).isEqualTo("0");
+
+        // 이어지는 본 요청이 끝까지 받으면 그때 1번만 집계
+        MockHttpServletRequest fetch = get();
+        fetch.addHeader(HttpHeaders.RANGE, "bytes=0-");
+        assertThat(handler.handle(fetch, new MockHttpServletResponse(), file, "guide.pdf")).isTrue();
+
+        MockHttpServletRequest partial = get();
+        partial.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+        assertThat(handler.handle(partial, new MockHttpServletResponse(), file, "guide.pdf")).isFalse();
+    }
+
+    @Test
+    void matchingIfNoneMatchReturns304() throws Exception {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        handler.handle(get(), first, file, "guide.pdf");
+
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean counted = handler.handle(request, response, file, "guide.pdf");
+
+        assertThat(counted).isFalse();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void overlappingRangesAreMerged() {
+        assertThat(handler.parseRanges("bytes=0-4,3-9,10-12", 20))
+                .containsExactly(new FileDownloadHandler.ByteRange(0, 12));
+        assertThat(handler.parseRanges("items=0-4", 20)).isNull();
+        assertThat(handler.parseRanges("bytes=5-2", 20)).isNull();
+    }
+
+    private MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/support/resource/1/download");
+    }
+}
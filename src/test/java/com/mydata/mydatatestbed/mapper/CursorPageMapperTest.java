@@ -0,0 +1,151 @@
+package com.mydata.mydatatestbed.mapper;
+
+import com.mydata.mydatatestbed.dto.common.CursorPageResponseDto;
+import com.mydata.mydatatestbed.dto.common.PageCursor;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키셋 페이지네이션: 첫/마지막 페이지 경계, 같은 작성 시각(동률) 행의 커서, 이전 페이지 복귀, 잘못된 커서 검증
+ *
+ * seek 쿼리 대신 메모리 목록을 (createdAt DESC, id DESC)로 잘라 Mapper에 넘김
+ */
+class CursorPageMapperTest {
+
+    private static final int SIZE = 3;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private final CursorPageMapper mapper = new CursorPageMapper();
+
+    /**
+     * 최신순 7건 (id 7~1), id 6/5/4는 작성 시각이 같음 → id로만 구분
+     */
+    private final List<Row> rows = List.of(
+            new Row(7, BASE.plusMinutes(3)),
+            new Row(6, BASE.plusMinutes(2)),
+            new Row(5, BASE.plusMinutes(2)),
+            new Row(4, BASE.plusMinutes(2)),
+            new Row(3, BASE.plusMinutes(1)),
+            new Row(2, BASE),
+            new Row(1, BASE));
+
+    @Test
+    void firstPageHasOnlyNextCursor() {
+        CursorPageResponseDto<Long> first = page(null);
+
+        assertThat(first.getContent()).containsExactly(7L, 6L, 5L);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.isHasPrevious()).isFalse();
+        assertThat(first.getPrevCursor()).isNull();
+        assertThat(first.getStartIndex()).isZero();
+    }
+
+    @Test
+    void walksForwardAcrossTiesToTheLastPage() {
+        CursorPageResponseDto<Long> first = page(null);
+
+        // 다음 커서는 마지막 행(id 5)의 작성 시각 + id → 같은 시각의 id 4부터 이어짐
+        PageCursor next = mapper.decode(first.getNextCursor());
+        assertThat(next).isEqualTo(new PageCursor(false, false, BASE.plusMinutes(2), 5L, 2));
+
+        CursorPageResponseDto<Long> second = page(first.getNextCursor());
+        assertThat(second.getContent()).containsExactly(4L, 3L, 2L);
+        assertThat(second.getStartIndex()).isEqualTo(3);
+        assertThat(second.isHasPrevious()).isTrue();
+
+        CursorPageResponseDto<Long> last = page(second.getNextCursor());
+        assertThat(last.getContent()).containsExactly(1L);
+        assertThat(last.getStartIndex()).isEqualTo(6);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+        assertThat(last.isHasPrevious()).isTrue();
+    }
+
+    @Test
+    void walksBackwardToTheFirstPage() {
+        CursorPageResponseDto<Long> second = page(page(null).getNextCursor());
+        CursorPageResponseDto<Long> last = page(second.getNextCursor());
+
+        CursorPageResponseDto<Long> back = page(last.getPrevCursor());
+        assertThat(back.getContent()).containsExactly(4L, 3L, 2L);
+        assertThat(back.getStartIndex()).isEqualTo(3);
+        assertThat(back.isHasNext()).isTrue();
+        assertThat(back.isHasPrevious()).isTrue();
+
+        CursorPageResponseDto<Long> top = page(back.getPrevCursor());
+        assertThat(top.getContent()).containsExactly(7L, 6L, 5L);
+        assertThat(top.getStartIndex()).isZero();
+        assertThat(top.isHasPrevious()).isFalse();
+        assertThat(top.isHasNext()).isTrue();
+    }
+
+    @Test
+    void emptyListHasNoCursors() {
+        CursorPageResponseDto<Long> empty = mapper.toCursorPage(List.<Row>of(), null, SIZE, Row::key, Row::id);
+
+        assertThat(empty.getContent()).isEmpty();
+        assertThat(empty.isHasNext()).isFalse();
+        assertThat(empty.isHasPrevious()).isFalse();
+    }
+
+    @Test
+    void malformedCursorsFallBackToTheFirstPage() {
+        assertThat(mapper.decode(null)).isNull();
+        assertThat(mapper.decode(" ")).isNull();
+        assertThat(mapper.decode("%%%not-base64")).isNull();
+        assertThat(mapper.decode(encode("n|0|2025-01-01T09:00"))).isNull();
+        assertThat(mapper.decode(encode("x|0|2025-01-01T09:00|1|0"))).isNull();
+        assertThat(mapper.decode(encode("n|0|어제|1|0"))).isNull();
+        assertThat(mapper.decode(encode("n|0|2025-01-01T09:00|abc|0"))).isNull();
+        assertThat(mapper.decode(encode("n|0|2025-01-01T09:00|1|-5"))).isNull();
+        assertThat(mapper.decode(encode("n|0|2025-01-01T09:00|1|2|3"))).isNull();
+
+        // offset이 없는 이전 형식 커서는 위치 0으로 해석
+        assertThat(mapper.decode(encode("p|1|2025-01-01T09:00|1")))
+                .isEqualTo(new PageCursor(true, true, BASE, 1L, 0));
+    }
+
+    /**
+     * 커서에 맞는 seek 쿼리 결과 (size + 1건, 역방향이면 오름차순)를 만들어 Mapper에 넘김
+     */
+    private CursorPageResponseDto<Long> page(String cursor) {
+        PageCursor requested = mapper.decode(cursor);
+        Comparator<Row> newestFirst = Comparator.comparing(Row::createdAt).thenComparing(Row::id).reversed();
+        List<Row> seek = new ArrayList<>();
+        if (requested == null) {
+            seek.addAll(rows);
+        } else {
+            Row boundary = new Row(requested.id(), requested.createdAt());
+            for (Row row : rows) {
+                int order = newestFirst.compare(row, boundary);
+                if (requested.backward() ? order < 0 : order > 0) {
+                    seek.add(row);
+                }
+            }
+            if (requested.backward()) {
+                seek.sort(newestFirst.reversed());
+            }
+        }
+        return mapper.toCursorPage(seek.subList(0, Math.min(seek.size(), SIZE + 1)), requested, SIZE,
+                Row::key, Row::id);
+    }
+
+    private static String encode(String payload) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record Row(long id, LocalDateTime createdAt) {
+
+        PageCursor key() {
+            return new PageCursor(false, false, createdAt, id);
+        }
+    }
+}
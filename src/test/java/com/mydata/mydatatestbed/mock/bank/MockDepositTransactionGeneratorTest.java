@@ -0,0 +1,114 @@
+package com.mydata.mydatatestbed.mock.bank;
+
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.record.MockRecordPage;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 입출금계좌 거래내역 생성기 검증 (결정성, 페이지 연속성, 잔액 일관성)
+ */
+class MockDepositTransactionGeneratorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0, 0);
+    private static final long ALL_FROM = 19000101000000L;
+    private static final long ALL_TO = 20991231999999L;
+    private static final Pattern TRANSACTION = Pattern.compile(
+            "\"trans_type\":\"(\\d{2})\".*?\"trans_amt\":(\\d+),\"balance_amt\":(\\d+)");
+
+    private final MockDepositTransactionGenerator generator = generator();
+
+    @Test
+    void returnsNewestTransactionFirst() {
+        String json = page(generator, 20240101000000L, 20241231999999L, null, 2).json;
+        Matcher matcher = Pattern.compile("\"trans_dtime\":\"(\\d{14})\"").matcher(json);
+
+        assertThat(matcher.find()).isTrue();
+        long newest = Long.parseLong(matcher.group(1));
+        assertThat(matcher.find()).isTrue();
+        assertThat(Long.parseLong(matcher.group(1))).isLessThan(newest);
+    }
+
+    @Test
+    void sameInputProducesSamePage() {
+        String first = page(generator(), 20240101000000L, 20240131999999L, null, 500).json;
+        String second = page(generator(), 20240101000000L, 20240131999999L, null, 500).json;
+
+        assertThat(first).isNotEqualTo("[]").isEqualTo(second).contains("\"trans_dtime\":\"202401");
+    }
+
+    @Test
+    void pagesContinueFromCursor() {
+        Result whole = page(generator, 20240101000000L, 20241231999999L, null, 10);
+        Result firstHalf = page(generator, 20240101000000L, 20241231999999L, null, 5);
+        Result secondHalf = page(generator, 20240101000000L, 20241231999999L, firstHalf.nextPage, 5);
+
+        assertThat(firstHalf.nextPage).hasSize(14);
+        assertThat(firstHalf.json.substring(0, firstHalf.json.length() - 1) + ","
+                + secondHalf.json.substring(1)).isEqualTo(whole.json);
+    }
+
+    @Test
+    void balancesChainAcrossWholeHistory() {
+        List<long[]> newestFirst = new ArrayList<>();
+        String cursor = null;
+        do {
+            Result result = page(generator, ALL_FROM, ALL_TO, cursor, 500);
+            Matcher matcher = TRANSACTION.matcher(result.json);
+            while (matcher.find()) {
+                long amount = Long.parseLong(matcher.group(2));
+                newestFirst.add(new long[]{matcher.group(1).equals("02") ? -amount : amount,
+                        Long.parseLong(matcher.group(3))});
+            }
+            cursor = result.nextPage;
+        } while (cursor != null);
+
+        long balance = 0;
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            balance += newestFirst.get(i)[0];
+            assertThat(newestFirst.get(i)[1]).isEqualTo(balance);
+        }
+        assertThat(newestFirst).hasSizeGreaterThan(100);
+        assertThat(generator.closingBalance()).isEqualTo(balance * 1_000L);
+    }
+
+    @Test
+    void cursorOutsideRangeIsRejected() {
+        assertThatThrownBy(() -> page(generator, 20240101000000L, 20241231999999L, "20230101000000", 5))
+                .isInstanceOf(MockApiException.class);
+        assertThatThrownBy(() -> page(generator, 20240101000000L, 20241231999999L, "abc", 5))
+                .isInstanceOf(MockApiException.class);
+    }
+
+    @Test
+    void convertsBetweenEpochSecondsAndDtime() {
+        LocalDateTime time = LocalDateTime.of(2024, 2, 29, 23, 5, 9);
+        long epochSecond = time.toEpochSecond(ZoneOffset.UTC);
+
+        assertThat(MockDepositTransactionGenerator.dtime(epochSecond)).isEqualTo(20240229230509L);
+        assertThat(MockDepositTransactionGenerator.toEpochSecond(20240229230509L)).isEqualTo(epochSecond);
+    }
+
+    private static MockDepositTransactionGenerator generator() {
+        return new MockDepositTransactionGenerator(42L, NOW.minusYears(5), NOW, 1_000_000_000L, 3);
+    }
+
+    private static Result page(MockDepositTransactionGenerator generator, long from, long to, String cursor, int limit) {
+        MockRecordPage page = new MockRecordPage().begin();
+        generator.page(from, to, cursor, limit, page);
+        return new Result(new String(page.getList().toByteArray(), StandardCharsets.UTF_8), page.getNextPage());
+    }
+
+    private record Result(String json, String nextPage) {
+    }
+}
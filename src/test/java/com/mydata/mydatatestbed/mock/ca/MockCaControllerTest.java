@@ -0,0 +1,114 @@
+package com.mydata.mydatatestbed.mock.ca;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+
+import static com.mydata.mydatatestbed.mock.common.MockApiResponder.TRAN_ID_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 통합인증-103 결과 조회 long-polling: 대기 중 서명 완료 시 결과 응답, 대기 시간 초과 시 40901, 잘못된 요청은 바로 응답
+ *
+ * 결과 조회는 DeferredResult로 비동기 처리되므로 asyncDispatch로 완료된 응답을 확인
+ */
+@SpringBootTest(properties = {
+        "mock.oauth.allow-unregistered-tokens=true",
+        "mock.ca.sign-delay-ms=500",
+        "mock.ca.result-wait-ms=5000"
+})
+@AutoConfigureMockMvc
+class MockCaControllerTest {
+
+    private static final String TOKEN = "ca-test-token";
+    private static final String TRAN_ID = "MOCKMYDATAM00000000000001";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MockSignSessionRegistry sessionRegistry;
+
+    @Test
+    void respondsWithSignedConsentsWhenSigningCompletesWhileWaiting() throws Exception {
+        MockSignSession session = open("sign-1");
+
+        MvcResult pending = mockMvc.perform(signResult(session.getCertTxId(), "sign-1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(session.isSigned()).isFalse();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(header().string(TRAN_ID_HEADER, TRAN_ID))
+                .andExpect(jsonPath("$.rsp_code").value("00000"))
+                .andExpect(jsonPath("$.signed_consent_cnt").value(1))
+                .andExpect(jsonPath("$.signed_consent_list[0].tx_id").value("tx-1"));
+        assertThat(session.isSigned()).isTrue();
+    }
+
+    @Test
+    void respondsSignPendingWhenWaitTimesOut() throws Exception {
+        MockSignSession session = open("sign-2");
+
+        MvcResult pending = mockMvc.perform(signResult(session.getCertTxId(), "sign-2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // MockMvc는 비동기 시간 초과를 직접 발생시키지 않으므로 컨테이너 대신 리스너에 알림
+        MockAsyncContext asyncContext = (MockAsyncContext) pending.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(header().string(TRAN_ID_HEADER, TRAN_ID))
+                .andExpect(jsonPath("$.rsp_code").value("40901"));
+    }
+
+    @Test
+    void rejectsUnknownOrMismatchedRequestsWithoutWaiting() throws Exception {
+        MockSignSession session = open("sign-3");
+
+        mockMvc.perform(signResult("unknown-cert-tx-id", "sign-3"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.rsp_code").value("40403"));
+        mockMvc.perform(signResult(session.getCertTxId(), "other-sign"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.rsp_code").value("40001"));
+    }
+
+    private MockSignSession open(String signTxId) {
+        MockSignRequest.Consent consent = new MockSignRequest.Consent();
+        consent.setTxId("tx-1");
+        consent.setConsent("{}");
+        return sessionRegistry.open(TOKEN, signTxId, List.of(consent));
+    }
+
+    private static MockHttpServletRequestBuilder signResult(String certTxId, String signTxId) {
+        return post("/v1/ca/sign_result")
+                .header("Authorization", "Bearer " + TOKEN)
+                .header(TRAN_ID_HEADER, TRAN_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"cert_tx_id\":\"" + certTxId + "\",\"sign_tx_id\":\"" + signTxId + "\"}");
+    }
+}
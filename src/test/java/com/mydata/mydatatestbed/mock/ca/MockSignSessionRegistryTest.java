@@ -0,0 +1,109 @@
+package com.mydata.mydatatestbed.mock.ca;
+
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockApiResponder;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 전자서명 요청 저장소: 지연 후 자동 서명, 서명 전/후 결과 대기, 보관 기간 만료, 최대 요청 수 검증
+ */
+class MockSignSessionRegistryTest {
+
+    private final MockSignSessionRegistry registry = new MockSignSessionRegistry(new MockApiResponder(null, null));
+
+    @AfterEach
+    void tearDown() {
+        registry.stopScheduler();
+    }
+
+    @Test
+    void signsAfterDelayAndCompletesWaitingAndLateResultCallbacks() throws Exception {
+        start(100, 60, 10);
+        MockSignSession session = registry.open("tenant-a", "sign-1", List.of(consent("tx-1"), consent("tx-2")));
+
+        // 서명 전에 등록한 콜백은 서명 완료 시 호출
+        CompletableFuture<byte[]> waiting = result(session);
+        assertThat(session.isSigned()).isFalse();
+        assertThat(registry.find(session.getCertTxId())).isSameAs(session);
+
+        String body = new String(waiting.get(5, TimeUnit.SECONDS), StandardCharsets.UTF_8);
+        assertThat(session.isSigned()).isTrue();
+        assertThat(body).contains("\"rsp_code\":\"00000\"", "\"signed_consent_cnt\":2",
+                "\"tx_id\":\"tx-1\"", "\"tx_id\":\"tx-2\"");
+
+        // 서명 후에 등록한 콜백은 같은 본문으로 바로 호출
+        CompletableFuture<byte[]> late = result(session);
+        assertThat(late).isDone();
+        assertThat(late.get()).isEqualTo(waiting.get());
+    }
+
+    @Test
+    void expiredSessionIsRemovedAndFailsPendingCallbacks() {
+        start(60_000, 1, 10);
+        MockSignSession session = registry.open("tenant-a", "sign-1", List.of(consent("tx-1")));
+        CompletableFuture<byte[]> waiting = result(session);
+
+        assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOf(MockApiException.class)
+                .extracting("rspCode").isEqualTo(MockRspCode.SIGN_NOT_FOUND);
+        assertThat(session.isSigned()).isFalse();
+        assertThat(registry.find(session.getCertTxId())).isNull();
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    void rejectsRequestsOverMaxSessions() {
+        start(60_000, 60, 2);
+        MockSignSession first = registry.open("tenant-a", "sign-1", List.of(consent("tx-1")));
+        MockSignSession second = registry.open("tenant-a", "sign-2", List.of(consent("tx-2")));
+
+        assertThat(first.getCertTxId()).hasSize(32).isNotEqualTo(second.getCertTxId());
+        assertThatThrownBy(() -> registry.open("tenant-a", "sign-3", List.of(consent("tx-3"))))
+                .isInstanceOf(MockApiException.class)
+                .extracting("rspCode").isEqualTo(MockRspCode.SYSTEM_ERROR);
+        assertThat(registry.find(null)).isNull();
+        assertThat(registry.find("unknown")).isNull();
+    }
+
+    private void start(long signDelayMs, long sessionTtlSeconds, int maxSessions) {
+        ReflectionTestUtils.setField(registry, "signDelayMs", signDelayMs);
+        ReflectionTestUtils.setField(registry, "sessionTtlSeconds", sessionTtlSeconds);
+        ReflectionTestUtils.setField(registry, "maxSessions", maxSessions);
+        registry.startScheduler();
+    }
+
+    private static CompletableFuture<byte[]> result(MockSignSession session) {
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        session.onResult((body, error) -> {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(body);
+            }
+        });
+        return future;
+    }
+
+    private static MockSignRequest.Consent consent(String txId) {
+        MockSignRequest.Consent consent = new MockSignRequest.Consent();
+        consent.setTxId(txId);
+        consent.setConsent("{\"consent\":\"" + txId + "\"}");
+        consent.setConsentLen(consent.getConsent().length());
+        consent.setConsentTitle("전송요구 " + txId);
+        return consent;
+    }
+}
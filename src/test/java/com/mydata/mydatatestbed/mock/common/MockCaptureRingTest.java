@@ -0,0 +1,99 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캡처 링 버퍼: 레코드 형식, 끝에서 처음으로 넘어가는 채움 레코드, 가득 찼을 때 버림, 생산자 여러 개 동시 추가 검증
+ */
+class MockCaptureRingTest {
+
+    @Test
+    void publishesRecordsInSegmentFormat() {
+        MockCaptureRing ring = new MockCaptureRing(1024);
+        assertThat(ring.poll()).isNull();
+
+        assertThat(ring.offer(new byte[]{1, 2, 3}, 3)).isTrue();
+        assertThat(ring.offer(new byte[]{4, 5, 6, 7, 8, 9, 10, 11, 12}, 9)).isTrue();
+
+        ByteBuffer batch = ring.poll();
+        assertThat(batch.remaining()).isEqualTo(16 + 24);
+        assertThat(batch.getInt(0)).isEqualTo(16);
+        assertThat(batch.getInt(4)).isEqualTo(MockCaptureRing.TYPE_EXCHANGE);
+        assertThat(batch.get(8)).isEqualTo((byte) 1);
+        assertThat(batch.get(11)).isZero();
+        assertThat(batch.getInt(16)).isEqualTo(24);
+        assertThat(batch.get(24 + 8)).isEqualTo((byte) 12);
+        ring.release(batch);
+        assertThat(ring.poll()).isNull();
+    }
+
+    @Test
+    void wrapsAroundWithPaddingAndDropsWhenFull() {
+        MockCaptureRing ring = new MockCaptureRing(1024);
+        byte[] payload = new byte[200];  // 레코드 208바이트
+        for (int i = 0; i < 4; i++) {
+            assertThat(ring.offer(payload, payload.length)).isTrue();
+        }
+        // 남은 192바이트에는 들어가지 않고, 앞쪽도 아직 비우지 않았으므로 버림
+        assertThat(ring.offer(payload, payload.length)).isFalse();
+        assertThat(ring.dropped()).isEqualTo(1);
+
+        ring.release(ring.poll());
+        // 끝의 192바이트는 채움 레코드, 새 레코드는 0번 위치
+        payload[0] = 7;
+        assertThat(ring.offer(payload, payload.length)).isTrue();
+        ByteBuffer wrapped = ring.poll();
+        assertThat(wrapped.remaining()).isEqualTo(208);
+        assertThat(wrapped.get(8)).isEqualTo((byte) 7);
+        ring.release(wrapped);
+        assertThat(ring.poll()).isNull();
+    }
+
+    @Test
+    void keepsEveryRecordFromConcurrentProducers() throws InterruptedException {
+        MockCaptureRing ring = new MockCaptureRing(64 * 1024);
+        int producers = 4;
+        int perProducer = 20_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            byte id = (byte) p;
+            threads.add(Thread.ofPlatform().start(() -> {
+                byte[] payload = new byte[12];
+                for (int i = 0; i < perProducer; i++) {
+                    payload[0] = id;
+                    ByteBuffer.wrap(payload).putInt(4, i);
+                    while (!ring.offer(payload, payload.length)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            }));
+        }
+
+        int[] next = new int[producers];
+        int received = 0;
+        while (received < producers * perProducer) {
+            ByteBuffer batch = ring.poll();
+            if (batch == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            for (int offset = 0; offset < batch.remaining(); offset += batch.getInt(offset)) {
+                int producer = batch.get(offset + 8);
+                // 생산자마다 추가한 순서대로 나옴
+                assertThat(batch.getInt(offset + 12)).isEqualTo(next[producer]++);
+                received++;
+            }
+            ring.release(batch);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(next).containsOnly(perProducer);
+    }
+}
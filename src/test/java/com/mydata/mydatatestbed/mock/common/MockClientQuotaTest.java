@@ -0,0 +1,47 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 슬라이딩 윈도 호출 한도: 윈도 안 한도, 윈도 경계의 직전 건수 가중치, 칸 독립성 검증
+ */
+class MockClientQuotaTest {
+
+    private static final long WINDOW = 1_000L;
+
+    private final MockClientQuota quota = new MockClientQuota(4);
+
+    @Test
+    void rejectsCallsOverLimitWithinWindow() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(quota.tryAcquire(0, 10_000L, WINDOW, 3)).isTrue();
+        }
+        assertThat(quota.tryAcquire(0, 10_500L, WINDOW, 3)).isFalse();
+        assertThat(quota.tryAcquire(1, 10_500L, WINDOW, 3)).isTrue();
+    }
+
+    @Test
+    void previousWindowCountDecaysAcrossBoundary() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(quota.tryAcquire(0, 10_000L, WINDOW, 4)).isTrue();
+        }
+        // 다음 윈도 시작 직후: 직전 4건이 거의 그대로 남아 있음
+        assertThat(quota.tryAcquire(0, 11_000L, WINDOW, 4)).isFalse();
+        // 다음 윈도 절반: 직전 4건 × 0.5 = 2건 → 2건 더 가능
+        assertThat(quota.tryAcquire(0, 11_500L, WINDOW, 4)).isTrue();
+        assertThat(quota.tryAcquire(0, 11_500L, WINDOW, 4)).isTrue();
+        assertThat(quota.tryAcquire(0, 11_500L, WINDOW, 4)).isFalse();
+    }
+
+    @Test
+    void idleForTwoWindowsStartsFresh() {
+        for (int i = 0; i < 2; i++) {
+            assertThat(quota.tryAcquire(0, 10_000L, WINDOW, 2)).isTrue();
+        }
+        assertThat(quota.tryAcquire(0, 12_000L, WINDOW, 2)).isTrue();
+        assertThat(quota.tryAcquire(0, 12_000L, WINDOW, 2)).isTrue();
+        assertThat(quota.tryAcquire(0, 12_000L, WINDOW, 2)).isFalse();
+    }
+}
@@ -0,0 +1,62 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모의 API JSON 작성기 출력 검증
+ */
+class MockJsonWriterTest {
+
+    private static final byte[] CODE = MockJsonWriter.key("rsp_code");
+    private static final byte[] LIST = MockJsonWriter.key("trans_list");
+    private static final byte[] AMT = MockJsonWriter.key("trans_amt");
+
+    @Test
+    void writesNestedStructureWithCommas() {
+        MockJsonWriter writer = new MockJsonWriter(16);
+
+        writer.beginObject()
+                .field(CODE).string("00000")
+                .field(LIST).beginArray()
+                .beginObject().field(AMT).decimal(1_500_000, 3).endObject()
+                .beginObject().field(AMT).decimal(3250, 5).endObject()
+                .endArray()
+                .endObject();
+
+        assertThat(json(writer))
+                .isEqualTo("{\"rsp_code\":\"00000\",\"trans_list\":[{\"trans_amt\":1500},{\"trans_amt\":0.0325}]}");
+    }
+
+    @Test
+    void escapesStringsAndPadsDigits() {
+        MockJsonWriter writer = new MockJsonWriter(4);
+
+        writer.beginArray()
+                .string("급여 \"이체\"\n")
+                .digits(20240105, 8)
+                .digits(7, 3)
+                .number(-42)
+                .raw(MockJsonWriter.encodeString("\uD83D\uDCB3"))
+                .endArray();
+
+        assertThat(json(writer)).isEqualTo("[\"급여 \\\"이체\\\"\\u000a\",\"20240105\",\"007\",-42,\"\uD83D\uDCB3\"]");
+    }
+
+    @Test
+    void resetReusesWriter() {
+        MockJsonWriter writer = new MockJsonWriter(8);
+        writer.beginObject().field(CODE).string("40001").endObject();
+
+        writer.reset().beginObject().field(CODE).string("00000").endObject();
+
+        assertThat(json(writer)).isEqualTo("{\"rsp_code\":\"00000\"}");
+    }
+
+    private String json(MockJsonWriter writer) {
+        return new String(writer.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,44 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 히스토그램 칸 계산 오차/백분위/병합 검증
+ */
+class MockLatencyHistogramTest {
+
+    @Test
+    void bucketValueStaysWithinRelativeError() {
+        for (long micros = 0; micros < 1L << 31; micros = micros * 3 / 2 + 1) {
+            long value = MockLatencyHistogram.valueAt(MockLatencyHistogram.index(micros));
+            assertThat((double) value).isCloseTo(micros, within(Math.max(1.0, micros * 0.03)));
+        }
+        assertThat(MockLatencyHistogram.index(Long.MAX_VALUE)).isEqualTo(MockLatencyHistogram.BUCKETS - 1);
+        assertThat(MockLatencyHistogram.index(-1)).isZero();
+    }
+
+    @Test
+    void percentilesFromMergedHistograms() {
+        MockLatencyHistogram first = new MockLatencyHistogram();
+        MockLatencyHistogram second = new MockLatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            (i % 2 == 0 ? first : second).record(i * 1000L);
+        }
+
+        long[] merged = new long[MockLatencyHistogram.BUCKETS];
+        first.addTo(merged);
+        second.addTo(merged);
+
+        assertThat((double) MockLatencyHistogram.percentile(merged, 50)).isCloseTo(500_000, within(15_000.0));
+        assertThat((double) MockLatencyHistogram.percentile(merged, 99)).isCloseTo(990_000, within(30_000.0));
+        assertThat((double) MockLatencyHistogram.percentile(merged, 99.9)).isCloseTo(999_000, within(30_000.0));
+    }
+
+    @Test
+    void emptyHistogramReturnsZero() {
+        assertThat(MockLatencyHistogram.percentile(new long[MockLatencyHistogram.BUCKETS], 99)).isZero();
+    }
+}
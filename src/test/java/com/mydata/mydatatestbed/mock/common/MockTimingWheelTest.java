@@ -0,0 +1,83 @@
+package com.mydata.mydatatestbed.mock.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 타이밍 휠 만료 순서/단계 간 재배치/취소 검증
+ */
+class MockTimingWheelTest {
+
+    private static final long START = 1_700_000_000L;
+
+    private static final class Entry extends MockTimingWheel.Timer {
+
+        private final String name;
+
+        private Entry(String name) {
+            this.name = name;
+        }
+    }
+
+    @Test
+    void expiresTimersAtTheirDeadlines() {
+        MockTimingWheel<Entry> wheel = new MockTimingWheel<>(START);
+        wheel.schedule(new Entry("b"), START + 5);
+        wheel.schedule(new Entry("a"), START + 1);
+        wheel.schedule(new Entry("c"), START + 63);
+
+        assertThat(advance(wheel, START + 4)).containsExactly("a");
+        assertThat(advance(wheel, START + 63)).containsExactly("b", "c");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void cascadesTimersFromUpperLevels() {
+        MockTimingWheel<Entry> wheel = new MockTimingWheel<>(START);
+        long[] delays = {64, 65, 4_095, 4_096, 90 * 86_400L, 365 * 86_400L};
+        for (long delay : delays) {
+            wheel.schedule(new Entry(Long.toString(delay)), START + delay);
+        }
+
+        for (long delay : delays) {
+            assertThat(advance(wheel, START + delay - 1)).isEmpty();
+            assertThat(advance(wheel, START + delay)).containsExactly(Long.toString(delay));
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void cancelledAndRescheduledTimersDoNotFireEarly() {
+        MockTimingWheel<Entry> wheel = new MockTimingWheel<>(START);
+        Entry cancelled = new Entry("cancelled");
+        Entry moved = new Entry("moved");
+        wheel.schedule(cancelled, START + 10);
+        wheel.schedule(moved, START + 10);
+
+        assertThat(wheel.cancel(cancelled)).isTrue();
+        assertThat(wheel.cancel(cancelled)).isFalse();
+        wheel.schedule(moved, START + 1_000);
+
+        assertThat(advance(wheel, START + 999)).isEmpty();
+        assertThat(advance(wheel, START + 1_000)).containsExactly("moved");
+    }
+
+    @Test
+    void pastDeadlinesExpireOnNextAdvance() {
+        MockTimingWheel<Entry> wheel = new MockTimingWheel<>(START);
+        advance(wheel, START + 100);
+        wheel.schedule(new Entry("late"), START);
+
+        assertThat(advance(wheel, START + 101)).containsExactly("late");
+    }
+
+    private static List<String> advance(MockTimingWheel<Entry> wheel, long now) {
+        List<String> expired = new ArrayList<>();
+        wheel.advance(now, entry -> expired.add(entry.name));
+        return expired;
+    }
+}
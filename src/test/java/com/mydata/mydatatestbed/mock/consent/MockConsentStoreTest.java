@@ -0,0 +1,73 @@
+package com.mydata.mydatatestbed.mock.consent;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전송요구 등록/갱신/철회, scope 비트 확인, 정보주체별 목록 검증
+ */
+class MockConsentStoreTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final long DEPOSIT_AND_LOAN =
+            MockConsentScope.BANK_DEPOSIT.getBit() | MockConsentScope.BANK_LOAN.getBit();
+
+    private final MockConsentStore store = new MockConsentStore();
+
+    @Test
+    void checksConsentedScopeBits() {
+        int id = store.consent("ci-1", "client-a", "BANK000001", DEPOSIT_AND_LOAN,
+                TODAY, TODAY.plusYears(1), MockConsentStore.SCHEDULED);
+
+        assertThat(store.isConsented(id, MockConsentScope.BANK_DEPOSIT)).isTrue();
+        assertThat(store.isConsented(id, MockConsentScope.BANK_LOAN)).isTrue();
+        assertThat(store.isConsented(id, MockConsentScope.BANK_IRP)).isFalse();
+        assertThat(store.isConsented(MockConsentStore.NONE, MockConsentScope.BANK_DEPOSIT)).isFalse();
+    }
+
+    @Test
+    void reconsentUpdatesSameRecordAndWithdrawClearsIt() {
+        int id = store.consent("ci-1", "client-a", "BANK000001", DEPOSIT_AND_LOAN,
+                TODAY, TODAY.plusYears(1), 0);
+        int again = store.consent("ci-1", "client-a", "BANK000001", MockConsentScope.BANK_IRP.getBit(),
+                TODAY, TODAY.plusYears(1), 0);
+
+        assertThat(again).isEqualTo(id);
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.isConsented(id, MockConsentScope.BANK_DEPOSIT)).isFalse();
+        assertThat(store.isConsented(id, MockConsentScope.BANK_IRP)).isTrue();
+
+        store.withdraw(id);
+        assertThat(store.isConsented(id, MockConsentScope.BANK_IRP)).isFalse();
+        assertThat(store.get(id)).isNull();
+    }
+
+    @Test
+    void expiredConsentIsNotValid() {
+        int id = store.consent("ci-1", "client-a", "BANK000001", DEPOSIT_AND_LOAN,
+                TODAY.minusYears(1), TODAY.minusDays(1), 0);
+
+        assertThat(store.isConsented(id, MockConsentScope.BANK_DEPOSIT)).isFalse();
+        assertThat(store.findByUser("ci-1")).isEmpty();
+    }
+
+    @Test
+    void listsValidConsentsOfUserAcrossGrowth() {
+        for (int i = 0; i < 5_000; i++) {
+            store.consent("ci-" + i, "client-a", "BANK000001", DEPOSIT_AND_LOAN, TODAY, TODAY.plusYears(1), 0);
+        }
+        store.consent("ci-7", "client-b", "BANK000002", MockConsentScope.BANK_LIST.getBit(),
+                TODAY, TODAY.plusYears(1), 0);
+
+        List<MockConsentStore.Consent> consents = store.findByUser("ci-7");
+        assertThat(consents).extracting(MockConsentStore.Consent::getClientId)
+                .containsExactly("client-b", "client-a");
+        assertThat(consents.get(1).scopeNames()).isEqualTo("bank.deposit bank.loan");
+        assertThat(store.findByUser("ci-unknown")).isEmpty();
+        assertThat(store.size()).isEqualTo(5_001);
+    }
+}
@@ -0,0 +1,77 @@
+package com.mydata.mydatatestbed.mock.record;
+
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 거래내역 컬럼 저장소 조회 검증 (기간 조회, 내림차순 페이지, 커서)
+ */
+class MockTransactionStoreTest {
+
+    private static final byte[] TRANS_DTIME = MockJsonWriter.key("trans_dtime");
+    private static final byte[] TRANS_AMT = MockJsonWriter.key("trans_amt");
+    private static final byte[] TRANS_MEMO = MockJsonWriter.key("trans_memo");
+
+    private static final MockTransactionStore.RowFormat FORMAT = (w, store, row) -> w.beginObject()
+            .field(TRANS_DTIME).digits(store.key(row), 14)
+            .field(TRANS_AMT).number(store.value(0, row))
+            .field(TRANS_MEMO).raw(store.code(0, row))
+            .endObject();
+
+    private final MockTransactionStore store = MockTransactionStore.builder(FORMAT, 1, 1)
+            .row(20240101090000L).value(0, 100).code(0, "급여")
+            .row(20240102090000L).value(0, 200).code(0, "이체")
+            .row(20240103090000L).value(0, 300).code(0, "급여")
+            .row(20240104090000L).value(0, 400).code(0, "이체")
+            .row(20240105090000L).value(0, 500).code(0, "급여")
+            .build();
+
+    @Test
+    void pagesNewestFirstWithinRange() {
+        MockRecordPage first = page(20240102000000L, 20240104235959L, null, 2);
+
+        assertThat(json(first)).isEqualTo("[{\"trans_dtime\":\"20240104090000\",\"trans_amt\":400,\"trans_memo\":\"이체\"},"
+                + "{\"trans_dtime\":\"20240103090000\",\"trans_amt\":300,\"trans_memo\":\"급여\"}]");
+        assertThat(first.getCount()).isEqualTo(2);
+        assertThat(first.getNextPage()).isNotNull();
+
+        MockRecordPage second = page(20240102000000L, 20240104235959L, first.getNextPage(), 2);
+
+        assertThat(json(second)).isEqualTo("[{\"trans_dtime\":\"20240102090000\",\"trans_amt\":200,\"trans_memo\":\"이체\"}]");
+        assertThat(second.getNextPage()).isNull();
+    }
+
+    @Test
+    void emptyRangeReturnsEmptyList() {
+        MockRecordPage page = page(20230101000000L, 20231231235959L, null, 10);
+
+        assertThat(json(page)).isEqualTo("[]");
+        assertThat(page.getNextPage()).isNull();
+    }
+
+    @Test
+    void cursorOutsideRangeIsRejected() {
+        String cursor = page(20240101000000L, 20240105235959L, null, 1).getNextPage();
+
+        assertThatThrownBy(() -> page(20240101000000L, 20240101235959L, cursor, 1))
+                .isInstanceOf(MockApiException.class);
+        assertThatThrownBy(() -> page(20240101000000L, 20240105235959L, "!", 1))
+                .isInstanceOf(MockApiException.class);
+    }
+
+    private MockRecordPage page(long from, long to, String cursor, int limit) {
+        MockRecordPage page = new MockRecordPage().begin();
+        store.page(from, to, cursor, limit, page);
+        return page;
+    }
+
+    private String json(MockRecordPage page) {
+        return new String(page.getList().toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,47 @@
+package com.mydata.mydatatestbed.mock.registry;
+
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import com.mydata.mydatatestbed.mock.sandbox.MockSandbox;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 클라이언트 인증: client_secret 대조 후 소유 회원 반환, 등록되지 않은 client_id/다른 secret 거절 검증
+ */
+class MockOrgRegistryTest {
+
+    private final MockOrgRegistry registry = new MockOrgRegistry();
+
+    MockOrgRegistryTest() {
+        ReflectionTestUtils.setField(registry, "providerOrgCode", "MOCKBANK01");
+        ReflectionTestUtils.setField(registry, "mydataOrgCode", "MOCKMYDATA");
+        ReflectionTestUtils.setField(registry, "caOrgCode", "MOCKCA0001");
+        ReflectionTestUtils.setField(registry, "clientId", "mock-client");
+        registry.registerMockOrgs();
+    }
+
+    @Test
+    void authenticatesClientAndReturnsOwningMember() {
+        assertThat(registry.authenticate("mock-client", "mock-client-secret")).isEqualTo(MockSandbox.SHARED);
+
+        MockService service = new MockService();
+        service.setOrgCode("MOCKMYDATA");
+        service.setServiceName("회원 서비스");
+        service.setClientId("member-client");
+        service.setClientSecret("member-secret");
+        service.setMemberId(7L);
+        registry.upsertService(service);
+
+        assertThat(registry.authenticate("member-client", "member-secret")).isEqualTo(7L);
+        // client_id만 알고 secret을 모르면 회원 샌드박스에 묶인 토큰을 받을 수 없음
+        assertThatThrownBy(() -> registry.authenticate("member-client", "mock-client-secret"))
+                .isInstanceOfSatisfying(MockApiException.class,
+                        e -> assertThat(e.getRspCode()).isEqualTo(MockRspCode.INVALID_CLIENT));
+        assertThatThrownBy(() -> registry.authenticate("unknown-client", "member-secret"))
+                .isInstanceOf(MockApiException.class);
+    }
+}
@@ -0,0 +1,76 @@
+package com.mydata.mydatatestbed.mock.registry;
+
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기관/서비스정보 변경 이력: 전체 목록, search_timestamp 이후 변경분, 변경 없음 응답 검증
+ */
+class MockRegistryLogTest {
+
+    private static final byte[] CNT = MockJsonWriter.key("org_cnt");
+    private static final byte[] LIST = MockJsonWriter.key("org_list");
+
+    private final MockRegistryLog changeLog = new MockRegistryLog(CNT, LIST);
+
+    @Test
+    void fullListKeepsLatestLiveEntryPerKey() {
+        changeLog.append(20240101000000L, "A", null, entry("A", "I"), false);
+        changeLog.append(20240101000000L, "B", null, entry("B", "I"), false);
+        changeLog.append(20240102000000L, "A", null, entry("A", "M"), false);
+        changeLog.append(20240103000000L, "B", null, entry("B", "D"), true);
+
+        assertThat(write(0)).isEqualTo("{\"org_cnt\":1,\"org_list\":[{\"org_code\":\"A\",\"op_type\":\"M\"}]}");
+    }
+
+    @Test
+    void deltaIncludesSameSecondChangesAndDeletes() {
+        changeLog.append(20240101000000L, "A", null, entry("A", "I"), false);
+        changeLog.append(20240102000000L, "B", null, entry("B", "I"), false);
+        changeLog.append(20240102000000L, "B", null, entry("B", "M"), false);
+        changeLog.append(20240103000000L, "A", null, entry("A", "D"), true);
+
+        assertThat(write(20240102000000L)).isEqualTo("{\"org_cnt\":2,\"org_list\":["
+                + "{\"org_code\":\"B\",\"op_type\":\"M\"},{\"org_code\":\"A\",\"op_type\":\"D\"}]}");
+    }
+
+    @Test
+    void unchangedSinceLastModifiedReturnsEmptyList() {
+        changeLog.append(20240101000000L, "A", null, entry("A", "I"), false);
+
+        assertThat(changeLog.isUnchangedSince(20240101000001L)).isTrue();
+        assertThat(changeLog.isUnchangedSince(20240101000000L)).isFalse();
+        assertThat(write(20240101000001L)).isEqualTo("{\"org_cnt\":0,\"org_list\":[]}");
+    }
+
+    @Test
+    void groupedListBundlesEntriesByGroup() {
+        MockRegistryLog services = new MockRegistryLog(MockJsonWriter.key("org_cnt"), MockJsonWriter.key("org_list"),
+                MockJsonWriter.key("org_code"), MockJsonWriter.key("service_cnt"), MockJsonWriter.key("service_list"));
+        services.append(20240101000000L, "ORG1:a", "ORG1", entry("a", "I"), false);
+        services.append(20240101000000L, "ORG1:b", "ORG1", entry("b", "I"), false);
+
+        MockJsonWriter writer = new MockJsonWriter(256).beginObject();
+        services.writeTo(writer, 0);
+        assertThat(new String(writer.endObject().toByteArray(), StandardCharsets.UTF_8)).isEqualTo(
+                "{\"org_cnt\":1,\"org_list\":[{\"org_code\":\"ORG1\",\"service_cnt\":2,\"service_list\":["
+                        + "{\"org_code\":\"a\",\"op_type\":\"I\"},{\"org_code\":\"b\",\"op_type\":\"I\"}]}]}");
+    }
+
+    private String write(long searchTimestamp) {
+        MockJsonWriter writer = new MockJsonWriter(256).beginObject();
+        changeLog.writeTo(writer, searchTimestamp);
+        return new String(writer.endObject().toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] entry(String orgCode, String op) {
+        return new MockJsonWriter(64).beginObject()
+                .field(MockJsonWriter.key("org_code")).string(orgCode)
+                .field(MockJsonWriter.key("op_type")).string(op)
+                .endObject().toByteArray();
+    }
+}
@@ -0,0 +1,87 @@
+package com.mydata.mydatatestbed.mock.sandbox;
+
+import com.mydata.mydatatestbed.mock.bank.MockBankDataset;
+import com.mydata.mydatatestbed.mock.bank.MockBankDatasetFactory;
+import com.mydata.mydatatestbed.mock.consent.MockConsentScope;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원별 샌드박스: 처음 요청 시 1번만 생성, 회원 간 데이터셋/전송요구/보관 상한 분리, 샤드 표 확장 중 동시 조회 검증
+ */
+class MockSandboxRegistryTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Test
+    void isolatesDatasetsAndConsentsPerMember() {
+        MockSandboxRegistry registry = new MockSandboxRegistry(new MockBankDatasetFactory(), 4, 1000);
+        MockSandbox first = registry.get(1L);
+        MockSandbox second = registry.get(2L);
+
+        assertThat(registry.get(1L)).isSameAs(first);
+        assertThat(registry.shared()).isSameAs(registry.get(MockSandbox.SHARED)).isNotSameAs(first);
+        assertThat(registry.anonymous()).isSameAs(registry.get(MockSandbox.ANONYMOUS))
+                .isNotSameAs(registry.shared()).isNotSameAs(first);
+        assertThat(registry.anonymous().bankDataset("ci-1").getSeed())
+                .isNotEqualTo(registry.shared().bankDataset("ci-1").getSeed());
+
+        // 같은 x-user-ci라도 회원마다 다른 데이터
+        MockBankDataset dataset = first.bankDataset("ci-1");
+        assertThat(first.bankDataset("ci-1")).isSameAs(dataset);
+        assertThat(second.bankDataset("ci-1").getSeed()).isNotEqualTo(dataset.getSeed());
+
+        int id = first.getConsents().consent("ci-1", "client-a", "ORG0000001",
+                MockConsentScope.BANK_DEPOSIT.getBit(), TODAY, TODAY.plusYears(1), 0);
+        assertThat(first.getConsents().isConsented(id, MockConsentScope.BANK_DEPOSIT)).isTrue();
+        assertThat(second.getConsents().findByUser("ci-1")).isEmpty();
+    }
+
+    @Test
+    void evictsOnlyWithinTheNoisySandbox() {
+        MockSandboxRegistry registry = new MockSandboxRegistry(new MockBankDatasetFactory(), 4, 10);
+        MockBankDataset quiet = registry.get(2L).bankDataset("ci-2");
+
+        MockSandbox noisy = registry.get(1L);
+        for (int i = 0; i < 1000; i++) {
+            noisy.bankDataset("token-" + i);
+        }
+
+        assertThat(noisy.size()).isLessThanOrEqualTo(10);
+        assertThat(registry.get(2L).bankDataset("ci-2")).isSameAs(quiet);
+    }
+
+    @Test
+    void createsEachSandboxOnceUnderConcurrentFirstRequests() throws Exception {
+        MockSandboxRegistry registry = new MockSandboxRegistry(new MockBankDatasetFactory(), 16, 10);
+        int members = 2000;
+        List<Future<MockSandbox[]>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                results.add(executor.submit(() -> {
+                    MockSandbox[] sandboxes = new MockSandbox[members];
+                    for (int m = 0; m < members; m++) {
+                        sandboxes[m] = registry.get(m + 1L);
+                    }
+                    return sandboxes;
+                }));
+            }
+            MockSandbox[] expected = results.get(0).get();
+            for (Future<MockSandbox[]> result : results) {
+                assertThat(result.get()).containsExactly(expected);
+            }
+            for (int m = 0; m < members; m++) {
+                assertThat(expected[m].getMemberId()).isEqualTo(m + 1L);
+            }
+        }
+        assertThat(registry.size()).isEqualTo(members);
+    }
+}
@@ -0,0 +1,92 @@
+package com.mydata.mydatatestbed.mock.scenario;
+
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockRspCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 모의 시나리오: 적용 우선순위, 지연 분포 범위, 오류/타임아웃 추첨 검증
+ */
+class MockScenarioTest {
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Test
+    void registryPrefersApiAndTenantSpecificScenario() {
+        MockScenarioRegistry registry = new MockScenarioRegistry();
+        assertThat(registry.isEmpty()).isTrue();
+
+        registry.put(scenario(null, null, 1L));
+        registry.put(scenario("은행-001", null, 2L));
+        registry.put(scenario("은행-001", "ci-1", 3L));
+        registry.put(scenario(null, "ci-2", 4L));
+
+        assertThat(registry.hasTenantScenarios()).isTrue();
+        assertThat(registry.find("은행-001", "ci-1").getDelayMs()).isEqualTo(3L);
+        assertThat(registry.find("은행-001", "ci-2").getDelayMs()).isEqualTo(2L);
+        assertThat(registry.find("은행-002", "ci-2").getDelayMs()).isEqualTo(4L);
+        assertThat(registry.find("은행-002", null).getDelayMs()).isEqualTo(1L);
+
+        assertThat(registry.remove(MockScenario.ANY, "ci-2")).isTrue();
+        assertThat(registry.remove("은행-001", "ci-1")).isTrue();
+        assertThat(registry.hasTenantScenarios()).isFalse();
+        assertThat(registry.find("은행-002", "ci-2").getDelayMs()).isEqualTo(1L);
+    }
+
+    @Test
+    void samplesDelayWithinDistributionBounds() {
+        MockScenarioRequest uniform = request(MockLatencyDistribution.UNIFORM, 100L);
+        uniform.setMaxDelayMs(200L);
+        MockScenarioRequest lognormal = request(MockLatencyDistribution.LOGNORMAL, 500L);
+        lognormal.setMaxDelayMs(2_000L);
+        lognormal.setSigma(1.0);
+
+        MockScenario uniformScenario = new MockScenario(uniform);
+        MockScenario lognormalScenario = new MockScenario(lognormal);
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(uniformScenario.decide(random).delayMs()).isBetween(100L, 200L);
+            assertThat(lognormalScenario.decide(random).delayMs()).isBetween(0L, 2_000L);
+        }
+    }
+
+    @Test
+    void injectsErrorsAndTimeoutsByRate() {
+        MockScenarioRequest error = request(MockLatencyDistribution.FIXED, 0L);
+        error.setErrorRate(1.0);
+        error.setErrorCode("40101");
+        MockScenario.Injection injected = new MockScenario(error).decide(random);
+        assertThat(injected.error()).isEqualTo(MockRspCode.INVALID_TOKEN);
+        assertThat(injected.delayMs()).isZero();
+
+        MockScenarioRequest timeout = request(MockLatencyDistribution.FIXED, 0L);
+        timeout.setTimeoutRate(1.0);
+        timeout.setTimeoutMs(5_000L);
+        MockScenario.Injection timedOut = new MockScenario(timeout).decide(random);
+        assertThat(timedOut.error()).isEqualTo(MockRspCode.SYSTEM_ERROR);
+        assertThat(timedOut.delayMs()).isEqualTo(5_000L);
+
+        MockScenarioRequest invalid = request(MockLatencyDistribution.FIXED, 0L);
+        invalid.setErrorRate(0.5);
+        invalid.setErrorCode("12345");
+        assertThatThrownBy(() -> new MockScenario(invalid)).isInstanceOf(MockApiException.class);
+    }
+
+    private static MockScenario scenario(String apiId, String tenant, long delayMs) {
+        MockScenarioRequest request = request(MockLatencyDistribution.FIXED, delayMs);
+        request.setApiId(apiId);
+        request.setTenant(tenant);
+        return new MockScenario(request);
+    }
+
+    private static MockScenarioRequest request(MockLatencyDistribution distribution, long delayMs) {
+        MockScenarioRequest request = new MockScenarioRequest();
+        request.setDistribution(distribution);
+        request.setDelayMs(delayMs);
+        return request;
+    }
+}
@@ -0,0 +1,140 @@
+package com.mydata.mydatatestbed.mock.schedule;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 정기적 전송 시뮬레이터: 수집 시각 분산, 만료 작업 실행 + 재예약, 대상별 동시 수집 상한, 사업자 삭제 검증
+ */
+class MockScheduleSimulatorTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final long BEFORE_TWO = LocalDateTime.of(2024, 6, 3, 1, 59, 59).atZone(ZONE).toEpochSecond();
+
+    private final AtomicLong clock = new AtomicLong(BEFORE_TWO);
+    private final Set<Integer> collected = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final MockScheduleClient client = new MockScheduleClient(new ObjectMapper(), 1_000) {
+        @Override
+        void collect(MockScheduleJob job, int fromDate, int toDate) throws InterruptedException {
+            release.await(5, TimeUnit.SECONDS);
+            collected.add(job.subject);
+        }
+    };
+
+    private final MockScheduleSimulator simulator = new MockScheduleSimulator(client, ZONE.getId()) {
+        @Override
+        long now() {
+            return clock.get();
+        }
+    };
+
+    MockScheduleSimulatorTest() {
+        ReflectionTestUtils.setField(simulator, "defaultTarget", "http://localhost:8080");
+        ReflectionTestUtils.setField(simulator, "maxConcurrencyPerTarget", 4);
+        ReflectionTestUtils.setField(simulator, "maxSubjects", 1_000L);
+        ReflectionTestUtils.setField(simulator, "initialDays", 7);
+    }
+
+    @Test
+    void spreadsSubjectsAcrossTheWindow() {
+        MockScheduleBusiness business = simulator.register(request(500, 60, "02:00", "14:00"));
+        long twoAm = BEFORE_TWO + 1;
+
+        for (int subject = 0; subject < 500; subject++) {
+            long next = business.nextRun(subject, BEFORE_TWO, ZONE);
+            assertThat(next).isBetween(twoAm, twoAm + 3_599);
+            // 같은 정보주체는 매번 같은 오프셋 → 다음 수집은 12시간 뒤
+            assertThat(business.nextRun(subject, next, ZONE)).isEqualTo(next + 12 * 3_600);
+        }
+        assertThat(simulator.pendingJobs()).isEqualTo(500);
+    }
+
+    @Test
+    void runsDueJobsUnderTheTargetCapAndReschedules() throws Exception {
+        MockScheduleBusiness business = simulator.register(request(10, 0, "02:00"));
+
+        clock.set(BEFORE_TWO + 1);
+        simulator.tick();
+
+        // 상한 4개만 실행, 나머지 6개는 1초 뒤로
+        assertThat(business.getDeferred().sum()).isEqualTo(6);
+        release.countDown();
+        for (int second = 2; collected.size() < 10 && second < 200; second++) {
+            Thread.sleep(20);
+            clock.set(BEFORE_TWO + second);
+            simulator.tick();
+        }
+        for (int i = 0; i < 500 && simulator.pendingJobs() < 10; i++) {
+            Thread.sleep(10);
+        }
+
+        assertThat(collected).hasSize(10);
+        assertThat(business.getRuns().sum()).isEqualTo(10);
+        assertThat(business.getFailures().sum()).isZero();
+        assertThat(simulator.pendingJobs()).isEqualTo(10);
+    }
+
+    @Test
+    void removedBusinessJobsAreDroppedBeforeCapacityIsReturned() {
+        MockScheduleBusiness business = simulator.register(request(600, 0, "02:00"));
+        assertThat(simulator.remove(business.getId())).isTrue();
+        assertThat(simulator.remove(business.getId())).isFalse();
+
+        // 삭제한 작업이 휠에 남아 있는 동안은 상한(1,000명)을 돌려받지 못함
+        assertThatThrownBy(() -> simulator.register(request(600, 0, "02:00")))
+                .isInstanceOf(MockApiException.class);
+        assertThat(simulator.liveJobs()).isEqualTo(600);
+
+        clock.set(BEFORE_TWO + 1);
+        simulator.tick();
+
+        assertThat(simulator.pendingJobs()).isZero();
+        assertThat(simulator.liveJobs()).isZero();
+        assertThat(business.getRuns().sum()).isZero();
+        assertThat(simulator.list()).isEmpty();
+        assertThat(simulator.register(request(600, 0, "02:00")).getSubjects()).isEqualTo(600);
+    }
+
+    @Test
+    void registersInChunksAndRejectsUnlistedTargets() {
+        ReflectionTestUtils.setField(simulator, "maxSubjects", 100_000L);
+        simulator.register(request(MockScheduleSimulator.REGISTER_CHUNK * 2 + 7, 60, "02:00"));
+        assertThat(simulator.pendingJobs()).isEqualTo(MockScheduleSimulator.REGISTER_CHUNK * 2 + 7);
+
+        MockScheduleRequest external = request(1, 0, "02:00");
+        external.setTarget("http://169.254.169.254");
+        assertThatThrownBy(() -> simulator.register(external)).isInstanceOf(MockApiException.class);
+
+        ReflectionTestUtils.setField(simulator, "allowedTargets", List.of("https://provider.example/"));
+        external.setTarget("https://provider.example");
+        assertThat(simulator.register(external).getTarget()).isEqualTo("https://provider.example");
+        external.setTarget("http://localhost:8080/");
+        assertThat(simulator.register(external).getTarget()).isEqualTo("http://localhost:8080");
+    }
+
+    private static MockScheduleRequest request(int subjects, int windowMinutes, String... times) {
+        MockScheduleRequest request = new MockScheduleRequest();
+        request.setBusinessName("가상사업자");
+        request.setOrgCode("ORG0000001");
+        request.setSubjects(subjects);
+        request.setWindowMinutes(windowMinutes);
+        request.setCollectTimes(List.of(times));
+        return request;
+    }
+}
@@ -0,0 +1,80 @@
+package com.mydata.mydatatestbed.mock.sector;
+
+import com.mydata.mydatatestbed.mock.bank.MockBankDatasetFactory;
+import com.mydata.mydatatestbed.mock.common.MockApiException;
+import com.mydata.mydatatestbed.mock.common.MockJsonWriter;
+import com.mydata.mydatatestbed.mock.record.MockPaging;
+import com.mydata.mydatatestbed.mock.sandbox.MockSandbox;
+import com.mydata.mydatatestbed.mock.sandbox.MockSandboxRegistry;
+import com.mydata.mydatatestbed.mock.sector.card.MockCardSector;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 업권 모듈 데이터셋: 시드별 재현성, 자산 조회, 공통 페이지 작성, 샌드박스의 모듈별 보관 검증
+ */
+class MockSectorDatasetTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 0, 0);
+    private static final byte[] CARD_CNT = MockJsonWriter.key("card_cnt");
+    private static final byte[] CARD_LIST = MockJsonWriter.key("card_list");
+
+    private final MockCardSector sector = new MockCardSector();
+
+    MockSectorDatasetTest() {
+        ReflectionTestUtils.setField(sector, "cards", 3);
+    }
+
+    @Test
+    void sameSeedGeneratesSameAssets() {
+        MockSectorDataset first = generate(42L);
+        MockSectorDataset second = generate(42L);
+
+        assertThat(first.list("카드")).hasSize(3);
+        for (int i = 0; i < 3; i++) {
+            assertThat(second.list("카드").get(i).getListEntry()).isEqualTo(first.list("카드").get(i).getListEntry());
+        }
+        MockSectorAccount card = first.list("카드").get(1);
+        assertThat(first.find("카드", card.getId())).isSameAs(card);
+        assertThatThrownBy(() -> first.find("카드", "C000"))
+                .isInstanceOf(MockApiException.class);
+        assertThat(new String(first.body("포인트"), StandardCharsets.UTF_8)).contains("\"point_list\":[");
+    }
+
+    @Test
+    void listPagesWithSharedPaging() {
+        MockSectorDataset dataset = generate(7L);
+
+        MockJsonWriter writer = new MockJsonWriter(1024).beginObject();
+        MockPaging.writeList(writer, dataset.list("카드"), null, 2, CARD_CNT, CARD_LIST);
+        String json = new String(writer.endObject().toByteArray(), StandardCharsets.UTF_8);
+
+        assertThat(json).startsWith("{\"next_page\":\"2\",\"card_cnt\":2,\"card_list\":[{\"card_id\":");
+    }
+
+    @Test
+    void sandboxKeepsDatasetsPerSector() {
+        MockSandbox sandbox = new MockSandboxRegistry(new MockBankDatasetFactory(), 4, 10).get(1L);
+        Function<String, MockSectorDataset> generator = seedKey -> generate(MockBankDatasetFactory.seedOf(seedKey));
+
+        MockSectorDataset card = sandbox.sectorDataset(0, "ci-1", generator);
+
+        assertThat(sandbox.sectorDataset(0, "ci-1", generator)).isSameAs(card);
+        assertThat(sandbox.sectorDataset(1, "ci-1", generator)).isNotSameAs(card);
+        assertThat(sandbox.size()).isEqualTo(2);
+    }
+
+    private MockSectorDataset generate(long seed) {
+        MockSectorContext context = new MockSectorContext(NOW, 365, 20);
+        sector.generate(context, new SplittableRandom(seed));
+        return context.build(seed);
+    }
+}
@@ -0,0 +1,93 @@
+package com.mydata.mydatatestbed.mock.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 통계자료 집계: 버킷 합산, 재전송 대체, 평균/표준편차 재계산 검증
+ */
+class MockStatisticsAggregatorTest {
+
+    private static final LocalDate SUNDAY = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
+    private static final LocalDate MONDAY = SUNDAY.minusDays(6);
+
+    private MockStatisticsAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new MockStatisticsAggregator();
+        ReflectionTestUtils.setField(aggregator, "retentionDays", 56);
+        aggregator.createTables();
+    }
+
+    @Test
+    void sumsSubmittersIntoSameBucket() {
+        submit("client-a", "1", slot("09", 10, 2, 100.0, 0.0));
+        submit("client-b", "1", slot("09", 5, 0, 40.0, 0.0));
+
+        MockStatisticsAggregator.DailyReport report = report();
+        assertThat(report.successCount(9)).isEqualTo(15);
+        assertThat(report.failCount(9)).isEqualTo(2);
+        assertThat(report.rspTotal(9)).isEqualTo(12 * 100.0 + 5 * 40.0);
+        assertThat(report.isEmpty(10)).isTrue();
+    }
+
+    @Test
+    void resendReplacesPreviousSubmission() {
+        submit("client-a", "1", slot("09", 10, 0, 100.0, 0.0));
+        submit("client-a", "1", slot("09", 10, 0, 100.0, 0.0));
+        submit("client-a", "1", slot("09", 7, 1, 50.0, 0.0), slot("10", 3, 0, 20.0, 0.0));
+
+        MockStatisticsAggregator.DailyReport report = report();
+        assertThat(report.successCount(9)).isEqualTo(7);
+        assertThat(report.failCount(9)).isEqualTo(1);
+        assertThat(report.rspAvg(9)).isCloseTo(50.0, within(1e-9));
+        assertThat(report.successCount(10)).isEqualTo(3);
+    }
+
+    @Test
+    void combinesStandardDeviationAcrossSubmitters() {
+        // 값 {10, 30} (평균 20, 표준편차 10) + 값 {40, 60} (평균 50, 표준편차 10) → 평균 35, 표준편차 √325
+        submit("client-a", "1", slot("00", 2, 0, 20.0, 10.0));
+        submit("client-b", "1", slot("00", 2, 0, 50.0, 10.0));
+
+        MockStatisticsAggregator.DailyReport report = report();
+        assertThat(report.rspAvg(0)).isCloseTo(35.0, within(1e-9));
+        assertThat(report.rspStdev(0)).isCloseTo(Math.sqrt(325), within(1e-9));
+    }
+
+    private void submit(String submitter, String type, MockStatisticsRequest.TmSlot... slots) {
+        MockStatisticsRequest.ApiType api = new MockStatisticsRequest.ApiType();
+        api.setApiType("001");
+        api.setTmSlotList(List.of(slots));
+        MockStatisticsRequest.Org org = new MockStatisticsRequest.Org();
+        org.setOrgCode("BANK000001");
+        org.setApiTypeList(List.of(api));
+
+        aggregator.ingest(MockStatisticsSource.MYDATA, submitter, type, SUNDAY,
+                List.of(MONDAY), List.of(List.of(org)));
+    }
+
+    private MockStatisticsAggregator.DailyReport report() {
+        return aggregator.report(MockStatisticsSource.MYDATA, "BANK000001", "001", MONDAY);
+    }
+
+    private static MockStatisticsRequest.TmSlot slot(String tmSlot, long success, long fail, double avg, double stdev) {
+        MockStatisticsRequest.TmSlot slot = new MockStatisticsRequest.TmSlot();
+        slot.setTmSlot(tmSlot);
+        slot.setSuccessApiCnt(success);
+        slot.setFailApiCnt(fail);
+        slot.setRspAvg(avg);
+        slot.setRspStdev(stdev);
+        return slot;
+    }
+}
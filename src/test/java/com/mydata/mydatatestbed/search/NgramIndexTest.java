@@ -0,0 +1,77 @@
+package com.mydata.mydatatestbed.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * n-gram 역색인: 부분 문자열 검색, 짧은 검색어 스캔, 한글/영문 혼합, 교체/삭제, 정렬 검증
+ */
+class NgramIndexTest {
+
+    private final NgramIndex index = new NgramIndex();
+
+    @Test
+    void findsSubstringsOrderedBySortKeyThenId() {
+        index.put(1, "마이데이터 API 가이드", 100);
+        index.put(2, "오픈API 연동 안내", 300);
+        index.put(3, "마이데이터 인증서 발급", 100);
+
+        assertThat(index.search("마이데이터")).containsExactly(3, 1);
+        assertThat(index.search("api")).containsExactly(2, 1);
+        assertThat(index.search("없는 검색어")).isEmpty();
+        assertThat(index.search("  ")).isEmpty();
+    }
+
+    @Test
+    void rejectsGramMatchesThatAreNotSubstrings() {
+        // "데이" + "이터" gram은 모두 있지만 "데이터"가 이어져 있지 않음
+        index.put(1, "데이 이터", 1);
+
+        assertThat(index.search("데이터")).isEmpty();
+    }
+
+    @Test
+    void shortQueriesScanAllDocuments() {
+        index.put(1, "은행 계좌", 1);
+        index.put(2, "카드 승인", 2);
+        index.put(3, "id 발급", 3);
+
+        assertThat(index.search("행")).containsExactly(1);
+        assertThat(index.search("ID")).containsExactly(3);
+        assertThat(index.search("i")).containsExactly(3);
+    }
+
+    @Test
+    void matchesMixedHangulAndLatinQueries() {
+        index.put(1, "OAuth2.0 토큰 발급 API가이드", 1);
+        index.put(2, "API 목록", 2);
+
+        assertThat(index.search("api가이드")).containsExactly(1);
+        assertThat(index.search("ＡＰＩ가")).containsExactly(1);
+        assertThat(index.search("oauth2")).containsExactly(1);
+    }
+
+    @Test
+    void putReplacesAndRemoveDropsDocuments() {
+        index.put(1, "예전 제목", 1);
+        index.put(1, "새 제목", 1);
+
+        assertThat(index.search("예전")).isEmpty();
+        assertThat(index.search("새 제목")).containsExactly(1);
+        assertThat(index.size()).isEqualTo(1);
+
+        index.remove(1);
+        index.remove(1);
+        assertThat(index.search("제목")).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void nullFieldsAreNotIndexedAsText() {
+        index.put(1, null, 1);
+
+        assertThat(index.search("null")).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
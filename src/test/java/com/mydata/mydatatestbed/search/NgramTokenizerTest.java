@@ -0,0 +1,46 @@
+package com.mydata.mydatatestbed.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * n-gram 토크나이저: 정규화, 문자 종류별 gram 길이, 구분자, 짧은 입력 검증
+ */
+class NgramTokenizerTest {
+
+    @Test
+    void normalizesWidthAndCase() {
+        assertThat(NgramTokenizer.normalize("ＡＰＩ 가이드")).isEqualTo("api 가이드");
+        assertThat(NgramTokenizer.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void usesBigramsForHangulAndTrigramsForLatin() {
+        // 한글 3글자 → bigram 2개, 영문 4글자 → trigram 2개
+        assertThat(NgramTokenizer.grams("마이데")).hasSize(2);
+        assertThat(NgramTokenizer.grams("data")).hasSize(2);
+    }
+
+    @Test
+    void doesNotBuildGramsAcrossScriptsOrSeparators() {
+        // "api" + "가이드": 스크립트가 바뀌는 "i가" 같은 gram은 만들지 않음
+        long[] mixed = NgramTokenizer.grams("api가이드");
+        assertThat(mixed).hasSize(1 + 2);
+        assertThat(mixed).containsExactly(NgramTokenizer.grams("api 가이드"));
+        assertThat(NgramTokenizer.grams("ab, cd")).isEmpty();
+    }
+
+    @Test
+    void shortInputHasNoGrams() {
+        assertThat(NgramTokenizer.grams("")).isEmpty();
+        assertThat(NgramTokenizer.grams("가")).isEmpty();
+        assertThat(NgramTokenizer.grams("ab")).isEmpty();
+    }
+
+    @Test
+    void gramsAreSortedAndUnique() {
+        long[] grams = NgramTokenizer.grams("가나가나가나");
+        assertThat(grams).hasSize(2).isSorted();
+    }
+}
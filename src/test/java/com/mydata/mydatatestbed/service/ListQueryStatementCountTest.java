@@ -0,0 +1,178 @@
+package com.mydata.mydatatestbed.service;
+
+import com.mydata.mydatatestbed.dto.board.BoardListResponseDto;
+import com.mydata.mydatatestbed.dto.common.CursorPageResponseDto;
+import com.mydata.mydatatestbed.dto.notice.NoticeListResponseDto;
+import com.mydata.mydatatestbed.dto.resource.ResourceListResponseDto;
+import com.mydata.mydatatestbed.entity.Board;
+import com.mydata.mydatatestbed.entity.Member;
+import com.mydata.mydatatestbed.entity.Notice;
+import com.mydata.mydatatestbed.entity.Resource;
+import com.mydata.mydatatestbed.repository.BoardRepository;
+import com.mydata.mydatatestbed.repository.MemberRepository;
+import com.mydata.mydatatestbed.repository.NoticeRepository;
+import com.mydata.mydatatestbed.repository.ResourceRepository;
+import com.mydata.mydatatestbed.vo.EmailVo;
+import com.mydata.mydatatestbed.vo.PasswordVo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 페이지 SQL 실행 횟수 검증
+ *
+ * 목록 DTO 프로젝션 쿼리가 엔티티를 만들지 않고(작성자 지연 로딩 없이)
+ * 한 페이지를 SQL 한 문장으로 조회하는지 Hibernate 통계로 확인
+ *
+ * 통계는 전역 값이므로 측정 중에 다른 SQL이 끼지 않도록 @Scheduled 작업(메일 발송 대기열 등)을 끔
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "scheduling.enabled=false"
+})
+@Transactional
+class ListQueryStatementCountTest {
+
+    private static final int PAGE_SIZE = 10;
+    private static final int ROW_COUNT = 15;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private NoticeService noticeService;
+
+    @Autowired
+    private ResourceService resourceService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(Member.builder()
+                .email(EmailVo.builder().value("list-query-test@example.com").build())
+                .password(PasswordVo.builder().value("encoded-password").build())
+                .name("테스트작성자")
+                .build());
+
+        for (int i = 0; i < ROW_COUNT; i++) {
+            boardRepository.save(Board.builder()
+                    .member(member)
+                    .title("게시글 " + i)
+                    .content("본문 " + i)
+                    .build());
+            noticeRepository.save(Notice.builder()
+                    .author(member)
+                    .title("공지 " + i)
+                    .content("본문 " + i)
+                    .pinned(i % 5 == 0)
+                    .build());
+            resourceRepository.save(Resource.builder()
+                    .author(member)
+                    .title("자료 " + i)
+                    .description("설명 " + i)
+                    .filePath("./uploads/resource/" + i)
+                    .fileName("file-" + i + ".pdf")
+                    .fileSize(1024L * i)
+                    .build());
+        }
+
+        // 저장 쿼리가 측정에 섞이지 않도록 반영 후 영속성 컨텍스트 비우기
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void boardCursorPagesUseOneStatementEach() {
+        CursorPageResponseDto<BoardListResponseDto> first = boardService.getBoardListByCursor(null);
+        first.getContent().forEach(BoardListResponseDto::getAuthorName);
+        assertOneStatementWithoutEntities();
+
+        statistics.clear();
+        CursorPageResponseDto<BoardListResponseDto> second = boardService.getBoardListByCursor(first.getNextCursor());
+        second.getContent().forEach(BoardListResponseDto::getAuthorName);
+        assertOneStatementWithoutEntities();
+
+        assertThat(first.getContent()).hasSize(PAGE_SIZE);
+        assertThat(second.isHasPrevious()).isTrue();
+    }
+
+    @Test
+    void noticeCursorPagesUseOneStatementEach() {
+        CursorPageResponseDto<NoticeListResponseDto> first = noticeService.getNoticeListByCursor(null, PAGE_SIZE);
+        first.getContent().forEach(NoticeListResponseDto::getAuthorName);
+        assertOneStatementWithoutEntities();
+
+        statistics.clear();
+        noticeService.getNoticeListByCursor(first.getNextCursor(), PAGE_SIZE)
+                .getContent().forEach(NoticeListResponseDto::getAuthorName);
+        assertOneStatementWithoutEntities();
+    }
+
+    @Test
+    void resourceCursorPagesUseOneStatementEach() {
+        CursorPageResponseDto<ResourceListResponseDto> first = resourceService.getResourceListByCursor(null, PAGE_SIZE);
+        first.getContent().forEach(ResourceListResponseDto::getAuthorName);
+        assertOneStatementWithoutEntities();
+
+        statistics.clear();
+        resourceService.getResourceListByCursor(first.getNextCursor(), PAGE_SIZE)
+                .getContent().forEach(ResourceListResponseDto::getAuthorName);
+        assertOneStatementWithoutEntities();
+    }
+
+    @Test
+    void numberedPagesLoadContentInOneStatement() {
+        // 번호 페이징은 목록 조회 1문장 + 전체 건수 COUNT 1문장
+        boardService.getBoardList(0, "", "all").getContent().forEach(BoardListResponseDto::getAuthorName);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        statistics.clear();
+        noticeService.getNoticeList(PageRequest.of(0, PAGE_SIZE))
+                .getContent().forEach(NoticeListResponseDto::getAuthorName);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        statistics.clear();
+        resourceService.getResourceList(PageRequest.of(0, PAGE_SIZE))
+                .getContent().forEach(ResourceListResponseDto::getAuthorName);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private void assertOneStatementWithoutEntities() {
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,153 @@
+package com.mydata.mydatatestbed.service.impl;
+
+import com.mydata.mydatatestbed.entity.Enum.CounterType;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카운터 write-behind: 증가분 누적, 배치 반영, 실패 시 재시도, 유휴 항목 제거 중 동시 증가 유실 없음 검증
+ */
+class CounterServiceImplTest {
+
+    private final RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+    private final CounterServiceImpl counterService = new CounterServiceImpl(jdbcTemplate, new TransactionTemplate() {
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            TransactionStatus status = new SimpleTransactionStatus();
+            return action.doInTransaction(status);
+        }
+    });
+
+    @Test
+    void incrementAccumulatesPendingPerTypeAndId() {
+        assertThat(counterService.increment(CounterType.BOARD_VIEW, 1L)).isEqualTo(1);
+        assertThat(counterService.increment(CounterType.BOARD_VIEW, 1L)).isEqualTo(2);
+        counterService.increment(CounterType.NOTICE_VIEW, 1L);
+
+        assertThat(counterService.pending(CounterType.BOARD_VIEW, 1L)).isEqualTo(2);
+        assertThat(counterService.pending(CounterType.NOTICE_VIEW, 1L)).isEqualTo(1);
+        assertThat(counterService.pending(CounterType.BOARD_VIEW, 2L)).isZero();
+    }
+
+    @Test
+    void flushBatchesDeltasPerTypeAndResetsPending() {
+        counterService.increment(CounterType.BOARD_VIEW, 1L);
+        counterService.increment(CounterType.BOARD_VIEW, 1L);
+        counterService.increment(CounterType.BOARD_VIEW, 2L);
+        counterService.increment(CounterType.RESOURCE_DOWNLOAD, 3L);
+
+        assertThat(counterService.flush()).isEqualTo(3);
+
+        assertThat(jdbcTemplate.sql).containsExactlyInAnyOrder(
+                "UPDATE boards SET view_count = view_count + ? WHERE id = ?",
+                "UPDATE resources SET download_count = download_count + ? WHERE id = ?");
+        assertThat(jdbcTemplate.totals.get(1L).sum()).isEqualTo(2);
+        assertThat(jdbcTemplate.totals.get(2L).sum()).isEqualTo(1);
+        assertThat(counterService.pending(CounterType.BOARD_VIEW, 1L)).isZero();
+        assertThat(counterService.flush()).isZero();
+    }
+
+    @Test
+    void failedFlushKeepsDeltasForNextCycle() {
+        counterService.increment(CounterType.BOARD_VIEW, 1L);
+        jdbcTemplate.failing = true;
+
+        assertThat(counterService.flush()).isZero();
+        assertThat(counterService.pending(CounterType.BOARD_VIEW, 1L)).isEqualTo(1);
+
+        jdbcTemplate.failing = false;
+        assertThat(counterService.flush()).isEqualTo(1);
+        assertThat(jdbcTemplate.totals.get(1L).sum()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsIdleEntriesAfterAQuietCycle() {
+        counterService.increment(CounterType.BOARD_VIEW, 1L);
+        counterService.flush();
+        assertThat(adders(CounterType.BOARD_VIEW)).containsKey(1L);
+
+        counterService.flush();
+        assertThat(adders(CounterType.BOARD_VIEW)).isEmpty();
+
+        assertThat(counterService.increment(CounterType.BOARD_VIEW, 1L)).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentIncrementsAreNotLostWhileFlushEvicts() throws InterruptedException {
+        int threads = 8;
+        int perThread = 20_000;
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch done = new CountDownLatch(threads);
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads + 1)) {
+            executor.execute(() -> {
+                while (running.get()) {
+                    counterService.flush();
+                }
+            });
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    // 적은 ID에 몰아서 flush의 제거와 자주 겹치도록 함
+                    for (int i = 0; i < perThread; i++) {
+                        counterService.increment(CounterType.BOARD_VIEW, (long) (i % 4));
+                    }
+                    done.countDown();
+                });
+            }
+            assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+            running.set(false);
+        }
+        counterService.flush();
+
+        long flushed = jdbcTemplate.totals.values().stream().mapToLong(LongAdder::sum).sum();
+        assertThat(flushed).isEqualTo((long) threads * perThread);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, LongAdder> adders(CounterType type) {
+        Map<CounterType, Map<Long, LongAdder>> counters =
+                (Map<CounterType, Map<Long, LongAdder>>) ReflectionTestUtils.getField(counterService, "counters");
+        return counters.get(type);
+    }
+
+    /**
+     * 배치 UPDATE 대신 ID별 누적 증가분과 실행한 SQL만 기록
+     */
+    private static final class RecordingJdbcTemplate extends JdbcTemplate {
+
+        private final List<String> sql = new ArrayList<>();
+        private final Map<Long, LongAdder> totals = new ConcurrentHashMap<>();
+        private volatile boolean failing;
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            if (failing) {
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            if (!this.sql.contains(sql)) {
+                this.sql.add(sql);
+            }
+            for (Object[] args : batchArgs) {
+                totals.computeIfAbsent((Long) args[1], key -> new LongAdder()).add((Long) args[0]);
+            }
+            return new int[batchArgs.size()];
+        }
+    }
+}
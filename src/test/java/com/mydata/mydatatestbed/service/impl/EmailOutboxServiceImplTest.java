@@ -0,0 +1,199 @@
+package com.mydata.mydatatestbed.service.impl;
+
+import com.mydata.mydatatestbed.entity.EmailOutbox;
+import com.mydata.mydatatestbed.entity.Enum.EmailOutboxStatus;
+import com.mydata.mydatatestbed.mail.SmtpTransportPool;
+import com.mydata.mydatatestbed.repository.EmailOutboxRepository;
+import jakarta.mail.Address;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Provider;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.URLName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메일 발송 대기열: 발송 권한 획득(claim), 실패 시 백오프 재시도와 DEAD 처리, 발송 완료 메일 정리,
+ * SMTP 연결 재사용 검증
+ *
+ * 실제 SMTP 서버 대신 stub 프로토콜의 Transport를 메일 세션에 등록해 발송 내역을 기록
+ * 워커 스레드가 DB를 조회하므로 테스트 트랜잭션 없이 실행하고, 정기 폴링은 꺼 두고 dispatchDue()를 직접 호출
+ * 정기 폴링이 켜진 다른 테스트 컨텍스트가 같은 파일 DB의 메일을 가져가지 않도록 전용 메모리 DB 사용
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:email-outbox-test;DB_CLOSE_DELAY=-1",
+        "scheduling.enabled=false",
+        "spring.mail.protocol=stub",
+        "email.outbox.max-attempts=2",
+        "email.outbox.initial-backoff-ms=60000"
+})
+class EmailOutboxServiceImplTest {
+
+    private static final String RECIPIENT = "user@example.com";
+
+    @Autowired
+    private EmailOutboxServiceImpl emailOutboxService;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private SmtpTransportPool smtpTransportPool;
+
+    @Autowired
+    private JavaMailSenderImpl mailSender;
+
+    @BeforeEach
+    void setUp() {
+        mailSender.getSession().addProvider(new Provider(Provider.Type.TRANSPORT, "stub",
+                StubTransport.class.getName(), "mydata-testbed", "1"));
+        smtpTransportPool.closeAll();
+        StubTransport.reset();
+        emailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    void onlyClaimedMailIsSentAndConnectionIsReused() throws InterruptedException {
+        Long first = save();
+        Long second = save();
+
+        // 다른 워커가 가져간(SENDING) 메일은 폴러가 다시 꺼내지 않음
+        assertThat(emailOutboxRepository.claim(first)).isEqualTo(1);
+        assertThat(emailOutboxService.dispatchDue()).isEqualTo(1);
+        assertThat(await(second, outbox -> outbox.getStatus() == EmailOutboxStatus.SENT).getAttempts()).isEqualTo(1);
+        assertThat(emailOutboxRepository.findById(first).orElseThrow().getStatus()).isEqualTo(EmailOutboxStatus.SENDING);
+
+        // 발송 도중 종료된 메일은 기동 시 대기 상태로 복구되어 1번만 발송됨
+        emailOutboxService.recoverInterrupted();
+        assertThat(emailOutboxService.dispatchDue()).isEqualTo(1);
+        await(first, outbox -> outbox.getStatus() == EmailOutboxStatus.SENT);
+
+        assertThat(emailOutboxRepository.claim(first)).isZero();
+        assertThat(emailOutboxService.dispatchDue()).isZero();
+        assertThat(StubTransport.SENT).hasSize(2);
+        assertThat(StubTransport.CONNECTS).hasValue(1);
+    }
+
+    @Test
+    void failedMailIsRetriedAfterBackoffThenMarkedDead() throws InterruptedException {
+        StubTransport.failing = true;
+        Long id = save();
+
+        LocalDateTime dispatchedAt = LocalDateTime.now();
+        assertThat(emailOutboxService.dispatchDue()).isEqualTo(1);
+        EmailOutbox retry = await(id, outbox -> outbox.getAttempts() == 1);
+
+        // initial-backoff-ms(60초) ±20% 뒤로 미뤄지고 그 전에는 다시 꺼내지 않음
+        assertThat(retry.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(retry.getLastError()).startsWith("MessagingException: ");
+        assertThat(retry.getNextAttemptAt())
+                .isAfter(dispatchedAt.plusSeconds(47))
+                .isBefore(LocalDateTime.now().plusSeconds(73));
+        assertThat(emailOutboxRepository.findDueIds(LocalDateTime.now(), PageRequest.of(0, 10))).isEmpty();
+        assertThat(emailOutboxService.dispatchDue()).isZero();
+
+        // 재시도 시각이 되면 다시 시도하고, max-attempts(2)에 도달하면 DEAD
+        emailOutboxRepository.markFailed(id, EmailOutboxStatus.PENDING, 1,
+                LocalDateTime.now().minusSeconds(1), retry.getLastError());
+        assertThat(emailOutboxService.dispatchDue()).isEqualTo(1);
+        EmailOutbox dead = await(id, outbox -> outbox.getStatus() == EmailOutboxStatus.DEAD);
+
+        assertThat(dead.getAttempts()).isEqualTo(2);
+        assertThat(emailOutboxService.dispatchDue()).isZero();
+        assertThat(StubTransport.SENT).isEmpty();
+        // 발송에 실패한 연결은 재사용하지 않음
+        assertThat(StubTransport.CONNECTS).hasValue(2);
+    }
+
+    @Test
+    void purgesOnlySentMailPastRetention() {
+        Long expired = save();
+        Long recent = save();
+        Long dead = save();
+        emailOutboxRepository.markSent(expired, LocalDateTime.now().minusDays(8));
+        emailOutboxRepository.markSent(recent, LocalDateTime.now().minusDays(1));
+        emailOutboxRepository.markFailed(dead, EmailOutboxStatus.DEAD, 2,
+                LocalDateTime.now().minusDays(30), "MessagingException: 연결 거부");
+
+        emailOutboxService.purgeSent();
+
+        assertThat(emailOutboxRepository.findAll())
+                .extracting(EmailOutbox::getId)
+                .containsExactlyInAnyOrder(recent, dead);
+    }
+
+    private Long save() {
+        return emailOutboxRepository.save(EmailOutbox.builder()
+                .recipient(RECIPIENT)
+                .subject("인증 메일")
+                .body("<p>본문</p>")
+                .build()).getId();
+    }
+
+    /**
+     * 워커 스레드가 상태를 바꾸고 작업을 마칠 때까지 대기
+     * (발송 중 목록에 남아 있으면 다음 dispatchDue()가 같은 메일을 건너뜀)
+     */
+    private EmailOutbox await(Long id, Predicate<EmailOutbox> condition) throws InterruptedException {
+        Object target = AopTestUtils.getTargetObject(emailOutboxService);
+        Set<?> inFlight = (Set<?>) ReflectionTestUtils.getField(target, "inFlight");
+        EmailOutbox outbox = emailOutboxRepository.findById(id).orElseThrow();
+        for (int i = 0; i < 500 && !(condition.test(outbox) && inFlight.isEmpty()); i++) {
+            Thread.sleep(10);
+            outbox = emailOutboxRepository.findById(id).orElseThrow();
+        }
+        assertThat(outbox).matches(condition);
+        return outbox;
+    }
+
+    /**
+     * 연결/발송을 기록만 하는 Transport (failing이면 발송 실패)
+     */
+    public static class StubTransport extends Transport {
+
+        static final List<Address[]> SENT = new CopyOnWriteArrayList<>();
+        static final AtomicInteger CONNECTS = new AtomicInteger();
+        static volatile boolean failing;
+
+        public StubTransport(Session session, URLName urlName) {
+            super(session, urlName);
+        }
+
+        static void reset() {
+            SENT.clear();
+            CONNECTS.set(0);
+            failing = false;
+        }
+
+        @Override
+        protected boolean protocolConnect(String host, int port, String user, String password) {
+            CONNECTS.incrementAndGet();
+            return true;
+        }
+
+        @Override
+        public void sendMessage(Message message, Address[] addresses) throws MessagingException {
+            if (failing) {
+                throw new MessagingException("연결 거부");
+            }
+            SENT.add(addresses);
+        }
+    }
+}